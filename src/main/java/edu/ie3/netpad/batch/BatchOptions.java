@@ -0,0 +1,159 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+*/
+package edu.ie3.netpad.batch;
+
+import edu.ie3.netpad.exception.BatchException;
+import edu.ie3.netpad.io.controller.IoDialogs;
+import java.io.File;
+import java.util.*;
+
+/** Options of the headless batch mode, that are parsed from the command line arguments */
+public class BatchOptions {
+
+  static final String USAGE =
+      "Usage: --input <directory or .tar.gz archive> [--input ...] --output <directory>\n"
+          + "       [--tools layout,fix-line-length] [--separator ;]\n"
+          + "       [--hierarchy FLAT|HIERARCHIC] [--compress]\n"
+          + "       [--threads <number of grids processed in parallel>]";
+
+  private final List<File> inputs;
+  private final File outputDirectory;
+  private final List<BatchTool> tools;
+  private final String csvSeparator;
+  private final IoDialogs.CsvIoData.DirectoryHierarchy hierarchy;
+  private final boolean compress;
+  private final int threads;
+
+  private BatchOptions(
+      List<File> inputs,
+      File outputDirectory,
+      List<BatchTool> tools,
+      String csvSeparator,
+      IoDialogs.CsvIoData.DirectoryHierarchy hierarchy,
+      boolean compress,
+      int threads) {
+    this.inputs = inputs;
+    this.outputDirectory = outputDirectory;
+    this.tools = tools;
+    this.csvSeparator = csvSeparator;
+    this.hierarchy = hierarchy;
+    this.compress = compress;
+    this.threads = threads;
+  }
+
+  /**
+   * Parses the given command line arguments
+   *
+   * @param args Command line arguments
+   * @return The parsed options
+   * @throws BatchException If the arguments are malformed or incomplete
+   */
+  public static BatchOptions parse(String[] args) {
+    List<File> inputs = new ArrayList<>();
+    File outputDirectory = null;
+    List<BatchTool> tools = new ArrayList<>();
+    String csvSeparator = ";";
+    IoDialogs.CsvIoData.DirectoryHierarchy hierarchy = IoDialogs.CsvIoData.DirectoryHierarchy.FLAT;
+    boolean compress = false;
+    int threads = Runtime.getRuntime().availableProcessors();
+
+    Iterator<String> arguments = Arrays.asList(args).iterator();
+    while (arguments.hasNext()) {
+      String argument = arguments.next();
+      switch (argument) {
+        case "--input":
+          inputs.add(new File(value(argument, arguments)));
+          break;
+        case "--output":
+          outputDirectory = new File(value(argument, arguments));
+          break;
+        case "--tools":
+          Arrays.stream(value(argument, arguments).split(","))
+              .map(BatchTool::of)
+              .forEach(tools::add);
+          break;
+        case "--separator":
+          csvSeparator = value(argument, arguments);
+          break;
+        case "--hierarchy":
+          hierarchy = hierarchy(value(argument, arguments));
+          break;
+        case "--compress":
+          compress = true;
+          break;
+        case "--threads":
+          threads = threads(value(argument, arguments));
+          break;
+        default:
+          throw new BatchException("Unknown argument '" + argument + "'.\n" + USAGE);
+      }
+    }
+
+    if (inputs.isEmpty()) throw new BatchException("No input grid given.\n" + USAGE);
+    if (outputDirectory == null) throw new BatchException("No output directory given.\n" + USAGE);
+
+    return new BatchOptions(
+        Collections.unmodifiableList(inputs),
+        outputDirectory,
+        Collections.unmodifiableList(tools),
+        csvSeparator,
+        hierarchy,
+        compress,
+        threads);
+  }
+
+  private static String value(String argument, Iterator<String> arguments) {
+    if (!arguments.hasNext())
+      throw new BatchException("Missing value for argument '" + argument + "'.\n" + USAGE);
+    return arguments.next();
+  }
+
+  private static IoDialogs.CsvIoData.DirectoryHierarchy hierarchy(String value) {
+    try {
+      return IoDialogs.CsvIoData.DirectoryHierarchy.valueOf(value.toUpperCase(Locale.ROOT));
+    } catch (IllegalArgumentException e) {
+      throw new BatchException("Unknown directory hierarchy '" + value + "'.", e);
+    }
+  }
+
+  private static int threads(String value) {
+    try {
+      int threads = Integer.parseInt(value);
+      if (threads < 1) throw new BatchException("At least one thread is needed.");
+      return threads;
+    } catch (NumberFormatException e) {
+      throw new BatchException("Invalid number of threads '" + value + "'.", e);
+    }
+  }
+
+  public List<File> getInputs() {
+    return inputs;
+  }
+
+  public File getOutputDirectory() {
+    return outputDirectory;
+  }
+
+  public List<BatchTool> getTools() {
+    return tools;
+  }
+
+  public String getCsvSeparator() {
+    return csvSeparator;
+  }
+
+  public IoDialogs.CsvIoData.DirectoryHierarchy getHierarchy() {
+    return hierarchy;
+  }
+
+  public boolean isCompress() {
+    return compress;
+  }
+
+  public int getThreads() {
+    return threads;
+  }
+}
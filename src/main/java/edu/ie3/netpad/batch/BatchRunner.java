@@ -0,0 +1,121 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+*/
+package edu.ie3.netpad.batch;
+
+import edu.ie3.datamodel.models.input.container.JointGridContainer;
+import edu.ie3.netpad.exception.BatchException;
+import edu.ie3.netpad.io.controller.IoController;
+import edu.ie3.netpad.io.controller.IoDialogs;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Headless batch mode, that reads a number of grids, applies a pipeline of {@link BatchTool}s to
+ * each of them and writes the results. The grids are processed in parallel. Neither JavaFX nor the
+ * map is initialized, hence this mode can be used on machines without any display.
+ */
+public class BatchRunner {
+
+  private static final Logger logger = LoggerFactory.getLogger(BatchRunner.class);
+
+  private final BatchOptions options;
+
+  public BatchRunner(BatchOptions options) {
+    this.options = options;
+  }
+
+  /**
+   * Parses the given command line arguments and processes all grids
+   *
+   * @param args Command line arguments
+   * @return The exit code, 0 if all grids have been processed successfully
+   */
+  public static int run(String[] args) {
+    BatchOptions options;
+    try {
+      options = BatchOptions.parse(args);
+    } catch (BatchException e) {
+      logger.error(e.getMessage());
+      return 2;
+    }
+    return new BatchRunner(options).execute() ? 0 : 1;
+  }
+
+  /**
+   * Processes all input grids
+   *
+   * @return true, if all grids have been processed successfully
+   */
+  public boolean execute() {
+    long start = System.nanoTime();
+    ExecutorService executor = Executors.newFixedThreadPool(options.getThreads());
+    try {
+      List<CompletableFuture<Boolean>> results =
+          options.getInputs().stream()
+              .map(input -> CompletableFuture.supplyAsync(() -> process(input), executor))
+              .collect(Collectors.toList());
+      long failed =
+          results.stream().map(CompletableFuture::join).filter(success -> !success).count();
+
+      logger.info(
+          "Processed {} grid(s) in {} ms, {} failed.",
+          results.size(),
+          (System.nanoTime() - start) / 1_000_000,
+          failed);
+      return failed == 0;
+    } finally {
+      executor.shutdown();
+    }
+  }
+
+  private boolean process(File input) {
+    try {
+      JointGridContainer grid =
+          IoController.getInstance()
+              .readGrid(input, options.getCsvSeparator(), options.getHierarchy())
+              .orElseThrow(() -> new BatchException("Unable to read grid."));
+      for (BatchTool tool : options.getTools()) {
+        logger.debug("Applying '{}' to '{}'.", tool.getName(), grid.getGridName());
+        grid = tool.apply(grid);
+      }
+
+      File targetDirectory = targetDirectory(grid.getGridName());
+      Files.createDirectories(targetDirectory.toPath());
+      IoController.getInstance()
+          .writeGrid(
+              grid,
+              targetDirectory,
+              options.getCsvSeparator(),
+              options.getHierarchy(),
+              options.isCompress());
+      logger.info("Processed '{}' into '{}'.", input, targetDirectory);
+      return true;
+    } catch (IOException | RuntimeException e) {
+      logger.error("Processing of '{}' failed.", input, e);
+      return false;
+    }
+  }
+
+  /**
+   * Determines the directory to write a grid to. The hierarchic directory structure and the
+   * archive already contain the grid name, flat csv files are put into a directory of their own to
+   * not mix up the files of different grids.
+   */
+  private File targetDirectory(String gridName) {
+    return options.getHierarchy() == IoDialogs.CsvIoData.DirectoryHierarchy.FLAT
+            && !options.isCompress()
+        ? new File(options.getOutputDirectory(), gridName)
+        : options.getOutputDirectory();
+  }
+}
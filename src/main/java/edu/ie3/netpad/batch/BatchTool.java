@@ -0,0 +1,79 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+*/
+package edu.ie3.netpad.batch;
+
+import edu.ie3.datamodel.models.input.container.JointGridContainer;
+import edu.ie3.datamodel.models.input.container.SubGridContainer;
+import edu.ie3.netpad.exception.BatchException;
+import edu.ie3.netpad.tool.grid.LineLengthFixer;
+import edu.ie3.netpad.tool.grid.LineLengthResolutionMode;
+import edu.ie3.netpad.tool.layout.LayoutAlgorithm;
+import edu.ie3.netpad.tool.layout.MissingGeoPositionPlacer;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+
+/** Tools, that can be applied to a grid in batch mode without any user interface */
+public enum BatchTool {
+  LAYOUT("layout", LayoutAlgorithm.HIERARCHICAL::apply),
+  FORCE_DIRECTED_LAYOUT("force-directed-layout", LayoutAlgorithm.FORCE_DIRECTED::apply),
+  SUB_GRID_LAYOUT("sub-grid-layout", LayoutAlgorithm.FORCE_DIRECTED_PER_SUB_GRID::apply),
+  PLACE_MISSING_NODES("place-missing-nodes", grid -> new MissingGeoPositionPlacer(grid).execute()),
+  FIX_LINE_LENGTH("fix-line-length", BatchTool::fixLineLength);
+
+  private final String name;
+  private final UnaryOperator<JointGridContainer> operation;
+
+  BatchTool(String name, UnaryOperator<JointGridContainer> operation) {
+    this.name = name;
+    this.operation = operation;
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  /**
+   * Applies the tool to the given grid
+   *
+   * @param grid Grid to adapt
+   * @return The adapted grid
+   */
+  public JointGridContainer apply(JointGridContainer grid) {
+    return operation.apply(grid);
+  }
+
+  /**
+   * Determines the tool by its command line name
+   *
+   * @param name Name of the tool as given on the command line
+   * @return The matching tool
+   */
+  public static BatchTool of(String name) {
+    return Arrays.stream(values())
+        .filter(tool -> tool.name.equalsIgnoreCase(name.trim()))
+        .findFirst()
+        .orElseThrow(
+            () ->
+                new BatchException(
+                    "Unknown tool '"
+                        + name
+                        + "'. Available tools: "
+                        + Arrays.stream(values())
+                            .map(BatchTool::getName)
+                            .collect(Collectors.joining(", "))));
+  }
+
+  private static JointGridContainer fixLineLength(JointGridContainer grid) {
+    Set<SubGridContainer> subGrids = grid.getSubGridTopologyGraph().vertexSet();
+    Set<Integer> allSubnets =
+        subGrids.stream().map(SubGridContainer::getSubnet).collect(Collectors.toSet());
+    return LineLengthFixer.fixLineLength(
+            LineLengthResolutionMode.GEOGRAPHICAL, allSubnets, subGrids)
+        .orElseThrow(() -> new BatchException("Unable to fix the line length."));
+  }
+}
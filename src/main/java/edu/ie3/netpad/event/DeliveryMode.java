@@ -0,0 +1,19 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+*/
+package edu.ie3.netpad.event;
+
+/** Thread, a subscriber of the {@link EventDispatcher} receives its events on */
+public enum DeliveryMode {
+  /** Events are delivered synchronously on the thread that publishes them */
+  CALLER_THREAD,
+  /**
+   * Events are delivered on the JavaFX application thread. If they are published on this thread
+   * and no earlier events are pending, they are delivered immediately.
+   */
+  FX_THREAD,
+  /** Events are delivered on a background thread of the dispatcher */
+  BACKGROUND
+}
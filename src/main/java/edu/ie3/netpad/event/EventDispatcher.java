@@ -0,0 +1,233 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+*/
+package edu.ie3.netpad.event;
+
+import java.util.ArrayDeque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import javafx.application.Platform;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Delivers events of typed {@link EventTopic}s to any number of subscribers. Each subscriber
+ * receives the events of a topic in the order they have been published, on the thread defined by
+ * its {@link DeliveryMode}. Every event is delivered, even if the same instance is published
+ * several times. An event, that a subscriber publishes to the topic it is currently handling, is
+ * delivered after the current event has been delivered to all subscribers.
+ *
+ * <p>Exceptions thrown by a subscriber are logged and not propagated, neither to the other
+ * subscribers nor to the publisher. This holds for subscribers on the publishing thread as well.
+ */
+public class EventDispatcher {
+
+  private static final Logger log = LoggerFactory.getLogger(EventDispatcher.class);
+
+  private static final class InstanceHolder {
+    static final EventDispatcher INSTANCE = new EventDispatcher();
+  }
+
+  public static EventDispatcher getInstance() {
+    return InstanceHolder.INSTANCE;
+  }
+
+  // daemons to not prevent the application from exiting
+  private final ExecutorService backgroundExecutor =
+      Executors.newCachedThreadPool(
+          new ThreadFactory() {
+            private final AtomicInteger threadCount = new AtomicInteger();
+
+            @Override
+            public Thread newThread(Runnable runnable) {
+              Thread thread =
+                  new Thread(runnable, "netpad-events-" + threadCount.incrementAndGet());
+              thread.setDaemon(true);
+              return thread;
+            }
+          });
+
+  private final Map<EventTopic<?>, List<Subscriber<?>>> subscribers = new ConcurrentHashMap<>();
+  private final Map<EventTopic<?>, TopicMetrics> metrics = new ConcurrentHashMap<>();
+
+  // events published to a topic, while the same thread is dispatching an event of this topic. They
+  // are dispatched by the outermost publication in the order they have been published
+  private final ThreadLocal<Map<EventTopic<?>, Queue<Runnable>>> nestedPublications =
+      ThreadLocal.withInitial(HashMap::new);
+
+  EventDispatcher() {}
+
+  /**
+   * Subscribes to the given topic, the events are delivered on the publishing thread
+   *
+   * @param topic topic to subscribe to
+   * @param listener receives the events
+   * @return handle to cancel the subscription
+   */
+  public <T> Subscription subscribe(EventTopic<T> topic, Consumer<? super T> listener) {
+    return subscribe(topic, listener, DeliveryMode.CALLER_THREAD);
+  }
+
+  /**
+   * Subscribes to the given topic
+   *
+   * @param topic topic to subscribe to
+   * @param listener receives the events
+   * @param deliveryMode thread the events are delivered on
+   * @return handle to cancel the subscription
+   */
+  public <T> Subscription subscribe(
+      EventTopic<T> topic, Consumer<? super T> listener, DeliveryMode deliveryMode) {
+    Subscriber<T> subscriber =
+        new Subscriber<>(
+            topic, Objects.requireNonNull(listener), Objects.requireNonNull(deliveryMode));
+    subscribers.computeIfAbsent(topic, t -> new CopyOnWriteArrayList<>()).add(subscriber);
+    return subscriber;
+  }
+
+  /**
+   * Publishes the event to all current subscribers of the topic. If the calling thread is already
+   * dispatching an event of the topic, i.e. a subscriber publishes to the topic it is handling, the
+   * event is dispatched after the current one.
+   *
+   * @param topic topic to publish to
+   * @param event the event
+   */
+  public <T> void publish(EventTopic<T> topic, T event) {
+    T checkedEvent = topic.getEventType().cast(Objects.requireNonNull(event));
+    getMetrics(topic).recordPublished();
+    long publishedAt = System.nanoTime();
+
+    Map<EventTopic<?>, Queue<Runnable>> publications = nestedPublications.get();
+    Queue<Runnable> pendingPublications = publications.get(topic);
+    if (pendingPublications != null) {
+      pendingPublications.add(() -> dispatch(topic, checkedEvent, publishedAt));
+      return;
+    }
+
+    pendingPublications = new ArrayDeque<>();
+    publications.put(topic, pendingPublications);
+    try {
+      dispatch(topic, checkedEvent, publishedAt);
+      Runnable nestedPublication;
+      while ((nestedPublication = pendingPublications.poll()) != null) nestedPublication.run();
+    } finally {
+      publications.remove(topic);
+    }
+  }
+
+  private <T> void dispatch(EventTopic<T> topic, T event, long publishedAt) {
+    for (Subscriber<?> subscriber : subscribers.getOrDefault(topic, List.of())) {
+      // subscribers are only registered for their own topic
+      @SuppressWarnings("unchecked")
+      Subscriber<T> topicSubscriber = (Subscriber<T>) subscriber;
+      topicSubscriber.offer(event, publishedAt);
+    }
+  }
+
+  /**
+   * @param topic the topic
+   * @return metrics of all events, that have been published to the topic so far
+   */
+  public TopicMetrics getMetrics(EventTopic<?> topic) {
+    return metrics.computeIfAbsent(topic, t -> new TopicMetrics());
+  }
+
+  private final class Subscriber<T> implements Subscription {
+
+    private final EventTopic<T> topic;
+    private final Consumer<? super T> listener;
+    private final DeliveryMode deliveryMode;
+    private final TopicMetrics topicMetrics;
+
+    // pending events of subscribers, that are not served on the publishing thread. They are
+    // drained by a single task at a time to preserve the order of the events
+    private final Queue<PendingEvent<T>> pendingEvents = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean draining = new AtomicBoolean();
+
+    private volatile boolean cancelled;
+
+    private Subscriber(EventTopic<T> topic, Consumer<? super T> listener, DeliveryMode mode) {
+      this.topic = topic;
+      this.listener = listener;
+      this.deliveryMode = mode;
+      this.topicMetrics = getMetrics(topic);
+    }
+
+    private void offer(T event, long publishedAt) {
+      if (deliveryMode == DeliveryMode.CALLER_THREAD
+          || (deliveryMode == DeliveryMode.FX_THREAD
+              && Platform.isFxApplicationThread()
+              && !draining.get()
+              && pendingEvents.isEmpty())) {
+        deliver(event, publishedAt);
+        return;
+      }
+
+      pendingEvents.add(new PendingEvent<>(event, publishedAt));
+      topicMetrics.recordEnqueued();
+      scheduleDrain();
+    }
+
+    private void scheduleDrain() {
+      if (draining.compareAndSet(false, true)) executor().execute(this::drain);
+    }
+
+    private Executor executor() {
+      return deliveryMode == DeliveryMode.FX_THREAD ? Platform::runLater : backgroundExecutor;
+    }
+
+    private void drain() {
+      PendingEvent<T> pendingEvent;
+      while ((pendingEvent = pendingEvents.poll()) != null) {
+        topicMetrics.recordDequeued();
+        deliver(pendingEvent.event, pendingEvent.publishedAt);
+      }
+      draining.set(false);
+
+      // an event may have been added after the last poll, but before the flag has been reset
+      if (!pendingEvents.isEmpty()) scheduleDrain();
+    }
+
+    private void deliver(T event, long publishedAt) {
+      if (cancelled) return;
+      try {
+        listener.accept(event);
+      } catch (RuntimeException e) {
+        log.error("Subscriber of {} failed to handle {}", topic, event, e);
+      }
+      topicMetrics.recordDelivered(System.nanoTime() - publishedAt);
+    }
+
+    @Override
+    public void cancel() {
+      cancelled = true;
+      subscribers.getOrDefault(topic, List.of()).remove(this);
+    }
+  }
+
+  private static final class PendingEvent<T> {
+    private final T event;
+    private final long publishedAt;
+
+    private PendingEvent(T event, long publishedAt) {
+      this.event = event;
+      this.publishedAt = publishedAt;
+    }
+  }
+}
@@ -0,0 +1,42 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+*/
+package edu.ie3.netpad.event;
+
+import java.util.Objects;
+
+/**
+ * Typed channel of the {@link EventDispatcher}. Topics are compared by identity, hence each topic
+ * is meant to be declared once as a constant by the component that publishes to it.
+ *
+ * @param <T> type of the events published to this topic
+ */
+public final class EventTopic<T> {
+
+  private final String name;
+  private final Class<T> eventType;
+
+  private EventTopic(String name, Class<T> eventType) {
+    this.name = name;
+    this.eventType = eventType;
+  }
+
+  public static <T> EventTopic<T> of(String name, Class<T> eventType) {
+    return new EventTopic<>(Objects.requireNonNull(name), Objects.requireNonNull(eventType));
+  }
+
+  public String getName() {
+    return name;
+  }
+
+  public Class<T> getEventType() {
+    return eventType;
+  }
+
+  @Override
+  public String toString() {
+    return "EventTopic{" + name + ", " + eventType.getSimpleName() + '}';
+  }
+}
@@ -0,0 +1,13 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+*/
+package edu.ie3.netpad.event;
+
+/** Handle of a subscription to an {@link EventTopic} */
+public interface Subscription {
+
+  /** Stops the delivery of events, events that are still pending are discarded */
+  void cancel();
+}
@@ -0,0 +1,88 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+*/
+package edu.ie3.netpad.event;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts the events of a single {@link EventTopic}, the number of events waiting for their
+ * delivery and the latency between publishing and delivering an event
+ */
+public class TopicMetrics {
+
+  private final LongAdder publishedEvents = new LongAdder();
+  private final LongAdder deliveredEvents = new LongAdder();
+  private final AtomicInteger queueDepth = new AtomicInteger();
+  private final AtomicInteger maxQueueDepth = new AtomicInteger();
+  private final LongAdder totalLatencyNanos = new LongAdder();
+  private final AtomicLong maxLatencyNanos = new AtomicLong();
+
+  void recordPublished() {
+    publishedEvents.increment();
+  }
+
+  void recordEnqueued() {
+    maxQueueDepth.accumulateAndGet(queueDepth.incrementAndGet(), Math::max);
+  }
+
+  void recordDequeued() {
+    queueDepth.decrementAndGet();
+  }
+
+  void recordDelivered(long latencyNanos) {
+    deliveredEvents.increment();
+    totalLatencyNanos.add(latencyNanos);
+    maxLatencyNanos.accumulateAndGet(latencyNanos, Math::max);
+  }
+
+  public long getPublishedEvents() {
+    return publishedEvents.sum();
+  }
+
+  /** @return the number of deliveries, an event is delivered once per subscriber */
+  public long getDeliveredEvents() {
+    return deliveredEvents.sum();
+  }
+
+  /** @return the number of deliveries, that are currently pending */
+  public int getQueueDepth() {
+    return queueDepth.get();
+  }
+
+  public int getMaxQueueDepth() {
+    return maxQueueDepth.get();
+  }
+
+  public Duration getAverageLatency() {
+    long delivered = deliveredEvents.sum();
+    return delivered == 0 ? Duration.ZERO : Duration.ofNanos(totalLatencyNanos.sum() / delivered);
+  }
+
+  public Duration getMaxLatency() {
+    return Duration.ofNanos(maxLatencyNanos.get());
+  }
+
+  @Override
+  public String toString() {
+    return "TopicMetrics{"
+        + "published="
+        + getPublishedEvents()
+        + ", delivered="
+        + getDeliveredEvents()
+        + ", queueDepth="
+        + getQueueDepth()
+        + ", maxQueueDepth="
+        + getMaxQueueDepth()
+        + ", averageLatency="
+        + getAverageLatency().toNanos() / 1_000_000d
+        + " ms, maxLatency="
+        + getMaxLatency().toNanos() / 1_000_000d
+        + " ms}";
+  }
+}
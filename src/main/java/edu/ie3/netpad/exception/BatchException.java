@@ -0,0 +1,22 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+*/
+package edu.ie3.netpad.exception;
+
+/** Exception that is used whenever the headless batch mode cannot be configured or executed */
+public class BatchException extends RuntimeException {
+
+  public BatchException(final String message, final Throwable cause) {
+    super(message, cause);
+  }
+
+  public BatchException(final Throwable cause) {
+    super(cause);
+  }
+
+  public BatchException(final String message) {
+    super(message);
+  }
+}
@@ -0,0 +1,117 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+*/
+package edu.ie3.netpad.grid;
+
+import edu.ie3.datamodel.models.input.InputEntity;
+import edu.ie3.datamodel.models.input.container.GridContainer;
+import java.util.*;
+
+/**
+ * Difference between two states of a collection of grid entities. Entities are matched by their
+ * uuid, hence the classification into added, removed and modified entities is done in linear time
+ * with regard to the number of entities.
+ */
+public class GridEntityDiff {
+
+  private final Map<UUID, InputEntity> addedEntities;
+  private final Map<UUID, InputEntity> removedEntities;
+  private final Map<UUID, InputEntity> modifiedEntities;
+
+  private GridEntityDiff(
+      Map<UUID, InputEntity> addedEntities,
+      Map<UUID, InputEntity> removedEntities,
+      Map<UUID, InputEntity> modifiedEntities) {
+    this.addedEntities = addedEntities;
+    this.removedEntities = removedEntities;
+    this.modifiedEntities = modifiedEntities;
+  }
+
+  /**
+   * Determines the difference between all entities of the provided grids
+   *
+   * @param oldGrid the grid before the modification
+   * @param updatedGrid the grid after the modification
+   * @return the difference between both grids
+   */
+  public static GridEntityDiff of(GridContainer oldGrid, GridContainer updatedGrid) {
+    return of(oldGrid.allEntitiesAsList(), updatedGrid.allEntitiesAsList());
+  }
+
+  /**
+   * Determines the difference between the provided entities. An entity is considered as modified,
+   * if an entity with the same uuid exists in both collections, but both are not equal.
+   *
+   * @param oldEntities the entities before the modification
+   * @param updatedEntities the entities after the modification
+   * @return the difference between both collections
+   */
+  public static GridEntityDiff of(
+      Collection<? extends InputEntity> oldEntities,
+      Collection<? extends InputEntity> updatedEntities) {
+
+    // index the old entities by their uuid, every entity that is matched by an updated entity is
+    // removed from the index, hence the remaining ones have been removed
+    Map<UUID, InputEntity> unmatchedOldEntities = new HashMap<>(capacity(oldEntities.size()));
+    oldEntities.forEach(entity -> unmatchedOldEntities.put(entity.getUuid(), entity));
+
+    Map<UUID, InputEntity> addedEntities = new LinkedHashMap<>();
+    Map<UUID, InputEntity> modifiedEntities = new LinkedHashMap<>();
+    for (InputEntity updatedEntity : updatedEntities) {
+      InputEntity oldEntity = unmatchedOldEntities.remove(updatedEntity.getUuid());
+      if (oldEntity == null) {
+        addedEntities.put(updatedEntity.getUuid(), updatedEntity);
+      } else if (!oldEntity.equals(updatedEntity)) {
+        modifiedEntities.put(updatedEntity.getUuid(), updatedEntity);
+      }
+    }
+
+    return new GridEntityDiff(addedEntities, unmatchedOldEntities, modifiedEntities);
+  }
+
+  private static int capacity(int expectedSize) {
+    return (int) (expectedSize / 0.75f) + 1;
+  }
+
+  /** @return entities that are only present after the modification */
+  public Collection<InputEntity> getAddedEntities() {
+    return Collections.unmodifiableCollection(addedEntities.values());
+  }
+
+  /** @return entities that are only present before the modification */
+  public Collection<InputEntity> getRemovedEntities() {
+    return Collections.unmodifiableCollection(removedEntities.values());
+  }
+
+  /** @return the updated state of entities that are present before and after the modification */
+  public Collection<InputEntity> getModifiedEntities() {
+    return Collections.unmodifiableCollection(modifiedEntities.values());
+  }
+
+  /** @return all added and modified entities in their updated state */
+  public List<InputEntity> getChangedEntities() {
+    List<InputEntity> changedEntities =
+        new ArrayList<>(addedEntities.size() + modifiedEntities.size());
+    changedEntities.addAll(addedEntities.values());
+    changedEntities.addAll(modifiedEntities.values());
+    return changedEntities;
+  }
+
+  public boolean isEmpty() {
+    return addedEntities.isEmpty() && removedEntities.isEmpty() && modifiedEntities.isEmpty();
+  }
+
+  @Override
+  public String toString() {
+    return "GridEntityDiff{"
+        + "added="
+        + addedEntities.size()
+        + ", removed="
+        + removedEntities.size()
+        + ", modified="
+        + modifiedEntities.size()
+        + '}';
+  }
+}
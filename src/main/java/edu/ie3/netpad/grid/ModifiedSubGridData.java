@@ -18,10 +18,15 @@ import java.util.Set;
 public class ModifiedSubGridData {
 
   private final SubGridContainer modifiedSubGrid;
+  private final GridEntityDiff entityDiff;
   private final Set<UpdateGridEvent> changeSet;
 
-  public ModifiedSubGridData(SubGridContainer modifiedSubGrid, Set<UpdateGridEvent> changeSet) {
+  public ModifiedSubGridData(
+      SubGridContainer modifiedSubGrid,
+      GridEntityDiff entityDiff,
+      Set<UpdateGridEvent> changeSet) {
     this.modifiedSubGrid = modifiedSubGrid;
+    this.entityDiff = entityDiff;
     this.changeSet = changeSet;
   }
 
@@ -29,6 +34,10 @@ public class ModifiedSubGridData {
     return modifiedSubGrid;
   }
 
+  public GridEntityDiff getEntityDiff() {
+    return entityDiff;
+  }
+
   public Set<UpdateGridEvent> getChangeSet() {
     return changeSet;
   }
@@ -28,8 +28,17 @@ import javafx.scene.layout.GridPane;
 public class SystemParticipantsEditDialogs extends DialogProvider {
   private SystemParticipantsEditDialogs() {}
 
+  /**
+   * @param systemParticipantInput the participant
+   * @return true, if there is an edit dialog for the participant
+   */
+  public static boolean isEditable(SystemParticipantInput systemParticipantInput) {
+    return systemParticipantInput instanceof PvInput || systemParticipantInput instanceof LoadInput;
+  }
+
   public static Optional<Dialog<SystemParticipantInput>> editSysPartInputDialog(
       SystemParticipantInput systemParticipantInput) {
+    if (!isEditable(systemParticipantInput)) return Optional.empty();
 
     Map<String, Control> fieldsToValues = getFieldsToAttributes(systemParticipantInput);
 
@@ -12,18 +12,18 @@ import edu.ie3.datamodel.models.input.AssetInput;
 import edu.ie3.datamodel.models.input.NodeInput;
 import edu.ie3.datamodel.models.input.connector.Transformer2WInput;
 import edu.ie3.datamodel.models.input.system.SystemParticipantInput;
-import edu.ie3.netpad.exception.GridControllerListenerException;
+import edu.ie3.netpad.event.EventDispatcher;
+import edu.ie3.netpad.event.EventTopic;
+import edu.ie3.netpad.grid.context.dialog.SystemParticipantsEditDialogs;
 import edu.ie3.netpad.grid.context.event.GridContextEvent;
 import edu.ie3.netpad.grid.context.event.NodeUpdatedGridContextEvent;
 import edu.ie3.netpad.grid.context.event.SystemParticipantUpdatedGridContextEvent;
 import edu.ie3.netpad.util.FxUtil;
 import edu.ie3.netpad.util.log.FactoryExceptionAppender;
 import java.util.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import javafx.application.Platform;
-import javafx.beans.property.ObjectProperty;
-import javafx.beans.property.SimpleObjectProperty;
-import javafx.beans.value.ChangeListener;
 import javafx.geometry.Side;
 import javafx.scene.Node;
 import javafx.scene.control.*;
@@ -40,9 +40,24 @@ public class EditGridContextController {
 
   public static final Logger logger = LogManager.getLogger(EditGridContextController.class);
 
-  private final ObjectProperty<GridContextEvent> gridUpdateEventProperty =
-      new SimpleObjectProperty<>();
-  private boolean initialized;
+  /** Topic of all modifications, that are issued by the context menus */
+  public static final EventTopic<GridContextEvent> GRID_CONTEXT_EVENTS =
+      EventTopic.of("gridContext", GridContextEvent.class);
+
+  private static final int CONTEXT_MENU_CACHE_SIZE = 16;
+
+  // context menus are built on first use and reused, as long as the entity has not changed
+  private final Map<List<Object>, ContextMenu> contextMenus =
+      new LinkedHashMap<>(CONTEXT_MENU_CACHE_SIZE, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<List<Object>, ContextMenu> eldest) {
+          return size() > CONTEXT_MENU_CACHE_SIZE;
+        }
+      };
+
+  // builds the edit dialog of a participant, once its menu item is clicked
+  private Function<SystemParticipantInput, Optional<Dialog<SystemParticipantInput>>>
+      sysPartEditDialog = SystemParticipantsEditDialogs::editSysPartInputDialog;
 
   private static final class InstanceHolder {
     static final EditGridContextController INSTANCE = new EditGridContextController();
@@ -66,17 +81,40 @@ public class EditGridContextController {
     ((org.apache.logging.log4j.core.Logger) LogManager.getRootLogger()).addAppender(ap);
   }
 
-  protected void registerGridControllerListener(ChangeListener<GridContextEvent> listener) {
-    if (initialized)
-      throw new GridControllerListenerException(
-          "EditGridContextController should contain only one listener from a GridController instance. "
-              + "There is already a listener registered. Cannot register a second listener!");
-    this.initialized = true;
-    gridUpdateEventProperty.addListener(listener);
+  public void showTransformerContextMenu(
+      Node shape,
+      Transformer2WInput transformer2WInput,
+      Set<SystemParticipantInput> systemParticipants,
+      UUID subGridUuid) {
+    cachedTransformerContextMenu(transformer2WInput, systemParticipants, subGridUuid)
+        .show(shape, Side.RIGHT, 5, 5);
   }
 
+  /**
+   * Shows the context menu of a transformer at the given screen position, e.g. for graphics that
+   * are not represented by a node of their own
+   */
   public void showTransformerContextMenu(
-      Node shape,
+      Node anchor,
+      double screenX,
+      double screenY,
+      Transformer2WInput transformer2WInput,
+      Set<SystemParticipantInput> systemParticipants,
+      UUID subGridUuid) {
+    cachedTransformerContextMenu(transformer2WInput, systemParticipants, subGridUuid)
+        .show(anchor, screenX, screenY);
+  }
+
+  private ContextMenu cachedTransformerContextMenu(
+      Transformer2WInput transformer2WInput,
+      Set<SystemParticipantInput> systemParticipants,
+      UUID subGridUuid) {
+    return contextMenus.computeIfAbsent(
+        List.of(transformer2WInput, systemParticipants, subGridUuid),
+        key -> transformerContextMenu(transformer2WInput, systemParticipants, subGridUuid));
+  }
+
+  private ContextMenu transformerContextMenu(
       Transformer2WInput transformer2WInput,
       Set<SystemParticipantInput> systemParticipants,
       UUID subGridUuid) {
@@ -100,7 +138,7 @@ public class EditGridContextController {
     Arrays.asList(editNodeAItem, editNodeBItem, editTransformer, editTransformerType)
         .forEach(menuItem -> trafoContextMenu.getItems().add(menuItem));
 
-    trafoContextMenu.show(shape, Side.RIGHT, 5, 5);
+    return trafoContextMenu;
   }
 
   public void showNodeContextMenu(
@@ -108,6 +146,32 @@ public class EditGridContextController {
       NodeInput node,
       Set<SystemParticipantInput> systemParticipants,
       UUID subGridUuid) {
+    cachedNodeContextMenu(node, systemParticipants, subGridUuid).show(shape, Side.RIGHT, 5, 5);
+  }
+
+  /**
+   * Shows the context menu of a node at the given screen position, e.g. for graphics that are not
+   * represented by a node of their own
+   */
+  public void showNodeContextMenu(
+      Node anchor,
+      double screenX,
+      double screenY,
+      NodeInput node,
+      Set<SystemParticipantInput> systemParticipants,
+      UUID subGridUuid) {
+    cachedNodeContextMenu(node, systemParticipants, subGridUuid).show(anchor, screenX, screenY);
+  }
+
+  private ContextMenu cachedNodeContextMenu(
+      NodeInput node, Set<SystemParticipantInput> systemParticipants, UUID subGridUuid) {
+    return contextMenus.computeIfAbsent(
+        List.of(node, systemParticipants, subGridUuid),
+        key -> nodeContextMenu(node, systemParticipants, subGridUuid));
+  }
+
+  private ContextMenu nodeContextMenu(
+      NodeInput node, Set<SystemParticipantInput> systemParticipants, UUID subGridUuid) {
 
     /* add node context menu items  */
     ContextMenu nodeContextMenu = new ContextMenu();
@@ -121,7 +185,7 @@ public class EditGridContextController {
     /* add system participant context menu items */
     editSystemParticipantContextMenu(systemParticipants, nodeContextMenu, subGridUuid);
 
-    nodeContextMenu.show(shape, Side.RIGHT, 5, 5);
+    return nodeContextMenu;
   }
 
   private MenuItem editNodeMenuItem(String menuItemLbl, NodeInput nodeInput, UUID subGridUuid) {
@@ -132,7 +196,7 @@ public class EditGridContextController {
                 .showAndWait()
                 .ifPresent(
                     updatedNode ->
-                        gridUpdateEventProperty.setValue(
+                        notifyListener(
                             new NodeUpdatedGridContextEvent(nodeInput, updatedNode, subGridUuid))));
     return menuItem;
   }
@@ -173,20 +237,26 @@ public class EditGridContextController {
       String menuItemLbl, SystemParticipantInput systemParticipant, UUID subGridUuid) {
     MenuItem menuItem = new MenuItem(menuItemLbl);
 
-    editSysPartInputDialog(systemParticipant)
-        .ifPresentOrElse(
-            dialog ->
-                menuItem.setOnAction(
-                    event ->
-                        dialog
-                            .showAndWait()
-                            .ifPresent(
-                                updatedSystemPart ->
-                                    gridUpdateEventProperty.setValue(
-                                        new SystemParticipantUpdatedGridContextEvent(
-                                            systemParticipant, updatedSystemPart, subGridUuid)))),
-            () -> menuItem.setDisable(true));
+    // the dialog is only built, once the user wants to edit the participant
+    if (isEditable(systemParticipant)) {
+      menuItem.setOnAction(
+          event ->
+              sysPartEditDialog
+                  .apply(systemParticipant)
+                  .flatMap(Dialog::showAndWait)
+                  .ifPresent(
+                      updatedSystemPart ->
+                          notifyListener(
+                              new SystemParticipantUpdatedGridContextEvent(
+                                  systemParticipant, updatedSystemPart, subGridUuid))));
+    } else {
+      menuItem.setDisable(true);
+    }
 
     return menuItem;
   }
+
+  private void notifyListener(GridContextEvent gridContextEvent) {
+    EventDispatcher.getInstance().publish(GRID_CONTEXT_EVENTS, gridContextEvent);
+  }
 }
@@ -8,7 +8,6 @@ package edu.ie3.netpad.grid.controller;
 import edu.ie3.datamodel.graph.SubGridGate;
 import edu.ie3.datamodel.graph.SubGridTopologyGraph;
 import edu.ie3.datamodel.models.UniqueEntity;
-import edu.ie3.datamodel.models.input.InputEntity;
 import edu.ie3.datamodel.models.input.NodeInput;
 import edu.ie3.datamodel.models.input.connector.LineInput;
 import edu.ie3.datamodel.models.input.connector.Transformer2WInput;
@@ -20,6 +19,9 @@ import edu.ie3.datamodel.models.input.system.PvInput;
 import edu.ie3.datamodel.models.input.system.StorageInput;
 import edu.ie3.datamodel.models.input.system.SystemParticipantInput;
 import edu.ie3.datamodel.utils.ContainerUtils;
+import edu.ie3.netpad.event.EventDispatcher;
+import edu.ie3.netpad.event.EventTopic;
+import edu.ie3.netpad.grid.GridEntityDiff;
 import edu.ie3.netpad.grid.GridModel;
 import edu.ie3.netpad.grid.GridModification;
 import edu.ie3.netpad.grid.ModifiedSubGridData;
@@ -27,6 +29,7 @@ import edu.ie3.netpad.grid.event.*;
 import edu.ie3.netpad.io.controller.IoController;
 import edu.ie3.netpad.io.event.IOEvent;
 import edu.ie3.netpad.io.event.ReadGridEvent;
+import edu.ie3.netpad.io.event.ReadGridSnapshotEvent;
 import edu.ie3.netpad.io.event.SaveGridEvent;
 import edu.ie3.netpad.map.event.MapEvent;
 import edu.ie3.netpad.tool.controller.ToolController;
@@ -37,10 +40,9 @@ import edu.ie3.netpad.tool.event.ToolEvent;
 import edu.ie3.netpad.tool.grid.LineLengthFixer;
 import edu.ie3.netpad.tool.grid.LineLengthResolutionMode;
 import java.util.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
-import javafx.beans.property.ObjectProperty;
-import javafx.beans.property.SimpleObjectProperty;
 import javafx.beans.value.ChangeListener;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -55,6 +57,9 @@ public class GridController {
 
   private static final Logger log = LoggerFactory.getLogger(GridController.class);
 
+  /** Topic of all changes of the grid, that are issued by the grid controller */
+  public static final EventTopic<GridEvent> GRID_EVENTS = EventTopic.of("grid", GridEvent.class);
+
   private static final class InstanceHolder {
     static final GridController INSTANCE = new GridController();
   }
@@ -65,20 +70,23 @@ public class GridController {
 
   private final Map<UUID, GridModel> subGrids = new LinkedHashMap<>();
 
-  private final ObjectProperty<GridEvent> gridUpdateEventProperty = new SimpleObjectProperty<>();
+  // maps the uuid of each entity to the uuid of the grid model it belongs to
+  private final Map<UUID, UUID> entityToSubGrid = new HashMap<>();
 
   private GridController() {
 
-    // register for updates from iOController
-    IoController.getInstance().registerGridControllerListener(this.ioEventListener());
+    EventDispatcher eventDispatcher = EventDispatcher.getInstance();
+
+    // register for updates from iOController, the events are handled on the publishing thread, as
+    // the io controller expects an immediate answer e.g. on save requests
+    eventDispatcher.subscribe(IoController.IO_EVENTS, this::handleIoEvent);
 
     // register for updates from toolController
-    ToolController.getInstance().registerGridControllerListener(this.toolEventListener());
+    eventDispatcher.subscribe(ToolController.TOOL_EVENTS, this::handleToolEvent);
 
     // register for grid context controller updates
-    EditGridContextController.getInstance()
-        .registerGridControllerListener(
-            (observable, oldValue, gridContextEvent) -> handleGridModifications(gridContextEvent));
+    eventDispatcher.subscribe(
+        EditGridContextController.GRID_CONTEXT_EVENTS, this::handleGridModifications);
   }
 
   public boolean isGridLoaded() {
@@ -89,30 +97,52 @@ public class GridController {
     return subGrids;
   }
 
+  /**
+   * Returns the uuid of the grid model, the entity with the provided uuid belongs to. Nodes that
+   * are shared between several sub grids (e.g. transformer nodes) belong to the sub grid of their
+   * subnet.
+   *
+   * @param entityUuid the uuid of the entity
+   * @return an optional with the uuid of the grid model or an empty optional if the entity is
+   *     unknown
+   */
+  public Optional<UUID> getSubGridUuid(UUID entityUuid) {
+    return Optional.ofNullable(entityToSubGrid.get(entityUuid));
+  }
+
   private void handleReadGridEvent(ReadGridEvent newValue) {
 
     // clear subGrids
     subGrids.clear();
+    entityToSubGrid.clear();
 
     // each change by the I/O controller triggers an update of the whole
     // grid model of this class
     GridContainer receivedGrid = newValue.getGrid();
-    this.subGrids.putAll(gridContainerToGridModel(receivedGrid, Collections.emptyMap()));
+    replaceGridModels(
+        receivedGrid.getGridName(), gridContainerToGridModel(receivedGrid).values());
+
+    log.debug("Received changed grid from I/O controller!");
+  }
+
+  private void replaceGridModels(String gridName, Collection<GridModel> gridModels) {
+    subGrids.clear();
+    entityToSubGrid.clear();
+
+    gridModels.forEach(gridModel -> subGrids.put(gridModel.getUuid(), gridModel));
+    this.subGrids.values().forEach(this::indexEntities);
 
     // furthermore, all listeners that wanna hear about grid updates are notified
     notifyGridUpdateListener(
         new ReplaceGridEvent(
-            receivedGrid.getGridName(),
+            gridName,
             subGrids.keySet().stream()
                 .collect(
                     Collectors.toMap(
                         uuid -> uuid, uuid -> subGrids.get(uuid).getSubGridContainer()))));
-
-    log.debug("Received changed grid from I/O controller!");
   }
 
-  private Map<UUID, GridModel> gridContainerToGridModel(
-      GridContainer gridContainer, Map<UUID, Set<UUID>> gridModelsToEntities) {
+  private Map<UUID, GridModel> gridContainerToGridModel(GridContainer gridContainer) {
 
     Map<UUID, GridModel> subGridMapping = new LinkedHashMap<>();
     Stream.of(gridContainer)
@@ -121,7 +151,7 @@ public class GridController {
               if (grid instanceof SubGridContainer) {
 
                 UUID gridModelUuid =
-                    findSubGridUuid(gridModelsToEntities, grid).orElseGet(UUID::randomUUID);
+                    findSubGridUuid((SubGridContainer) grid).orElseGet(UUID::randomUUID);
 
                 return Stream.of(
                     new GridModel(
@@ -133,8 +163,11 @@ public class GridController {
                 Map<Integer, UUID> subGridUuids = new HashMap<>();
                 for (SubGridContainer subGrid : topologyGraph.vertexSet()) {
 
+                  // a grid model uuid must not be handed to several sub grids (e.g. after a split)
                   UUID gridModelUuid =
-                      findSubGridUuid(gridModelsToEntities, subGrid).orElseGet(UUID::randomUUID);
+                      findSubGridUuid(subGrid)
+                          .filter(uuid -> !subGridUuids.containsValue(uuid))
+                          .orElseGet(UUID::randomUUID);
 
                   subGridUuids.put(subGrid.getSubnet(), gridModelUuid);
                 }
@@ -181,79 +214,101 @@ public class GridController {
     return subGridMapping;
   }
 
-  private Optional<UUID> findSubGridUuid(
-      Map<UUID, Set<UUID>> gridModelsToEntities, GridContainer grid) {
-    return gridModelsToEntities.entrySet().stream()
+  /**
+   * Resolves the uuid of the already known grid model that corresponds to the provided sub grid.
+   * Only grid models of the same subnet are considered and out of these, the one sharing the most
+   * nodes with the sub grid is chosen. Hence, a node that has been moved into another sub grid does
+   * not hand over the uuid of its former sub grid.
+   *
+   * @param subGrid the sub grid to find the grid model uuid for
+   * @return an optional with the uuid of the grid model or an empty optional, if none of the known
+   *     grid models of the same subnet shares a node with the sub grid
+   */
+  private Optional<UUID> findSubGridUuid(SubGridContainer subGrid) {
+    Map<UUID, Long> sharedNodes =
+        subGrid.getRawGrid().getNodes().stream()
+            .filter(node -> node.getSubnet() == subGrid.getSubnet())
+            .map(node -> entityToSubGrid.get(node.getUuid()))
+            .filter(Objects::nonNull)
+            .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+    return sharedNodes.entrySet().stream()
         .filter(
-            entityUuids ->
-                entityUuids
-                    .getValue()
-                    .equals(
-                        grid.allEntitiesAsList().stream()
-                            .map(UniqueEntity::getUuid)
-                            .collect(Collectors.toSet())))
-        .map(Map.Entry::getKey)
-        .findAny();
+            candidate -> {
+              GridModel gridModel = subGrids.get(candidate.getKey());
+              return gridModel != null
+                  && gridModel.getSubGridContainer().getSubnet() == subGrid.getSubnet();
+            })
+        .max(Map.Entry.comparingByValue())
+        .map(Map.Entry::getKey);
   }
 
-  // todo JH clean this method
-  private ChangeListener<ToolEvent> toolEventListener() {
-    return (observable, oldValue, newValue) -> {
-      if (newValue instanceof LayoutGridRequestEvent) {
-        JointGridContainer currentFullGrid =
-            ContainerUtils.combineToJointGrid(
-                subGrids.values().stream()
-                    .map(GridModel::getSubGridContainer)
-                    .collect(Collectors.toList()));
-        ((LayoutGridRequestEvent) newValue).readGridEventPropertyProperty().set(currentFullGrid);
-        log.debug("Received Tool request event");
-      } else if (newValue instanceof LayoutGridResponse) {
-        handleReadGridEvent(new ReadGridEvent(((LayoutGridResponse) newValue).getGrid()));
-        log.debug("Received Tool response event");
-      } else if (newValue instanceof FixLineLengthRequestEvent) {
-        FixLineLengthRequestEvent event = (FixLineLengthRequestEvent) newValue;
-        LineLengthResolutionMode resolutionMode = event.getResolutionMode();
-        Set<Integer> selectedSubnets = event.getSelectedSubnets();
-        LineLengthFixer.execute(resolutionMode, selectedSubnets, subGrids)
-            .ifPresent(this::handleReadGridEvent);
-      } else {
-        throw new RuntimeException("Invalid GridContainer provided!");
-      }
-
-      // todo JH
-
-    };
+  private void indexEntities(GridModel gridModel) {
+    SubGridContainer subGrid = gridModel.getSubGridContainer();
+    subGrid.allEntitiesAsList().stream()
+        .filter(entity -> isIndexedForSubGrid(entity, subGrid))
+        .forEach(entity -> entityToSubGrid.put(entity.getUuid(), gridModel.getUuid()));
+  }
+
+  private void updateIndex(UUID subGridUuid, ModifiedSubGridData modifiedSubGridData) {
+    SubGridContainer subGrid = modifiedSubGridData.getModifiedSubGrid();
+    GridEntityDiff entityDiff = modifiedSubGridData.getEntityDiff();
+    entityDiff
+        .getRemovedEntities()
+        .forEach(entity -> entityToSubGrid.remove(entity.getUuid(), subGridUuid));
+    entityDiff.getChangedEntities().stream()
+        .filter(entity -> isIndexedForSubGrid(entity, subGrid))
+        .forEach(entity -> entityToSubGrid.put(entity.getUuid(), subGridUuid));
+  }
+
+  /**
+   * Nodes are only indexed for the sub grid of their own subnet, as transformer nodes are part of
+   * the superior and the inferior sub grid.
+   */
+  private boolean isIndexedForSubGrid(UniqueEntity entity, SubGridContainer subGrid) {
+    return !(entity instanceof NodeInput)
+        || ((NodeInput) entity).getSubnet() == subGrid.getSubnet();
   }
 
-  private ChangeListener<IOEvent> ioEventListener() {
-    return (observable, oldValue, newValue) -> {
-      if (newValue instanceof ReadGridEvent) {
-        handleReadGridEvent((ReadGridEvent) newValue);
-      } else if (newValue instanceof SaveGridEvent) {
-        // the io controller wants to save, hence we need to return the current state of the grid
-        // if subGrids consists only of a single subgrid, we can save it directly,
-        // otherwise we need to reassemble the joint grid
-        if (subGrids.size() == 1) {
-          ((SaveGridEvent) newValue)
-              .readGridEventPropertyProperty()
-              .set(subGrids.values().iterator().next().getSubGridContainer());
-        } else {
-          JointGridContainer currentFullGrid =
-              ContainerUtils.combineToJointGrid(
-                  subGrids.values().stream()
-                      .map(GridModel::getSubGridContainer)
-                      .collect(Collectors.toList()));
-          ((SaveGridEvent) newValue).readGridEventPropertyProperty().set(currentFullGrid);
-        }
-      } else {
-        log.warn(
-            "GridController cannot handle instance of {}.", newValue.getClass().getSimpleName());
-      }
-    };
+  // todo JH clean this method
+  private void handleToolEvent(ToolEvent toolEvent) {
+    if (toolEvent instanceof LayoutGridRequestEvent) {
+      JointGridContainer currentFullGrid =
+          ContainerUtils.combineToJointGrid(
+              subGrids.values().stream()
+                  .map(GridModel::getSubGridContainer)
+                  .collect(Collectors.toList()));
+      ((LayoutGridRequestEvent) toolEvent).readGridEventPropertyProperty().set(currentFullGrid);
+      log.debug("Received Tool request event");
+    } else if (toolEvent instanceof LayoutGridResponse) {
+      handleReadGridEvent(new ReadGridEvent(((LayoutGridResponse) toolEvent).getGrid()));
+      log.debug("Received Tool response event");
+    } else if (toolEvent instanceof FixLineLengthRequestEvent) {
+      FixLineLengthRequestEvent event = (FixLineLengthRequestEvent) toolEvent;
+      LineLengthResolutionMode resolutionMode = event.getResolutionMode();
+      Set<Integer> selectedSubnets = event.getSelectedSubnets();
+      LineLengthFixer.execute(resolutionMode, selectedSubnets, subGrids)
+          .ifPresent(this::handleReadGridEvent);
+    } else {
+      throw new RuntimeException("Invalid GridContainer provided!");
+    }
+
+    // todo JH
   }
 
-  public ObjectProperty<GridEvent> gridUpdateEvents() {
-    return gridUpdateEventProperty;
+  private void handleIoEvent(IOEvent ioEvent) {
+    if (ioEvent instanceof ReadGridEvent) {
+      handleReadGridEvent((ReadGridEvent) ioEvent);
+    } else if (ioEvent instanceof ReadGridSnapshotEvent) {
+      ReadGridSnapshotEvent snapshotEvent = (ReadGridSnapshotEvent) ioEvent;
+      replaceGridModels(snapshotEvent.getGridName(), snapshotEvent.getGridModels());
+    } else if (ioEvent instanceof SaveGridEvent) {
+      // the io controller wants to save, hence we need to return the current state of the grid.
+      // The grid models are replaced on modification, so a copy of the references is a
+      // consistent snapshot, that can be assembled and written in background
+      ((SaveGridEvent) ioEvent).gridSnapshotProperty().set(List.copyOf(subGrids.values()));
+    } else {
+      log.warn("GridController cannot handle instance of {}.", ioEvent.getClass().getSimpleName());
+    }
   }
 
   public ChangeListener<MapEvent> gridMapEventListener() {
@@ -261,6 +316,128 @@ public class GridController {
   }
 
   private void handleGridModifications(GridModification gridModification) {
+    // try to apply the modification to the affected sub grid only, if this is not possible
+    // (e.g. because the sub grid structure might change), the whole grid model is rebuilt
+    Set<UpdateGridEvent> updateGridEvents =
+        handleSubGridModification(gridModification)
+            .orElseGet(() -> handleJointGridModification(gridModification));
+
+    // notify listener with all updates at once, so that they can be applied in one go
+    if (!updateGridEvents.isEmpty()) {
+      notifyGridUpdateListener(BatchUpdateGridEvent.of(updateGridEvents));
+    }
+  }
+
+  /**
+   * Applies the provided modification on the sub grid it has been issued for only. This is only
+   * possible, if the modification does not alter the structure of the sub grids, which is the case
+   * if the modified entity is not shared between several sub grids (e.g. transformer nodes) and its
+   * subnet as well as its voltage level remain unchanged.
+   *
+   * @param gridModification the modification that should be applied
+   * @return the update events of the modified sub grid or an empty optional, if the modification
+   *     cannot be applied incrementally and the whole grid model needs to be rebuilt
+   */
+  private Optional<Set<UpdateGridEvent>> handleSubGridModification(
+      GridModification gridModification) {
+    UUID subGridUuid = gridModification.getSubGridUuid();
+    GridModel gridModel = subGrids.get(subGridUuid);
+    if (gridModel == null
+        || isSharedNode(gridModel, gridModification.getOldValue())) {
+      return Optional.empty();
+    }
+
+    SubGridContainer oldSubGrid = gridModel.getSubGridContainer();
+    Optional<SubGridContainer> maybeUpdatedSubGrid =
+        gridModification
+            .updatedGridContainer(oldSubGrid)
+            .filter(SubGridContainer.class::isInstance)
+            .map(SubGridContainer.class::cast)
+            .filter(updatedSubGrid -> updatedSubGrid.getSubnet() == oldSubGrid.getSubnet())
+            .filter(
+                updatedSubGrid ->
+                    !isNodeRelocated(updatedSubGrid, gridModification.getOldValue()));
+    if (maybeUpdatedSubGrid.isEmpty()) {
+      return Optional.empty();
+    }
+    SubGridContainer updatedSubGrid = maybeUpdatedSubGrid.get();
+
+    ModifiedSubGridData updatedGridData =
+        buildModifiedSubGridData(oldSubGrid, updatedSubGrid, subGridUuid);
+    Set<UpdateGridEvent> updateGridEvents = updatedGridData.getChangeSet();
+
+    // sanity check to prevent model inconsistency in listening models -> do not update
+    // the grid model if no update grid events are issued for this grid
+    if (updateGridEvents.isEmpty()) {
+      log.warn(
+          "Missing GridUpdateEvents for updated entities in subGrid {}. NO update of the grid model performed!",
+          subGridUuid);
+    } else {
+      this.subGrids.put(
+          subGridUuid,
+          new GridModel(
+              subGridUuid,
+              updatedGridData.getModifiedSubGrid(),
+              gridModel.getSuperiorGrids(),
+              gridModel.getInferiorGrids()));
+      updateIndex(subGridUuid, updatedGridData);
+      log.debug(
+          "Updating element {} in subGrid {} (uuid: {}).",
+          gridModification.getOldValue().getUuid(),
+          updatedSubGrid.getSubnet(),
+          subGridUuid);
+    }
+
+    return Optional.of(updateGridEvents);
+  }
+
+  /**
+   * Checks, if the provided entity is a node that is shared with other sub grids. As sub grids are
+   * connected via transformers, which are only part of the inferior sub grid, this holds for all
+   * nodes that are also contained in one of the adjacent sub grids.
+   *
+   * @param gridModel the grid model of the sub grid the entity belongs to
+   * @param entity the entity to check
+   * @return true, if the entity is a node that is part of more than one sub grid
+   */
+  private boolean isSharedNode(GridModel gridModel, UniqueEntity entity) {
+    if (!(entity instanceof NodeInput)) {
+      return false;
+    }
+    UUID nodeUuid = entity.getUuid();
+    return Stream.concat(
+            gridModel.getSuperiorGrids().stream(), gridModel.getInferiorGrids().stream())
+        .map(subGrids::get)
+        .filter(Objects::nonNull)
+        .flatMap(
+            adjacentGrid -> adjacentGrid.getSubGridContainer().getRawGrid().getNodes().stream())
+        .anyMatch(node -> node.getUuid().equals(nodeUuid));
+  }
+
+  /**
+   * Checks, if the provided entity is a node, whose subnet or voltage level has been altered in the
+   * updated sub grid, which would require it to be moved into another sub grid.
+   *
+   * @param updatedSubGrid the updated sub grid
+   * @param entity the entity before the modification
+   * @return true, if the entity is a node that might belong to another sub grid now
+   */
+  private boolean isNodeRelocated(SubGridContainer updatedSubGrid, UniqueEntity entity) {
+    if (!(entity instanceof NodeInput)) {
+      return false;
+    }
+    NodeInput oldNode = (NodeInput) entity;
+    return updatedSubGrid.getRawGrid().getNodes().stream()
+        .filter(node -> node.getUuid().equals(oldNode.getUuid()))
+        .findAny()
+        .map(
+            updatedNode ->
+                updatedNode.getSubnet() != oldNode.getSubnet()
+                    || !updatedNode.getVoltLvl().equals(oldNode.getVoltLvl()))
+        .orElse(true);
+  }
+
+  private Set<UpdateGridEvent> handleJointGridModification(GridModification gridModification) {
     // each change on grid map events triggers a rebuild of the whole grid model
     // with the provided element replaced
 
@@ -274,26 +451,13 @@ public class GridController {
                     .map(GridModel::getSubGridContainer)
                     .collect(Collectors.toList()));
 
-    // map entity uuids to their gridModel uuids
-    Map<UUID, Set<UUID>> gridModelsToEntities = new HashMap<>();
-    subGrids
-        .values()
-        .forEach(
-            gridModel ->
-                gridModelsToEntities.put(
-                    gridModel.getUuid(),
-                    gridModel.getSubGridContainer().allEntitiesAsList().stream()
-                        .map(UniqueEntity::getUuid)
-                        .collect(Collectors.toSet())));
-
     // update the joint grid container
     Set<UpdateGridEvent> updateGridEvents = new HashSet<>();
     gridModification
         .updatedGridContainer(currentFullGrid)
         .ifPresent(
             updatedGridContainer -> {
-              Map<UUID, GridModel> updatedSubGrids =
-                  gridContainerToGridModel(updatedGridContainer, gridModelsToEntities);
+              Map<UUID, GridModel> updatedSubGrids = gridContainerToGridModel(updatedGridContainer);
 
               if (updatedSubGrids.isEmpty()) {
                 log.warn(
@@ -301,12 +465,14 @@ public class GridController {
                     gridModification);
               }
 
+              Map<UUID, ModifiedSubGridData> updatedGridsData = new HashMap<>();
               updatedSubGrids.forEach(
                   (key, value) -> {
                     SubGridContainer oldSubGrid = this.subGrids.get(key).getSubGridContainer();
                     SubGridContainer updatedSubGrid = value.getSubGridContainer();
                     ModifiedSubGridData updatedGridData =
                         buildModifiedSubGridData(oldSubGrid, updatedSubGrid, key);
+                    updatedGridsData.put(key, updatedGridData);
                     updateGridEvents.addAll(updatedGridData.getChangeSet());
                   });
 
@@ -323,6 +489,7 @@ public class GridController {
                   (uuid, updatedGrid) -> {
                     if (updatedGridElementsMapping.containsKey(updatedGrid.getUuid())) {
                       this.subGrids.put(updatedGrid.getUuid(), updatedGrid);
+                      updateIndex(updatedGrid.getUuid(), updatedGridsData.get(uuid));
                       log.debug(
                           "Updating element {} in subGrid {} (uuid: {}).",
                           gridModification.getOldValue().getUuid(),
@@ -336,29 +503,26 @@ public class GridController {
                   });
             });
 
-    // notify listener
-    updateGridEvents.forEach(this::notifyGridUpdateListener);
+    return updateGridEvents;
   }
 
   private void notifyGridUpdateListener(GridEvent gridUpdateEvent) {
-    gridUpdateEventProperty.setValue(gridUpdateEvent);
+    EventDispatcher.getInstance().publish(GRID_EVENTS, gridUpdateEvent);
   }
 
   private ModifiedSubGridData buildModifiedSubGridData(
       SubGridContainer oldSubGrid, SubGridContainer updatedSubGrid, UUID subGridUuid) {
 
-    Set<UpdateGridEvent> updatedEntities =
-        getGridUpdateEvents(updatedSubGrid, oldSubGrid.allEntitiesAsList(), subGridUuid);
-    return new ModifiedSubGridData(updatedSubGrid, updatedEntities);
+    GridEntityDiff entityDiff = GridEntityDiff.of(oldSubGrid, updatedSubGrid);
+    Set<UpdateGridEvent> updatedEntities = getGridUpdateEvents(entityDiff, subGridUuid);
+    return new ModifiedSubGridData(updatedSubGrid, entityDiff, updatedEntities);
   }
 
   // todo JH javadoc an empty set is returned if at least one update event cannot be created to
   // avoid grid inconsitency later on
-  private Set<UpdateGridEvent> getGridUpdateEvents(
-      GridContainer updatedGrid, List<InputEntity> oldEntities, UUID subGridUuid) {
+  private Set<UpdateGridEvent> getGridUpdateEvents(GridEntityDiff entityDiff, UUID subGridUuid) {
     return Optional.of(
-            updatedGrid.allEntitiesAsList().stream()
-                .filter(entity -> !oldEntities.contains(entity))
+            entityDiff.getChangedEntities().stream()
                 .map(
                     entity -> {
                       if (entity instanceof NodeInput) {
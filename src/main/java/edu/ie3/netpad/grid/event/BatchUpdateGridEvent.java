@@ -0,0 +1,74 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+*/
+package edu.ie3.netpad.grid.event;
+
+import java.util.*;
+
+/**
+ * Several {@link UpdateGridEvent}s grouped by the sub grid they have been issued for, so that they
+ * can be applied at once. Repeated updates of the same entity are coalesced, only the latest one
+ * is kept.
+ */
+public class BatchUpdateGridEvent implements GridEvent {
+
+  private final Map<UUID, Map<UUID, UpdateGridEvent>> updatesPerSubGrid;
+
+  private BatchUpdateGridEvent(Map<UUID, Map<UUID, UpdateGridEvent>> updatesPerSubGrid) {
+    this.updatesPerSubGrid = updatesPerSubGrid;
+  }
+
+  /**
+   * Groups and coalesces the given updates, the order of the updates is preserved
+   *
+   * @param updateGridEvents updates in the order they have been issued
+   * @return the batch of all updates
+   */
+  public static BatchUpdateGridEvent of(Collection<? extends UpdateGridEvent> updateGridEvents) {
+    Map<UUID, Map<UUID, UpdateGridEvent>> updatesPerSubGrid = new LinkedHashMap<>();
+    for (UpdateGridEvent updateGridEvent : updateGridEvents) {
+      Map<UUID, UpdateGridEvent> updates =
+          updatesPerSubGrid.computeIfAbsent(
+              updateGridEvent.getSubGridUuid(), subGridUuid -> new LinkedHashMap<>());
+      // remove first to move a repeatedly updated entity to the position of its latest update
+      updates.remove(updateGridEvent.getGridEntityUuid());
+      updates.put(updateGridEvent.getGridEntityUuid(), updateGridEvent);
+    }
+    return new BatchUpdateGridEvent(updatesPerSubGrid);
+  }
+
+  /** @return the uuids of all sub grids with updates */
+  public Set<UUID> getSubGridUuids() {
+    return Collections.unmodifiableSet(updatesPerSubGrid.keySet());
+  }
+
+  /**
+   * @param subGridUuid uuid of the sub grid
+   * @return all updates of the given sub grid
+   */
+  public Collection<UpdateGridEvent> getUpdates(UUID subGridUuid) {
+    return Collections.unmodifiableCollection(
+        updatesPerSubGrid.getOrDefault(subGridUuid, Collections.emptyMap()).values());
+  }
+
+  /** @return the number of updates after coalescing */
+  public int size() {
+    return updatesPerSubGrid.values().stream().mapToInt(Map::size).sum();
+  }
+
+  public boolean isEmpty() {
+    return updatesPerSubGrid.isEmpty();
+  }
+
+  @Override
+  public String toString() {
+    return "BatchUpdateGridEvent{"
+        + "subGrids="
+        + updatesPerSubGrid.size()
+        + ", updates="
+        + size()
+        + '}';
+  }
+}
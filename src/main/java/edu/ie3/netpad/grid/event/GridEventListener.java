@@ -5,17 +5,13 @@
 */
 package edu.ie3.netpad.grid.event;
 
-import javafx.beans.value.ChangeListener;
-
 /**
- * //ToDo: Class Description
+ * Receiver of the {@link GridEvent}s of the grid controller
  *
  * @version 0.1
  * @since 25.05.20
  */
 public interface GridEventListener {
 
-  ChangeListener<GridEvent> gridEventListener();
-
   void handleGridEvent(GridEvent gridEvent);
 }
@@ -45,6 +45,13 @@ public class GridUpdateLineEvent implements UpdateGridEvent {
     return new GridLineGraphic(this.lineInput, oldGridGraphicEntity.getGridPaintLayer(), listener);
   }
 
+  @Override
+  public boolean updateGraphicEntityInPlace(GridGraphic gridGraphic) {
+    if (!(gridGraphic instanceof GridLineGraphic)) return false;
+    ((GridLineGraphic) gridGraphic).updateEntity(lineInput);
+    return true;
+  }
+
   @Override
   public String toString() {
     return "GridUpdateLineEvent{"
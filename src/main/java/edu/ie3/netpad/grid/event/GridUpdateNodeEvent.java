@@ -49,6 +49,13 @@ public class GridUpdateNodeEvent implements UpdateGridEvent {
         listener);
   }
 
+  @Override
+  public boolean updateGraphicEntityInPlace(GridGraphic gridGraphic) {
+    if (!(gridGraphic instanceof GridNodeGraphic)) return false;
+    ((GridNodeGraphic) gridGraphic).updateEntity(nodeInput, gridGraphic.getSystemParticipants());
+    return true;
+  }
+
   @Override
   public String toString() {
     return "GridUpdateNodeEvent{"
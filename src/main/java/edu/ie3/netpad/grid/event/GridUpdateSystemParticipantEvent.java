@@ -73,6 +73,24 @@ public class GridUpdateSystemParticipantEvent implements UpdateGridEvent {
     }
   }
 
+  @Override
+  public boolean updateGraphicEntityInPlace(GridGraphic gridGraphic) {
+    if (gridGraphic instanceof GridNodeGraphic) {
+      GridNodeGraphic nodeGraphic = (GridNodeGraphic) gridGraphic;
+      nodeGraphic.updateEntity(
+          nodeGraphic.getNodeInput(),
+          updateSystemParticipants(nodeGraphic.getSystemParticipants()));
+      return true;
+    } else if (gridGraphic instanceof GridTransformer2WGraphic) {
+      GridTransformer2WGraphic transformerGraphic = (GridTransformer2WGraphic) gridGraphic;
+      transformerGraphic.updateEntity(
+          transformerGraphic.getTransformer2WInput(),
+          updateSystemParticipants(transformerGraphic.getSystemParticipants()));
+      return true;
+    }
+    return false;
+  }
+
   private Set<SystemParticipantInput> updateSystemParticipants(
       Set<SystemParticipantInput> oldSysParts) {
     Set<SystemParticipantInput> updatedSysParts =
@@ -50,6 +50,14 @@ public class GridUpdateTransformer2WEvent implements UpdateGridEvent, GridGraphi
         listener);
   }
 
+  @Override
+  public boolean updateGraphicEntityInPlace(GridGraphic gridGraphic) {
+    if (!(gridGraphic instanceof GridTransformer2WGraphic)) return false;
+    ((GridTransformer2WGraphic) gridGraphic)
+        .updateEntity(transformer2WInput, gridGraphic.getSystemParticipants());
+    return true;
+  }
+
   @Override
   public String toString() {
     return "GridUpdateTransformer2WEvent{"
@@ -12,11 +12,11 @@ import edu.ie3.datamodel.models.voltagelevels.VoltageLevel;
 import edu.ie3.netpad.grid.event.GridEvent;
 import edu.ie3.netpad.grid.event.GridEventListener;
 import edu.ie3.netpad.grid.event.ReplaceGridEvent;
-import edu.ie3.netpad.util.ListenerUtil;
+import edu.ie3.netpad.map.GridRenderMode;
 import java.util.*;
+import java.util.stream.Stream;
 import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.SimpleObjectProperty;
-import javafx.beans.value.ChangeListener;
 import javafx.event.EventHandler;
 import javafx.fxml.FXML;
 import javafx.scene.control.*;
@@ -39,14 +39,30 @@ public class GridInfoController implements GridEventListener {
 
   @FXML private CheckTreeView<String> selectedGridCheckTreeView;
 
-  private final ChangeListener<GridEvent> gridEventListener =
-      ListenerUtil.createGridEventListener(this);
-
   private final ObjectProperty<GridInfoEvent> gridInfoEventProperty = new SimpleObjectProperty<>();
-
-  @Override
-  public ChangeListener<GridEvent> gridEventListener() {
-    return gridEventListener;
+  private final ObjectProperty<GridRenderModeEvent> renderModeEventProperty =
+      new SimpleObjectProperty<>();
+
+  // tree items of the sub grids of the current grid
+  private final Map<TreeItem<String>, UUID> subGridTreeItems = new HashMap<>();
+
+  @FXML
+  public void initialize() {
+    // the render mode of the selected sub grids can be chosen, e.g. to compare the frame rates
+    ContextMenu renderModeMenu = new ContextMenu();
+    for (GridRenderMode renderMode : GridRenderMode.values()) {
+      MenuItem renderModeItem =
+          new MenuItem("Render as " + renderMode.name().toLowerCase(Locale.ROOT));
+      renderModeItem.setOnAction(
+          event ->
+              selectedSubGrids()
+                  .forEach(
+                      subGridUuid ->
+                          renderModeEventProperty.set(
+                              new GridRenderModeEvent(subGridUuid, renderMode))));
+      renderModeMenu.getItems().add(renderModeItem);
+    }
+    selectedGridCheckTreeView.setContextMenu(renderModeMenu);
   }
 
   @Override
@@ -68,6 +84,7 @@ public class GridInfoController implements GridEventListener {
     root.setSelected(true);
 
     selectedGridCheckTreeView.setRoot(root);
+    subGridTreeItems.clear();
 
     addToRootTreeItem(root, gridEvent.getSubGrids());
   }
@@ -93,7 +110,6 @@ public class GridInfoController implements GridEventListener {
   private Collection<CheckBoxTreeItem<String>> buildTreeItems(
       Map<UUID, SubGridContainer> subGridContainerMap) {
     Map<VoltageLevel, CheckBoxTreeItem<String>> voltLvlToTreeItem = new HashMap<>();
-    HashMap<CheckBoxTreeItem<String>, UUID> subGridCheckBoxes = new HashMap<>();
 
     subGridContainerMap.forEach(
         (uuid, subGrid) -> {
@@ -113,22 +129,50 @@ public class GridInfoController implements GridEventListener {
               (EventHandler<CheckBoxTreeItem.TreeModificationEvent<String>>)
                   event -> {
                     CheckBoxTreeItem<String> chk = event.getTreeItem();
-                    UUID subGridUUID = subGridCheckBoxes.get(chk);
+                    UUID subGridUUID = subGridTreeItems.get(chk);
                     notifyListener(new GridInfoEvent(subGridUUID, chk.isSelected()));
                   });
 
           voltageLvlChkBox.getChildren().add(checkBoxTreeItem);
 
           voltLvlToTreeItem.put(subGrid.getPredominantVoltageLevel(), voltageLvlChkBox);
-          subGridCheckBoxes.put(checkBoxTreeItem, uuid);
+          subGridTreeItems.put(checkBoxTreeItem, uuid);
         });
     return voltLvlToTreeItem.values();
   }
 
+  /**
+   * Determines the sub grids of the selected tree item, which is either a single sub grid, a
+   * voltage level or the whole grid
+   *
+   * @return uuids of the selected sub grids
+   */
+  private Set<UUID> selectedSubGrids() {
+    Set<UUID> selectedSubGrids = new HashSet<>();
+    Optional.ofNullable(selectedGridCheckTreeView.getSelectionModel().getSelectedItem())
+        .ifPresent(
+            selectedItem ->
+                withDescendants(selectedItem)
+                    .map(subGridTreeItems::get)
+                    .filter(Objects::nonNull)
+                    .forEach(selectedSubGrids::add));
+    return selectedSubGrids;
+  }
+
+  private static Stream<TreeItem<String>> withDescendants(TreeItem<String> treeItem) {
+    return Stream.concat(
+        Stream.of(treeItem),
+        treeItem.getChildren().stream().flatMap(GridInfoController::withDescendants));
+  }
+
   public ObjectProperty<GridInfoEvent> gridInfoEvents() {
     return gridInfoEventProperty;
   }
 
+  public ObjectProperty<GridRenderModeEvent> renderModeEvents() {
+    return renderModeEventProperty;
+  }
+
   private void notifyListener(GridInfoEvent gridInfoEvent) {
     gridInfoEventProperty.set(gridInfoEvent);
   }
@@ -0,0 +1,29 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+*/
+package edu.ie3.netpad.grid.info;
+
+import edu.ie3.netpad.map.GridRenderMode;
+import java.util.UUID;
+
+/** The user has chosen the way, the graphics of a sub grid are rendered */
+public class GridRenderModeEvent {
+
+  private final UUID subGridUuid;
+  private final GridRenderMode renderMode;
+
+  public GridRenderModeEvent(UUID subGridUuid, GridRenderMode renderMode) {
+    this.subGridUuid = subGridUuid;
+    this.renderMode = renderMode;
+  }
+
+  public UUID getSubGridUuid() {
+    return subGridUuid;
+  }
+
+  public GridRenderMode getRenderMode() {
+    return renderMode;
+  }
+}
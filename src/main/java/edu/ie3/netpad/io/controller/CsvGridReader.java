@@ -0,0 +1,375 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+*/
+package edu.ie3.netpad.io.controller;
+
+import edu.ie3.datamodel.io.naming.FileNamingStrategy;
+import edu.ie3.datamodel.io.source.csv.*;
+import edu.ie3.datamodel.models.input.MeasurementUnitInput;
+import edu.ie3.datamodel.models.input.NodeInput;
+import edu.ie3.datamodel.models.input.OperatorInput;
+import edu.ie3.datamodel.models.input.connector.LineInput;
+import edu.ie3.datamodel.models.input.connector.SwitchInput;
+import edu.ie3.datamodel.models.input.connector.Transformer2WInput;
+import edu.ie3.datamodel.models.input.connector.Transformer3WInput;
+import edu.ie3.datamodel.models.input.connector.type.LineTypeInput;
+import edu.ie3.datamodel.models.input.connector.type.Transformer2WTypeInput;
+import edu.ie3.datamodel.models.input.connector.type.Transformer3WTypeInput;
+import edu.ie3.datamodel.models.input.container.GraphicElements;
+import edu.ie3.datamodel.models.input.container.JointGridContainer;
+import edu.ie3.datamodel.models.input.container.RawGridElements;
+import edu.ie3.datamodel.models.input.container.SystemParticipants;
+import edu.ie3.datamodel.models.input.graphics.LineGraphicInput;
+import edu.ie3.datamodel.models.input.graphics.NodeGraphicInput;
+import edu.ie3.datamodel.models.input.system.*;
+import edu.ie3.datamodel.models.input.system.type.*;
+import edu.ie3.datamodel.models.input.thermal.ThermalBusInput;
+import edu.ie3.datamodel.models.input.thermal.ThermalStorageInput;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Reads a grid from csv files that are described by the provided {@link FileNamingStrategy}. The
+ * grid can either be read sequentially or in parallel. In parallel mode, all files that do not
+ * depend on each other are read concurrently and operators, types and nodes are read only once, as
+ * the parsed entities are handed to all sources that need them.
+ */
+class CsvGridReader {
+
+  private final String gridName;
+
+  private final CsvTypeSource typeSource;
+  private final CsvRawGridSource rawGridSource;
+  private final CsvThermalSource thermalSource;
+  private final CsvSystemParticipantSource participantSource;
+  private final CsvGraphicSource graphicSource;
+
+  CsvGridReader(
+      String gridName,
+      String csvSeparator,
+      String baseDirectory,
+      FileNamingStrategy fileNamingStrategy) {
+    this.gridName = gridName;
+    this.typeSource = new CsvTypeSource(csvSeparator, baseDirectory, fileNamingStrategy);
+    this.rawGridSource =
+        new CsvRawGridSource(csvSeparator, baseDirectory, fileNamingStrategy, typeSource);
+    this.thermalSource =
+        new CsvThermalSource(csvSeparator, baseDirectory, fileNamingStrategy, typeSource);
+    this.participantSource =
+        new CsvSystemParticipantSource(
+            csvSeparator,
+            baseDirectory,
+            fileNamingStrategy,
+            typeSource,
+            thermalSource,
+            rawGridSource);
+    this.graphicSource =
+        new CsvGraphicSource(
+            csvSeparator, baseDirectory, fileNamingStrategy, typeSource, rawGridSource);
+  }
+
+  /**
+   * Reads all entities one after another. Each source reads the entities it depends on by itself.
+   *
+   * @param progress Consumer that is informed about each performed step
+   * @return the read grid
+   */
+  JointGridContainer read(Consumer<GridLoadingStep> progress) {
+    progress.accept(GridLoadingStep.NODES);
+    Set<NodeInput> nodes = rawGridSource.getNodes();
+    progress.accept(GridLoadingStep.LINES);
+    Set<LineInput> lines = rawGridSource.getLines();
+    progress.accept(GridLoadingStep.TRANSFORMERS);
+    Set<Transformer2WInput> transformer2Ws = rawGridSource.get2WTransformers();
+    Set<Transformer3WInput> transformer3Ws = rawGridSource.get3WTransformers();
+    progress.accept(GridLoadingStep.SWITCHES);
+    Set<SwitchInput> switches = rawGridSource.getSwitches();
+    progress.accept(GridLoadingStep.MEASUREMENT_UNITS);
+    Set<MeasurementUnitInput> measurementUnits = rawGridSource.getMeasurementUnits();
+    RawGridElements rawGrid =
+        new RawGridElements(
+            nodes, lines, transformer2Ws, transformer3Ws, switches, measurementUnits);
+
+    progress.accept(GridLoadingStep.SYSTEM_PARTICIPANTS);
+    SystemParticipants systemParticipants =
+        new SystemParticipants(
+            participantSource.getBmPlants(),
+            participantSource.getChpPlants(),
+            participantSource.getEvCS(),
+            participantSource.getEvs(),
+            participantSource.getFixedFeedIns(),
+            participantSource.getHeatPumps(),
+            participantSource.getLoads(),
+            participantSource.getPvPlants(),
+            participantSource.getStorages(),
+            participantSource.getWecPlants());
+
+    progress.accept(GridLoadingStep.GRAPHICS);
+    GraphicElements graphicElements =
+        new GraphicElements(
+            graphicSource.getNodeGraphicInput(), graphicSource.getLineGraphicInput());
+
+    progress.accept(GridLoadingStep.ASSEMBLING);
+    return new JointGridContainer(gridName, rawGrid, systemParticipants, graphicElements);
+  }
+
+  /**
+   * Reads all entities concurrently on the provided executor. The calling thread blocks until all
+   * files are read.
+   *
+   * @param progress Consumer that is informed about each started step, needs to be thread safe
+   * @param executor Executor to read the single files on
+   * @return the read grid
+   */
+  JointGridContainer readParallel(Consumer<GridLoadingStep> progress, Executor executor) {
+    ParallelRead parallelRead = new ParallelRead(progress, executor);
+
+    /* Operators and types do not depend on any other entity */
+    CompletableFuture<Set<OperatorInput>> operators =
+        parallelRead.supply(GridLoadingStep.PREPARING, typeSource::getOperators);
+    CompletableFuture<Set<LineTypeInput>> lineTypes =
+        parallelRead.supply(GridLoadingStep.PREPARING, typeSource::getLineTypes);
+    CompletableFuture<Set<Transformer2WTypeInput>> transformer2WTypes =
+        parallelRead.supply(GridLoadingStep.PREPARING, typeSource::getTransformer2WTypes);
+    CompletableFuture<Set<Transformer3WTypeInput>> transformer3WTypes =
+        parallelRead.supply(GridLoadingStep.PREPARING, typeSource::getTransformer3WTypes);
+    CompletableFuture<Set<BmTypeInput>> bmTypes =
+        parallelRead.supply(GridLoadingStep.PREPARING, typeSource::getBmTypes);
+    CompletableFuture<Set<ChpTypeInput>> chpTypes =
+        parallelRead.supply(GridLoadingStep.PREPARING, typeSource::getChpTypes);
+    CompletableFuture<Set<EvTypeInput>> evTypes =
+        parallelRead.supply(GridLoadingStep.PREPARING, typeSource::getEvTypes);
+    CompletableFuture<Set<HpTypeInput>> hpTypes =
+        parallelRead.supply(GridLoadingStep.PREPARING, typeSource::getHeatPumpTypes);
+    CompletableFuture<Set<StorageTypeInput>> storageTypes =
+        parallelRead.supply(GridLoadingStep.PREPARING, typeSource::getStorageTypes);
+    CompletableFuture<Set<WecTypeInput>> wecTypes =
+        parallelRead.supply(GridLoadingStep.PREPARING, typeSource::getWecTypes);
+
+    /* Nodes and thermal buses only depend on operators */
+    CompletableFuture<Set<NodeInput>> nodes =
+        parallelRead.after(
+            GridLoadingStep.NODES, () -> rawGridSource.getNodes(operators.join()), operators);
+    CompletableFuture<Set<ThermalBusInput>> thermalBuses =
+        parallelRead.after(
+            GridLoadingStep.SYSTEM_PARTICIPANTS,
+            () -> thermalSource.getThermalBuses(operators.join()),
+            operators);
+    CompletableFuture<Set<ThermalStorageInput>> thermalStorages =
+        parallelRead.after(
+            GridLoadingStep.SYSTEM_PARTICIPANTS,
+            () -> thermalSource.getThermalStorages(operators.join(), thermalBuses.join()),
+            operators,
+            thermalBuses);
+
+    /* Raw grid elements */
+    CompletableFuture<Set<LineInput>> lines =
+        parallelRead.after(
+            GridLoadingStep.LINES,
+            () -> rawGridSource.getLines(nodes.join(), lineTypes.join(), operators.join()),
+            nodes,
+            lineTypes,
+            operators);
+    CompletableFuture<Set<Transformer2WInput>> transformer2Ws =
+        parallelRead.after(
+            GridLoadingStep.TRANSFORMERS,
+            () ->
+                rawGridSource.get2WTransformers(
+                    nodes.join(), transformer2WTypes.join(), operators.join()),
+            nodes,
+            transformer2WTypes,
+            operators);
+    CompletableFuture<Set<Transformer3WInput>> transformer3Ws =
+        parallelRead.after(
+            GridLoadingStep.TRANSFORMERS,
+            () ->
+                rawGridSource.get3WTransformers(
+                    nodes.join(), transformer3WTypes.join(), operators.join()),
+            nodes,
+            transformer3WTypes,
+            operators);
+    CompletableFuture<Set<SwitchInput>> switches =
+        parallelRead.after(
+            GridLoadingStep.SWITCHES,
+            () -> rawGridSource.getSwitches(nodes.join(), operators.join()),
+            nodes,
+            operators);
+    CompletableFuture<Set<MeasurementUnitInput>> measurementUnits =
+        parallelRead.after(
+            GridLoadingStep.MEASUREMENT_UNITS,
+            () -> rawGridSource.getMeasurementUnits(nodes.join(), operators.join()),
+            nodes,
+            operators);
+
+    /* System participants */
+    CompletableFuture<Set<BmInput>> bmPlants =
+        parallelRead.after(
+            GridLoadingStep.SYSTEM_PARTICIPANTS,
+            () -> participantSource.getBmPlants(nodes.join(), operators.join(), bmTypes.join()),
+            nodes,
+            operators,
+            bmTypes);
+    CompletableFuture<Set<ChpInput>> chpPlants =
+        parallelRead.after(
+            GridLoadingStep.SYSTEM_PARTICIPANTS,
+            () ->
+                participantSource.getChpPlants(
+                    nodes.join(),
+                    operators.join(),
+                    chpTypes.join(),
+                    thermalBuses.join(),
+                    thermalStorages.join()),
+            nodes,
+            operators,
+            chpTypes,
+            thermalBuses,
+            thermalStorages);
+    CompletableFuture<Set<EvcsInput>> evcs =
+        parallelRead.after(
+            GridLoadingStep.SYSTEM_PARTICIPANTS,
+            () -> participantSource.getEvCS(nodes.join(), operators.join()),
+            nodes,
+            operators);
+    CompletableFuture<Set<EvInput>> evs =
+        parallelRead.after(
+            GridLoadingStep.SYSTEM_PARTICIPANTS,
+            () -> participantSource.getEvs(nodes.join(), operators.join(), evTypes.join()),
+            nodes,
+            operators,
+            evTypes);
+    CompletableFuture<Set<FixedFeedInInput>> fixedFeedIns =
+        parallelRead.after(
+            GridLoadingStep.SYSTEM_PARTICIPANTS,
+            () -> participantSource.getFixedFeedIns(nodes.join(), operators.join()),
+            nodes,
+            operators);
+    CompletableFuture<Set<HpInput>> heatPumps =
+        parallelRead.after(
+            GridLoadingStep.SYSTEM_PARTICIPANTS,
+            () ->
+                participantSource.getHeatPumps(
+                    nodes.join(), operators.join(), hpTypes.join(), thermalBuses.join()),
+            nodes,
+            operators,
+            hpTypes,
+            thermalBuses);
+    CompletableFuture<Set<LoadInput>> loads =
+        parallelRead.after(
+            GridLoadingStep.SYSTEM_PARTICIPANTS,
+            () -> participantSource.getLoads(nodes.join(), operators.join()),
+            nodes,
+            operators);
+    CompletableFuture<Set<PvInput>> pvPlants =
+        parallelRead.after(
+            GridLoadingStep.SYSTEM_PARTICIPANTS,
+            () -> participantSource.getPvPlants(nodes.join(), operators.join()),
+            nodes,
+            operators);
+    CompletableFuture<Set<StorageInput>> storages =
+        parallelRead.after(
+            GridLoadingStep.SYSTEM_PARTICIPANTS,
+            () ->
+                participantSource.getStorages(nodes.join(), operators.join(), storageTypes.join()),
+            nodes,
+            operators,
+            storageTypes);
+    CompletableFuture<Set<WecInput>> wecPlants =
+        parallelRead.after(
+            GridLoadingStep.SYSTEM_PARTICIPANTS,
+            () -> participantSource.getWecPlants(nodes.join(), operators.join(), wecTypes.join()),
+            nodes,
+            operators,
+            wecTypes);
+
+    /* Graphic elements */
+    CompletableFuture<Set<NodeGraphicInput>> nodeGraphics =
+        parallelRead.after(
+            GridLoadingStep.GRAPHICS, () -> graphicSource.getNodeGraphicInput(nodes.join()), nodes);
+    CompletableFuture<Set<LineGraphicInput>> lineGraphics =
+        parallelRead.after(
+            GridLoadingStep.GRAPHICS, () -> graphicSource.getLineGraphicInput(lines.join()), lines);
+
+    /* Wait for all files to be read */
+    try {
+      CompletableFuture.allOf(
+              transformer2Ws,
+              transformer3Ws,
+              switches,
+              measurementUnits,
+              bmPlants,
+              chpPlants,
+              evcs,
+              evs,
+              fixedFeedIns,
+              heatPumps,
+              loads,
+              pvPlants,
+              storages,
+              wecPlants,
+              nodeGraphics,
+              lineGraphics)
+          .join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof RuntimeException) throw (RuntimeException) e.getCause();
+      throw e;
+    }
+
+    progress.accept(GridLoadingStep.ASSEMBLING);
+    RawGridElements rawGrid =
+        new RawGridElements(
+            nodes.join(),
+            lines.join(),
+            transformer2Ws.join(),
+            transformer3Ws.join(),
+            switches.join(),
+            measurementUnits.join());
+    SystemParticipants systemParticipants =
+        new SystemParticipants(
+            bmPlants.join(),
+            chpPlants.join(),
+            evcs.join(),
+            evs.join(),
+            fixedFeedIns.join(),
+            heatPumps.join(),
+            loads.join(),
+            pvPlants.join(),
+            storages.join(),
+            wecPlants.join());
+    GraphicElements graphicElements = new GraphicElements(nodeGraphics.join(), lineGraphics.join());
+    return new JointGridContainer(gridName, rawGrid, systemParticipants, graphicElements);
+  }
+
+  /** Schedules the reading of single files on an executor and reports the started steps */
+  private static class ParallelRead {
+    private final Consumer<GridLoadingStep> progress;
+    private final Executor executor;
+
+    private ParallelRead(Consumer<GridLoadingStep> progress, Executor executor) {
+      this.progress = progress;
+      this.executor = executor;
+    }
+
+    private <T> CompletableFuture<T> supply(GridLoadingStep step, Supplier<T> reading) {
+      return CompletableFuture.supplyAsync(() -> report(step, reading), executor);
+    }
+
+    private <T> CompletableFuture<T> after(
+        GridLoadingStep step, Supplier<T> reading, CompletableFuture<?>... dependencies) {
+      // the dependencies are already completed, when the reading starts, so joining them within
+      // the reading does not block
+      return CompletableFuture.allOf(dependencies)
+          .thenApplyAsync(ignored -> report(step, reading), executor);
+    }
+
+    private <T> T report(GridLoadingStep step, Supplier<T> reading) {
+      progress.accept(step);
+      return reading.get();
+    }
+  }
+}
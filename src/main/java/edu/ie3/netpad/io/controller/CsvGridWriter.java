@@ -0,0 +1,242 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+*/
+package edu.ie3.netpad.io.controller;
+
+import edu.ie3.datamodel.exceptions.ProcessorProviderException;
+import edu.ie3.datamodel.io.extractor.HasThermalBus;
+import edu.ie3.datamodel.io.extractor.HasThermalStorage;
+import edu.ie3.datamodel.io.extractor.HasType;
+import edu.ie3.datamodel.io.naming.FileNamingStrategy;
+import edu.ie3.datamodel.io.processor.ProcessorProvider;
+import edu.ie3.datamodel.models.Operable;
+import edu.ie3.datamodel.models.input.InputEntity;
+import edu.ie3.datamodel.models.input.OperatorInput;
+import edu.ie3.datamodel.models.input.container.GridContainer;
+import edu.ie3.netpad.exception.IoControllerException;
+import edu.ie3.util.StringUtils;
+import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
+import org.apache.commons.compress.archivers.tar.TarArchiveOutputStream;
+import org.apache.commons.compress.compressors.gzip.GzipCompressorOutputStream;
+
+/**
+ * Writes a grid as csv files, either to a directory or directly into a tarball archive. When
+ * writing to a directory, the files of the single entity classes are written concurrently. When
+ * writing to an archive, the single files are not written to disk first. As the size of an archive
+ * entry has to be known before its content is written, only the csv file of one entity class is
+ * held in memory at a time.
+ */
+class CsvGridWriter {
+
+  private static final int BUFFER_SIZE = 64 * 1024;
+
+  private final ProcessorProvider processorProvider = new ProcessorProvider();
+  private final FileNamingStrategy fileNamingStrategy;
+  private final String csvSeparator;
+
+  CsvGridWriter(FileNamingStrategy fileNamingStrategy, String csvSeparator) {
+    this.fileNamingStrategy = fileNamingStrategy;
+    this.csvSeparator = csvSeparator;
+  }
+
+  /**
+   * Writes all entities of the grid including their types, operators and thermal units to the
+   * archive. The entry names follow the file naming strategy.
+   *
+   * @param gridContainer Grid to write
+   * @param targetFile Archive file to create, an existing file is overwritten
+   * @param cancellationCheck Called before each entity class is written, aborts the writing by
+   *     throwing an exception
+   * @throws IOException If the archive cannot be written
+   */
+  void writeArchive(GridContainer gridContainer, Path targetFile, Runnable cancellationCheck)
+      throws IOException {
+    Map<Class<? extends InputEntity>, List<InputEntity>> entitiesByClass =
+        groupByClass(collectEntities(gridContainer.allEntitiesAsList()));
+
+    try (TarArchiveOutputStream tarOutput =
+        new TarArchiveOutputStream(
+            new GzipCompressorOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(targetFile), BUFFER_SIZE)))) {
+      tarOutput.setLongFileMode(TarArchiveOutputStream.LONGFILE_POSIX);
+      ByteArrayOutputStream fileContent = new ByteArrayOutputStream(BUFFER_SIZE);
+      for (Map.Entry<Class<? extends InputEntity>, List<InputEntity>> classEntities :
+          entitiesByClass.entrySet()) {
+        cancellationCheck.run();
+        fileContent.reset();
+        writeCsv(classEntities.getKey(), classEntities.getValue(), fileContent);
+
+        TarArchiveEntry entry = new TarArchiveEntry(filePath(classEntities.getKey()));
+        entry.setSize(fileContent.size());
+        tarOutput.putArchiveEntry(entry);
+        fileContent.writeTo(tarOutput);
+        tarOutput.closeArchiveEntry();
+      }
+      tarOutput.finish();
+    }
+  }
+
+  /**
+   * Writes all entities of the grid including their types, operators and thermal units to csv
+   * files within the target directory. The files of different entity classes are written
+   * concurrently on the provided executor, the calling thread blocks until all files are written.
+   *
+   * @param gridContainer Grid to write
+   * @param targetDirectory Base directory of the file naming strategy
+   * @param executor Executor to write the single files on
+   * @param cancellationCheck Called before each entity class is written, aborts the writing by
+   *     throwing an exception
+   * @throws IOException If any of the files cannot be written
+   */
+  void writeDirectory(
+      GridContainer gridContainer,
+      Path targetDirectory,
+      Executor executor,
+      Runnable cancellationCheck)
+      throws IOException {
+    Map<Class<? extends InputEntity>, List<InputEntity>> entitiesByClass =
+        groupByClass(collectEntities(gridContainer.allEntitiesAsList()));
+
+    CompletableFuture<?>[] writings =
+        entitiesByClass.entrySet().stream()
+            .map(
+                classEntities ->
+                    CompletableFuture.runAsync(
+                        () -> {
+                          cancellationCheck.run();
+                          writeFile(
+                              classEntities.getKey(), classEntities.getValue(), targetDirectory);
+                        },
+                        executor))
+            .toArray(CompletableFuture[]::new);
+
+    try {
+      CompletableFuture.allOf(writings).join();
+    } catch (CompletionException e) {
+      if (e.getCause() instanceof UncheckedIOException)
+        throw ((UncheckedIOException) e.getCause()).getCause();
+      if (e.getCause() instanceof RuntimeException) throw (RuntimeException) e.getCause();
+      throw e;
+    }
+  }
+
+  private void writeFile(
+      Class<? extends InputEntity> entityClass, List<InputEntity> entities, Path targetDirectory) {
+    Path file = targetDirectory.resolve(filePath(entityClass));
+    try {
+      Files.createDirectories(file.getParent());
+      try (OutputStream outputStream =
+          new BufferedOutputStream(Files.newOutputStream(file), BUFFER_SIZE)) {
+        writeCsv(entityClass, entities, outputStream);
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /**
+   * Collects the provided entities and all entities they refer to, that are not part of a grid
+   * container itself (types, operators and thermal units)
+   *
+   * @param gridEntities entities of a grid container
+   * @return the provided entities and all entities they refer to, each only once
+   */
+  static Set<InputEntity> collectEntities(Collection<? extends InputEntity> gridEntities) {
+    Set<InputEntity> entities = new LinkedHashSet<>();
+    Deque<InputEntity> toVisit = new ArrayDeque<>(gridEntities);
+    while (!toVisit.isEmpty()) {
+      InputEntity entity = toVisit.poll();
+      if (!entities.add(entity)) continue;
+
+      if (entity instanceof HasType) toVisit.add(((HasType) entity).getType());
+      if (entity instanceof Operable) {
+        OperatorInput operator = ((Operable) entity).getOperator();
+        if (!operator.equals(OperatorInput.NO_OPERATOR_ASSIGNED)) toVisit.add(operator);
+      }
+      if (entity instanceof HasThermalBus) toVisit.add(((HasThermalBus) entity).getThermalBus());
+      if (entity instanceof HasThermalStorage)
+        toVisit.add(((HasThermalStorage) entity).getThermalStorage());
+    }
+    return entities;
+  }
+
+  private Map<Class<? extends InputEntity>, List<InputEntity>> groupByClass(
+      Set<InputEntity> entities) {
+    Map<Class<? extends InputEntity>, List<InputEntity>> entitiesByClass = new LinkedHashMap<>();
+    for (InputEntity entity : entities)
+      entitiesByClass.computeIfAbsent(entity.getClass(), c -> new ArrayList<>()).add(entity);
+    return entitiesByClass;
+  }
+
+  private void writeCsv(
+      Class<? extends InputEntity> entityClass,
+      List<InputEntity> entities,
+      OutputStream outputStream)
+      throws IOException {
+    String[] headerElements;
+    try {
+      headerElements = processorProvider.getHeaderElements(entityClass);
+    } catch (ProcessorProviderException e) {
+      throw new IoControllerException(
+          "Cannot determine the header of '" + entityClass.getSimpleName() + "'.", e);
+    }
+
+    Writer writer =
+        new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+    StringJoiner header = new StringJoiner(csvSeparator);
+    for (String headerElement : headerElements)
+      header.add(StringUtils.camelCaseToSnakeCase(headerElement));
+    writer.write(header.toString());
+    writer.write('\n');
+
+    for (InputEntity entity : entities) {
+      LinkedHashMap<String, String> fieldValues =
+          processorProvider
+              .handleEntity(entity)
+              .orElseThrow(
+                  () -> new IoControllerException("Cannot process entity '" + entity + "'."));
+      StringJoiner row = new StringJoiner(csvSeparator);
+      for (String headerElement : headerElements)
+        row.add(csvField(fieldValues.getOrDefault(headerElement, "")));
+      writer.write(row.toString());
+      writer.write('\n');
+    }
+    writer.flush();
+  }
+
+  /**
+   * Quotes a field value like the csv sink of the PowerSystemDataModel does: values, that contain
+   * the separator, quotation marks or line breaks, are wrapped in quotation marks and embedded
+   * quotation marks are doubled. Hence, e.g. geo positions or characteristics can be written with
+   * ',' as separator.
+   */
+  private String csvField(String value) {
+    if (value.contains(csvSeparator)
+        || value.indexOf('"') >= 0
+        || value.indexOf('\n') >= 0
+        || value.indexOf('\r') >= 0) return '"' + value.replace("\"", "\"\"") + '"';
+    return value;
+  }
+
+  /** @return the file path relative to the base directory, with '/' as separator */
+  private String filePath(Class<? extends InputEntity> entityClass) {
+    return fileNamingStrategy
+            .getFilePath(entityClass)
+            .orElseThrow(
+                () ->
+                    new IoControllerException(
+                        "No file name defined for '" + entityClass.getSimpleName() + "'."))
+            .replace('\\', '/')
+        + ".csv";
+  }
+}
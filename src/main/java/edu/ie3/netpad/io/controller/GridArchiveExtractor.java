@@ -0,0 +1,74 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+*/
+package edu.ie3.netpad.io.controller;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.apache.commons.compress.archivers.tar.TarArchiveEntry;
+import org.apache.commons.compress.archivers.tar.TarArchiveInputStream;
+import org.apache.commons.compress.compressors.gzip.GzipCompressorInputStream;
+
+/**
+ * Extracts the input files of a grid from a tarball archive in one streaming pass. All entries,
+ * that are not needed to build the grid model (e.g. time series or results) are skipped without
+ * being written to disk.
+ */
+final class GridArchiveExtractor {
+
+  /** All input entity files of the PowerSystemDataModel end with this suffix */
+  private static final String INPUT_FILE_SUFFIX = "_input.csv";
+
+  private static final int BUFFER_SIZE = 64 * 1024;
+
+  private GridArchiveExtractor() {
+    throw new IllegalStateException("Utility classes cannot be instantiated");
+  }
+
+  /**
+   * Extracts all input files of the archive to a folder, that is named like the archive without
+   * its file extension. The directory structure within the archive is preserved, except for a
+   * top-level folder named like the archive itself.
+   *
+   * @param archive Path to the tarball archive
+   * @param targetDirectory Directory, in which the folder is created
+   * @return Path to the folder containing the extracted input files
+   * @throws IOException If the archive cannot be read, an entry points outside of the folder or
+   *     the extraction is interrupted
+   */
+  static Path extractInputFiles(Path archive, Path targetDirectory) throws IOException {
+    String archiveName = archive.getFileName().toString().replaceAll("(?i)\\.(tar\\.gz|tgz)$", "");
+    Path baseDirectory = targetDirectory.normalize();
+    Path gridDirectory = baseDirectory.resolve(archiveName);
+    Files.createDirectories(gridDirectory);
+
+    try (TarArchiveInputStream tarInput =
+        new TarArchiveInputStream(
+            new GzipCompressorInputStream(
+                new BufferedInputStream(Files.newInputStream(archive), BUFFER_SIZE)))) {
+      TarArchiveEntry entry;
+      while ((entry = tarInput.getNextTarEntry()) != null) {
+        if (Thread.currentThread().isInterrupted())
+          throw new InterruptedIOException("Extraction of '" + archive + "' has been interrupted.");
+        if (!entry.isFile() || !entry.getName().endsWith(INPUT_FILE_SUFFIX)) continue;
+
+        // archives, that already wrap their content in a folder named like the archive, are not
+        // nested once more
+        Path entryBase =
+            entry.getName().startsWith(archiveName + "/") ? baseDirectory : gridDirectory;
+        Path entryPath = entryBase.resolve(entry.getName()).normalize();
+        if (!entryPath.startsWith(gridDirectory))
+          throw new IOException(
+              "Archive entry '" + entry.getName() + "' points outside of the target directory.");
+        Files.createDirectories(entryPath.getParent());
+        Files.copy(tarInput, entryPath);
+      }
+    }
+    return gridDirectory;
+  }
+}
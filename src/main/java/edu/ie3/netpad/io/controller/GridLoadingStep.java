@@ -0,0 +1,31 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+*/
+package edu.ie3.netpad.io.controller;
+
+/** Steps that are performed one after another when loading a grid from csv files */
+public enum GridLoadingStep {
+  EXTRACTING("Extracting archive"),
+  PREPARING("Preparing sources"),
+  NODES("Reading nodes"),
+  LINES("Reading lines"),
+  TRANSFORMERS("Reading transformers"),
+  SWITCHES("Reading switches"),
+  MEASUREMENT_UNITS("Reading measurement units"),
+  SYSTEM_PARTICIPANTS("Reading system participants"),
+  GRAPHICS("Reading graphic elements"),
+  ASSEMBLING("Assembling grid"),
+  PLACING("Placing nodes without geo position");
+
+  private final String description;
+
+  GridLoadingStep(String description) {
+    this.description = description;
+  }
+
+  public String getDescription() {
+    return description;
+  }
+}
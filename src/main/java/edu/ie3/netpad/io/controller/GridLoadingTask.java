@@ -0,0 +1,55 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+*/
+package edu.ie3.netpad.io.controller;
+
+import edu.ie3.datamodel.models.input.container.JointGridContainer;
+import edu.ie3.netpad.exception.IoControllerException;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import javafx.concurrent.Task;
+
+/**
+ * Loads a grid off the JavaFX application thread. The progress is reported per {@link
+ * GridLoadingStep}, and cancellation of the task takes effect before the next step is started.
+ */
+public class GridLoadingTask extends Task<JointGridContainer> {
+
+  private final Function<Consumer<GridLoadingStep>, Optional<JointGridContainer>> gridReader;
+
+  // steps may be reported concurrently and out of order, the progress only moves forward
+  private final AtomicInteger furthestStep = new AtomicInteger();
+
+  /**
+   * @param gridReader reads the grid and reports each step to the provided consumer, returns an
+   *     empty optional if the grid cannot be read
+   */
+  GridLoadingTask(Function<Consumer<GridLoadingStep>, Optional<JointGridContainer>> gridReader) {
+    this.gridReader = gridReader;
+  }
+
+  @Override
+  protected JointGridContainer call() {
+    JointGridContainer grid =
+        gridReader
+            .apply(this::reportStep)
+            .orElseThrow(
+                () ->
+                    new IoControllerException("Unable to read grid. Check your import settings."));
+    updateProgress(GridLoadingStep.values().length, GridLoadingStep.values().length);
+    return grid;
+  }
+
+  private void reportStep(GridLoadingStep step) {
+    if (isCancelled())
+      throw new CancellationException("Loading of the grid has been cancelled by the user.");
+    int furthest = furthestStep.accumulateAndGet(step.ordinal(), Math::max);
+    updateMessage(GridLoadingStep.values()[furthest].getDescription());
+    updateProgress(furthest, GridLoadingStep.values().length);
+  }
+}
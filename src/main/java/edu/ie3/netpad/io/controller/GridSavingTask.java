@@ -0,0 +1,46 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+*/
+package edu.ie3.netpad.io.controller;
+
+import edu.ie3.netpad.grid.GridModel;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.function.BiConsumer;
+import javafx.concurrent.Task;
+
+/**
+ * Saves a snapshot of the grid models off the JavaFX application thread. As the snapshot only
+ * consists of immutable containers, the grid can be edited further while it is saved. The writer
+ * checks for cancellation in between, a cancelled saving leaves the target untouched.
+ */
+public class GridSavingTask extends Task<Void> {
+
+  private final List<GridModel> gridSnapshot;
+  private final BiConsumer<List<GridModel>, Runnable> snapshotWriter;
+
+  /**
+   * @param gridSnapshot immutable snapshot of the grid models to save
+   * @param snapshotWriter writes the snapshot, the provided cancellation check has to be run
+   *     regularly and before the output is moved to its target
+   */
+  GridSavingTask(
+      List<GridModel> gridSnapshot, BiConsumer<List<GridModel>, Runnable> snapshotWriter) {
+    this.gridSnapshot = gridSnapshot;
+    this.snapshotWriter = snapshotWriter;
+  }
+
+  @Override
+  protected Void call() {
+    updateMessage("Writing grid");
+    snapshotWriter.accept(gridSnapshot, this::checkCancelled);
+    return null;
+  }
+
+  private void checkCancelled() {
+    if (isCancelled())
+      throw new CancellationException("Saving of the grid has been cancelled by the user.");
+  }
+}
@@ -0,0 +1,354 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+*/
+package edu.ie3.netpad.io.controller;
+
+import edu.ie3.datamodel.exceptions.ProcessorProviderException;
+import edu.ie3.datamodel.io.processor.ProcessorProvider;
+import edu.ie3.datamodel.models.input.InputEntity;
+import edu.ie3.datamodel.models.input.MeasurementUnitInput;
+import edu.ie3.datamodel.models.input.NodeInput;
+import edu.ie3.datamodel.models.input.connector.LineInput;
+import edu.ie3.datamodel.models.input.connector.SwitchInput;
+import edu.ie3.datamodel.models.input.connector.Transformer2WInput;
+import edu.ie3.datamodel.models.input.connector.Transformer3WInput;
+import edu.ie3.datamodel.models.input.container.GraphicElements;
+import edu.ie3.datamodel.models.input.container.RawGridElements;
+import edu.ie3.datamodel.models.input.container.SubGridContainer;
+import edu.ie3.datamodel.models.input.container.SystemParticipants;
+import edu.ie3.datamodel.models.input.graphics.LineGraphicInput;
+import edu.ie3.datamodel.models.input.graphics.NodeGraphicInput;
+import edu.ie3.datamodel.models.input.system.*;
+import edu.ie3.netpad.exception.IoControllerException;
+import edu.ie3.netpad.grid.GridModel;
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * Binary snapshot of the grid models held by the grid controller, including the topology of the
+ * sub grids. Every entity is stored once with its field values as provided by the processors of
+ * the PowerSystemDataModel, references to other entities are stored as uuids. Reading maps the
+ * file into memory and resolves all references against an uuid index, instead of searching them
+ * like the csv sources do.
+ *
+ * <p>Layout: magic number, version, grid name, entity sections in the order of {@link
+ * SnapshotEntityKind} (kind, field names, entity count, field values), grid models (uuid, grid
+ * name, subnet, uuids of the contained entities, uuids of superior and inferior grid models).
+ * Strings are stored as length prefixed UTF-8 bytes.
+ */
+final class GridSnapshotFormat {
+
+  /** File extension of grid snapshots */
+  static final String FILE_EXTENSION = "npgrid";
+
+  private static final int MAGIC_NUMBER = 0x4e504744; // "NPGD"
+  private static final short VERSION = 1;
+  private static final int BUFFER_SIZE = 64 * 1024;
+
+  private GridSnapshotFormat() {
+    throw new IllegalStateException("Utility classes cannot be instantiated");
+  }
+
+  /**
+   * Writes the grid models to a snapshot file
+   *
+   * @param gridName name of the grid
+   * @param gridModels grid models to write
+   * @param targetFile snapshot file to create, an existing file is overwritten
+   * @throws IOException if the file cannot be written
+   */
+  static void write(String gridName, List<GridModel> gridModels, Path targetFile)
+      throws IOException {
+    /* Collect all entities once, as nodes may be shared between sub grids */
+    Map<SnapshotEntityKind, List<InputEntity>> entitiesByKind =
+        new EnumMap<>(SnapshotEntityKind.class);
+    CsvGridWriter.collectEntities(
+            gridModels.stream()
+                .flatMap(gridModel -> gridModel.getSubGridContainer().allEntitiesAsList().stream())
+                .collect(Collectors.toList()))
+        .forEach(
+            entity ->
+                entitiesByKind
+                    .computeIfAbsent(kindOf(entity), kind -> new ArrayList<>())
+                    .add(entity));
+
+    ProcessorProvider processorProvider = new ProcessorProvider();
+    try (DataOutputStream output =
+        new DataOutputStream(
+            new BufferedOutputStream(Files.newOutputStream(targetFile), BUFFER_SIZE))) {
+      output.writeInt(MAGIC_NUMBER);
+      output.writeShort(VERSION);
+      writeString(output, gridName);
+
+      output.writeInt(entitiesByKind.size());
+      for (Map.Entry<SnapshotEntityKind, List<InputEntity>> kindEntities :
+          entitiesByKind.entrySet()) {
+        writeEntities(output, processorProvider, kindEntities.getKey(), kindEntities.getValue());
+      }
+
+      output.writeInt(gridModels.size());
+      for (GridModel gridModel : gridModels) {
+        SubGridContainer subGrid = gridModel.getSubGridContainer();
+        writeUuid(output, gridModel.getUuid());
+        writeString(output, subGrid.getGridName());
+        output.writeInt(subGrid.getSubnet());
+        List<InputEntity> subGridEntities = subGrid.allEntitiesAsList();
+        output.writeInt(subGridEntities.size());
+        for (InputEntity entity : subGridEntities) writeUuid(output, entity.getUuid());
+        writeUuids(output, gridModel.getSuperiorGrids());
+        writeUuids(output, gridModel.getInferiorGrids());
+      }
+    }
+  }
+
+  /**
+   * Reads grid models from a snapshot file
+   *
+   * @param snapshotFile snapshot file to read
+   * @return the read grid models
+   * @throws IOException if the file cannot be read or is no valid snapshot
+   */
+  static Content read(Path snapshotFile) throws IOException {
+    ByteBuffer buffer;
+    try (FileChannel channel = FileChannel.open(snapshotFile, StandardOpenOption.READ)) {
+      if (channel.size() > Integer.MAX_VALUE)
+        throw new IOException("Grid snapshot '" + snapshotFile + "' is too large to be mapped.");
+      buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+    }
+
+    try {
+      if (buffer.getInt() != MAGIC_NUMBER)
+        throw new IOException("'" + snapshotFile + "' is no grid snapshot.");
+      short version = buffer.getShort();
+      if (version != VERSION)
+        throw new IOException("Unsupported version " + version + " of grid snapshot.");
+      String gridName = readString(buffer);
+
+      SnapshotEntityIndex index = new SnapshotEntityIndex();
+      int kindCount = buffer.getInt();
+      for (int i = 0; i < kindCount; i++) readEntities(buffer, index);
+
+      int gridModelCount = buffer.getInt();
+      List<GridModel> gridModels = new ArrayList<>(gridModelCount);
+      for (int i = 0; i < gridModelCount; i++) gridModels.add(readGridModel(buffer, index));
+      return new Content(gridName, gridModels);
+    } catch (IOException e) {
+      throw e;
+    } catch (RuntimeException e) {
+      // decoding corrupt content may fail anywhere, e.g. in the buffer or the entity factories
+      throw new IOException("Grid snapshot '" + snapshotFile + "' is corrupt.", e);
+    }
+  }
+
+  /** Content of a grid snapshot */
+  static class Content {
+    private final String gridName;
+    private final List<GridModel> gridModels;
+
+    private Content(String gridName, List<GridModel> gridModels) {
+      this.gridName = gridName;
+      this.gridModels = gridModels;
+    }
+
+    String getGridName() {
+      return gridName;
+    }
+
+    List<GridModel> getGridModels() {
+      return gridModels;
+    }
+  }
+
+  private static SnapshotEntityKind kindOf(InputEntity entity) {
+    return SnapshotEntityKind.of(entity.getClass())
+        .orElseThrow(
+            () ->
+                new IoControllerException(
+                    "Cannot write '"
+                        + entity.getClass().getSimpleName()
+                        + "' to a grid snapshot."));
+  }
+
+  private static void writeEntities(
+      DataOutputStream output,
+      ProcessorProvider processorProvider,
+      SnapshotEntityKind kind,
+      List<InputEntity> entities)
+      throws IOException {
+    String[] fieldNames;
+    try {
+      fieldNames = processorProvider.getHeaderElements(kind.getEntityClass());
+    } catch (ProcessorProviderException e) {
+      throw new IoControllerException(
+          "Cannot determine the fields of '" + kind.getEntityClass().getSimpleName() + "'.", e);
+    }
+
+    output.writeByte(kind.ordinal());
+    output.writeShort(fieldNames.length);
+    for (String fieldName : fieldNames) writeString(output, fieldName);
+
+    output.writeInt(entities.size());
+    for (InputEntity entity : entities) {
+      LinkedHashMap<String, String> fieldValues =
+          processorProvider
+              .handleEntity(entity)
+              .orElseThrow(
+                  () -> new IoControllerException("Cannot process entity '" + entity + "'."));
+      for (String fieldName : fieldNames)
+        writeString(output, fieldValues.getOrDefault(fieldName, ""));
+    }
+  }
+
+  private static void readEntities(ByteBuffer buffer, SnapshotEntityIndex index) {
+    SnapshotEntityKind kind = SnapshotEntityKind.values()[buffer.get()];
+    String[] fieldNames = new String[buffer.getShort()];
+    for (int i = 0; i < fieldNames.length; i++) fieldNames[i] = readString(buffer);
+
+    int entityCount = buffer.getInt();
+    List<Map<String, String>> entityFields = new ArrayList<>(entityCount);
+    for (int i = 0; i < entityCount; i++) {
+      Map<String, String> fields = new HashMap<>(fieldNames.length * 2);
+      for (String fieldName : fieldNames) fields.put(fieldName, readString(buffer));
+      entityFields.add(fields);
+    }
+
+    // entities of one kind only refer to entities of preceding kinds, which are already indexed,
+    // hence they can be decoded concurrently
+    entityFields.parallelStream()
+        .map(
+            fields ->
+                kind.decode(fields, index)
+                    .orElseThrow(
+                        () ->
+                            new IoControllerException(
+                                "Cannot decode "
+                                    + kind.getEntityClass().getSimpleName()
+                                    + " from grid snapshot.")))
+        .collect(Collectors.toList())
+        .forEach(index::add);
+  }
+
+  private static GridModel readGridModel(ByteBuffer buffer, SnapshotEntityIndex index) {
+    UUID uuid = readUuid(buffer);
+    String gridName = readString(buffer);
+    int subnet = buffer.getInt();
+    int entityCount = buffer.getInt();
+    List<InputEntity> entities = new ArrayList<>(entityCount);
+    for (int i = 0; i < entityCount; i++) entities.add(index.get(readUuid(buffer)));
+    Set<UUID> superiorGrids = readUuids(buffer);
+    Set<UUID> inferiorGrids = readUuids(buffer);
+    return new GridModel(
+        uuid, buildSubGrid(gridName, subnet, entities), superiorGrids, inferiorGrids);
+  }
+
+  private static SubGridContainer buildSubGrid(
+      String gridName, int subnet, List<InputEntity> entities) {
+    Set<NodeInput> nodes = new HashSet<>();
+    Set<LineInput> lines = new HashSet<>();
+    Set<Transformer2WInput> transformer2Ws = new HashSet<>();
+    Set<Transformer3WInput> transformer3Ws = new HashSet<>();
+    Set<SwitchInput> switches = new HashSet<>();
+    Set<MeasurementUnitInput> measurementUnits = new HashSet<>();
+    Set<BmInput> bmPlants = new HashSet<>();
+    Set<ChpInput> chpPlants = new HashSet<>();
+    Set<EvcsInput> evcs = new HashSet<>();
+    Set<EvInput> evs = new HashSet<>();
+    Set<FixedFeedInInput> fixedFeedIns = new HashSet<>();
+    Set<HpInput> heatPumps = new HashSet<>();
+    Set<LoadInput> loads = new HashSet<>();
+    Set<PvInput> pvPlants = new HashSet<>();
+    Set<StorageInput> storages = new HashSet<>();
+    Set<WecInput> wecPlants = new HashSet<>();
+    Set<NodeGraphicInput> nodeGraphics = new HashSet<>();
+    Set<LineGraphicInput> lineGraphics = new HashSet<>();
+
+    for (InputEntity entity : entities) {
+      if (entity instanceof NodeInput) nodes.add((NodeInput) entity);
+      else if (entity instanceof LineInput) lines.add((LineInput) entity);
+      else if (entity instanceof Transformer2WInput)
+        transformer2Ws.add((Transformer2WInput) entity);
+      else if (entity instanceof Transformer3WInput)
+        transformer3Ws.add((Transformer3WInput) entity);
+      else if (entity instanceof SwitchInput) switches.add((SwitchInput) entity);
+      else if (entity instanceof MeasurementUnitInput)
+        measurementUnits.add((MeasurementUnitInput) entity);
+      else if (entity instanceof BmInput) bmPlants.add((BmInput) entity);
+      else if (entity instanceof ChpInput) chpPlants.add((ChpInput) entity);
+      else if (entity instanceof EvcsInput) evcs.add((EvcsInput) entity);
+      else if (entity instanceof EvInput) evs.add((EvInput) entity);
+      else if (entity instanceof FixedFeedInInput) fixedFeedIns.add((FixedFeedInInput) entity);
+      else if (entity instanceof HpInput) heatPumps.add((HpInput) entity);
+      else if (entity instanceof LoadInput) loads.add((LoadInput) entity);
+      else if (entity instanceof PvInput) pvPlants.add((PvInput) entity);
+      else if (entity instanceof StorageInput) storages.add((StorageInput) entity);
+      else if (entity instanceof WecInput) wecPlants.add((WecInput) entity);
+      else if (entity instanceof NodeGraphicInput) nodeGraphics.add((NodeGraphicInput) entity);
+      else if (entity instanceof LineGraphicInput) lineGraphics.add((LineGraphicInput) entity);
+      else
+        throw new IoControllerException(
+            "Unexpected entity '" + entity + "' in sub grid " + subnet + " of grid snapshot.");
+    }
+
+    return new SubGridContainer(
+        gridName,
+        subnet,
+        new RawGridElements(
+            nodes, lines, transformer2Ws, transformer3Ws, switches, measurementUnits),
+        new SystemParticipants(
+            bmPlants,
+            chpPlants,
+            evcs,
+            evs,
+            fixedFeedIns,
+            heatPumps,
+            loads,
+            pvPlants,
+            storages,
+            wecPlants),
+        new GraphicElements(nodeGraphics, lineGraphics));
+  }
+
+  private static void writeString(DataOutputStream output, String value) throws IOException {
+    byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+    output.writeInt(bytes.length);
+    output.write(bytes);
+  }
+
+  private static String readString(ByteBuffer buffer) {
+    byte[] bytes = new byte[buffer.getInt()];
+    buffer.get(bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  private static void writeUuid(DataOutputStream output, UUID uuid) throws IOException {
+    output.writeLong(uuid.getMostSignificantBits());
+    output.writeLong(uuid.getLeastSignificantBits());
+  }
+
+  private static UUID readUuid(ByteBuffer buffer) {
+    return new UUID(buffer.getLong(), buffer.getLong());
+  }
+
+  private static void writeUuids(DataOutputStream output, Set<UUID> uuids) throws IOException {
+    output.writeInt(uuids.size());
+    for (UUID uuid : uuids) writeUuid(output, uuid);
+  }
+
+  private static Set<UUID> readUuids(ByteBuffer buffer) {
+    int count = buffer.getInt();
+    Set<UUID> uuids = new HashSet<>(count * 2);
+    for (int i = 0; i < count; i++) uuids.add(readUuid(buffer));
+    return uuids;
+  }
+}
@@ -0,0 +1,32 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+*/
+package edu.ie3.netpad.io.controller;
+
+import edu.ie3.netpad.io.event.ReadGridSnapshotEvent;
+import java.io.IOException;
+import java.nio.file.Path;
+import javafx.concurrent.Task;
+
+/**
+ * Reads a binary grid snapshot off the JavaFX application thread. The task fails, if the file
+ * cannot be read or is no valid snapshot.
+ */
+public class GridSnapshotLoadingTask extends Task<ReadGridSnapshotEvent> {
+
+  private final Path snapshotFile;
+
+  /** @param snapshotFile snapshot file to read */
+  GridSnapshotLoadingTask(Path snapshotFile) {
+    this.snapshotFile = snapshotFile;
+  }
+
+  @Override
+  protected ReadGridSnapshotEvent call() throws IOException {
+    updateMessage("Reading grid snapshot");
+    GridSnapshotFormat.Content snapshot = GridSnapshotFormat.read(snapshotFile);
+    return new ReadGridSnapshotEvent(snapshot.getGridName(), snapshot.getGridModels());
+  }
+}
@@ -11,15 +11,16 @@ import edu.ie3.datamodel.io.naming.DefaultDirectoryHierarchy;
 import edu.ie3.datamodel.io.naming.EntityPersistenceNamingStrategy;
 import edu.ie3.datamodel.io.naming.FileNamingStrategy;
 import edu.ie3.datamodel.io.naming.FlatDirectoryHierarchy;
-import edu.ie3.datamodel.io.processor.ProcessorProvider;
-import edu.ie3.datamodel.io.sink.CsvFileSink;
-import edu.ie3.datamodel.io.source.csv.*;
 import edu.ie3.datamodel.models.input.container.*;
-import edu.ie3.netpad.exception.GridControllerListenerException;
+import edu.ie3.datamodel.utils.ContainerUtils;
+import edu.ie3.netpad.event.EventDispatcher;
+import edu.ie3.netpad.event.EventTopic;
 import edu.ie3.netpad.exception.IoControllerException;
+import edu.ie3.netpad.grid.GridModel;
 import edu.ie3.netpad.io.event.IOEvent;
 import edu.ie3.netpad.io.event.ReadGridEvent;
 import edu.ie3.netpad.io.event.SaveGridEvent;
+import edu.ie3.netpad.tool.layout.MissingGeoPositionPlacer;
 import edu.ie3.netpad.util.SampleGridFactory;
 import edu.ie3.util.io.FileIOUtils;
 import java.io.File;
@@ -27,13 +28,19 @@ import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
-import java.time.ZonedDateTime;
-import java.time.format.DateTimeFormatter;
+import java.nio.file.StandardCopyOption;
+import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
-import java.util.concurrent.ExecutionException;
-import javafx.beans.property.ObjectProperty;
-import javafx.beans.property.SimpleObjectProperty;
-import javafx.beans.value.ChangeListener;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import javafx.concurrent.WorkerStateEvent;
 import org.apache.commons.io.FilenameUtils;
 import org.locationtech.jts.io.ParseException;
 import org.slf4j.Logger;
@@ -49,8 +56,41 @@ public class IoController {
 
   private static final Logger logger = LoggerFactory.getLogger(IoController.class);
 
-  private static final ObjectProperty<IOEvent> ioEventProperty = new SimpleObjectProperty<>();
-  private boolean initialized;
+  /** File extension of binary grid snapshots */
+  public static final String SNAPSHOT_FILE_EXTENSION = GridSnapshotFormat.FILE_EXTENSION;
+
+  /** Topic of all events, that are issued by the I/O controller */
+  public static final EventTopic<IOEvent> IO_EVENTS = EventTopic.of("io", IOEvent.class);
+
+  // background threads for I/O operations, daemons to not prevent the application from exiting
+  private static final ExecutorService IO_EXECUTOR =
+      Executors.newCachedThreadPool(
+          new ThreadFactory() {
+            private final AtomicInteger threadCount = new AtomicInteger();
+
+            @Override
+            public Thread newThread(Runnable runnable) {
+              Thread thread = new Thread(runnable, "netpad-io-" + threadCount.incrementAndGet());
+              thread.setDaemon(true);
+              return thread;
+            }
+          });
+
+  // bounded pool to read or write single csv files concurrently, separated from the io executor,
+  // as the loading and saving tasks block until all files are processed
+  private static final ExecutorService CSV_EXECUTOR =
+      Executors.newFixedThreadPool(
+          Runtime.getRuntime().availableProcessors(),
+          new ThreadFactory() {
+            private final AtomicInteger threadCount = new AtomicInteger();
+
+            @Override
+            public Thread newThread(Runnable runnable) {
+              Thread thread = new Thread(runnable, "netpad-csv-" + threadCount.incrementAndGet());
+              thread.setDaemon(true);
+              return thread;
+            }
+          });
 
   private static final class InstanceHolder {
     static final IoController INSTANCE = new IoController();
@@ -62,15 +102,6 @@ public class IoController {
     return IoController.InstanceHolder.INSTANCE;
   }
 
-  public void registerGridControllerListener(ChangeListener<IOEvent> listener) {
-    if (initialized)
-      throw new GridControllerListenerException(
-          "IoController should contain only one listener from a GridController instance. "
-              + "There is already a listener registered. Cannot register a second listener!");
-    this.initialized = true;
-    ioEventProperty.addListener(listener);
-  }
-
   public Optional<GridContainer> createSampleGrid() {
 
     Optional<GridContainer> sampleGridOpt;
@@ -86,53 +117,212 @@ public class IoController {
     return sampleGridOpt;
   }
 
+  /**
+   * Load the grid model from a tarball archive, utilizing the given hierarchy information.
+   *
+   * @param absoluteArchivePath Absolute path to the archive
+   * @param csvSeparator Csv column separator to use
+   * @param hierarchy Information about the underlying directory hierarchy
+   * @return true, if the grid has been read successfully, false otherwise
+   */
   public boolean loadGridFromArchive(
       File absoluteArchivePath,
       String csvSeparator,
       IoDialogs.CsvIoData.DirectoryHierarchy hierarchy) {
+    Optional<JointGridContainer> grid =
+        readGridFromArchive(
+                absoluteArchivePath, csvSeparator, hierarchy, false, this::logLoadingStep)
+            .map(readGrid -> placeMissingGeoPositions(readGrid, this::logLoadingStep));
+    grid.ifPresent(readGrid -> notifyListener(new ReadGridEvent(readGrid)));
+    return grid.isPresent();
+  }
+
+  /**
+   * Load the grid model from a tarball archive on a background thread. Listeners are informed
+   * about the read grid on the JavaFX application thread, once the returned task has succeeded.
+   *
+   * @param absoluteArchivePath Absolute path to the archive
+   * @param csvSeparator Csv column separator to use
+   * @param hierarchy Information about the underlying directory hierarchy
+   * @return the already submitted task, that can be used to observe the progress or to cancel it
+   */
+  public GridLoadingTask loadGridFromArchiveAsync(
+      File absoluteArchivePath,
+      String csvSeparator,
+      IoDialogs.CsvIoData.DirectoryHierarchy hierarchy) {
+    return submitLoadingTask(
+        new GridLoadingTask(
+            progress ->
+                readGridFromArchive(absoluteArchivePath, csvSeparator, hierarchy, true, progress)
+                    .map(grid -> placeMissingGeoPositions(grid, progress))));
+  }
+
+  /**
+   * Load the grid model from a directory, utilizing the given hierarchy information.
+   *
+   * @param absoluteFilePath Absolute path to the base directory of the data set
+   * @param csvSeparator Csv column separator to use
+   * @param hierarchy Information about the underlying directory hierarchy
+   * @return true, if the grid has been read successfully, false otherwise
+   */
+  public boolean loadGridFromDirectory(
+      File absoluteFilePath,
+      String csvSeparator,
+      IoDialogs.CsvIoData.DirectoryHierarchy hierarchy) {
+    Optional<JointGridContainer> grid =
+        readGridFromDirectory(
+                absoluteFilePath, csvSeparator, hierarchy, false, this::logLoadingStep)
+            .map(readGrid -> placeMissingGeoPositions(readGrid, this::logLoadingStep));
+    grid.ifPresent(readGrid -> notifyListener(new ReadGridEvent(readGrid)));
+    return grid.isPresent();
+  }
+
+  /**
+   * Load the grid model from a directory on a background thread. Listeners are informed about the
+   * read grid on the JavaFX application thread, once the returned task has succeeded.
+   *
+   * @param absoluteFilePath Absolute path to the base directory of the data set
+   * @param csvSeparator Csv column separator to use
+   * @param hierarchy Information about the underlying directory hierarchy
+   * @return the already submitted task, that can be used to observe the progress or to cancel it
+   */
+  public GridLoadingTask loadGridFromDirectoryAsync(
+      File absoluteFilePath,
+      String csvSeparator,
+      IoDialogs.CsvIoData.DirectoryHierarchy hierarchy) {
+    return submitLoadingTask(
+        new GridLoadingTask(
+            progress ->
+                readGridFromDirectory(absoluteFilePath, csvSeparator, hierarchy, true, progress)
+                    .map(grid -> placeMissingGeoPositions(grid, progress))));
+  }
+
+  /**
+   * Reads a grid from a directory or a tarball archive without informing any listener, e.g. for
+   * batch processing.
+   *
+   * @param absolutePath Absolute path to the base directory of the data set or to the archive
+   * @param csvSeparator Csv column separator to use
+   * @param hierarchy Information about the underlying directory hierarchy
+   * @return An option to the read grid
+   */
+  public Optional<JointGridContainer> readGrid(
+      File absolutePath, String csvSeparator, IoDialogs.CsvIoData.DirectoryHierarchy hierarchy) {
+    return absolutePath.isDirectory()
+        ? readGridFromDirectory(absolutePath, csvSeparator, hierarchy, false, this::logLoadingStep)
+        : readGridFromArchive(absolutePath, csvSeparator, hierarchy, false, this::logLoadingStep);
+  }
+
+  private GridLoadingTask submitLoadingTask(GridLoadingTask loadingTask) {
+    // event handlers of a task are called on the JavaFX application thread
+    loadingTask.addEventHandler(
+        WorkerStateEvent.WORKER_STATE_SUCCEEDED,
+        event -> notifyListener(new ReadGridEvent(loadingTask.getValue())));
+    loadingTask.addEventHandler(
+        WorkerStateEvent.WORKER_STATE_FAILED,
+        event -> logger.error("Loading of the grid failed.", loadingTask.getException()));
+    loadingTask.addEventHandler(
+        WorkerStateEvent.WORKER_STATE_CANCELLED,
+        event -> logger.info("Loading of the grid has been cancelled."));
+    IO_EXECUTOR.execute(loadingTask);
+    return loadingTask;
+  }
+
+  /**
+   * Places the nodes without geo position next to their neighbours, as they cannot be painted
+   * otherwise. This is done before the listeners are informed, hence off the JavaFX application
+   * thread, if the grid is loaded in the background.
+   *
+   * @param grid the read grid
+   * @param progress Consumer that is informed about each performed step
+   * @return the grid with geo positions for all nodes
+   */
+  private JointGridContainer placeMissingGeoPositions(
+      JointGridContainer grid, Consumer<GridLoadingStep> progress) {
+    if (!MissingGeoPositionPlacer.hasMissingGeoPositions(grid)) return grid;
+    progress.accept(GridLoadingStep.PLACING);
+    logger.info("Placing nodes without geo position of grid '{}'.", grid.getGridName());
+    return new MissingGeoPositionPlacer(grid).execute();
+  }
+
+  private void logLoadingStep(GridLoadingStep step) {
+    logger.debug("{} ...", step.getDescription());
+  }
+
+  /**
+   * Reads the grid model from a tarball archive by extracting its input files to a temp directory
+   * first.
+   *
+   * @param absoluteArchivePath Absolute path to the archive
+   * @param csvSeparator Csv column separator to use
+   * @param hierarchy Information about the underlying directory hierarchy
+   * @param parallel true, if the single files shall be read concurrently
+   * @param progress Consumer that is informed about each performed step
+   * @return An option to the read grid
+   */
+  private Optional<JointGridContainer> readGridFromArchive(
+      File absoluteArchivePath,
+      String csvSeparator,
+      IoDialogs.CsvIoData.DirectoryHierarchy hierarchy,
+      boolean parallel,
+      Consumer<GridLoadingStep> progress) {
+    progress.accept(GridLoadingStep.EXTRACTING);
+
     /* Create a temp directory */
     Path tmpDirectory;
     try {
       tmpDirectory = Files.createTempDirectory("");
     } catch (IOException e) {
       logger.error("Cannot read from archive, as temp directory creation failed.", e);
-      return false;
+      return Optional.empty();
     }
 
-    /* Extract the content of the tarball */
+    /* Extract the input files of the tarball */
     Path folderPath;
     try {
-      folderPath = FileIOUtils.extractDir(absoluteArchivePath.toPath(), tmpDirectory).get();
-    } catch (ExecutionException | InterruptedException e) {
+      folderPath =
+          GridArchiveExtractor.extractInputFiles(absoluteArchivePath.toPath(), tmpDirectory);
+    } catch (IOException e) {
       logger.error("Cannot read from archive, as extraction failed.", e);
-      return false;
+      cleanUp(tmpDirectory);
+      return Optional.empty();
     }
 
-    /* Get the grid from the extracted folder */
-    boolean result = loadGridFromDirectory(folderPath.toFile(), csvSeparator, hierarchy);
+    try {
+      /* Get the grid from the extracted folder */
+      return readGridFromDirectory(
+          folderPath.toFile(), csvSeparator, hierarchy, parallel, progress);
+    } finally {
+      cleanUp(tmpDirectory);
+    }
+  }
 
-    /* Clean up the temp directory */
+  private void cleanUp(Path tmpDirectory) {
     try {
-      FileIOUtils.deleteRecursively(folderPath);
+      if (Files.exists(tmpDirectory)) FileIOUtils.deleteRecursively(tmpDirectory);
     } catch (IOException e) {
       logger.warn("Cleaning up of temp directory '{}' failed.", tmpDirectory, e);
     }
-
-    return result;
   }
 
   /**
-   * Load the grid model from a directory, utilizing the given hierarchy information.
+   * Reads the grid model from a directory, utilizing the given hierarchy information.
    *
    * @param absoluteFilePath Absolute path to the base directory of the data set
    * @param csvSeparator Csv column separator to use
    * @param hierarchy Information about the underlying directory hierarchy
-   * @return true, if the grid has been read successfully, false otherwise
+   * @param parallel true, if the single files shall be read concurrently
+   * @param progress Consumer that is informed about each performed step
+   * @return An option to the read grid
    */
-  public boolean loadGridFromDirectory(
+  private Optional<JointGridContainer> readGridFromDirectory(
       File absoluteFilePath,
       String csvSeparator,
-      IoDialogs.CsvIoData.DirectoryHierarchy hierarchy) {
+      IoDialogs.CsvIoData.DirectoryHierarchy hierarchy,
+      boolean parallel,
+      Consumer<GridLoadingStep> progress) {
+    progress.accept(GridLoadingStep.PREPARING);
+
     /* Collect the information needed to obtain the grid structure */
     String gridName = extractGridName(absoluteFilePath);
     EntityPersistenceNamingStrategy entityPersistenceNamingStrategy =
@@ -161,62 +351,21 @@ public class IoController {
               "Cannot read grid '{}', as the directory hierarchy does not comply with the specifications.",
               gridName,
               e);
-          return false;
+          return Optional.empty();
         }
         break;
       default:
         logger.error("Unsupported hierarchy '{}'.", hierarchy);
-        return false;
+        return Optional.empty();
     }
 
-    /* Build the sources */
-    CsvTypeSource typeSource = new CsvTypeSource(csvSeparator, baseDirectory, fileNamingStrategy);
-    CsvRawGridSource rawGridSource =
-        new CsvRawGridSource(csvSeparator, baseDirectory, fileNamingStrategy, typeSource);
-    CsvThermalSource thermalSource =
-        new CsvThermalSource(csvSeparator, baseDirectory, fileNamingStrategy, typeSource);
-    CsvSystemParticipantSource participantSource =
-        new CsvSystemParticipantSource(
-            csvSeparator,
-            baseDirectory,
-            fileNamingStrategy,
-            typeSource,
-            thermalSource,
-            rawGridSource);
-    CsvGraphicSource graphicSource =
-        new CsvGraphicSource(
-            csvSeparator, baseDirectory, fileNamingStrategy, typeSource, rawGridSource);
-
     /* Actually get the grid */
-    RawGridElements rawGrid =
-        new RawGridElements(
-            rawGridSource.getNodes(),
-            rawGridSource.getLines(),
-            rawGridSource.get2WTransformers(),
-            rawGridSource.get3WTransformers(),
-            rawGridSource.getSwitches(),
-            rawGridSource.getMeasurementUnits());
-    SystemParticipants systemParticipants =
-        new SystemParticipants(
-            participantSource.getBmPlants(),
-            participantSource.getChpPlants(),
-            participantSource.getEvCS(),
-            participantSource.getEvs(),
-            participantSource.getFixedFeedIns(),
-            participantSource.getHeatPumps(),
-            participantSource.getLoads(),
-            participantSource.getPvPlants(),
-            participantSource.getStorages(),
-            participantSource.getWecPlants());
-    GraphicElements graphicElements =
-        new GraphicElements(
-            graphicSource.getNodeGraphicInput(), graphicSource.getLineGraphicInput());
-
-    /* Return the grid and inform the interested listeners about the result */
-    JointGridContainer grid =
-        new JointGridContainer(gridName, rawGrid, systemParticipants, graphicElements);
-    notifyListener(new ReadGridEvent(grid));
-    return true;
+    CsvGridReader gridReader =
+        new CsvGridReader(gridName, csvSeparator, baseDirectory, fileNamingStrategy);
+    return Optional.of(
+        parallel
+            ? gridReader.readParallel(progress, CSV_EXECUTOR)
+            : gridReader.read(progress));
   }
 
   /**
@@ -233,9 +382,9 @@ public class IoController {
   }
 
   /**
-   * Saves the given grid container to csv files. Either compressed or not compressed.
+   * Saves the current grid to csv files. Either compressed or not compressed.
    *
-   * @param directoryPath Target path, where to put
+   * @param directoryPath Target directory
    * @param csvSeparator csv column separator to use
    * @param hierarchy Information about the hierarchy of the directories to use
    * @param compress true, if the output should be compressed or not
@@ -245,50 +394,204 @@ public class IoController {
       String csvSeparator,
       IoDialogs.CsvIoData.DirectoryHierarchy hierarchy,
       boolean compress) {
-    // issue an event that we want to save,
-    // the listener provided is a one-shot instance which fires when the
-    // gridController returns
+    writeGrid(assemble(takeGridSnapshot()), directoryPath, csvSeparator, hierarchy, compress);
+  }
+
+  /**
+   * Saves the current grid to csv files on a background thread. The grid is taken as a snapshot
+   * before this method returns, later modifications are not part of the saved grid.
+   *
+   * @param directoryPath Target directory
+   * @param csvSeparator csv column separator to use
+   * @param hierarchy Information about the hierarchy of the directories to use
+   * @param compress true, if the output should be compressed or not
+   * @return the already submitted task, that can be used to observe the progress
+   */
+  public GridSavingTask saveGridAsync(
+      File directoryPath,
+      String csvSeparator,
+      IoDialogs.CsvIoData.DirectoryHierarchy hierarchy,
+      boolean compress) {
+    return submitSavingTask(
+        new GridSavingTask(
+            takeGridSnapshot(),
+            (gridModels, cancellationCheck) ->
+                writeGrid(
+                    assemble(gridModels),
+                    directoryPath,
+                    csvSeparator,
+                    hierarchy,
+                    compress,
+                    cancellationCheck)),
+        directoryPath);
+  }
+
+  /**
+   * Saves the current grid models including their sub grid topology to a binary snapshot file on a
+   * background thread. The grid is taken as a snapshot before this method returns, later
+   * modifications are not part of the saved grid.
+   *
+   * @param targetFile Snapshot file to create
+   * @return the already submitted task, that can be used to observe the progress
+   */
+  public GridSavingTask saveGridSnapshotAsync(File targetFile) {
+    return submitSavingTask(
+        new GridSavingTask(
+            takeGridSnapshot(),
+            (gridModels, cancellationCheck) -> {
+              if (gridModels.isEmpty())
+                throw new IoControllerException("There is no grid to save.");
+              Path target = targetFile.toPath().toAbsolutePath();
+              Path tmpFile = null;
+              try {
+                /* Write to a temp file first, a cancelled saving leaves the target untouched */
+                tmpFile =
+                    Files.createTempFile(target.getParent(), "." + target.getFileName(), ".tmp");
+                // all sub grids carry the name of the grid they belong to
+                String gridName = gridModels.get(0).getSubGridContainer().getGridName();
+                GridSnapshotFormat.write(gridName, gridModels, tmpFile);
+                cancellationCheck.run();
+                Files.move(tmpFile, target, StandardCopyOption.REPLACE_EXISTING);
+              } catch (IOException e) {
+                throw new IoControllerException("Cannot save snapshot '" + targetFile + "'.", e);
+              } finally {
+                if (tmpFile != null) cleanUp(tmpFile);
+              }
+            }),
+        targetFile);
+  }
+
+  /**
+   * Load the grid models from a binary snapshot file, that has been written by {@link
+   * #saveGridSnapshotAsync(File)}, on a background thread. Listeners are informed about the read
+   * grid on the JavaFX application thread, once the returned task has succeeded.
+   *
+   * @param snapshotFile Snapshot file to read
+   * @return the already submitted task, that can be used to observe the progress
+   */
+  public GridSnapshotLoadingTask loadGridSnapshotAsync(File snapshotFile) {
+    GridSnapshotLoadingTask loadingTask = new GridSnapshotLoadingTask(snapshotFile.toPath());
+    // event handlers of a task are called on the JavaFX application thread
+    loadingTask.addEventHandler(
+        WorkerStateEvent.WORKER_STATE_SUCCEEDED, event -> notifyListener(loadingTask.getValue()));
+    loadingTask.addEventHandler(
+        WorkerStateEvent.WORKER_STATE_FAILED,
+        event ->
+            logger.error(
+                "Cannot read grid snapshot '{}'.", snapshotFile, loadingTask.getException()));
+    IO_EXECUTOR.execute(loadingTask);
+    return loadingTask;
+  }
+
+  private GridSavingTask submitSavingTask(GridSavingTask savingTask, File target) {
+    savingTask.addEventHandler(
+        WorkerStateEvent.WORKER_STATE_SUCCEEDED,
+        event -> logger.info("Saved grid to '{}'.", target));
+    savingTask.addEventHandler(
+        WorkerStateEvent.WORKER_STATE_FAILED,
+        event -> logger.error("Saving of the grid failed.", savingTask.getException()));
+    IO_EXECUTOR.execute(savingTask);
+    return savingTask;
+  }
+
+  private List<GridModel> takeGridSnapshot() {
+    // issue an event that we want to save, the listener provided is a one-shot instance which
+    // fires when the gridController returns
+    AtomicReference<List<GridModel>> snapshot = new AtomicReference<>(Collections.emptyList());
     notifyListener(
-        new SaveGridEvent(
-            (observable, oldValue, gridContainer) -> {
-              if (compress)
-                saveGridCompressed(
-                    directoryPath.getAbsolutePath(), gridContainer, hierarchy, csvSeparator);
-              else
-                saveGridToCsv(
-                    directoryPath.getAbsolutePath(), gridContainer, hierarchy, csvSeparator);
-            }));
+        new SaveGridEvent((observable, oldValue, gridModels) -> snapshot.set(gridModels)));
+    return snapshot.get();
   }
 
   /**
-   * Saves the grid to csv files by utilizing {@link #saveGridToCsv(String, GridContainer,
-   * IoDialogs.CsvIoData.DirectoryHierarchy, String)} and later compresses the output.
+   * Assembles the grid to save. A single sub grid is saved directly, otherwise the joint grid is
+   * reassembled.
+   *
+   * @param gridModels grid models to assemble
+   * @return the grid to save
+   */
+  private static GridContainer assemble(List<GridModel> gridModels) {
+    if (gridModels.isEmpty()) throw new IoControllerException("There is no grid to save.");
+    return gridModels.size() == 1
+        ? gridModels.get(0).getSubGridContainer()
+        : ContainerUtils.combineToJointGrid(
+            gridModels.stream()
+                .map(GridModel::getSubGridContainer)
+                .collect(Collectors.toList()));
+  }
+
+  /**
+   * Saves the given grid to csv files without involving any listener, e.g. for batch processing.
+   *
+   * @param gridContainer Grid to save
+   * @param directoryPath Target directory
+   * @param csvSeparator csv column separator to use
+   * @param hierarchy Information about the hierarchy of the directories to use
+   * @param compress true, if the output should be compressed or not
+   */
+  public void writeGrid(
+      GridContainer gridContainer,
+      File directoryPath,
+      String csvSeparator,
+      IoDialogs.CsvIoData.DirectoryHierarchy hierarchy,
+      boolean compress) {
+    writeGrid(gridContainer, directoryPath, csvSeparator, hierarchy, compress, () -> {});
+  }
+
+  private void writeGrid(
+      GridContainer gridContainer,
+      File directoryPath,
+      String csvSeparator,
+      IoDialogs.CsvIoData.DirectoryHierarchy hierarchy,
+      boolean compress,
+      Runnable cancellationCheck) {
+    if (compress)
+      saveGridCompressed(
+          directoryPath.getAbsolutePath(),
+          gridContainer,
+          hierarchy,
+          csvSeparator,
+          cancellationCheck);
+    else
+      saveGridToCsv(
+          directoryPath.getAbsolutePath(),
+          gridContainer,
+          hierarchy,
+          csvSeparator,
+          cancellationCheck);
+  }
+
+  /**
+   * Saves the grid to csv files, that are written directly into a tarball archive named after the
+   * grid.
    *
    * @param targetPath Target directory
    * @param gridContainer Grid container to save
    * @param hierarchy Information about the hierarchy of the directories to use
    * @param csvSeparator csv column separator to use
+   * @param cancellationCheck Aborts the saving by throwing an exception, if it has been cancelled
    */
   private void saveGridCompressed(
       String targetPath,
       GridContainer gridContainer,
       IoDialogs.CsvIoData.DirectoryHierarchy hierarchy,
-      String csvSeparator) {
+      String csvSeparator,
+      Runnable cancellationCheck) {
     String gridName = gridContainer.getGridName();
+    Path targetFile = Paths.get(FilenameUtils.concat(targetPath, gridName + ".tar.gz"));
+    Path tmpFile = null;
     try {
-      /* Determine the target directory path. If the output is meant to be compressed, write the raw files to
-       * temp folder */
-      String tmpDirectory = Files.createTempDirectory("save_grid").toAbsolutePath().toString();
-      String targetDirectory =
-          FilenameUtils.concat(
-              tmpDirectory,
-              ZonedDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMddhhmmssSSS")));
-      saveGridToCsv(targetDirectory, gridContainer, hierarchy, csvSeparator);
-      Path targetFile = Paths.get(FilenameUtils.concat(targetPath, gridName + ".tar.gz"));
-      FileIOUtils.compressDir(Paths.get(targetDirectory), targetFile).get();
-      FileIOUtils.deleteRecursively(tmpDirectory);
-    } catch (IOException | ExecutionException | InterruptedException e) {
+      /* Write to a temp file first, a failed or cancelled saving leaves no partial archive */
+      Files.createDirectories(targetFile.getParent());
+      tmpFile = Files.createTempFile(targetFile.getParent(), "." + gridName + "-", ".tmp");
+      new CsvGridWriter(fileNamingStrategy(targetPath, gridName, hierarchy), csvSeparator)
+          .writeArchive(gridContainer, tmpFile, cancellationCheck);
+      cancellationCheck.run();
+      Files.move(tmpFile, targetFile, StandardCopyOption.REPLACE_EXISTING);
+    } catch (IOException e) {
       throw new IoControllerException("Cannot save '" + gridName + "'.", e);
+    } finally {
+      if (tmpFile != null) cleanUp(tmpFile);
     }
   }
 
@@ -299,36 +602,63 @@ public class IoController {
    * @param gridContainer Grid container to save
    * @param hierarchy Information about the hierarchy of the directories to use
    * @param csvSeparator csv column separator to use
+   * @param cancellationCheck Aborts the saving by throwing an exception, if it has been cancelled
    */
   private void saveGridToCsv(
       String targetDirectory,
       GridContainer gridContainer,
       IoDialogs.CsvIoData.DirectoryHierarchy hierarchy,
-      String csvSeparator) {
-    /* Persist the raw csv data */
+      String csvSeparator,
+      Runnable cancellationCheck) {
     FileNamingStrategy fileNamingStrategy =
-        new FileNamingStrategy(
-            new EntityPersistenceNamingStrategy(),
-            hierarchy == IoDialogs.CsvIoData.DirectoryHierarchy.FLAT
-                ? new FlatDirectoryHierarchy()
-                : new DefaultDirectoryHierarchy(targetDirectory, gridContainer.getGridName()));
-    CsvFileSink csvFileSink =
-        new CsvFileSink(
-            targetDirectory, new ProcessorProvider(), fileNamingStrategy, false, csvSeparator);
-
-    if (gridContainer instanceof JointGridContainer) {
-      csvFileSink.persistJointGrid((JointGridContainer) gridContainer);
-    } else if (gridContainer instanceof SubGridContainer) {
-      csvFileSink.persistAll(gridContainer.allEntitiesAsList());
-    } else {
-      throw new IoControllerException("Cannot persist unknown grid container: " + gridContainer);
+        fileNamingStrategy(targetDirectory, gridContainer.getGridName(), hierarchy);
+    Path target = Paths.get(targetDirectory);
+    Path tmpDirectory = null;
+    try {
+      /* Write to a temp directory first, a failed or cancelled saving leaves no partial files */
+      Files.createDirectories(target);
+      tmpDirectory = Files.createTempDirectory(target, "." + gridContainer.getGridName() + "-");
+      new CsvGridWriter(fileNamingStrategy, csvSeparator)
+          .writeDirectory(gridContainer, tmpDirectory, CSV_EXECUTOR, cancellationCheck);
+      cancellationCheck.run();
+      moveFiles(tmpDirectory, target);
+    } catch (IOException e) {
+      throw new IoControllerException("Cannot save '" + gridContainer.getGridName() + "'.", e);
+    } finally {
+      if (tmpDirectory != null) cleanUp(tmpDirectory);
     }
+  }
+
+  /**
+   * Moves all files from the source directory into the target directory, keeping their relative
+   * paths. Existing files are replaced.
+   *
+   * @param sourceDirectory Directory to move the files from
+   * @param targetDirectory Directory to move the files to
+   * @throws IOException If any of the files cannot be moved
+   */
+  private static void moveFiles(Path sourceDirectory, Path targetDirectory) throws IOException {
+    List<Path> files;
+    try (Stream<Path> paths = Files.walk(sourceDirectory)) {
+      files = paths.filter(Files::isRegularFile).collect(Collectors.toList());
+    }
+    for (Path file : files) {
+      Path targetFile = targetDirectory.resolve(sourceDirectory.relativize(file));
+      Files.createDirectories(targetFile.getParent());
+      Files.move(file, targetFile, StandardCopyOption.REPLACE_EXISTING);
+    }
+  }
 
-    /* Properly shut down the sink */
-    csvFileSink.shutdown();
+  private FileNamingStrategy fileNamingStrategy(
+      String targetDirectory, String gridName, IoDialogs.CsvIoData.DirectoryHierarchy hierarchy) {
+    return new FileNamingStrategy(
+        new EntityPersistenceNamingStrategy(),
+        hierarchy == IoDialogs.CsvIoData.DirectoryHierarchy.FLAT
+            ? new FlatDirectoryHierarchy()
+            : new DefaultDirectoryHierarchy(targetDirectory, gridName));
   }
 
   private void notifyListener(IOEvent ioEvent) {
-    ioEventProperty.setValue(ioEvent);
+    EventDispatcher.getInstance().publish(IO_EVENTS, ioEvent);
   }
 }
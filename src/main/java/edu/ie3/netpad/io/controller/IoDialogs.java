@@ -10,6 +10,7 @@ import java.io.File;
 import java.util.Objects;
 import java.util.Optional;
 import javafx.collections.FXCollections;
+import javafx.concurrent.Worker;
 import javafx.geometry.Insets;
 import javafx.scene.Scene;
 import javafx.scene.control.*;
@@ -91,6 +92,54 @@ public class IoDialogs {
     return csvImportDialog;
   }
 
+  /**
+   * Creates a dialog, that shows the progress of the provided background worker. Cancelling the
+   * dialog cancels the worker and the dialog is closed as soon as the worker is done.
+   *
+   * @param title Window title
+   * @param worker The background worker to observe
+   * @return A dialog showing the worker's progress
+   */
+  public static Dialog<Void> progressDialog(String title, Worker<?> worker) {
+    GridPane gridPane = new GridPane();
+    gridPane.setHgap(10);
+    gridPane.setVgap(10);
+    gridPane.setPadding(new Insets(20, 150, 10, 10));
+
+    ProgressBar progressBar = new ProgressBar();
+    progressBar.setPrefWidth(250);
+    progressBar.progressProperty().bind(worker.progressProperty());
+    Label messageLbl = new Label();
+    messageLbl.textProperty().bind(worker.messageProperty());
+    gridPane.addRow(0, progressBar);
+    gridPane.addRow(1, messageLbl);
+
+    DialogPane dialogPane = new DialogPane();
+    dialogPane.setContent(gridPane);
+    dialogPane.getButtonTypes().add(ButtonType.CANCEL);
+
+    Dialog<Void> progressDialog = new Dialog<>();
+    progressDialog.setTitle(title);
+    progressDialog.setDialogPane(dialogPane);
+    progressDialog.setResultConverter(
+        buttonType -> {
+          // cancelling a worker, that is already done, has no effect
+          worker.cancel();
+          return null;
+        });
+
+    worker
+        .stateProperty()
+        .addListener(
+            (observable, oldState, newState) -> {
+              if (newState == Worker.State.SUCCEEDED
+                  || newState == Worker.State.FAILED
+                  || newState == Worker.State.CANCELLED) progressDialog.close();
+            });
+
+    return progressDialog;
+  }
+
   /**
    * Container class to gather detailed information about the shape of csv files to import / export
    */
@@ -0,0 +1,71 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+*/
+package edu.ie3.netpad.io.controller;
+
+import edu.ie3.datamodel.models.input.InputEntity;
+import edu.ie3.datamodel.models.input.OperatorInput;
+import edu.ie3.netpad.exception.IoControllerException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Uuid index of all entities, that have already been decoded from a grid snapshot. References of
+ * an entity to other entities are resolved in constant time against this index.
+ */
+class SnapshotEntityIndex {
+
+  private final Map<UUID, InputEntity> entities = new HashMap<>();
+
+  void add(InputEntity entity) {
+    entities.put(entity.getUuid(), entity);
+  }
+
+  InputEntity get(UUID uuid) {
+    InputEntity entity = entities.get(uuid);
+    if (entity == null)
+      throw new IoControllerException("Unknown entity '" + uuid + "' in grid snapshot.");
+    return entity;
+  }
+
+  /**
+   * Removes the operator field from the provided fields and resolves the operator
+   *
+   * @param fields field values of the entity to decode
+   * @return the referenced operator or {@link OperatorInput#NO_OPERATOR_ASSIGNED}
+   */
+  OperatorInput operator(Map<String, String> fields) {
+    String operatorUuid = fields.remove("operator");
+    return operatorUuid == null || operatorUuid.isEmpty()
+        ? OperatorInput.NO_OPERATOR_ASSIGNED
+        : resolve(operatorUuid, OperatorInput.class);
+  }
+
+  /**
+   * Removes the referencing field from the provided fields and resolves the referenced entity
+   *
+   * @param fields field values of the entity to decode
+   * @param field name of the field holding the uuid of the referenced entity
+   * @param referenceClass expected class of the referenced entity
+   * @param <T> type of the referenced entity
+   * @return the referenced entity
+   */
+  <T extends InputEntity> T reference(
+      Map<String, String> fields, String field, Class<T> referenceClass) {
+    String referenceUuid = fields.remove(field);
+    if (referenceUuid == null || referenceUuid.isEmpty())
+      throw new IoControllerException("Missing reference '" + field + "' in grid snapshot.");
+    return resolve(referenceUuid, referenceClass);
+  }
+
+  private <T extends InputEntity> T resolve(String uuid, Class<T> referenceClass) {
+    InputEntity entity = get(UUID.fromString(uuid));
+    if (!referenceClass.isInstance(entity))
+      throw new IoControllerException(
+          "Entity '" + uuid + "' in grid snapshot is no " + referenceClass.getSimpleName() + ".");
+    return referenceClass.cast(entity);
+  }
+}
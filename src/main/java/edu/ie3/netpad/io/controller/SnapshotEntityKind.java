@@ -0,0 +1,407 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+*/
+package edu.ie3.netpad.io.controller;
+
+import edu.ie3.datamodel.io.factory.SimpleEntityData;
+import edu.ie3.datamodel.io.factory.input.*;
+import edu.ie3.datamodel.io.factory.input.graphics.*;
+import edu.ie3.datamodel.io.factory.input.participant.*;
+import edu.ie3.datamodel.io.factory.typeinput.*;
+import edu.ie3.datamodel.models.input.*;
+import edu.ie3.datamodel.models.input.connector.*;
+import edu.ie3.datamodel.models.input.connector.type.*;
+import edu.ie3.datamodel.models.input.graphics.*;
+import edu.ie3.datamodel.models.input.system.*;
+import edu.ie3.datamodel.models.input.system.type.*;
+import edu.ie3.datamodel.models.input.thermal.*;
+import java.util.*;
+
+/**
+ * Entity classes, that are contained in a grid snapshot. The order of the constants is the order,
+ * in which the entities are written and decoded, hence every entity only refers to entities of
+ * preceding kinds. The ordinal is part of the snapshot format, so new kinds are only to be added
+ * with a new snapshot version.
+ */
+enum SnapshotEntityKind {
+  OPERATOR(OperatorInput.class) {
+    private final OperatorInputFactory factory = new OperatorInputFactory();
+
+    @Override
+    Optional<? extends InputEntity> decode(Map<String, String> fields, SnapshotEntityIndex index) {
+      return factory.get(new SimpleEntityData(fields, OperatorInput.class));
+    }
+  },
+
+  LINE_TYPE(LineTypeInput.class) {
+    private final LineTypeInputFactory factory = new LineTypeInputFactory();
+
+    @Override
+    Optional<? extends InputEntity> decode(Map<String, String> fields, SnapshotEntityIndex index) {
+      return factory.get(new SimpleEntityData(fields, LineTypeInput.class));
+    }
+  },
+
+  TRANSFORMER_2W_TYPE(Transformer2WTypeInput.class) {
+    private final Transformer2WTypeInputFactory factory = new Transformer2WTypeInputFactory();
+
+    @Override
+    Optional<? extends InputEntity> decode(Map<String, String> fields, SnapshotEntityIndex index) {
+      return factory.get(new SimpleEntityData(fields, Transformer2WTypeInput.class));
+    }
+  },
+
+  TRANSFORMER_3W_TYPE(Transformer3WTypeInput.class) {
+    private final Transformer3WTypeInputFactory factory = new Transformer3WTypeInputFactory();
+
+    @Override
+    Optional<? extends InputEntity> decode(Map<String, String> fields, SnapshotEntityIndex index) {
+      return factory.get(new SimpleEntityData(fields, Transformer3WTypeInput.class));
+    }
+  },
+
+  BM_TYPE(BmTypeInput.class) {
+    private final SystemParticipantTypeInputFactory factory =
+        new SystemParticipantTypeInputFactory();
+
+    @Override
+    Optional<? extends InputEntity> decode(Map<String, String> fields, SnapshotEntityIndex index) {
+      return factory.get(new SimpleEntityData(fields, BmTypeInput.class));
+    }
+  },
+
+  CHP_TYPE(ChpTypeInput.class) {
+    private final SystemParticipantTypeInputFactory factory =
+        new SystemParticipantTypeInputFactory();
+
+    @Override
+    Optional<? extends InputEntity> decode(Map<String, String> fields, SnapshotEntityIndex index) {
+      return factory.get(new SimpleEntityData(fields, ChpTypeInput.class));
+    }
+  },
+
+  EV_TYPE(EvTypeInput.class) {
+    private final SystemParticipantTypeInputFactory factory =
+        new SystemParticipantTypeInputFactory();
+
+    @Override
+    Optional<? extends InputEntity> decode(Map<String, String> fields, SnapshotEntityIndex index) {
+      return factory.get(new SimpleEntityData(fields, EvTypeInput.class));
+    }
+  },
+
+  HP_TYPE(HpTypeInput.class) {
+    private final SystemParticipantTypeInputFactory factory =
+        new SystemParticipantTypeInputFactory();
+
+    @Override
+    Optional<? extends InputEntity> decode(Map<String, String> fields, SnapshotEntityIndex index) {
+      return factory.get(new SimpleEntityData(fields, HpTypeInput.class));
+    }
+  },
+
+  STORAGE_TYPE(StorageTypeInput.class) {
+    private final SystemParticipantTypeInputFactory factory =
+        new SystemParticipantTypeInputFactory();
+
+    @Override
+    Optional<? extends InputEntity> decode(Map<String, String> fields, SnapshotEntityIndex index) {
+      return factory.get(new SimpleEntityData(fields, StorageTypeInput.class));
+    }
+  },
+
+  WEC_TYPE(WecTypeInput.class) {
+    private final SystemParticipantTypeInputFactory factory =
+        new SystemParticipantTypeInputFactory();
+
+    @Override
+    Optional<? extends InputEntity> decode(Map<String, String> fields, SnapshotEntityIndex index) {
+      return factory.get(new SimpleEntityData(fields, WecTypeInput.class));
+    }
+  },
+
+  NODE(NodeInput.class) {
+    private final NodeInputFactory factory = new NodeInputFactory();
+
+    @Override
+    Optional<? extends InputEntity> decode(Map<String, String> fields, SnapshotEntityIndex index) {
+      OperatorInput operator = index.operator(fields);
+      return factory.get(new AssetInputEntityData(fields, NodeInput.class, operator));
+    }
+  },
+
+  THERMAL_BUS(ThermalBusInput.class) {
+    private final ThermalBusInputFactory factory = new ThermalBusInputFactory();
+
+    @Override
+    Optional<? extends InputEntity> decode(Map<String, String> fields, SnapshotEntityIndex index) {
+      OperatorInput operator = index.operator(fields);
+      return factory.get(new AssetInputEntityData(fields, ThermalBusInput.class, operator));
+    }
+  },
+
+  CYLINDRICAL_STORAGE(CylindricalStorageInput.class) {
+    private final CylindricalStorageInputFactory factory = new CylindricalStorageInputFactory();
+
+    @Override
+    Optional<? extends InputEntity> decode(Map<String, String> fields, SnapshotEntityIndex index) {
+      OperatorInput operator = index.operator(fields);
+      ThermalBusInput thermalBus = index.reference(fields, "thermalBus", ThermalBusInput.class);
+      return factory.get(
+          new ThermalUnitInputEntityData(
+              fields, CylindricalStorageInput.class, operator, thermalBus));
+    }
+  },
+
+  LINE(LineInput.class) {
+    private final LineInputFactory factory = new LineInputFactory();
+
+    @Override
+    Optional<? extends InputEntity> decode(Map<String, String> fields, SnapshotEntityIndex index) {
+      OperatorInput operator = index.operator(fields);
+      NodeInput nodeA = index.reference(fields, "nodeA", NodeInput.class);
+      NodeInput nodeB = index.reference(fields, "nodeB", NodeInput.class);
+      LineTypeInput type = index.reference(fields, "type", LineTypeInput.class);
+      return factory.get(
+          new TypedConnectorInputEntityData<>(
+              fields, LineInput.class, operator, nodeA, nodeB, type));
+    }
+  },
+
+  TRANSFORMER_2W(Transformer2WInput.class) {
+    private final Transformer2WInputFactory factory = new Transformer2WInputFactory();
+
+    @Override
+    Optional<? extends InputEntity> decode(Map<String, String> fields, SnapshotEntityIndex index) {
+      OperatorInput operator = index.operator(fields);
+      NodeInput nodeA = index.reference(fields, "nodeA", NodeInput.class);
+      NodeInput nodeB = index.reference(fields, "nodeB", NodeInput.class);
+      Transformer2WTypeInput type = index.reference(fields, "type", Transformer2WTypeInput.class);
+      return factory.get(
+          new TypedConnectorInputEntityData<>(
+              fields, Transformer2WInput.class, operator, nodeA, nodeB, type));
+    }
+  },
+
+  TRANSFORMER_3W(Transformer3WInput.class) {
+    private final Transformer3WInputFactory factory = new Transformer3WInputFactory();
+
+    @Override
+    Optional<? extends InputEntity> decode(Map<String, String> fields, SnapshotEntityIndex index) {
+      OperatorInput operator = index.operator(fields);
+      NodeInput nodeA = index.reference(fields, "nodeA", NodeInput.class);
+      NodeInput nodeB = index.reference(fields, "nodeB", NodeInput.class);
+      NodeInput nodeC = index.reference(fields, "nodeC", NodeInput.class);
+      Transformer3WTypeInput type = index.reference(fields, "type", Transformer3WTypeInput.class);
+      return factory.get(
+          new Transformer3WInputEntityData(
+              fields, Transformer3WInput.class, operator, nodeA, nodeB, nodeC, type));
+    }
+  },
+
+  SWITCH(SwitchInput.class) {
+    private final SwitchInputFactory factory = new SwitchInputFactory();
+
+    @Override
+    Optional<? extends InputEntity> decode(Map<String, String> fields, SnapshotEntityIndex index) {
+      OperatorInput operator = index.operator(fields);
+      NodeInput nodeA = index.reference(fields, "nodeA", NodeInput.class);
+      NodeInput nodeB = index.reference(fields, "nodeB", NodeInput.class);
+      return factory.get(
+          new ConnectorInputEntityData(fields, SwitchInput.class, operator, nodeA, nodeB));
+    }
+  },
+
+  MEASUREMENT_UNIT(MeasurementUnitInput.class) {
+    private final MeasurementUnitInputFactory factory = new MeasurementUnitInputFactory();
+
+    @Override
+    Optional<? extends InputEntity> decode(Map<String, String> fields, SnapshotEntityIndex index) {
+      OperatorInput operator = index.operator(fields);
+      NodeInput node = index.reference(fields, "node", NodeInput.class);
+      return factory.get(
+          new NodeAssetInputEntityData(fields, MeasurementUnitInput.class, operator, node));
+    }
+  },
+
+  BM(BmInput.class) {
+    private final BmInputFactory factory = new BmInputFactory();
+
+    @Override
+    Optional<? extends InputEntity> decode(Map<String, String> fields, SnapshotEntityIndex index) {
+      OperatorInput operator = index.operator(fields);
+      NodeInput node = index.reference(fields, "node", NodeInput.class);
+      BmTypeInput type = index.reference(fields, "type", BmTypeInput.class);
+      return factory.get(
+          new SystemParticipantTypedEntityData<>(fields, BmInput.class, operator, node, type));
+    }
+  },
+
+  CHP(ChpInput.class) {
+    private final ChpInputFactory factory = new ChpInputFactory();
+
+    @Override
+    Optional<? extends InputEntity> decode(Map<String, String> fields, SnapshotEntityIndex index) {
+      OperatorInput operator = index.operator(fields);
+      NodeInput node = index.reference(fields, "node", NodeInput.class);
+      ChpTypeInput type = index.reference(fields, "type", ChpTypeInput.class);
+      ThermalBusInput thermalBus = index.reference(fields, "thermalBus", ThermalBusInput.class);
+      ThermalStorageInput thermalStorage =
+          index.reference(fields, "thermalStorage", ThermalStorageInput.class);
+      return factory.get(
+          new ChpInputEntityData(fields, operator, node, type, thermalBus, thermalStorage));
+    }
+  },
+
+  EVCS(EvcsInput.class) {
+    private final EvcsInputFactory factory = new EvcsInputFactory();
+
+    @Override
+    Optional<? extends InputEntity> decode(Map<String, String> fields, SnapshotEntityIndex index) {
+      OperatorInput operator = index.operator(fields);
+      NodeInput node = index.reference(fields, "node", NodeInput.class);
+      return factory.get(new NodeAssetInputEntityData(fields, EvcsInput.class, operator, node));
+    }
+  },
+
+  EV(EvInput.class) {
+    private final EvInputFactory factory = new EvInputFactory();
+
+    @Override
+    Optional<? extends InputEntity> decode(Map<String, String> fields, SnapshotEntityIndex index) {
+      OperatorInput operator = index.operator(fields);
+      NodeInput node = index.reference(fields, "node", NodeInput.class);
+      EvTypeInput type = index.reference(fields, "type", EvTypeInput.class);
+      return factory.get(
+          new SystemParticipantTypedEntityData<>(fields, EvInput.class, operator, node, type));
+    }
+  },
+
+  FIXED_FEED_IN(FixedFeedInInput.class) {
+    private final FixedFeedInInputFactory factory = new FixedFeedInInputFactory();
+
+    @Override
+    Optional<? extends InputEntity> decode(Map<String, String> fields, SnapshotEntityIndex index) {
+      OperatorInput operator = index.operator(fields);
+      NodeInput node = index.reference(fields, "node", NodeInput.class);
+      return factory.get(
+          new NodeAssetInputEntityData(fields, FixedFeedInInput.class, operator, node));
+    }
+  },
+
+  HP(HpInput.class) {
+    private final HpInputFactory factory = new HpInputFactory();
+
+    @Override
+    Optional<? extends InputEntity> decode(Map<String, String> fields, SnapshotEntityIndex index) {
+      OperatorInput operator = index.operator(fields);
+      NodeInput node = index.reference(fields, "node", NodeInput.class);
+      HpTypeInput type = index.reference(fields, "type", HpTypeInput.class);
+      ThermalBusInput thermalBus = index.reference(fields, "thermalBus", ThermalBusInput.class);
+      return factory.get(new HpInputEntityData(fields, operator, node, type, thermalBus));
+    }
+  },
+
+  LOAD(LoadInput.class) {
+    private final LoadInputFactory factory = new LoadInputFactory();
+
+    @Override
+    Optional<? extends InputEntity> decode(Map<String, String> fields, SnapshotEntityIndex index) {
+      OperatorInput operator = index.operator(fields);
+      NodeInput node = index.reference(fields, "node", NodeInput.class);
+      return factory.get(new NodeAssetInputEntityData(fields, LoadInput.class, operator, node));
+    }
+  },
+
+  PV(PvInput.class) {
+    private final PvInputFactory factory = new PvInputFactory();
+
+    @Override
+    Optional<? extends InputEntity> decode(Map<String, String> fields, SnapshotEntityIndex index) {
+      OperatorInput operator = index.operator(fields);
+      NodeInput node = index.reference(fields, "node", NodeInput.class);
+      return factory.get(new NodeAssetInputEntityData(fields, PvInput.class, operator, node));
+    }
+  },
+
+  STORAGE(StorageInput.class) {
+    private final StorageInputFactory factory = new StorageInputFactory();
+
+    @Override
+    Optional<? extends InputEntity> decode(Map<String, String> fields, SnapshotEntityIndex index) {
+      OperatorInput operator = index.operator(fields);
+      NodeInput node = index.reference(fields, "node", NodeInput.class);
+      StorageTypeInput type = index.reference(fields, "type", StorageTypeInput.class);
+      return factory.get(
+          new SystemParticipantTypedEntityData<>(fields, StorageInput.class, operator, node, type));
+    }
+  },
+
+  WEC(WecInput.class) {
+    private final WecInputFactory factory = new WecInputFactory();
+
+    @Override
+    Optional<? extends InputEntity> decode(Map<String, String> fields, SnapshotEntityIndex index) {
+      OperatorInput operator = index.operator(fields);
+      NodeInput node = index.reference(fields, "node", NodeInput.class);
+      WecTypeInput type = index.reference(fields, "type", WecTypeInput.class);
+      return factory.get(
+          new SystemParticipantTypedEntityData<>(fields, WecInput.class, operator, node, type));
+    }
+  },
+
+  NODE_GRAPHIC(NodeGraphicInput.class) {
+    private final NodeGraphicInputFactory factory = new NodeGraphicInputFactory();
+
+    @Override
+    Optional<? extends InputEntity> decode(Map<String, String> fields, SnapshotEntityIndex index) {
+      NodeInput node = index.reference(fields, "node", NodeInput.class);
+      return factory.get(new NodeGraphicInputEntityData(fields, node));
+    }
+  },
+
+  LINE_GRAPHIC(LineGraphicInput.class) {
+    private final LineGraphicInputFactory factory = new LineGraphicInputFactory();
+
+    @Override
+    Optional<? extends InputEntity> decode(Map<String, String> fields, SnapshotEntityIndex index) {
+      LineInput line = index.reference(fields, "line", LineInput.class);
+      return factory.get(new LineGraphicInputEntityData(fields, line));
+    }
+  };
+
+  private static final Map<Class<? extends InputEntity>, SnapshotEntityKind> KINDS_BY_CLASS =
+      new HashMap<>();
+
+  static {
+    for (SnapshotEntityKind kind : values()) KINDS_BY_CLASS.put(kind.entityClass, kind);
+  }
+
+  private final Class<? extends InputEntity> entityClass;
+
+  SnapshotEntityKind(Class<? extends InputEntity> entityClass) {
+    this.entityClass = entityClass;
+  }
+
+  Class<? extends InputEntity> getEntityClass() {
+    return entityClass;
+  }
+
+  /**
+   * Builds the entity from its field values. Fields, that refer to other entities, are resolved
+   * against the provided index.
+   *
+   * @param fields field values of the entity, as provided by the processors of the
+   *     PowerSystemDataModel
+   * @param index index of all entities of preceding kinds
+   * @return an option to the decoded entity
+   */
+  abstract Optional<? extends InputEntity> decode(
+      Map<String, String> fields, SnapshotEntityIndex index);
+
+  static Optional<SnapshotEntityKind> of(Class<? extends InputEntity> entityClass) {
+    return Optional.ofNullable(KINDS_BY_CLASS.get(entityClass));
+  }
+}
@@ -0,0 +1,29 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+*/
+package edu.ie3.netpad.io.event;
+
+import edu.ie3.netpad.grid.GridModel;
+import java.util.List;
+
+/** Issued, when grid models including their sub grid topology have been read from a snapshot */
+public class ReadGridSnapshotEvent implements IOEvent {
+
+  private final String gridName;
+  private final List<GridModel> gridModels;
+
+  public ReadGridSnapshotEvent(String gridName, List<GridModel> gridModels) {
+    this.gridName = gridName;
+    this.gridModels = gridModels;
+  }
+
+  public String getGridName() {
+    return gridName;
+  }
+
+  public List<GridModel> getGridModels() {
+    return gridModels;
+  }
+}
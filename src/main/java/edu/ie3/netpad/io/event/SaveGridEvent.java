@@ -5,7 +5,8 @@
 */
 package edu.ie3.netpad.io.event;
 
-import edu.ie3.datamodel.models.input.container.GridContainer;
+import edu.ie3.netpad.grid.GridModel;
+import java.util.List;
 import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.SimpleObjectProperty;
 import javafx.beans.value.ChangeListener;
@@ -18,13 +19,18 @@ import javafx.beans.value.ChangeListener;
  */
 public class SaveGridEvent implements IOEvent {
 
-  private final ObjectProperty<GridContainer> readGridEventProperty = new SimpleObjectProperty<>();
+  private final ObjectProperty<List<GridModel>> gridSnapshotProperty =
+      new SimpleObjectProperty<>();
 
-  public SaveGridEvent(ChangeListener<GridContainer> jointGridContainerChangeListener) {
-    readGridEventProperty.addListener(jointGridContainerChangeListener);
+  /**
+   * @param gridSnapshotListener listener, that is provided with an immutable snapshot of the
+   *     current grid models
+   */
+  public SaveGridEvent(ChangeListener<List<GridModel>> gridSnapshotListener) {
+    gridSnapshotProperty.addListener(gridSnapshotListener);
   }
 
-  public ObjectProperty<GridContainer> readGridEventPropertyProperty() {
-    return readGridEventProperty;
+  public ObjectProperty<List<GridModel>> gridSnapshotProperty() {
+    return gridSnapshotProperty;
   }
 }
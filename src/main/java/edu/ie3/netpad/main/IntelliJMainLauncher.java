@@ -5,12 +5,15 @@
 */
 package edu.ie3.netpad.main;
 
-import edu.ie3.netpad.exception.NetPadPlusPlusException;
+import edu.ie3.netpad.batch.BatchRunner;
 
 /**
  * Helper class needed when launching the app from IntelliJ. see
  * https://stackoverflow.com/questions/52653836/maven-shade-javafx-runtime-components-are-missing
  *
+ * <p>If arguments are provided, the grids are processed in headless batch mode (see {@link
+ * BatchRunner}) instead of launching the user interface.
+ *
  * @author hiry
  * @version 0.1
  * @since 2019-05-18
@@ -18,8 +21,11 @@ import edu.ie3.netpad.exception.NetPadPlusPlusException;
 public class IntelliJMainLauncher {
 
   public static void main(String[] args) {
-    if (args.length > 0)
-      throw new NetPadPlusPlusException("Providing arguments is currently not supported!");
+    if (args.length > 0) {
+      // the layout algorithm relies on awt, which must not try to connect to a display
+      System.setProperty("java.awt.headless", "true");
+      System.exit(BatchRunner.run(args));
+    }
 
     NetPadPlusPlus.main(args);
   }
@@ -5,6 +5,8 @@
 */
 package edu.ie3.netpad.main.controller;
 
+import edu.ie3.netpad.event.DeliveryMode;
+import edu.ie3.netpad.event.EventDispatcher;
 import edu.ie3.netpad.grid.controller.GridController;
 import edu.ie3.netpad.grid.event.GridEvent;
 import edu.ie3.netpad.grid.event.GridEventListener;
@@ -12,11 +14,9 @@ import edu.ie3.netpad.grid.event.ReplaceGridEvent;
 import edu.ie3.netpad.grid.info.GridInfoController;
 import edu.ie3.netpad.map.MapController;
 import edu.ie3.netpad.menu.MainMenuBarController;
-import edu.ie3.netpad.util.ListenerUtil;
 import java.util.Arrays;
 import javafx.beans.property.DoubleProperty;
 import javafx.beans.property.SimpleDoubleProperty;
-import javafx.beans.value.ChangeListener;
 import javafx.fxml.FXML;
 import javafx.scene.control.Button;
 import javafx.scene.control.ScrollPane;
@@ -38,22 +38,11 @@ public class MainController implements GridEventListener {
 
   @FXML private MainMenuBarController mainMenuBarController;
 
-  private final ChangeListener<GridEvent> gridEventListener;
-
   private boolean gridInfoActive = false;
 
   // Indicates whether the GridInfoView is currently active.
   private final DoubleProperty gridInfoDividerPosition = new SimpleDoubleProperty(0.25);
 
-  public MainController() {
-    this.gridEventListener = ListenerUtil.createGridEventListener(this);
-  }
-
-  @Override
-  public ChangeListener<GridEvent> gridEventListener() {
-    return this.gridEventListener;
-  }
-
   @Override
   public void handleGridEvent(GridEvent gridEvent) {
 
@@ -100,13 +89,19 @@ public class MainController implements GridEventListener {
   /** Called after initialization is finished. */
   public void postInitialization() {
 
-    /* register listener that receive gridUpdates from gridController */
-    Arrays.asList(
-            mapController.gridEventListener(),
-            gridInfoController.gridEventListener(),
-            mainMenuBarController.getToolMenuController().gridEventListener(),
-            this.gridEventListener())
-        .forEach(GridController.getInstance().gridUpdateEvents()::addListener);
+    /* register listener that receive gridUpdates from gridController on the application thread */
+    Arrays.<GridEventListener>asList(
+            mapController,
+            gridInfoController,
+            mainMenuBarController.getToolMenuController(),
+            this)
+        .forEach(
+            listener ->
+                EventDispatcher.getInstance()
+                    .subscribe(
+                        GridController.GRID_EVENTS,
+                        listener::handleGridEvent,
+                        DeliveryMode.FX_THREAD));
 
     /* register listener that receive updates from map controller (e.g. dragged nodes) */
     mapController
@@ -115,5 +110,6 @@ public class MainController implements GridEventListener {
 
     /* register listener that receive updates from gridInfoController*/
     gridInfoController.gridInfoEvents().addListener(mapController.gridInfoEventListener());
+    gridInfoController.renderModeEvents().addListener(mapController.renderModeEventListener());
   }
 }
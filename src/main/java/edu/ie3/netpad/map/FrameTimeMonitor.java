@@ -0,0 +1,71 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+*/
+package edu.ie3.netpad.map;
+
+import java.util.function.Supplier;
+import javafx.animation.AnimationTimer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Measures the frame rate and frame times of the application and logs them once per second
+ * together with a description of what is currently rendered, e.g. to compare the render modes of
+ * the {@link GridPaintLayer}. As an animation timer requests a pulse for every frame, the monitor
+ * should only be running while the measurement is of interest.
+ *
+ * <p>The monitor runs, if debug logging of the {@link MapController} is enabled. To compare the
+ * render modes, load the grid, switch the render mode of its sub grids in the context menu of the
+ * grid info tree or start the application with the system property {@value
+ * GridRenderMode#RENDER_MODE_PROPERTY}, pan and zoom the map and compare the logged frame times.
+ */
+class FrameTimeMonitor extends AnimationTimer {
+
+  private static final Logger log = LoggerFactory.getLogger(FrameTimeMonitor.class);
+
+  private static final long REPORT_INTERVAL_NANOS = 1_000_000_000L;
+
+  private final Supplier<String> renderingDescription;
+
+  private long intervalStart;
+  private long lastFrame;
+  private int frames;
+  private long maxFrameTime;
+
+  /** @param renderingDescription describes what is currently rendered */
+  FrameTimeMonitor(Supplier<String> renderingDescription) {
+    this.renderingDescription = renderingDescription;
+  }
+
+  @Override
+  public void handle(long now) {
+    if (lastFrame == 0) {
+      intervalStart = now;
+    } else {
+      maxFrameTime = Math.max(maxFrameTime, now - lastFrame);
+      frames++;
+    }
+    lastFrame = now;
+
+    long elapsed = now - intervalStart;
+    if (elapsed >= REPORT_INTERVAL_NANOS && frames > 0) {
+      log.debug(
+          "{}: {} fps, {} ms average and {} ms maximum frame time",
+          renderingDescription.get(),
+          String.format("%.1f", frames * 1e9 / elapsed),
+          String.format("%.2f", elapsed / 1e6 / frames),
+          String.format("%.2f", maxFrameTime / 1e6));
+      intervalStart = now;
+      frames = 0;
+      maxFrameTime = 0;
+    }
+  }
+
+  @Override
+  public void stop() {
+    super.stop();
+    lastFrame = 0;
+  }
+}
@@ -0,0 +1,73 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+*/
+package edu.ie3.netpad.map;
+
+import java.util.*;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.index.strtree.STRtree;
+
+/**
+ * Spatial index of the geographic bounding boxes of painted elements, used to determine the
+ * elements within the current viewport. The bulk of the elements is held in a packed {@link
+ * STRtree}, which does not allow insertions once it is built. Hence, elements that are added
+ * afterwards are kept aside and scanned linearly until there are enough of them to justify
+ * rebuilding the tree.
+ */
+class GeoEnvelopeIndex {
+
+  private static final int MIN_PENDING_BEFORE_REBUILD = 64;
+
+  private final Map<UUID, Envelope> envelopes = new HashMap<>();
+  private final Map<UUID, Envelope> pending = new HashMap<>();
+  private STRtree tree = new STRtree();
+
+  /**
+   * Adds an element or replaces the bounding box of an already indexed element
+   *
+   * @param uuid uuid of the element
+   * @param envelope geographic bounding box of the element (longitude as x, latitude as y)
+   */
+  void put(UUID uuid, Envelope envelope) {
+    remove(uuid);
+    envelopes.put(uuid, envelope);
+    pending.put(uuid, envelope);
+  }
+
+  /**
+   * Removes an element from the index
+   *
+   * @param uuid uuid of the element
+   */
+  void remove(UUID uuid) {
+    Envelope envelope = envelopes.remove(uuid);
+    if (envelope != null && pending.remove(uuid) == null) tree.remove(envelope, uuid);
+  }
+
+  /**
+   * Determines all elements whose bounding box intersects with the given one
+   *
+   * @param viewport geographic bounding box to query
+   * @return uuids of all intersecting elements
+   */
+  @SuppressWarnings("unchecked")
+  Set<UUID> query(Envelope viewport) {
+    if (pending.size() > Math.max(MIN_PENDING_BEFORE_REBUILD, envelopes.size() / 8)) rebuild();
+
+    Set<UUID> result = new HashSet<>((List<UUID>) tree.query(viewport));
+    pending.forEach(
+        (uuid, envelope) -> {
+          if (envelope.intersects(viewport)) result.add(uuid);
+        });
+    return result;
+  }
+
+  private void rebuild() {
+    tree = new STRtree();
+    envelopes.forEach((uuid, envelope) -> tree.insert(envelope, uuid));
+    tree.build();
+    pending.clear();
+  }
+}
@@ -0,0 +1,86 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+*/
+package edu.ie3.netpad.map;
+
+import edu.ie3.netpad.map.graphic.GridGraphic;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import javafx.event.EventHandler;
+import javafx.scene.Node;
+import javafx.scene.Parent;
+import javafx.scene.input.MouseEvent;
+
+/**
+ * Dispatches the mouse events of a map to the {@link GridCanvasRenderer}s of its layers. Only a
+ * single event filter is registered per map, which hit-tests the layers from the topmost one
+ * downwards and hands the event to the first layer with a graphic below the cursor. Hence, a
+ * click on stacked layers opens a single context menu and drops a dragged node only once.
+ */
+final class GridCanvasMouseDispatcher {
+
+  private static final String PROPERTY_KEY = GridCanvasMouseDispatcher.class.getName();
+
+  private final Parent map;
+  private final Map<Node, GridCanvasRenderer> renderers = new LinkedHashMap<>();
+  private final EventHandler<MouseEvent> mouseEventFilter = this::dispatch;
+
+  private GridCanvasMouseDispatcher(Parent map) {
+    this.map = map;
+    map.addEventFilter(MouseEvent.ANY, mouseEventFilter);
+  }
+
+  /**
+   * Registers the renderer of a layer at the dispatcher of the map, the dispatcher is created
+   * with the first registered renderer
+   *
+   * @param map map, that contains the layer of the renderer
+   * @param renderer renderer to receive the mouse events of its layer
+   */
+  static void register(Parent map, GridCanvasRenderer renderer) {
+    ((GridCanvasMouseDispatcher)
+            map.getProperties()
+                .computeIfAbsent(PROPERTY_KEY, key -> new GridCanvasMouseDispatcher(map)))
+        .renderers.put(renderer.getGridPaintLayer(), renderer);
+  }
+
+  /**
+   * Unregisters the renderer of a layer, the filter of the dispatcher is removed from the map
+   * together with the last renderer
+   *
+   * @param map map, that has contained the layer of the renderer
+   * @param renderer renderer to unregister
+   */
+  static void unregister(Parent map, GridCanvasRenderer renderer) {
+    GridCanvasMouseDispatcher dispatcher =
+        (GridCanvasMouseDispatcher) map.getProperties().get(PROPERTY_KEY);
+    if (dispatcher == null) return;
+
+    dispatcher.renderers.remove(renderer.getGridPaintLayer(), renderer);
+    if (dispatcher.renderers.isEmpty()) {
+      map.removeEventFilter(MouseEvent.ANY, dispatcher.mouseEventFilter);
+      map.getProperties().remove(PROPERTY_KEY);
+    }
+  }
+
+  private void dispatch(MouseEvent event) {
+    // later children are painted above the earlier ones
+    List<Node> layers = map.getChildrenUnmodifiable();
+    GridCanvasRenderer target = null;
+    GridGraphic targetGraphic = null;
+    for (int i = layers.size() - 1; i >= 0 && target == null; i--) {
+      GridCanvasRenderer renderer = renderers.get(layers.get(i));
+      if (renderer == null) continue;
+      targetGraphic = renderer.claim(event);
+      if (targetGraphic != null) target = renderer;
+    }
+
+    for (GridCanvasRenderer renderer : renderers.values()) {
+      if (renderer != target) renderer.release(event);
+    }
+    if (target != null) target.handleMouseEvent(event, targetGraphic);
+  }
+}
@@ -0,0 +1,230 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+*/
+package edu.ie3.netpad.map;
+
+import edu.ie3.datamodel.models.input.NodeInput;
+import edu.ie3.netpad.map.graphic.GridGraphic;
+import edu.ie3.netpad.map.graphic.GridLineGraphic;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import javafx.beans.value.ChangeListener;
+import javafx.event.EventType;
+import javafx.geometry.Bounds;
+import javafx.geometry.Point2D;
+import javafx.scene.Cursor;
+import javafx.scene.Parent;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.control.Tooltip;
+import javafx.scene.input.MouseButton;
+import javafx.scene.input.MouseEvent;
+
+/**
+ * Renders the graphics of a {@link GridPaintLayer} onto a single canvas in one pass instead of
+ * attaching a shape per element to the scene graph. Tooltips, context menus and dragging are
+ * provided by hit-testing the graphics below the cursor. As the canvases of several layers are
+ * stacked upon each other, the canvas itself is mouse transparent and the mouse events are
+ * dispatched to the topmost hit layer by the {@link GridCanvasMouseDispatcher} of the map.
+ */
+class GridCanvasRenderer {
+
+  private static final double DRAG_OPACITY = 0.75;
+  private static final double TOOLTIP_OFFSET = 12d;
+
+  private final GridPaintLayer gridPaintLayer;
+  private final Canvas canvas = new Canvas();
+  private final Tooltip tooltip = new Tooltip();
+
+  private final ChangeListener<Parent> parentListener =
+      (observable, oldParent, newParent) -> {
+        if (oldParent != null) GridCanvasMouseDispatcher.unregister(oldParent, this);
+        if (newParent != null) GridCanvasMouseDispatcher.register(newParent, this);
+      };
+
+  private List<GridGraphic> renderedGraphics = Collections.emptyList();
+  private List<NodeCluster> renderedClusters = Collections.emptyList();
+  private Bounds renderedBounds;
+
+  private GridGraphic hoveredGraphic;
+  private GridGraphic draggedGraphic;
+  private Point2D dragStart;
+  private Point2D dragOffset;
+
+  GridCanvasRenderer(GridPaintLayer gridPaintLayer) {
+    this.gridPaintLayer = gridPaintLayer;
+
+    canvas.setManaged(false);
+    canvas.setMouseTransparent(true);
+
+    gridPaintLayer.parentProperty().addListener(parentListener);
+    parentListener.changed(gridPaintLayer.parentProperty(), null, gridPaintLayer.getParent());
+  }
+
+  Canvas getCanvas() {
+    return canvas;
+  }
+
+  GridPaintLayer getGridPaintLayer() {
+    return gridPaintLayer;
+  }
+
+  /**
+   * Paints the given graphics, lines are painted first to keep nodes and transformers on top
+   *
+   * @param graphics graphics, that are already updated to their current position
+   * @param clusters clusters of nodes, that are painted on top of the graphics
+   * @param bounds visible part of the layer, the canvas is fit to
+   */
+  void render(Collection<GridGraphic> graphics, List<NodeCluster> clusters, Bounds bounds) {
+    List<GridGraphic> orderedGraphics = new ArrayList<>(graphics.size());
+    graphics.stream().filter(GridLineGraphic.class::isInstance).forEach(orderedGraphics::add);
+    graphics.stream()
+        .filter(graphic -> !(graphic instanceof GridLineGraphic))
+        .forEach(orderedGraphics::add);
+
+    this.renderedGraphics = orderedGraphics;
+    this.renderedClusters = clusters;
+    this.renderedBounds = bounds;
+    repaint();
+  }
+
+  /** Removes all listeners and filters, that have been registered by the renderer */
+  void dispose() {
+    gridPaintLayer.parentProperty().removeListener(parentListener);
+    parentListener.changed(gridPaintLayer.parentProperty(), gridPaintLayer.getParent(), null);
+    tooltip.hide();
+  }
+
+  private void repaint() {
+    if (renderedBounds == null) return;
+
+    canvas.relocate(renderedBounds.getMinX(), renderedBounds.getMinY());
+    canvas.setWidth(renderedBounds.getWidth());
+    canvas.setHeight(renderedBounds.getHeight());
+
+    GraphicsContext graphicsContext = canvas.getGraphicsContext2D();
+    graphicsContext.clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
+    graphicsContext.save();
+    graphicsContext.translate(-renderedBounds.getMinX(), -renderedBounds.getMinY());
+    for (GridGraphic graphic : renderedGraphics) {
+      if (graphic != draggedGraphic || dragOffset == null) graphic.paint(graphicsContext);
+    }
+    for (NodeCluster cluster : renderedClusters) {
+      cluster.paint(graphicsContext, gridPaintLayer.getLayerColor());
+    }
+
+    if (draggedGraphic != null && dragOffset != null) {
+      graphicsContext.setGlobalAlpha(DRAG_OPACITY);
+      graphicsContext.translate(dragOffset.getX(), dragOffset.getY());
+      draggedGraphic.paint(graphicsContext);
+    }
+    graphicsContext.restore();
+  }
+
+  /**
+   * Hit-tests the layer without handling the event yet
+   *
+   * @param event mouse event in the coordinates of the map
+   * @return the graphic, that the event is meant for, or null, if the layer does not handle it
+   */
+  GridGraphic claim(MouseEvent event) {
+    EventType<? extends MouseEvent> eventType = event.getEventType();
+    if (eventType == MouseEvent.MOUSE_DRAGGED || eventType == MouseEvent.MOUSE_RELEASED)
+      return draggedGraphic;
+    if (eventType != MouseEvent.MOUSE_MOVED && eventType != MouseEvent.MOUSE_PRESSED) return null;
+
+    Point2D position = gridPaintLayer.parentToLocal(event.getX(), event.getY());
+    GridGraphic graphic = gridPaintLayer.graphicAt(position.getX(), position.getY()).orElse(null);
+    if (graphic == null || eventType == MouseEvent.MOUSE_MOVED) return graphic;
+    boolean handled =
+        event.getButton() == MouseButton.SECONDARY
+            || (event.getButton() == MouseButton.PRIMARY
+                && graphic.getDraggableNode().isPresent());
+    return handled ? graphic : null;
+  }
+
+  /**
+   * Handles a mouse event, that has been claimed by this layer
+   *
+   * @param event mouse event in the coordinates of the map
+   * @param graphic graphic, that has been returned by {@link #claim(MouseEvent)}
+   */
+  void handleMouseEvent(MouseEvent event, GridGraphic graphic) {
+    Parent map = gridPaintLayer.getParent();
+    if (map == null) return;
+    Point2D position = gridPaintLayer.parentToLocal(event.getX(), event.getY());
+
+    if (event.getEventType() == MouseEvent.MOUSE_MOVED) {
+      if (graphic != hoveredGraphic) hover(map, graphic, event);
+    } else if (event.getEventType() == MouseEvent.MOUSE_PRESSED) {
+      handleMousePressed(event, graphic, position);
+    } else if (event.getEventType() == MouseEvent.MOUSE_DRAGGED) {
+      dragOffset = position.subtract(dragStart);
+      repaint();
+      event.consume();
+    } else if (event.getEventType() == MouseEvent.MOUSE_RELEASED) {
+      handleMouseReleased(event);
+    }
+  }
+
+  /**
+   * Hides the tooltip, as the mouse event has been handled by another layer or by none at all
+   *
+   * @param event mouse event in the coordinates of the map
+   */
+  void release(MouseEvent event) {
+    Parent map = gridPaintLayer.getParent();
+    if (map != null) hover(map, null, event);
+  }
+
+  private void hover(Parent map, GridGraphic graphic, MouseEvent event) {
+    if (hoveredGraphic != null && graphic == null) {
+      tooltip.hide();
+      map.setCursor(null);
+    }
+    hoveredGraphic = graphic;
+    if (graphic != null) {
+      tooltip.setText(graphic.getTooltipText());
+      tooltip.show(
+          canvas, event.getScreenX() + TOOLTIP_OFFSET, event.getScreenY() + TOOLTIP_OFFSET);
+      map.setCursor(graphic.getDraggableNode().isPresent() ? Cursor.HAND : null);
+    }
+  }
+
+  private void handleMousePressed(MouseEvent event, GridGraphic graphic, Point2D position) {
+    tooltip.hide();
+    if (event.getButton() == MouseButton.SECONDARY) {
+      graphic.showContextMenu(canvas, event.getScreenX(), event.getScreenY());
+    } else {
+      draggedGraphic = graphic;
+      dragStart = position;
+      dragOffset = null;
+    }
+    event.consume();
+  }
+
+  private void handleMouseReleased(MouseEvent event) {
+    if (dragOffset != null) {
+      NodeInput draggedNode = draggedGraphic.getDraggableNode().orElseThrow();
+      Point2D origin =
+          gridPaintLayer.getGridLayerPoint(
+              draggedNode.getGeoPosition().getY(), draggedNode.getGeoPosition().getX());
+
+      // the graphic stays at its origin, until the grid update arrives
+      draggedGraphic.dropDraggableNode(
+          gridPaintLayer.getMapPosition(
+              origin.getX() + dragOffset.getX(), origin.getY() + dragOffset.getY()));
+    }
+
+    draggedGraphic = null;
+    dragStart = null;
+    dragOffset = null;
+    repaint();
+    event.consume();
+  }
+}
@@ -28,9 +28,15 @@ import java.util.stream.Stream;
 import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.SimpleObjectProperty;
 import javafx.beans.value.ChangeListener;
+import javafx.geometry.BoundingBox;
+import javafx.geometry.Bounds;
 import javafx.geometry.Point2D;
+import javafx.scene.Node;
 import javafx.scene.paint.Color;
 import javafx.scene.shape.Shape;
+import org.locationtech.jts.geom.Envelope;
+import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.geom.Point;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -44,12 +50,43 @@ public class GridPaintLayer extends MapLayer {
 
   private static final Logger log = LoggerFactory.getLogger(GridPaintLayer.class);
 
+  // margin around the viewport in pixels, so that shapes extending beyond their geo position are
+  // not culled too early
+  private static final double VIEWPORT_MARGIN = 20d;
+  // distance in pixels around the cursor, in which graphics are considered for hit-testing
+  private static final double PICK_TOLERANCE = 10d;
+  // below this zoom level, lines are simplified and nearby nodes are clustered
+  private static final int DETAIL_ZOOM_LEVEL = 13;
+  private static final double CLUSTER_CELL_SIZE = 40d;
+
   private final ObjectProperty<MapEvent> gridMapUpdateEventProperty = new SimpleObjectProperty<>();
 
   private final Map<UUID, GridGraphic> paintedElements = new HashMap<>();
   private final Map<UUID, UUID> entityUuidToPaintedUuid = new HashMap<>();
   private final Set<UUID> unpaintedNodes = new HashSet<>();
 
+  // spatial index over all painted elements and the elements currently attached to the layer
+  private final GeoEnvelopeIndex paintedElementIndex = new GeoEnvelopeIndex();
+  private final Set<UUID> attachedElements = new HashSet<>();
+  private Set<UUID> renderedElements = new HashSet<>();
+
+  // incremental layout of the elements, that have changed since the last pass
+  private final Set<UUID> dirtyElements = new HashSet<>();
+  private final Map<UUID, Set<UUID>> linesByNode = new HashMap<>();
+  private final LayoutMetrics layoutMetrics = new LayoutMetrics();
+  private Bounds laidOutBounds;
+  private boolean fullLayoutRequired = true;
+
+  // level of detail at low zoom levels
+  private final LineProjectionCache lineProjectionCache =
+      new LineProjectionCache(DETAIL_ZOOM_LEVEL);
+  private WebMercatorProjection projection;
+  private int preparedZoomLevel = -1;
+  private final List<Node> clusterMarkers = new ArrayList<>();
+
+  private GridRenderMode renderMode = GridRenderMode.SHAPES;
+  private GridCanvasRenderer canvasRenderer;
+
   private final UUID subGridUuid;
   private final Color layerColor;
   private final ChangeListener<NodeGeoPositionUpdateEvent> mapEntityListener;
@@ -57,7 +94,8 @@ public class GridPaintLayer extends MapLayer {
   public GridPaintLayer(
       UUID subGridUuid,
       ChangeListener<MapEvent> updateGridMapEventChangeListener,
-      Color layerColor) {
+      Color layerColor,
+      GridRenderMode renderMode) {
     super();
     this.subGridUuid = subGridUuid;
 
@@ -73,6 +111,8 @@ public class GridPaintLayer extends MapLayer {
 
     // important: we don't want this layer to be managed by the parent
     this.setManaged(false);
+
+    setRenderMode(renderMode);
   }
 
   // todo JH javadoc this is needed due to restrictions on the baseMap which is null at the
@@ -108,11 +148,313 @@ public class GridPaintLayer extends MapLayer {
                     nodeToSysPart.getOrDefault(trafo2w.getNodeB(), Collections.emptySet())));
   }
 
+  /**
+   * Only the graphics intersecting the current viewport are updated and either attached to the
+   * layer or painted onto the canvas, hence the effort of panning and zooming scales with the
+   * number of visible elements instead of the size of the grid. If the viewport has not changed
+   * since the last pass, only the graphics, that have been painted or removed in the meantime, and
+   * the lines adjacent to them are laid out again.
+   */
   @Override
   protected void layoutLayer() {
+    Optional<Bounds> visibleBounds = visibleBounds();
+    if (visibleBounds.isEmpty()) return;
+    long start = System.nanoTime();
+
+    // panning and zooming only change the transformation of the already projected lines
+    WebMercatorProjection currentProjection = WebMercatorProjection.of(this);
+    boolean viewportChanged =
+        fullLayoutRequired
+            || !currentProjection.equals(projection)
+            || !visibleBounds.get().equals(laidOutBounds);
+    projection = currentProjection;
+    laidOutBounds = visibleBounds.get();
+    fullLayoutRequired = false;
+
+    // the clusters at low zoom levels depend on all visible nodes
+    if (viewportChanged || !isDetailed()) {
+      int laidOutElements = layoutVisibleElements(visibleBounds.get());
+      layoutMetrics.recordFullPass(System.nanoTime() - start, laidOutElements);
+    } else if (!dirtyElements.isEmpty()) {
+      int laidOutElements = layoutDirtyElements(visibleBounds.get());
+      layoutMetrics.recordIncrementalPass(System.nanoTime() - start, laidOutElements);
+    }
+    dirtyElements.clear();
+  }
+
+  /** Lays out all graphics within the viewport, returns the number of laid out graphics */
+  private int layoutVisibleElements(Bounds visibleBounds) {
+    Set<UUID> visibleElements =
+        paintedElementIndex.query(toGeoEnvelope(visibleBounds, VIEWPORT_MARGIN));
+    prepareLineProjections();
+
+    // at low zoom levels, nearby nodes are replaced by an aggregated marker
+    List<NodeCluster> clusters =
+        isDetailed() ? Collections.emptyList() : clusterNodes(visibleElements);
+    renderedElements = visibleElements;
+
+    if (renderMode == GridRenderMode.CANVAS) {
+      List<GridGraphic> visibleGraphics = new ArrayList<>(visibleElements.size());
+      for (UUID uuid : visibleElements) {
+        GridGraphic gridGraphic = paintedElements.get(uuid);
+        gridGraphic.update(this);
+        visibleGraphics.add(gridGraphic);
+      }
+      canvasRenderer.render(visibleGraphics, clusters, visibleBounds);
+    } else {
+      attachShapes(visibleElements);
+      for (UUID uuid : visibleElements) {
+        paintedElements.get(uuid).update(this);
+      }
+
+      this.getChildren().removeAll(clusterMarkers);
+      clusterMarkers.clear();
+      clusters.forEach(cluster -> clusterMarkers.add(cluster.createMarker(layerColor)));
+      this.getChildren().addAll(clusterMarkers);
+    }
+    return visibleElements.size();
+  }
+
+  /**
+   * Lays out the dirty graphics and the lines adjacent to them within the unchanged viewport,
+   * returns the number of laid out graphics
+   */
+  private int layoutDirtyElements(Bounds visibleBounds) {
+    Envelope viewport = toGeoEnvelope(visibleBounds, VIEWPORT_MARGIN);
+
+    Set<Shape> leavingShapes = new HashSet<>();
+    List<Shape> enteringShapes = new ArrayList<>();
+    List<GridGraphic> laidOutGraphics = new ArrayList<>();
+    for (UUID uuid : withAdjacentLines(dirtyElements)) {
+      GridGraphic gridGraphic = paintedElements.get(uuid);
+      if (gridGraphic != null && gridGraphic.getGeoEnvelope().intersects(viewport)) {
+        renderedElements.add(uuid);
+        laidOutGraphics.add(gridGraphic);
+        if (renderMode == GridRenderMode.SHAPES && attachedElements.add(uuid))
+          enteringShapes.add(gridGraphic.getGraphicShape());
+      } else {
+        renderedElements.remove(uuid);
+        if (gridGraphic != null && attachedElements.remove(uuid))
+          leavingShapes.add(gridGraphic.getGraphicShape());
+      }
+    }
+
+    if (renderMode == GridRenderMode.CANVAS) {
+      laidOutGraphics.forEach(gridGraphic -> gridGraphic.update(this));
+      List<GridGraphic> renderedGraphics = new ArrayList<>(renderedElements.size());
+      renderedElements.forEach(uuid -> renderedGraphics.add(paintedElements.get(uuid)));
+      canvasRenderer.render(renderedGraphics, Collections.emptyList(), visibleBounds);
+    } else {
+      if (!leavingShapes.isEmpty()) this.getChildren().removeAll(leavingShapes);
+      this.getChildren().addAll(enteringShapes);
+      laidOutGraphics.forEach(gridGraphic -> gridGraphic.update(this));
+    }
+    return laidOutGraphics.size();
+  }
+
+  /**
+   * Extends the given elements by the lines connected to them, as they have to follow nodes and
+   * transformers, that have been moved
+   */
+  private Set<UUID> withAdjacentLines(Set<UUID> elements) {
+    Set<UUID> extendedElements = new HashSet<>(elements);
+    for (UUID uuid : elements) {
+      // removed nodes are not painted anymore, but still known by their uuid
+      extendedElements.addAll(linesByNode.getOrDefault(uuid, Collections.emptySet()));
+
+      GridGraphic gridGraphic = paintedElements.get(uuid);
+      if (gridGraphic instanceof GridTransformer2WGraphic) {
+        Transformer2WInput transformer =
+            ((GridTransformer2WGraphic) gridGraphic).getTransformer2WInput();
+        Stream.of(transformer.getNodeA(), transformer.getNodeB())
+            .forEach(
+                node ->
+                    extendedElements.addAll(
+                        linesByNode.getOrDefault(node.getUuid(), Collections.emptySet())));
+      }
+    }
+    return extendedElements;
+  }
+
+  private boolean isDetailed() {
+    return baseMap.zoom().get() >= DETAIL_ZOOM_LEVEL;
+  }
+
+  /**
+   * Clusters the visible nodes by their position and removes all nodes, that are part of a
+   * cluster with more than one node, from the visible elements
+   *
+   * @param visibleElements uuids of all visible elements
+   * @return all clusters of more than one node
+   */
+  private List<NodeCluster> clusterNodes(Set<UUID> visibleElements) {
+    Map<UUID, Point2D> nodePositions = new HashMap<>();
+    for (UUID uuid : visibleElements) {
+      GridGraphic gridGraphic = paintedElements.get(uuid);
+      if (gridGraphic instanceof GridNodeGraphic) {
+        Point geoPosition = ((GridNodeGraphic) gridGraphic).getNodeInput().getGeoPosition();
+        nodePositions.put(uuid, getGridLayerPoint(geoPosition.getY(), geoPosition.getX()));
+      }
+    }
+
+    // the cell grid is tied to a geographic position, to not let the clusters change on panning
+    List<NodeCluster> clusters = new ArrayList<>();
+    for (NodeCluster cluster :
+        NodeCluster.of(nodePositions, getGridLayerPoint(0d, 0d), CLUSTER_CELL_SIZE)) {
+      if (cluster.size() > 1) {
+        clusters.add(cluster);
+        visibleElements.removeAll(cluster.getMembers());
+      }
+    }
+    return clusters;
+  }
+
+  /**
+   * Provides the projected coordinates of a line to show at the current zoom level, which are
+   * simplified at low zoom levels. They are transformed into coordinates of this layer by the
+   * current {@link #getProjection()}.
+   *
+   * @param lineInput the line to show
+   * @return the normalized Web Mercator coordinates, alternating x and y
+   */
+  public double[] getProjectedLineCoordinates(LineInput lineInput) {
+    return lineProjectionCache.getCoordinates(
+        lineInput.getUuid(),
+        lineInput.getGeoPosition(),
+        baseMap == null ? DETAIL_ZOOM_LEVEL : baseMap.zoom().get());
+  }
+
+  /** @return the transformation from normalized Web Mercator coordinates into this layer */
+  public WebMercatorProjection getProjection() {
+    if (projection == null) projection = WebMercatorProjection.of(this);
+    return projection;
+  }
+
+  /**
+   * Projects all lines of this layer in the background, once the zoom level has changed, as the
+   * simplification of the lines depends on the zoom level
+   */
+  private void prepareLineProjections() {
+    int zoomLevel = Math.min(DETAIL_ZOOM_LEVEL, (int) Math.floor(baseMap.zoom().get()));
+    if (zoomLevel == preparedZoomLevel) return;
+    preparedZoomLevel = zoomLevel;
+
+    Map<UUID, LineString> lines = new HashMap<>();
     for (GridGraphic gridGraphic : paintedElements.values()) {
-      gridGraphic.update(this);
+      if (gridGraphic instanceof GridLineGraphic) {
+        LineInput lineInput = ((GridLineGraphic) gridGraphic).getLineInput();
+        lines.put(lineInput.getUuid(), lineInput.getGeoPosition());
+      }
+    }
+    lineProjectionCache.prepare(lines, zoomLevel);
+  }
+
+  /**
+   * Attaches the shapes of all graphics, that entered the viewport, to the layer and detaches the
+   * ones, that left it
+   */
+  private void attachShapes(Set<UUID> visibleElements) {
+    Set<Shape> leavingShapes = new HashSet<>();
+    Iterator<UUID> attached = attachedElements.iterator();
+    while (attached.hasNext()) {
+      UUID uuid = attached.next();
+      if (!visibleElements.contains(uuid)) {
+        leavingShapes.add(paintedElements.get(uuid).getGraphicShape());
+        attached.remove();
+      }
+    }
+    if (!leavingShapes.isEmpty()) this.getChildren().removeAll(leavingShapes);
+
+    List<Shape> enteringShapes = new ArrayList<>();
+    for (UUID uuid : visibleElements) {
+      if (attachedElements.add(uuid))
+        enteringShapes.add(paintedElements.get(uuid).getGraphicShape());
     }
+    this.getChildren().addAll(enteringShapes);
+  }
+
+  /** @return the visible part of the layer or an empty optional, if the layer is not shown */
+  private Optional<Bounds> visibleBounds() {
+    if (baseMap == null || getParent() == null) return Optional.empty();
+
+    Bounds bounds = getParent().getLayoutBounds();
+    if (bounds.getWidth() <= 0 || bounds.getHeight() <= 0) return Optional.empty();
+    return Optional.of(bounds);
+  }
+
+  /**
+   * Determines the geographic bounding box of the given bounds within the layer
+   *
+   * @param bounds bounds in layer coordinates
+   * @param margin margin in pixels to extend the bounds by
+   * @return the geographic bounding box with longitude as x and latitude as y
+   */
+  private Envelope toGeoEnvelope(Bounds bounds, double margin) {
+    MapPoint upperLeft =
+        baseMap.getMapPosition(bounds.getMinX() - margin, bounds.getMinY() - margin);
+    MapPoint lowerRight =
+        baseMap.getMapPosition(bounds.getMaxX() + margin, bounds.getMaxY() + margin);
+    return new Envelope(
+        upperLeft.getLongitude(),
+        lowerRight.getLongitude(),
+        upperLeft.getLatitude(),
+        lowerRight.getLatitude());
+  }
+
+  /**
+   * Determines the topmost graphic at the given position, nodes and transformers are preferred
+   * over lines, as they are painted above them
+   *
+   * @param x x coordinate within the layer
+   * @param y y coordinate within the layer
+   * @return the graphic at the given position, if there is any
+   */
+  Optional<GridGraphic> graphicAt(double x, double y) {
+    if (baseMap == null) return Optional.empty();
+    return paintedElementIndex
+        .query(toGeoEnvelope(new BoundingBox(x, y, 0, 0), PICK_TOLERANCE))
+        .stream()
+        .filter(renderedElements::contains)
+        .map(paintedElements::get)
+        .filter(gridGraphic -> gridGraphic.hits(x, y))
+        .min(Comparator.comparing(GridLineGraphic.class::isInstance));
+  }
+
+  /**
+   * Switches the way, the graphics of this layer are rendered
+   *
+   * @param renderMode the render mode to use from now on
+   */
+  public void setRenderMode(GridRenderMode renderMode) {
+    if (this.renderMode == renderMode) return;
+    this.renderMode = renderMode;
+
+    if (renderMode == GridRenderMode.CANVAS) {
+      // the shapes are painted onto the canvas instead of being part of the scene graph
+      this.getChildren().clear();
+      attachedElements.clear();
+      clusterMarkers.clear();
+      canvasRenderer = new GridCanvasRenderer(this);
+      this.getChildren().add(canvasRenderer.getCanvas());
+    } else {
+      this.getChildren().remove(canvasRenderer.getCanvas());
+      canvasRenderer.dispose();
+      canvasRenderer = null;
+    }
+    fullLayoutRequired = true;
+    this.markDirty();
+  }
+
+  public GridRenderMode getRenderMode() {
+    return renderMode;
+  }
+
+  public int getPaintedElementCount() {
+    return paintedElements.size();
+  }
+
+  public LayoutMetrics getLayoutMetrics() {
+    return layoutMetrics;
   }
 
   // todo JH javadocs 1) should only called once during init, 2) should contain all actions that are
@@ -196,18 +538,41 @@ public class GridPaintLayer extends MapLayer {
   }
 
   public void updateGraphicEntity(UpdateGridEvent updateGridEvent) {
+    updateGraphicEntities(Collections.singletonList(updateGridEvent));
+  }
 
-    // we do not update nodes that are hold by transformers, as they
-    // are represented by their specific shape
-    if (!unpaintedNodes.contains(updateGridEvent.getGridEntityUuid())) {
+  /**
+   * Applies several updates at once. The shapes of all replaced graphics are detached in a single
+   * modification of the scene graph and the updated graphics are laid out together in the next
+   * layout pass.
+   *
+   * @param updateGridEvents updates of entities painted on this layer
+   */
+  public void updateGraphicEntities(Collection<UpdateGridEvent> updateGridEvents) {
+    Set<Shape> detachedShapes = new HashSet<>();
+
+    for (UpdateGridEvent updateGridEvent : updateGridEvents) {
+      // we do not update nodes that are hold by transformers, as they
+      // are represented by their specific shape
+      if (unpaintedNodes.contains(updateGridEvent.getGridEntityUuid())) {
+        log.warn("Received update for a node that is not drawn: {}", updateGridEvent);
+        continue;
+      }
 
       Optional.ofNullable(entityUuidToPaintedUuid.get(updateGridEvent.getGridEntityUuid()))
           .ifPresentOrElse(
               paintedElementUuid -> {
                 GridGraphic paintedGridGraphic = paintedElements.get(paintedElementUuid);
 
+                unindexElement(paintedElementUuid, paintedGridGraphic);
+                if (updateGridEvent.updateGraphicEntityInPlace(paintedGridGraphic)) {
+                  // the graphic keeps its shape, that is moved during the next layout pass
+                  indexElement(paintedElementUuid, paintedGridGraphic);
+                  return;
+                }
+
                 // remove element from painted elements
-                removeElement(paintedElementUuid);
+                detachElement(paintedElementUuid).ifPresent(detachedShapes::add);
 
                 // add an updated version of the previously removed element
                 paintElement(
@@ -219,15 +584,47 @@ public class GridPaintLayer extends MapLayer {
                   log.warn(
                       "Received an update for an element that is not inside painted elements: {}",
                       updateGridEvent));
-    } else {
-      log.warn("Received update for a node that is not drawn: {}", updateGridEvent);
     }
+
+    if (!detachedShapes.isEmpty()) this.getChildren().removeAll(detachedShapes);
   }
 
   private void paintElement(UUID uuid, GridGraphic graphicEntity) {
 
     paintedElements.put(uuid, graphicEntity);
 
+    // important: we don't want the shapes to be managed by it's parent
+    graphicEntity.getGraphicShape().setManaged(false);
+    graphicEntity.getGraphicShape().setVisible(true);
+
+    // the shape is attached during the next layout pass, if it is within the viewport
+    indexElement(uuid, graphicEntity);
+  }
+
+  /**
+   * Removes the element from all bookkeeping of this layer
+   *
+   * @param uuid uuid of the painted element
+   * @return the shape of the element, if it is attached to the layer and needs to be removed from
+   *     the children
+   */
+  private Optional<Shape> detachElement(UUID uuid) {
+
+    GridGraphic gridGraphic = paintedElements.remove(uuid);
+    unindexElement(uuid, gridGraphic);
+    renderedElements.remove(uuid);
+
+    return attachedElements.remove(uuid)
+        ? Optional.of(gridGraphic.getGraphicShape())
+        : Optional.empty();
+  }
+
+  /**
+   * Registers the entities of the painted element and its geographic position. The element is laid
+   * out during the next layout pass.
+   */
+  private void indexElement(UUID uuid, GridGraphic graphicEntity) {
+
     // update the entityUuidToPaintedUuid map
     entityUuidToPaintedUuid.put(uuid, uuid); // each graphic shape is mapped to itself
     // each sys part is mapped to its graphic entity uuid
@@ -235,19 +632,24 @@ public class GridPaintLayer extends MapLayer {
         .getSystemParticipants()
         .forEach(sysPart -> entityUuidToPaintedUuid.put(sysPart.getUuid(), uuid));
 
-    // important: we don't want the shapes to be managed by it's parent
-    graphicEntity.getGraphicShape().setManaged(false);
-    graphicEntity.getGraphicShape().setVisible(true);
-
-    this.getChildren().add(graphicEntity.getGraphicShape());
+    paintedElementIndex.put(uuid, graphicEntity.getGeoEnvelope());
+    dirtyElements.add(uuid);
+    if (graphicEntity instanceof GridLineGraphic) {
+      LineInput lineInput = ((GridLineGraphic) graphicEntity).getLineInput();
+      Stream.of(lineInput.getNodeA(), lineInput.getNodeB())
+          .forEach(
+              node ->
+                  linesByNode.computeIfAbsent(node.getUuid(), key -> new HashSet<>()).add(uuid));
+    }
 
     this.markDirty();
   }
 
-  private void removeElement(UUID uuid) {
-
-    GridGraphic gridGraphic = paintedElements.get(uuid);
-    Shape shapeEntity = gridGraphic.getGraphicShape();
+  /**
+   * Counterpart of {@link #indexElement(UUID, GridGraphic)}, that has to be called, before the
+   * entities of the painted element change
+   */
+  private void unindexElement(UUID uuid, GridGraphic gridGraphic) {
 
     // remove actual graphic entity from uuid to painted mapping
     entityUuidToPaintedUuid.remove(uuid);
@@ -257,9 +659,19 @@ public class GridPaintLayer extends MapLayer {
         .getSystemParticipants()
         .forEach(sysPart -> entityUuidToPaintedUuid.remove(sysPart.getUuid()));
 
-    paintedElements.remove(uuid);
+    paintedElementIndex.remove(uuid);
+    lineProjectionCache.remove(uuid);
+    dirtyElements.add(uuid);
+    if (gridGraphic instanceof GridLineGraphic) {
+      LineInput lineInput = ((GridLineGraphic) gridGraphic).getLineInput();
+      Stream.of(lineInput.getNodeA(), lineInput.getNodeB())
+          .forEach(
+              node ->
+                  linesByNode.computeIfPresent(
+                      node.getUuid(),
+                      (key, lines) -> lines.remove(uuid) && lines.isEmpty() ? null : lines));
+    }
 
-    this.getChildren().remove(shapeEntity);
     this.markDirty();
   }
 
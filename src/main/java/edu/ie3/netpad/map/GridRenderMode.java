@@ -0,0 +1,67 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+*/
+package edu.ie3.netpad.map;
+
+import java.util.Locale;
+import java.util.Optional;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Ways to render the graphics of a {@link GridPaintLayer}. The mode of all layers can be fixed
+ * with the system property {@value #RENDER_MODE_PROPERTY}, e.g. to compare the frame rates of both
+ * modes for the same grid.
+ */
+public enum GridRenderMode {
+  /** Every element is a shape of its own within the scene graph */
+  SHAPES,
+  /** All elements are painted onto a single canvas in one pass */
+  CANVAS;
+
+  private static final Logger log = LoggerFactory.getLogger(GridRenderMode.class);
+
+  /** System property to render all layers in the given mode instead of choosing it by size */
+  public static final String RENDER_MODE_PROPERTY = "netpad.render-mode";
+
+  // above this number of elements, the scene graph becomes the bottleneck of rendering
+  private static final int CANVAS_ELEMENT_THRESHOLD = 5000;
+
+  /**
+   * Determines the suitable render mode for a layer with the given number of elements
+   *
+   * @param elementCount number of painted elements
+   * @return the suitable render mode
+   */
+  public static GridRenderMode forElementCount(int elementCount) {
+    return elementCount > CANVAS_ELEMENT_THRESHOLD ? CANVAS : SHAPES;
+  }
+
+  /**
+   * Determines the render mode for a new layer, which is the configured one, if the system
+   * property {@value #RENDER_MODE_PROPERTY} is set, or the suitable one for its number of elements
+   *
+   * @param elementCount number of painted elements
+   * @return the render mode of the new layer
+   */
+  public static GridRenderMode initial(int elementCount) {
+    return configured().orElseGet(() -> forElementCount(elementCount));
+  }
+
+  /** @return the render mode from the system property, if it is set to a valid mode */
+  static Optional<GridRenderMode> configured() {
+    String renderMode = System.getProperty(RENDER_MODE_PROPERTY);
+    if (renderMode == null) return Optional.empty();
+    try {
+      return Optional.of(valueOf(renderMode.trim().toUpperCase(Locale.ROOT)));
+    } catch (IllegalArgumentException e) {
+      log.warn(
+          "Ignoring the unknown render mode '{}' of the system property {}.",
+          renderMode,
+          RENDER_MODE_PROPERTY);
+      return Optional.empty();
+    }
+  }
+}
@@ -0,0 +1,93 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+*/
+package edu.ie3.netpad.map;
+
+import java.util.Collection;
+
+/**
+ * Counts the layout passes of a {@link GridPaintLayer} and their duration, distinguishing full
+ * passes after the viewport has changed from incremental passes after single elements have
+ * changed
+ */
+public class LayoutMetrics {
+
+  private long fullPasses;
+  private long incrementalPasses;
+  private long laidOutElements;
+  private long totalNanos;
+  private long maxNanos;
+
+  void recordFullPass(long nanos, int laidOutElements) {
+    fullPasses++;
+    record(nanos, laidOutElements);
+  }
+
+  void recordIncrementalPass(long nanos, int laidOutElements) {
+    incrementalPasses++;
+    record(nanos, laidOutElements);
+  }
+
+  private void record(long nanos, int laidOutElements) {
+    this.laidOutElements += laidOutElements;
+    this.totalNanos += nanos;
+    this.maxNanos = Math.max(maxNanos, nanos);
+  }
+
+  /**
+   * Sums up the metrics of several layers
+   *
+   * @param metrics metrics of the single layers
+   * @return the summed up metrics
+   */
+  public static LayoutMetrics sum(Collection<LayoutMetrics> metrics) {
+    LayoutMetrics sum = new LayoutMetrics();
+    for (LayoutMetrics layerMetrics : metrics) {
+      sum.fullPasses += layerMetrics.fullPasses;
+      sum.incrementalPasses += layerMetrics.incrementalPasses;
+      sum.laidOutElements += layerMetrics.laidOutElements;
+      sum.totalNanos += layerMetrics.totalNanos;
+      sum.maxNanos = Math.max(sum.maxNanos, layerMetrics.maxNanos);
+    }
+    return sum;
+  }
+
+  public long getFullPasses() {
+    return fullPasses;
+  }
+
+  public long getIncrementalPasses() {
+    return incrementalPasses;
+  }
+
+  public long getLaidOutElements() {
+    return laidOutElements;
+  }
+
+  public double getAverageMillis() {
+    long passes = fullPasses + incrementalPasses;
+    return passes == 0 ? 0d : totalNanos / 1e6 / passes;
+  }
+
+  public double getMaxMillis() {
+    return maxNanos / 1e6;
+  }
+
+  @Override
+  public String toString() {
+    return "LayoutMetrics{"
+        + "fullPasses="
+        + fullPasses
+        + ", incrementalPasses="
+        + incrementalPasses
+        + ", laidOutElements="
+        + laidOutElements
+        + ", averageMillis="
+        + String.format("%.2f", getAverageMillis())
+        + ", maxMillis="
+        + String.format("%.2f", getMaxMillis())
+        + '}';
+  }
+}
@@ -0,0 +1,125 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+*/
+package edu.ie3.netpad.map;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.LineString;
+import org.locationtech.jts.simplify.DouglasPeuckerSimplifier;
+
+/**
+ * Caches the coordinates of lines projected to normalized Web Mercator coordinates (see {@link
+ * WebMercatorProjection}) per zoom level. Below the detail zoom level, the lines are simplified by
+ * the Douglas-Peucker algorithm with a tolerance, that corresponds to a fixed number of pixels at
+ * the respective zoom level, hence the simplification is not visible on the map. From the detail
+ * zoom level on, all coordinates are kept. The cache may be filled concurrently.
+ */
+class LineProjectionCache {
+
+  private static final double TOLERANCE_IN_PIXELS = 1d;
+  private static final double TILE_SIZE = 256d;
+
+  private final int detailZoomLevel;
+  private final Map<UUID, ProjectedLine> projectedLines = new ConcurrentHashMap<>();
+
+  /** @param detailZoomLevel zoom level from which on the lines are shown in full detail */
+  LineProjectionCache(int detailZoomLevel) {
+    this.detailZoomLevel = detailZoomLevel;
+  }
+
+  /**
+   * Provides the projected coordinates of the given line to show at the given zoom level
+   *
+   * @param uuid uuid of the line
+   * @param lineString geometry of the line
+   * @param zoom current zoom level of the map
+   * @return the normalized Web Mercator coordinates, alternating x and y
+   */
+  double[] getCoordinates(UUID uuid, LineString lineString, double zoom) {
+    // if the geometry of the line has changed, all previously projected coordinates are outdated
+    ProjectedLine projectedLine =
+        projectedLines.compute(
+            uuid,
+            (key, existing) ->
+                existing != null && existing.source == lineString
+                    ? existing
+                    : new ProjectedLine(lineString, detailZoomLevel));
+    return projectedLine.getCoordinates(zoomLevel(zoom));
+  }
+
+  /**
+   * Projects the given lines for the given zoom level in parallel, so that zooming does not
+   * require projecting the lines one after another once they become visible
+   *
+   * @param lines geometries of the lines by their uuid
+   * @param zoom zoom level to project the lines for
+   * @return a future, that completes once all lines are projected
+   */
+  CompletableFuture<Void> prepare(Map<UUID, LineString> lines, double zoom) {
+    return CompletableFuture.runAsync(
+        () ->
+            lines.entrySet().parallelStream()
+                .forEach(line -> getCoordinates(line.getKey(), line.getValue(), zoom)));
+  }
+
+  /**
+   * Removes the projected coordinates of a line
+   *
+   * @param uuid uuid of the line
+   */
+  void remove(UUID uuid) {
+    projectedLines.remove(uuid);
+  }
+
+  private int zoomLevel(double zoom) {
+    return Math.max(0, Math.min(detailZoomLevel, (int) Math.floor(zoom)));
+  }
+
+  /**
+   * @param zoomLevel zoom level of the map
+   * @return the tolerance in degrees, that corresponds to the tolerated pixels at this zoom level
+   */
+  static double tolerance(int zoomLevel) {
+    return TOLERANCE_IN_PIXELS * 360d / (TILE_SIZE * Math.pow(2, zoomLevel));
+  }
+
+  private static final class ProjectedLine {
+    private final LineString source;
+    // one entry per zoom level below the detail zoom level and one for full detail
+    private final AtomicReferenceArray<double[]> coordinatesPerZoomLevel;
+    private final int detailZoomLevel;
+
+    private ProjectedLine(LineString source, int detailZoomLevel) {
+      this.source = source;
+      this.detailZoomLevel = detailZoomLevel;
+      this.coordinatesPerZoomLevel = new AtomicReferenceArray<>(detailZoomLevel + 1);
+    }
+
+    private double[] getCoordinates(int zoomLevel) {
+      double[] coordinates = coordinatesPerZoomLevel.get(zoomLevel);
+      if (coordinates == null) {
+        coordinatesPerZoomLevel.compareAndSet(
+            zoomLevel, null, WebMercatorProjection.project(simplify(zoomLevel)));
+        coordinates = coordinatesPerZoomLevel.get(zoomLevel);
+      }
+      return coordinates;
+    }
+
+    private Coordinate[] simplify(int zoomLevel) {
+      if (zoomLevel >= detailZoomLevel || source.getNumPoints() <= 2)
+        return source.getCoordinates();
+
+      Coordinate[] simplified =
+          DouglasPeuckerSimplifier.simplify(source, tolerance(zoomLevel)).getCoordinates();
+      // keep at least start and end of the line
+      return simplified.length < 2 ? source.getCoordinates() : simplified;
+    }
+  }
+}
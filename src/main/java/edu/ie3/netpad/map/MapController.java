@@ -7,13 +7,17 @@ package edu.ie3.netpad.map;
 
 import com.gluonhq.maps.MapPoint;
 import com.gluonhq.maps.MapView;
+import edu.ie3.datamodel.models.input.container.RawGridElements;
+import edu.ie3.netpad.grid.event.BatchUpdateGridEvent;
 import edu.ie3.netpad.grid.event.GridEvent;
 import edu.ie3.netpad.grid.event.GridEventListener;
 import edu.ie3.netpad.grid.event.ReplaceGridEvent;
 import edu.ie3.netpad.grid.event.UpdateGridEvent;
 import edu.ie3.netpad.grid.info.GridInfoEvent;
+import edu.ie3.netpad.grid.info.GridRenderModeEvent;
 import edu.ie3.netpad.map.event.MapEvent;
-import edu.ie3.netpad.util.ListenerUtil;
+import edu.ie3.netpad.map.graphic.GridGraphicPaint;
+import edu.ie3.netpad.map.graphic.TooltipPool;
 import edu.ie3.netpad.util.RandomSingleton;
 import java.util.*;
 import java.util.stream.Collectors;
@@ -42,16 +46,8 @@ public class MapController implements GridEventListener {
   private final ObjectProperty<MapEvent> papUpdateEventProperty = new SimpleObjectProperty<>();
   private final Map<UUID, GridPaintLayer> subGridGraphicLayer = new HashMap<>();
 
-  private final ChangeListener<GridEvent> gridEventListener =
-      ListenerUtil.createGridEventListener(this);
-
   @FXML private MapView map;
 
-  @Override
-  public ChangeListener<GridEvent> gridEventListener() {
-    return gridEventListener;
-  }
-
   @FXML
   public void initialize() {
 
@@ -60,12 +56,39 @@ public class MapController implements GridEventListener {
 
     // add information caption to the mapAnchorPane
     map.addLayer(new CaptionLayer());
+
+    // measuring the frame rate requests a pulse for every frame, hence it is only done on demand
+    if (logger.isDebugEnabled()) new FrameTimeMonitor(this::describeRendering).start();
+  }
+
+  private String describeRendering() {
+    return subGridGraphicLayer.values().stream()
+        .filter(layer -> layer.getParent() != null)
+        .collect(
+            Collectors.groupingBy(
+                GridPaintLayer::getRenderMode,
+                () -> new EnumMap<>(GridRenderMode.class),
+                Collectors.summingInt(GridPaintLayer::getPaintedElementCount)))
+        .entrySet()
+        .stream()
+        .map(entry -> entry.getValue() + " elements as " + entry.getKey())
+        .collect(
+            Collectors.joining(
+                ", ",
+                "Rendering ",
+                " with "
+                    + LayoutMetrics.sum(
+                        subGridGraphicLayer.values().stream()
+                            .map(GridPaintLayer::getLayoutMetrics)
+                            .collect(Collectors.toList()))));
   }
 
   @Override
   public void handleGridEvent(GridEvent gridEvent) {
     if (gridEvent instanceof UpdateGridEvent) {
       handleUpdateGridEvent((UpdateGridEvent) gridEvent);
+    } else if (gridEvent instanceof BatchUpdateGridEvent) {
+      handleBatchUpdateGridEvent((BatchUpdateGridEvent) gridEvent);
     } else if (gridEvent instanceof ReplaceGridEvent) {
       handleReplaceGridEvent((ReplaceGridEvent) gridEvent);
     } else {
@@ -84,6 +107,12 @@ public class MapController implements GridEventListener {
     // clear subGridGraphicLayer map
     subGridGraphicLayer.clear();
 
+    // the new layers get new colours, hence the paints of the old colours are not needed anymore
+    GridGraphicPaint.clearCache();
+
+    // the tooltips of the old shapes would keep the removed layers alive
+    TooltipPool.clear();
+
     // todo preserve grid layer order
 
     // create layer for each subGrid and add them to the subGridGraphicLayer map
@@ -97,8 +126,17 @@ public class MapController implements GridEventListener {
                       .collect(Collectors.toSet());
               Color uniqueColor = getUniqueLayerColor(existingColors);
 
+              // large sub grids are painted onto a canvas, as the scene graph does not scale,
+              // unless the render mode is configured
+              RawGridElements rawGrid = subGrid.getRawGrid();
+              GridRenderMode renderMode =
+                  GridRenderMode.initial(
+                      rawGrid.getNodes().size()
+                          + rawGrid.getLines().size()
+                          + rawGrid.getTransformer2Ws().size());
+
               GridPaintLayer gridPaintLayer =
-                  new GridPaintLayer(subGridUuid, layerUpdateListener(), uniqueColor);
+                  new GridPaintLayer(subGridUuid, layerUpdateListener(), uniqueColor, renderMode);
 
               // needs to be called before the layer can draw its grid because this makes the
               // baseMap accessible to the layer
@@ -149,6 +187,19 @@ public class MapController implements GridEventListener {
     logger.debug("Received GridEvent: {}", updateGridEvent);
   }
 
+  private void handleBatchUpdateGridEvent(BatchUpdateGridEvent batchUpdateGridEvent) {
+
+    batchUpdateGridEvent
+        .getSubGridUuids()
+        .forEach(
+            subGridUuid ->
+                subGridGraphicLayer
+                    .get(subGridUuid)
+                    .updateGraphicEntities(batchUpdateGridEvent.getUpdates(subGridUuid)));
+
+    logger.debug("Received GridEvent: {}", batchUpdateGridEvent);
+  }
+
   private ChangeListener<MapEvent> layerUpdateListener() {
     return (observable, oldValue, newValue) -> notifyListener(newValue);
   }
@@ -186,4 +237,18 @@ public class MapController implements GridEventListener {
     // refresh view
     layer.layoutLayer();
   }
+
+  public ChangeListener<GridRenderModeEvent> renderModeEventListener() {
+    return (observable, oldValue, newValue) -> handleRenderModeEvent(newValue);
+  }
+
+  private void handleRenderModeEvent(GridRenderModeEvent renderModeEvent) {
+    GridPaintLayer layer = subGridGraphicLayer.get(renderModeEvent.getSubGridUuid());
+    layer.setRenderMode(renderModeEvent.getRenderMode());
+    logger.debug(
+        "Rendering the {} elements of sub grid {} as {}",
+        layer.getPaintedElementCount(),
+        renderModeEvent.getSubGridUuid(),
+        renderModeEvent.getRenderMode());
+  }
 }
@@ -8,6 +8,11 @@ package edu.ie3.netpad.map;
 import edu.ie3.datamodel.models.UniqueEntity;
 import edu.ie3.datamodel.models.input.NodeInput;
 import edu.ie3.datamodel.models.input.system.*;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import javafx.scene.paint.Color;
 
 /**
@@ -25,6 +30,13 @@ public enum MapGridElementAttribute {
   EV_CS(EvcsInput.class, "EvChargingStation", Color.MAGENTA),
   FIXED_FEED_IN(FixedFeedInInput.class, "FixedFeedIn", Color.GRAY);
 
+  // the first attribute of each class, looked up for every painted graphic
+  private static final Map<Class<? extends UniqueEntity>, MapGridElementAttribute> BY_CLASS =
+      Arrays.stream(values())
+          .collect(
+              Collectors.toMap(
+                  MapGridElementAttribute::getClz, Function.identity(), (first, second) -> first));
+
   private final Class<? extends UniqueEntity> clz;
   private final String id;
   private final Color color;
@@ -46,4 +58,12 @@ public enum MapGridElementAttribute {
   public Class<? extends UniqueEntity> getClz() {
     return clz;
   }
+
+  /**
+   * @param clz class of a grid element
+   * @return the attribute of the given class, if there is any
+   */
+  public static Optional<MapGridElementAttribute> of(Class<?> clz) {
+    return Optional.ofNullable(BY_CLASS.get(clz));
+  }
 }
@@ -0,0 +1,134 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+*/
+package edu.ie3.netpad.map;
+
+import java.util.*;
+import javafx.geometry.Point2D;
+import javafx.geometry.VPos;
+import javafx.scene.Group;
+import javafx.scene.Node;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.paint.Color;
+import javafx.scene.shape.Circle;
+import javafx.scene.text.Font;
+import javafx.scene.text.FontWeight;
+import javafx.scene.text.Text;
+import javafx.scene.text.TextAlignment;
+
+/**
+ * Aggregation of nearby nodes, that is shown as a single marker instead of the nodes at low zoom
+ * levels
+ */
+class NodeCluster {
+
+  private static final double MIN_RADIUS = 8d;
+  private static final double MAX_RADIUS = 18d;
+  private static final double LABEL_SIZE = 10d;
+
+  private final Set<UUID> members;
+  private final Point2D center;
+
+  private NodeCluster(Set<UUID> members, Point2D center) {
+    this.members = members;
+    this.center = center;
+  }
+
+  /**
+   * Clusters the given positions by a grid of square cells, all positions within one cell form a
+   * cluster located at their mean position. This is done in linear time with regard to the number
+   * of positions.
+   *
+   * @param positions positions within the layer
+   * @param origin origin of the cell grid within the layer, which should be tied to a geographic
+   *     position to keep the clusters stable while panning
+   * @param cellSize edge length of the cells in pixels
+   * @return all clusters, including the ones of single elements
+   */
+  static List<NodeCluster> of(Map<UUID, Point2D> positions, Point2D origin, double cellSize) {
+    Map<Long, List<UUID>> cells = new HashMap<>();
+    positions.forEach(
+        (uuid, position) -> {
+          long column = (long) Math.floor((position.getX() - origin.getX()) / cellSize);
+          long row = (long) Math.floor((position.getY() - origin.getY()) / cellSize);
+          cells.computeIfAbsent((column << 32) ^ (row & 0xffffffffL), cell -> new ArrayList<>())
+              .add(uuid);
+        });
+
+    List<NodeCluster> clusters = new ArrayList<>(cells.size());
+    for (List<UUID> cell : cells.values()) {
+      double x = 0d;
+      double y = 0d;
+      for (UUID uuid : cell) {
+        Point2D position = positions.get(uuid);
+        x += position.getX();
+        y += position.getY();
+      }
+      clusters.add(
+          new NodeCluster(new HashSet<>(cell), new Point2D(x / cell.size(), y / cell.size())));
+    }
+    return clusters;
+  }
+
+  Set<UUID> getMembers() {
+    return members;
+  }
+
+  Point2D getCenter() {
+    return center;
+  }
+
+  int size() {
+    return members.size();
+  }
+
+  private double radius() {
+    return Math.min(MAX_RADIUS, MIN_RADIUS + 2 * Math.log(size()) / Math.log(2));
+  }
+
+  /**
+   * @param color color of the marker
+   * @return a marker showing the number of aggregated nodes, that can be attached to a layer
+   */
+  Node createMarker(Color color) {
+    Circle circle = new Circle(center.getX(), center.getY(), radius(), color);
+    circle.setStroke(Color.WHITE);
+
+    Text label = new Text(Integer.toString(size()));
+    label.setFont(Font.font(null, FontWeight.BOLD, LABEL_SIZE));
+    label.setFill(Color.WHITE);
+    label.setTextOrigin(VPos.CENTER);
+    label.setX(center.getX() - label.getLayoutBounds().getWidth() / 2);
+    label.setY(center.getY());
+
+    Group marker = new Group(circle, label);
+    marker.setManaged(false);
+    marker.setMouseTransparent(true);
+    return marker;
+  }
+
+  /**
+   * Paints a marker showing the number of aggregated nodes
+   *
+   * @param graphicsContext graphics context in layer coordinates
+   * @param color color of the marker
+   */
+  void paint(GraphicsContext graphicsContext, Color color) {
+    double radius = radius();
+    graphicsContext.setFill(color);
+    graphicsContext.fillOval(
+        center.getX() - radius, center.getY() - radius, 2 * radius, 2 * radius);
+    graphicsContext.setStroke(Color.WHITE);
+    graphicsContext.setLineWidth(1d);
+    graphicsContext.strokeOval(
+        center.getX() - radius, center.getY() - radius, 2 * radius, 2 * radius);
+
+    graphicsContext.setFill(Color.WHITE);
+    graphicsContext.setFont(Font.font(null, FontWeight.BOLD, LABEL_SIZE));
+    graphicsContext.setTextAlign(TextAlignment.CENTER);
+    graphicsContext.setTextBaseline(VPos.CENTER);
+    graphicsContext.fillText(Integer.toString(size()), center.getX(), center.getY());
+  }
+}
@@ -0,0 +1,117 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+*/
+package edu.ie3.netpad.map;
+
+import java.util.Objects;
+import javafx.geometry.Point2D;
+import org.locationtech.jts.geom.Coordinate;
+
+/**
+ * Maps normalized Web Mercator coordinates, which range from 0 to 1 for the whole world, to the
+ * coordinates of a {@link GridPaintLayer}. As the projection of the map is separable per axis,
+ * this is an affine transformation. Hence, coordinates only need to be projected once and
+ * panning and zooming only change the offset and scale of the transformation.
+ */
+public class WebMercatorProjection {
+
+  // reference points to determine the transformation, that are well-defined in the projection
+  private static final double REFERENCE_LATITUDE = 45d;
+  private static final double REFERENCE_LONGITUDE = 90d;
+
+  private final double scaleX;
+  private final double scaleY;
+  private final double offsetX;
+  private final double offsetY;
+
+  private WebMercatorProjection(double scaleX, double scaleY, double offsetX, double offsetY) {
+    this.scaleX = scaleX;
+    this.scaleY = scaleY;
+    this.offsetX = offsetX;
+    this.offsetY = offsetY;
+  }
+
+  /**
+   * Determines the current transformation of the given layer
+   *
+   * @param gridPaintLayer layer, that is already added to a map
+   * @return the current transformation
+   */
+  static WebMercatorProjection of(GridPaintLayer gridPaintLayer) {
+    Point2D origin = gridPaintLayer.getGridLayerPoint(0d, 0d);
+    Point2D reference = gridPaintLayer.getGridLayerPoint(REFERENCE_LATITUDE, REFERENCE_LONGITUDE);
+
+    double scaleX = (reference.getX() - origin.getX()) / (x(REFERENCE_LONGITUDE) - x(0d));
+    double scaleY = (reference.getY() - origin.getY()) / (y(REFERENCE_LATITUDE) - y(0d));
+    return new WebMercatorProjection(
+        scaleX, scaleY, origin.getX() - scaleX * x(0d), origin.getY() - scaleY * y(0d));
+  }
+
+  /**
+   * @param longitude longitude in degrees
+   * @return the normalized horizontal Web Mercator coordinate
+   */
+  static double x(double longitude) {
+    return (longitude + 180d) / 360d;
+  }
+
+  /**
+   * @param latitude latitude in degrees
+   * @return the normalized vertical Web Mercator coordinate
+   */
+  static double y(double latitude) {
+    double latitudeRadians = Math.toRadians(latitude);
+    return (1d
+            - Math.log(Math.tan(latitudeRadians) + 1d / Math.cos(latitudeRadians)) / Math.PI)
+        / 2d;
+  }
+
+  /**
+   * Projects the given coordinates, that carry the longitude as x and the latitude as y
+   *
+   * @param coordinates geographic coordinates
+   * @return the normalized Web Mercator coordinates, alternating x and y
+   */
+  static double[] project(Coordinate[] coordinates) {
+    double[] projected = new double[2 * coordinates.length];
+    for (int i = 0; i < coordinates.length; i++) {
+      projected[2 * i] = x(coordinates[i].x);
+      projected[2 * i + 1] = y(coordinates[i].y);
+    }
+    return projected;
+  }
+
+  /**
+   * @param x normalized horizontal Web Mercator coordinate
+   * @return the horizontal coordinate within the layer
+   */
+  public double toLayerX(double x) {
+    return offsetX + scaleX * x;
+  }
+
+  /**
+   * @param y normalized vertical Web Mercator coordinate
+   * @return the vertical coordinate within the layer
+   */
+  public double toLayerY(double y) {
+    return offsetY + scaleY * y;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) return true;
+    if (o == null || getClass() != o.getClass()) return false;
+    WebMercatorProjection that = (WebMercatorProjection) o;
+    return Double.compare(that.scaleX, scaleX) == 0
+        && Double.compare(that.scaleY, scaleY) == 0
+        && Double.compare(that.offsetX, offsetX) == 0
+        && Double.compare(that.offsetY, offsetY) == 0;
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(scaleX, scaleY, offsetX, offsetY);
+  }
+}
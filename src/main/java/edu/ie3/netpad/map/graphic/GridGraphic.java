@@ -5,10 +5,16 @@
 */
 package edu.ie3.netpad.map.graphic;
 
+import com.gluonhq.maps.MapPoint;
+import edu.ie3.datamodel.models.input.NodeInput;
 import edu.ie3.datamodel.models.input.system.SystemParticipantInput;
 import edu.ie3.netpad.map.GridPaintLayer;
+import java.util.Optional;
 import java.util.Set;
+import javafx.scene.Node;
+import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.shape.Shape;
+import org.locationtech.jts.geom.Envelope;
 
 /**
  * //ToDo: Class Description
@@ -25,4 +31,44 @@ public interface GridGraphic {
   GridPaintLayer getGridPaintLayer();
 
   Set<SystemParticipantInput> getSystemParticipants();
+
+  /** @return the geographic bounding box of the graphic with longitude as x and latitude as y */
+  Envelope getGeoEnvelope();
+
+  /**
+   * Paints the graphic at its current position, which is used instead of attaching the shape to
+   * the scene graph, if the layer is rendered onto a canvas
+   *
+   * @param graphicsContext graphics context of the canvas in layer coordinates
+   */
+  void paint(GraphicsContext graphicsContext);
+
+  /**
+   * @param x x coordinate within the layer
+   * @param y y coordinate within the layer
+   * @return true, if the given point lies on the graphic at its current position
+   */
+  boolean hits(double x, double y);
+
+  String getTooltipText();
+
+  /** @return the node, that is moved when dragging the graphic, if the graphic is draggable */
+  Optional<NodeInput> getDraggableNode();
+
+  /**
+   * Informs the listeners, that the draggable node of this graphic has been dropped at the given
+   * position. The graphic itself stays in place until the corresponding grid update arrives.
+   *
+   * @param target position, where the node has been dropped
+   */
+  void dropDraggableNode(MapPoint target);
+
+  /**
+   * Shows the context menu of the graphic, if there is any
+   *
+   * @param anchor node, that owns the context menu
+   * @param screenX horizontal screen position of the context menu
+   * @param screenY vertical screen position of the context menu
+   */
+  void showContextMenu(Node anchor, double screenX, double screenY);
 }
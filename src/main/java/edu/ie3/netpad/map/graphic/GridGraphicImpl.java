@@ -5,10 +5,7 @@
 */
 package edu.ie3.netpad.map.graphic;
 
-import static java.util.stream.Collectors.*;
-
 import com.gluonhq.maps.MapPoint;
-import edu.ie3.datamodel.models.UniqueEntity;
 import edu.ie3.datamodel.models.input.NodeInput;
 import edu.ie3.datamodel.models.input.system.SystemParticipantInput;
 import edu.ie3.netpad.map.GridPaintLayer;
@@ -17,18 +14,14 @@ import edu.ie3.netpad.map.event.NodeGeoPositionUpdateEvent;
 import edu.ie3.util.geo.GeoUtils;
 import java.util.*;
 import java.util.concurrent.atomic.AtomicReference;
-import java.util.stream.Collectors;
 import javafx.beans.property.ObjectProperty;
 import javafx.beans.property.SimpleObjectProperty;
 import javafx.beans.value.ChangeListener;
 import javafx.geometry.Point2D;
-import javafx.scene.control.Tooltip;
+import javafx.scene.Node;
 import javafx.scene.input.MouseButton;
 import javafx.scene.input.MouseEvent;
 import javafx.scene.paint.Color;
-import javafx.scene.paint.CycleMethod;
-import javafx.scene.paint.LinearGradient;
-import javafx.scene.paint.Stop;
 import javafx.scene.shape.Shape;
 import org.locationtech.jts.geom.Coordinate;
 import org.locationtech.jts.geom.Point;
@@ -51,10 +44,13 @@ public abstract class GridGraphicImpl<T extends Shape> implements GridGraphic {
       new SimpleObjectProperty<>();
   protected final GridPaintLayer gridPaintLayer;
 
-  protected final Set<SystemParticipantInput> systemParticipants;
+  protected Set<SystemParticipantInput> systemParticipants;
 
   protected final T shape;
 
+  private NodeInput draggableNode;
+  private String tooltipText;
+
   public GridGraphicImpl(
       GridPaintLayer gridPaintLayer,
       T shape,
@@ -66,14 +62,16 @@ public abstract class GridGraphicImpl<T extends Shape> implements GridGraphic {
     this.systemParticipants = systemParticipants;
     this.shape = shape;
     this.gridPaintLayer = gridPaintLayer;
+    this.draggableNode = draggableNode;
+    this.tooltipText = tooltipTxt;
 
     nodeGeoPositionUpdateEventListener.forEach(nodeGeoPositionUpdateEvent::addListener);
 
-    draggableNode(draggableNode);
+    draggableNode();
 
     setShapeColor(gridPaintLayer.getLayerColor(), systemParticipants, draggableNode);
 
-    installTooltip(shape, tooltipTxt);
+    installTooltip();
   }
 
   public GridGraphicImpl(
@@ -85,10 +83,31 @@ public abstract class GridGraphicImpl<T extends Shape> implements GridGraphic {
     this.systemParticipants = Collections.emptySet();
     this.shape = shape;
     this.gridPaintLayer = gridPaintLayer;
+    this.draggableNode = null;
+    this.tooltipText = tooltipTxt;
 
     nodeGeoPositionUpdateEventListener.forEach(nodeGeoPositionUpdateEvent::addListener);
 
-    installTooltip(shape, tooltipTxt);
+    installTooltip();
+  }
+
+  /**
+   * Replaces the data of the graphic and adapts the colours of its shape accordingly. The position
+   * of the shape is updated during the next layout pass of the layer, the tooltip on next hover.
+   *
+   * @param draggableNode the node, that is moved when dragging the graphic, if the graphic is
+   *     draggable
+   * @param systemParticipants system participants represented by the graphic
+   * @param tooltipText text of the tooltip
+   */
+  protected void updateData(
+      NodeInput draggableNode, Set<SystemParticipantInput> systemParticipants, String tooltipText) {
+    this.draggableNode = draggableNode;
+    this.systemParticipants = systemParticipants;
+    this.tooltipText = tooltipText;
+
+    if (draggableNode != null)
+      setShapeColor(gridPaintLayer.getLayerColor(), systemParticipants, draggableNode);
   }
 
   @Override
@@ -101,72 +120,47 @@ public abstract class GridGraphicImpl<T extends Shape> implements GridGraphic {
     return this.systemParticipants;
   }
 
+  @Override
+  public String getTooltipText() {
+    return tooltipText;
+  }
+
+  @Override
+  public Optional<NodeInput> getDraggableNode() {
+    return Optional.ofNullable(draggableNode);
+  }
+
+  @Override
+  public void dropDraggableNode(MapPoint target) {
+    if (draggableNode != null)
+      notifyNodeGeoPosListener(
+          gridPaintLayer.getSubGridUuid(), draggableNode, updateNodeGeoPos(target));
+  }
+
+  @Override
+  public void showContextMenu(Node anchor, double screenX, double screenY) {
+    // no context menu by default
+  }
+
   protected void notifyNodeGeoPosListener(
       UUID subGridUuid, NodeInput oldNodeInput, Point updatedGeoPosition) {
     nodeGeoPositionUpdateEvent.set(
         new NodeGeoPositionUpdateEvent(subGridUuid, oldNodeInput, updatedGeoPosition));
   }
 
-  private void installTooltip(Shape shape, String txt) {
-    Tooltip.install(shape, new Tooltip(txt));
+  /** The tooltip is installed on first hover, as most graphics are never hovered at all */
+  private void installTooltip() {
+    shape.addEventHandler(
+        MouseEvent.MOUSE_ENTERED, event -> TooltipPool.install(shape, tooltipText));
   }
 
   private void setShapeColor(
       Color layerColor, Set<SystemParticipantInput> systemParticipants, NodeInput nodeToBeUpdated) {
-
-    Map<? extends Class<? extends UniqueEntity>, List<MapGridElementAttribute>> gridEntityColor =
-        Arrays.stream(MapGridElementAttribute.values())
-            .collect(groupingBy(MapGridElementAttribute::getClz, toList()));
-
-    Set<Stop> stops = new LinkedHashSet<>();
-    Set<Color> assetColors =
-        systemParticipants.stream()
-            .map(
-                sysPart ->
-                    Optional.ofNullable(gridEntityColor.get(sysPart.getClass()))
-                        .orElseThrow(
-                            () ->
-                                new RuntimeException(
-                                    "No map grid attributes defined for element of class '"
-                                        + sysPart.getClass().getSimpleName()
-                                        + "'."))
-                        .get(0)
-                        .getColor())
-            .collect(Collectors.toSet());
-
-    int counter = 0;
-    Iterator<Color> it = assetColors.iterator();
-    while (it.hasNext()) {
-      Color c = it.next();
-      Stop s1 = new Stop((1d / assetColors.size() * counter), c);
-      Stop s2 = new Stop((1d / assetColors.size() * (counter + 1)), c);
-      stops.add(s1);
-      stops.add(s2);
-      counter++;
-    }
-
-    LinearGradient shapeFill =
-        new LinearGradient(
-            0,
-            0,
-            1,
-            0,
-            true,
-            CycleMethod.NO_CYCLE,
-            stops.isEmpty()
-                ? Collections.singletonList(new Stop(0, layerColor))
-                : new ArrayList<>(stops));
-
-    shape.setFill(shapeFill);
-
-    //    slack node also gets a stroke
-    if (nodeToBeUpdated.isSlack()) {
-      shape.setStrokeWidth(SLACK_STROKE_WIDTH);
-      shape.setStroke(SLACK_COLOR);
-    }
+    // slack node also gets a stroke
+    GridGraphicPaint.of(layerColor, systemParticipants, nodeToBeUpdated.isSlack()).applyTo(shape);
   }
 
-  private void draggableNode(NodeInput nodeToBeUpdated) {
+  private void draggableNode() {
 
     AtomicReference<Double> orgSceneX = new AtomicReference<>(0d);
     AtomicReference<Double> orgSceneY = new AtomicReference<>(0d);
@@ -217,13 +211,13 @@ public abstract class GridGraphicImpl<T extends Shape> implements GridGraphic {
 
             // we don't want this node to stay on the new place, but wait for the grid update event
             // --> reset to starting position
-            setNodeToBeUpdatedCoords(nodeToBeUpdated);
+            setNodeToBeUpdatedCoords(draggableNode);
 
             // reset opacity after dragging
             shape.setOpacity(1.0);
 
             notifyNodeGeoPosListener(
-                gridPaintLayer.getSubGridUuid(), nodeToBeUpdated, updateNodeGeoPos(updatedPoint));
+                gridPaintLayer.getSubGridUuid(), draggableNode, updateNodeGeoPos(updatedPoint));
             mouseReleasedEvent.consume();
           }
         });
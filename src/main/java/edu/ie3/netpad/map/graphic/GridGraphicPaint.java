@@ -0,0 +1,136 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+*/
+package edu.ie3.netpad.map.graphic;
+
+import edu.ie3.datamodel.models.input.system.SystemParticipantInput;
+import edu.ie3.netpad.map.MapGridElementAttribute;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import javafx.scene.paint.Color;
+import javafx.scene.paint.CycleMethod;
+import javafx.scene.paint.LinearGradient;
+import javafx.scene.paint.Paint;
+import javafx.scene.paint.Stop;
+import javafx.scene.shape.Shape;
+
+/**
+ * Fill and stroke of a node or transformer graphic. The fill shows one stripe per kind of system
+ * participant or the layer colour, if there are no participants. Instances are immutable and
+ * shared between all graphics with the same layer colour, kinds of participants and slack flag.
+ */
+public final class GridGraphicPaint {
+
+  // the number of entries is bounded by the number of current layers and combinations of
+  // participants, as the layer colours are chosen anew whenever the layers are rebuilt and the
+  // cache is cleared then
+  private static final Map<Key, GridGraphicPaint> CACHE = new ConcurrentHashMap<>();
+
+  private final Paint fill;
+  private final Paint stroke;
+
+  private GridGraphicPaint(Paint fill, Paint stroke) {
+    this.fill = fill;
+    this.stroke = stroke;
+  }
+
+  /**
+   * @param layerColor colour of the layer, the graphic is painted on
+   * @param systemParticipants participants represented by the graphic
+   * @param slack whether the graphic represents a slack node
+   * @return the shared paint for the given properties
+   */
+  static GridGraphicPaint of(
+      Color layerColor, Set<SystemParticipantInput> systemParticipants, boolean slack) {
+    EnumSet<MapGridElementAttribute> attributes = EnumSet.noneOf(MapGridElementAttribute.class);
+    for (SystemParticipantInput systemParticipant : systemParticipants) {
+      attributes.add(
+          MapGridElementAttribute.of(systemParticipant.getClass())
+              .orElseThrow(
+                  () ->
+                      new RuntimeException(
+                          "No map grid attributes defined for element of class '"
+                              + systemParticipant.getClass().getSimpleName()
+                              + "'.")));
+    }
+    return CACHE.computeIfAbsent(new Key(layerColor, attributes, slack), GridGraphicPaint::create);
+  }
+
+  /**
+   * Drops all shared paints. Has to be called, when the layers are rebuilt, as the paints of the
+   * previous layer colours are not used anymore.
+   */
+  public static void clearCache() {
+    CACHE.clear();
+  }
+
+  /** @return the number of shared paints */
+  static int cacheSize() {
+    return CACHE.size();
+  }
+
+  private static GridGraphicPaint create(Key key) {
+    Paint fill = key.layerColor;
+    if (!key.attributes.isEmpty()) {
+      // two stops per participant colour result in sharp stripes of equal width
+      List<Stop> stops = new ArrayList<>(2 * key.attributes.size());
+      double stripeWidth = 1d / key.attributes.size();
+      int stripe = 0;
+      for (MapGridElementAttribute attribute : key.attributes) {
+        stops.add(new Stop(stripeWidth * stripe, attribute.getColor()));
+        stops.add(new Stop(stripeWidth * (stripe + 1), attribute.getColor()));
+        stripe++;
+      }
+      fill = new LinearGradient(0, 0, 1, 0, true, CycleMethod.NO_CYCLE, stops);
+    }
+    return new GridGraphicPaint(fill, key.slack ? GridGraphicImpl.SLACK_COLOR : null);
+  }
+
+  /**
+   * Applies the fill and, for slack nodes, the stroke to the given shape
+   *
+   * @param shape shape of the graphic
+   */
+  void applyTo(Shape shape) {
+    shape.setFill(fill);
+    shape.setStroke(stroke);
+    if (stroke != null) shape.setStrokeWidth(GridGraphicImpl.SLACK_STROKE_WIDTH);
+  }
+
+  Paint getFill() {
+    return fill;
+  }
+
+  Paint getStroke() {
+    return stroke;
+  }
+
+  private static final class Key {
+    private final Color layerColor;
+    private final EnumSet<MapGridElementAttribute> attributes;
+    private final boolean slack;
+
+    private Key(Color layerColor, EnumSet<MapGridElementAttribute> attributes, boolean slack) {
+      this.layerColor = layerColor;
+      this.attributes = attributes;
+      this.slack = slack;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+      if (this == o) return true;
+      if (o == null || getClass() != o.getClass()) return false;
+      Key key = (Key) o;
+      return slack == key.slack
+          && layerColor.equals(key.layerColor)
+          && attributes.equals(key.attributes);
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(layerColor, attributes, slack);
+    }
+  }
+}
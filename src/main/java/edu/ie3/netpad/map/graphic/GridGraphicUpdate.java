@@ -19,4 +19,16 @@ public interface GridGraphicUpdate {
 
   GridGraphic updateGraphicEntity(
       GridGraphic oldGridGraphicEntity, List<ChangeListener<NodeGeoPositionUpdateEvent>> listener);
+
+  /**
+   * Applies the update to the given graphic itself, which avoids creating a new shape and
+   * replacing it in the scene graph
+   *
+   * @param gridGraphic the graphic, that is currently painted for the updated entity
+   * @return true, if the graphic has been updated, false if it has to be replaced by the result of
+   *     {@link #updateGraphicEntity(GridGraphic, List)}
+   */
+  default boolean updateGraphicEntityInPlace(GridGraphic gridGraphic) {
+    return false;
+  }
 }
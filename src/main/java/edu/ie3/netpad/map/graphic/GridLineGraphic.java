@@ -7,12 +7,14 @@ package edu.ie3.netpad.map.graphic;
 
 import edu.ie3.datamodel.models.input.connector.LineInput;
 import edu.ie3.netpad.map.GridPaintLayer;
+import edu.ie3.netpad.map.GridRenderMode;
+import edu.ie3.netpad.map.WebMercatorProjection;
 import edu.ie3.netpad.map.event.NodeGeoPositionUpdateEvent;
-import java.util.Arrays;
 import java.util.List;
 import javafx.beans.value.ChangeListener;
-import javafx.geometry.Point2D;
+import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.shape.Polyline;
+import org.locationtech.jts.geom.Envelope;
 
 /**
  * //ToDo: Class Description
@@ -25,8 +27,13 @@ public class GridLineGraphic extends GridGraphicImpl<Polyline> {
   // graphic properties
   private static final double LINE_STROKE_WIDTH = 2.0;
   private static final double HIGHLIGHTED_LINE_STROKE_WIDTH = 2.0;
+  private static final double HIT_TOLERANCE = 3.0;
 
-  private final LineInput lineInput;
+  private LineInput lineInput;
+
+  // current position of the points within the layer
+  private double[] xPoints = new double[0];
+  private double[] yPoints = new double[0];
 
   public GridLineGraphic(
       LineInput lineInput,
@@ -59,14 +66,48 @@ public class GridLineGraphic extends GridGraphicImpl<Polyline> {
     shape.setOnMouseExited(event -> shape.setStrokeWidth(LINE_STROKE_WIDTH));
   }
 
+  /**
+   * Transforms the projected coordinates of the line into coordinates of the layer. The points of
+   * the polyline are only set, if the shape is rendered, as boxing them is costly.
+   */
   private void setLinePoints(GridPaintLayer gridPaintLayer, LineInput lineInput) {
-    Arrays.stream(lineInput.getGeoPosition().getCoordinates())
-        .forEach(
-            coordinate -> {
-              Point2D mapPoint = gridPaintLayer.getGridLayerPoint(coordinate.y, coordinate.x);
-              shape.getPoints().add(mapPoint.getX());
-              shape.getPoints().add(mapPoint.getY());
-            });
+    double[] projectedCoordinates = gridPaintLayer.getProjectedLineCoordinates(lineInput);
+    WebMercatorProjection projection = gridPaintLayer.getProjection();
+
+    int pointCount = projectedCoordinates.length / 2;
+    if (xPoints.length != pointCount) {
+      xPoints = new double[pointCount];
+      yPoints = new double[pointCount];
+    }
+    for (int i = 0; i < pointCount; i++) {
+      xPoints[i] = projection.toLayerX(projectedCoordinates[2 * i]);
+      yPoints[i] = projection.toLayerY(projectedCoordinates[2 * i + 1]);
+    }
+
+    if (gridPaintLayer.getRenderMode() == GridRenderMode.SHAPES) {
+      Double[] points = new Double[2 * pointCount];
+      for (int i = 0; i < pointCount; i++) {
+        points[2 * i] = xPoints[i];
+        points[2 * i + 1] = yPoints[i];
+      }
+      // one single change of the points instead of one per coordinate
+      shape.getPoints().setAll(points);
+    }
+  }
+
+  /**
+   * Updates the graphic in place instead of replacing it by a new one. The points of the line are
+   * updated during the next layout pass of the layer.
+   *
+   * @param lineInput the updated line
+   */
+  public void updateEntity(LineInput lineInput) {
+    this.lineInput = lineInput;
+    updateData(null, systemParticipants, lineInput.getId());
+  }
+
+  public LineInput getLineInput() {
+    return lineInput;
   }
 
   @Override
@@ -75,10 +116,42 @@ public class GridLineGraphic extends GridGraphicImpl<Polyline> {
   }
 
   @Override
-  public void update(GridPaintLayer gridPaintLayer) {
-    // clear points
-    shape.getPoints().clear();
+  public Envelope getGeoEnvelope() {
+    return new Envelope(lineInput.getGeoPosition().getEnvelopeInternal());
+  }
+
+  @Override
+  public void paint(GraphicsContext graphicsContext) {
+    graphicsContext.setStroke(shape.getStroke());
+    graphicsContext.setLineWidth(shape.getStrokeWidth());
+    graphicsContext.strokePolyline(xPoints, yPoints, xPoints.length);
+  }
+
+  @Override
+  public boolean hits(double x, double y) {
+    double maxDistance = shape.getStrokeWidth() / 2 + HIT_TOLERANCE;
+    for (int i = 1; i < xPoints.length; i++) {
+      if (distanceToSegment(x, y, xPoints[i - 1], yPoints[i - 1], xPoints[i], yPoints[i])
+          <= maxDistance) return true;
+    }
+    return false;
+  }
 
+  private static double distanceToSegment(
+      double x, double y, double startX, double startY, double endX, double endY) {
+    double deltaX = endX - startX;
+    double deltaY = endY - startY;
+    double squaredLength = deltaX * deltaX + deltaY * deltaY;
+    double projection =
+        squaredLength == 0
+            ? 0
+            : Math.max(
+                0, Math.min(1, ((x - startX) * deltaX + (y - startY) * deltaY) / squaredLength));
+    return Math.hypot(x - startX - projection * deltaX, y - startY - projection * deltaY);
+  }
+
+  @Override
+  public void update(GridPaintLayer gridPaintLayer) {
     // update relative map position
     this.setLinePoints(gridPaintLayer, this.lineInput);
 
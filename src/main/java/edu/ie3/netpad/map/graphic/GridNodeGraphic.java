@@ -13,9 +13,12 @@ import edu.ie3.netpad.map.event.NodeGeoPositionUpdateEvent;
 import java.util.*;
 import javafx.beans.value.ChangeListener;
 import javafx.scene.Cursor;
+import javafx.scene.Node;
+import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.input.MouseButton;
 import javafx.scene.input.MouseEvent;
 import javafx.scene.shape.Circle;
+import org.locationtech.jts.geom.Envelope;
 
 /**
  * //ToDo: Class Description
@@ -29,7 +32,7 @@ public class GridNodeGraphic extends GridGraphicImpl<Circle> {
   private static final double NODE_RADIUS = 6.0;
   private static final double HIGHLIGHTED_NODE_RADIUS = 7.5;
 
-  private final NodeInput nodeInput;
+  private NodeInput nodeInput;
 
   public GridNodeGraphic(
       NodeInput nodeInput,
@@ -95,6 +98,19 @@ public class GridNodeGraphic extends GridGraphicImpl<Circle> {
     }
   }
 
+  /**
+   * Updates the graphic in place instead of replacing it by a new one. The shape is moved to the
+   * new position of the node during the next layout pass of the layer.
+   *
+   * @param nodeInput the updated node
+   * @param systemParticipants system participants connected to the node
+   */
+  public void updateEntity(NodeInput nodeInput, Set<SystemParticipantInput> systemParticipants) {
+    this.nodeInput = nodeInput;
+    updateData(nodeInput, systemParticipants, nodeInput.getId());
+    setNodeRadius();
+  }
+
   public NodeInput getNodeInput() {
     return nodeInput;
   }
@@ -104,6 +120,44 @@ public class GridNodeGraphic extends GridGraphicImpl<Circle> {
     return this.shape;
   }
 
+  @Override
+  public Envelope getGeoEnvelope() {
+    return new Envelope(nodeInput.getGeoPosition().getCoordinate());
+  }
+
+  @Override
+  public void paint(GraphicsContext graphicsContext) {
+    double radius = shape.getRadius();
+    double x = shape.getTranslateX() - radius;
+    double y = shape.getTranslateY() - radius;
+
+    graphicsContext.setFill(shape.getFill());
+    graphicsContext.fillOval(x, y, 2 * radius, 2 * radius);
+    if (shape.getStroke() != null) {
+      graphicsContext.setStroke(shape.getStroke());
+      graphicsContext.setLineWidth(shape.getStrokeWidth());
+      graphicsContext.strokeOval(x, y, 2 * radius, 2 * radius);
+    }
+  }
+
+  @Override
+  public boolean hits(double x, double y) {
+    return Math.hypot(x - shape.getTranslateX(), y - shape.getTranslateY())
+        <= HIGHLIGHTED_NODE_RADIUS;
+  }
+
+  @Override
+  public void showContextMenu(Node anchor, double screenX, double screenY) {
+    EditGridContextController.getInstance()
+        .showNodeContextMenu(
+            anchor,
+            screenX,
+            screenY,
+            nodeInput,
+            systemParticipants,
+            gridPaintLayer.getSubGridUuid());
+  }
+
   @Override
   public void update(GridPaintLayer gridPaintLayer) {
 
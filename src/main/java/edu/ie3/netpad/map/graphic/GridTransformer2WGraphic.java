@@ -16,9 +16,12 @@ import java.util.Set;
 import javafx.beans.value.ChangeListener;
 import javafx.geometry.Point2D;
 import javafx.scene.Cursor;
+import javafx.scene.Node;
+import javafx.scene.canvas.GraphicsContext;
 import javafx.scene.input.MouseButton;
 import javafx.scene.input.MouseEvent;
 import javafx.scene.shape.Rectangle;
+import org.locationtech.jts.geom.Envelope;
 
 /**
  * //ToDo: Class Description
@@ -32,7 +35,7 @@ public class GridTransformer2WGraphic extends GridGraphicImpl<Rectangle> {
   private static final double TRAFO_RECT_WIDTH = 12.0;
   private static final double TRAFO_RECT_HEIGHT = 12.0;
 
-  private final Transformer2WInput transformer2WInput;
+  private Transformer2WInput transformer2WInput;
 
   public GridTransformer2WGraphic(
       Transformer2WInput transformer2WInput,
@@ -90,6 +93,19 @@ public class GridTransformer2WGraphic extends GridGraphicImpl<Rectangle> {
     shape.setTranslateY(mapPoint.getY() - TRAFO_RECT_WIDTH / 2);
   }
 
+  /**
+   * Updates the graphic in place instead of replacing it by a new one. The shape is moved to the
+   * new position of the transformer during the next layout pass of the layer.
+   *
+   * @param transformer2WInput the updated transformer
+   * @param systemParticipants system participants connected to the transformer
+   */
+  public void updateEntity(
+      Transformer2WInput transformer2WInput, Set<SystemParticipantInput> systemParticipants) {
+    this.transformer2WInput = transformer2WInput;
+    updateData(transformer2WInput.getNodeA(), systemParticipants, transformer2WInput.getId());
+  }
+
   public Transformer2WInput getTransformer2WInput() {
     return transformer2WInput;
   }
@@ -99,6 +115,50 @@ public class GridTransformer2WGraphic extends GridGraphicImpl<Rectangle> {
     return this.shape;
   }
 
+  @Override
+  public Envelope getGeoEnvelope() {
+    return new Envelope(transformer2WInput.getNodeA().getGeoPosition().getCoordinate());
+  }
+
+  @Override
+  public void paint(GraphicsContext graphicsContext) {
+    graphicsContext.save();
+    graphicsContext.translate(
+        shape.getTranslateX() + TRAFO_RECT_WIDTH / 2,
+        shape.getTranslateY() + TRAFO_RECT_HEIGHT / 2);
+    graphicsContext.rotate(shape.getRotate());
+    graphicsContext.setFill(shape.getFill());
+    graphicsContext.fillRect(
+        -TRAFO_RECT_WIDTH / 2, -TRAFO_RECT_HEIGHT / 2, TRAFO_RECT_WIDTH, TRAFO_RECT_HEIGHT);
+    if (shape.getStroke() != null) {
+      graphicsContext.setStroke(shape.getStroke());
+      graphicsContext.setLineWidth(shape.getStrokeWidth());
+      graphicsContext.strokeRect(
+          -TRAFO_RECT_WIDTH / 2, -TRAFO_RECT_HEIGHT / 2, TRAFO_RECT_WIDTH, TRAFO_RECT_HEIGHT);
+    }
+    graphicsContext.restore();
+  }
+
+  @Override
+  public boolean hits(double x, double y) {
+    // the rectangle is rotated by 45 degrees, hence it is a diamond around its center
+    double deltaX = Math.abs(x - shape.getTranslateX() - TRAFO_RECT_WIDTH / 2);
+    double deltaY = Math.abs(y - shape.getTranslateY() - TRAFO_RECT_HEIGHT / 2);
+    return deltaX + deltaY <= TRAFO_RECT_WIDTH / Math.sqrt(2);
+  }
+
+  @Override
+  public void showContextMenu(Node anchor, double screenX, double screenY) {
+    EditGridContextController.getInstance()
+        .showTransformerContextMenu(
+            anchor,
+            screenX,
+            screenY,
+            transformer2WInput,
+            systemParticipants,
+            gridPaintLayer.getSubGridUuid());
+  }
+
   @Override
   public void update(GridPaintLayer gridPaintLayer) {
 
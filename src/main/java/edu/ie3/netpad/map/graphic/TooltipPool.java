@@ -0,0 +1,68 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+*/
+package edu.ie3.netpad.map.graphic;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import javafx.scene.control.Tooltip;
+import javafx.scene.shape.Shape;
+
+/**
+ * Tooltips of the recently hovered grid graphics. Tooltips are only installed, once a shape is
+ * hovered, and the tooltip of the least recently hovered shape is moved to the next one, hence
+ * only a few tooltips exist at any time. Must only be used on the JavaFX application thread.
+ */
+public final class TooltipPool {
+
+  private static final int CAPACITY = 16;
+
+  // installed tooltips in the order their shapes have been hovered
+  private static final Map<Shape, Tooltip> INSTALLED_TOOLTIPS =
+      new LinkedHashMap<>(CAPACITY, 0.75f, true);
+
+  private TooltipPool() {
+    throw new IllegalStateException("Utility class");
+  }
+
+  /**
+   * Makes sure, that a tooltip with the given text is installed on the shape
+   *
+   * @param shape the hovered shape
+   * @param text text of the tooltip
+   */
+  static void install(Shape shape, String text) {
+    Tooltip tooltip = INSTALLED_TOOLTIPS.get(shape);
+    if (tooltip == null) {
+      tooltip = INSTALLED_TOOLTIPS.size() < CAPACITY ? new Tooltip() : takeLeastRecentlyUsed();
+      Tooltip.install(shape, tooltip);
+      INSTALLED_TOOLTIPS.put(shape, tooltip);
+    }
+    if (!text.equals(tooltip.getText())) tooltip.setText(text);
+  }
+
+  /**
+   * Uninstalls all tooltips. Has to be called, when the layers are rebuilt, as the pool would keep
+   * the shapes of the previous layers and thereby the layers themselves alive otherwise.
+   */
+  public static void clear() {
+    INSTALLED_TOOLTIPS.forEach(Tooltip::uninstall);
+    INSTALLED_TOOLTIPS.clear();
+  }
+
+  /** @return the number of installed tooltips */
+  static int size() {
+    return INSTALLED_TOOLTIPS.size();
+  }
+
+  private static Tooltip takeLeastRecentlyUsed() {
+    Iterator<Map.Entry<Shape, Tooltip>> iterator = INSTALLED_TOOLTIPS.entrySet().iterator();
+    Map.Entry<Shape, Tooltip> leastRecentlyUsed = iterator.next();
+    iterator.remove();
+    Tooltip.uninstall(leastRecentlyUsed.getKey(), leastRecentlyUsed.getValue());
+    return leastRecentlyUsed.getValue();
+  }
+}
@@ -8,15 +8,20 @@ package edu.ie3.netpad.menu;
 import static edu.ie3.netpad.io.controller.IoDialogs.CsvIoData.SourceType.ARCHIVE;
 
 import edu.ie3.netpad.exception.NetPadPlusPlusException;
+import edu.ie3.netpad.io.controller.GridLoadingTask;
+import edu.ie3.netpad.io.controller.GridSavingTask;
 import edu.ie3.netpad.io.controller.IoController;
 import edu.ie3.netpad.io.controller.IoDialogs;
 import java.io.File;
 import java.util.Optional;
+import javafx.concurrent.Task;
+import javafx.concurrent.WorkerStateEvent;
 import javafx.fxml.FXML;
 import javafx.scene.Scene;
 import javafx.scene.control.*;
 import javafx.stage.DirectoryChooser;
 import javafx.stage.FileChooser;
+import javafx.stage.Modality;
 
 /**
  * //ToDo: Class Description
@@ -30,9 +35,11 @@ public class FileMenuController {
   @FXML private MenuItem createEmptyGridInputModelItem;
   @FXML private MenuItem createSampleGridInputModelItem;
   @FXML private MenuItem fromCsvItem;
+  @FXML private MenuItem fromSnapshotItem;
   @FXML private MenuItem loadEfRuhrGridModelItem;
   @FXML private Menu saveGrid;
   @FXML private MenuItem saveGridCsvItem;
+  @FXML private MenuItem saveGridSnapshotItem;
   @FXML private MenuItem saveEfRuhrGridModelItem;
   @FXML private MenuItem exitItem;
 
@@ -56,26 +63,26 @@ public class FileMenuController {
                 .showAndWait()
                 .flatMap(
                     csvIoData -> {
-                      Optional<Boolean> maybeSuccess;
+                      Optional<GridLoadingTask> maybeLoadingTask;
                       switch (csvIoData.getShape()) {
                         case ARCHIVE:
-                          maybeSuccess =
+                          maybeLoadingTask =
                               getPathFromFileChooser(menuBar.getScene())
                                   .map(
                                       absoluteDirectoryPath ->
                                           IoController.getInstance()
-                                              .loadGridFromArchive(
+                                              .loadGridFromArchiveAsync(
                                                   absoluteDirectoryPath,
                                                   csvIoData.getCsvSeparator(),
                                                   csvIoData.getHierarchy()));
                           break;
                         case DIRECTORY:
-                          maybeSuccess =
+                          maybeLoadingTask =
                               getPathFromDirChooser(menuBar.getScene())
                                   .map(
                                       absoluteDirectoryPath ->
                                           IoController.getInstance()
-                                              .loadGridFromDirectory(
+                                              .loadGridFromDirectoryAsync(
                                                   absoluteDirectoryPath,
                                                   csvIoData.getCsvSeparator(),
                                                   csvIoData.getHierarchy()));
@@ -84,20 +91,16 @@ public class FileMenuController {
                           throw new NetPadPlusPlusException(
                               "Unable to handle csv shape '" + csvIoData.getShape() + "'");
                       }
-                      return maybeSuccess;
+                      return maybeLoadingTask;
                     })
-                .ifPresent(
-                    success -> {
-                      if (Boolean.TRUE.equals(success)) activateSaveButton();
-                      else {
-                        Alert alert =
-                            new Alert(
-                                Alert.AlertType.ERROR,
-                                "Unable to read grid. Check your import settings.",
-                                ButtonType.OK);
-                        alert.show();
-                      }
-                    }));
+                .ifPresent(this::showLoadingProgress));
+    fromSnapshotItem.setOnAction(
+        event ->
+            Optional.ofNullable(
+                    snapshotFileChooser("Load GridInputModel from snapshot")
+                        .showOpenDialog(menuBar.getScene().getWindow()))
+                .map(snapshotFile -> IoController.getInstance().loadGridSnapshotAsync(snapshotFile))
+                .ifPresent(this::showLoadingProgress));
     createSampleGridInputModelItem.setOnAction(
         event ->
             IoController.getInstance()
@@ -112,19 +115,64 @@ public class FileMenuController {
                         getPathFromDirChooser(menuBar.getScene())
                             .ifPresent(
                                 absoluteDirectoryPath ->
-                                    IoController.getInstance()
-                                        .saveGrid(
-                                            absoluteDirectoryPath,
-                                            csvIoData.getCsvSeparator(),
-                                            csvIoData.getHierarchy(),
-                                            csvIoData.getShape() == ARCHIVE))));
+                                    showSavingProgress(
+                                        IoController.getInstance()
+                                            .saveGridAsync(
+                                                absoluteDirectoryPath,
+                                                csvIoData.getCsvSeparator(),
+                                                csvIoData.getHierarchy(),
+                                                csvIoData.getShape() == ARCHIVE)))));
+
+    saveGridSnapshotItem.setOnAction(
+        event ->
+            Optional.ofNullable(
+                    snapshotFileChooser("Save GridInputModel to snapshot")
+                        .showSaveDialog(menuBar.getScene().getWindow()))
+                .ifPresent(
+                    snapshotFile ->
+                        showSavingProgress(
+                            IoController.getInstance().saveGridSnapshotAsync(snapshotFile))));
 
     exitItem.setOnAction(event -> System.exit(0));
   }
 
+  private void showLoadingProgress(Task<?> loadingTask) {
+    loadingTask.addEventHandler(
+        WorkerStateEvent.WORKER_STATE_SUCCEEDED, succeeded -> activateSaveButton());
+    loadingTask.addEventHandler(
+        WorkerStateEvent.WORKER_STATE_FAILED,
+        failed -> {
+          Alert alert =
+              new Alert(
+                  Alert.AlertType.ERROR,
+                  "Unable to read grid. Check your import settings.",
+                  ButtonType.OK);
+          alert.show();
+        });
+    IoDialogs.progressDialog("Loading grid", loadingTask).show();
+  }
+
+  private void showSavingProgress(GridSavingTask savingTask) {
+    savingTask.addEventHandler(
+        WorkerStateEvent.WORKER_STATE_FAILED,
+        failed -> {
+          Alert alert =
+              new Alert(
+                  Alert.AlertType.ERROR,
+                  "Unable to save grid: " + savingTask.getException().getMessage(),
+                  ButtonType.OK);
+          alert.show();
+        });
+    // not modal, as the grid may be edited further while it is saved
+    Dialog<Void> progressDialog = IoDialogs.progressDialog("Saving grid", savingTask);
+    progressDialog.initModality(Modality.NONE);
+    progressDialog.show();
+  }
+
   private void activateSaveButton() {
     saveGrid.setDisable(false);
     saveGridCsvItem.setDisable(false);
+    saveGridSnapshotItem.setDisable(false);
   }
 
   private Optional<File> getPathFromDirChooser(Scene scene) {
@@ -134,6 +182,18 @@ public class FileMenuController {
     return Optional.ofNullable(directoryChooser.showDialog(scene.getWindow()));
   }
 
+  private FileChooser snapshotFileChooser(String title) {
+    FileChooser fileChooser = new FileChooser();
+    fileChooser
+        .getExtensionFilters()
+        .add(
+            new FileChooser.ExtensionFilter(
+                "Grid snapshots (*." + IoController.SNAPSHOT_FILE_EXTENSION + ")",
+                "*." + IoController.SNAPSHOT_FILE_EXTENSION));
+    fileChooser.setTitle(title);
+    return fileChooser;
+  }
+
   private Optional<File> getPathFromFileChooser(Scene scene) {
     FileChooser fileChooser = new FileChooser();
     FileChooser.ExtensionFilter extensionFilter =
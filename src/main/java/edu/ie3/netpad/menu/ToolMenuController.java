@@ -10,9 +10,9 @@ import edu.ie3.netpad.grid.event.GridEventListener;
 import edu.ie3.netpad.grid.event.ReplaceGridEvent;
 import edu.ie3.netpad.tool.controller.ToolController;
 import edu.ie3.netpad.tool.controller.ToolDialogs;
-import edu.ie3.netpad.util.ListenerUtil;
-import javafx.beans.value.ChangeListener;
+import edu.ie3.netpad.tool.layout.LayoutAlgorithm;
 import javafx.fxml.FXML;
+import javafx.scene.control.Menu;
 import javafx.scene.control.MenuItem;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -27,15 +27,21 @@ public class ToolMenuController implements GridEventListener {
 
   private static final Logger log = LoggerFactory.getLogger(ToolMenuController.class);
 
-  private final ChangeListener<GridEvent> gridEventListener =
-      ListenerUtil.createGridEventListener(this);
-
+  @FXML public Menu layoutGridMenu;
   @FXML public MenuItem layoutGridItem;
+  @FXML private MenuItem forceDirectedLayoutGridItem;
+  @FXML private MenuItem subGridLayoutGridItem;
   @FXML private MenuItem fixLineLengthItem;
 
   @FXML
   public void initialize() {
-    layoutGridItem.setOnAction(event -> ToolController.getInstance().layoutGrid());
+    layoutGridItem.setOnAction(
+        event -> ToolController.getInstance().layoutGrid(LayoutAlgorithm.HIERARCHICAL));
+    forceDirectedLayoutGridItem.setOnAction(
+        event -> ToolController.getInstance().layoutGrid(LayoutAlgorithm.FORCE_DIRECTED));
+    subGridLayoutGridItem.setOnAction(
+        event ->
+            ToolController.getInstance().layoutGrid(LayoutAlgorithm.FORCE_DIRECTED_PER_SUB_GRID));
     fixLineLengthItem.setOnAction(
         event ->
             ToolDialogs.fixLineLengthDialog()
@@ -43,11 +49,6 @@ public class ToolMenuController implements GridEventListener {
                 .ifPresent(data -> ToolController.getInstance().fixLineLength(data)));
   }
 
-  @Override
-  public ChangeListener<GridEvent> gridEventListener() {
-    return gridEventListener;
-  }
-
   @Override
   public void handleGridEvent(GridEvent gridEvent) {
     if (gridEvent instanceof ReplaceGridEvent) {
@@ -60,7 +61,6 @@ public class ToolMenuController implements GridEventListener {
   }
 
   private void handleReplaceGridEvent(ReplaceGridEvent gridEvent) {
-
-    //    layoutGridItem.setDisable(false);
+    layoutGridMenu.setDisable(false);
   }
 }
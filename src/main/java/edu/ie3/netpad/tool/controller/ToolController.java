@@ -6,16 +6,14 @@
 package edu.ie3.netpad.tool.controller;
 
 import edu.ie3.datamodel.models.input.container.JointGridContainer;
-import edu.ie3.netpad.exception.GridControllerListenerException;
+import edu.ie3.netpad.event.EventDispatcher;
+import edu.ie3.netpad.event.EventTopic;
 import edu.ie3.netpad.grid.controller.GridController;
 import edu.ie3.netpad.tool.event.FixLineLengthRequestEvent;
 import edu.ie3.netpad.tool.event.LayoutGridRequestEvent;
 import edu.ie3.netpad.tool.event.LayoutGridResponse;
 import edu.ie3.netpad.tool.event.ToolEvent;
-import edu.ie3.netpad.tool.layout.GridLayouter;
-import javafx.beans.property.ObjectProperty;
-import javafx.beans.property.SimpleObjectProperty;
-import javafx.beans.value.ChangeListener;
+import edu.ie3.netpad.tool.layout.LayoutAlgorithm;
 
 /**
  * //ToDo: Class Description
@@ -24,7 +22,9 @@ import javafx.beans.value.ChangeListener;
  * @since 04.06.20
  */
 public class ToolController {
-  private static final ObjectProperty<ToolEvent> toolEventProperty = new SimpleObjectProperty<>();
+
+  /** Topic of all events, that are issued by the tool controller */
+  public static final EventTopic<ToolEvent> TOOL_EVENTS = EventTopic.of("tool", ToolEvent.class);
 
   private static final class InstanceHolder {
     static final ToolController INSTANCE = new ToolController();
@@ -34,11 +34,14 @@ public class ToolController {
     return ToolController.InstanceHolder.INSTANCE;
   }
 
-  private boolean initialized;
-
   private ToolController() {}
 
-  public void layoutGrid() {
+  /**
+   * Ask the {@link GridController} for the current grid and lay it out
+   *
+   * @param layoutAlgorithm algorithm to lay out the grid with
+   */
+  public void layoutGrid(LayoutAlgorithm layoutAlgorithm) {
     // issue an event that we want to layout the grid
     // the listener provided is a one-shot instance which fires when the
     // gridController returns
@@ -47,8 +50,7 @@ public class ToolController {
             (observable, oldValue, jointGridContainer) -> {
 
               // layout the grid
-              GridLayouter l = new GridLayouter(jointGridContainer);
-              JointGridContainer layoutedGrid = l.execute();
+              JointGridContainer layoutedGrid = layoutAlgorithm.apply(jointGridContainer);
 
               // inform the grid controller about the change
 
@@ -67,16 +69,7 @@ public class ToolController {
         new FixLineLengthRequestEvent(data.getResolutionMode(), data.getAffectedSubnets()));
   }
 
-  public void registerGridControllerListener(ChangeListener<ToolEvent> listener) {
-    if (initialized)
-      throw new GridControllerListenerException(
-          "ToolController should contain only one listener from a GridController instance. "
-              + "There is already a listener registered. Cannot register a second listener!");
-    this.initialized = true;
-    toolEventProperty.addListener(listener);
-  }
-
   private void notifyListener(ToolEvent toolEvent) {
-    toolEventProperty.setValue(toolEvent);
+    EventDispatcher.getInstance().publish(TOOL_EVENTS, toolEvent);
   }
 }
@@ -42,22 +42,38 @@ public class LineLengthFixer {
       LineLengthResolutionMode resolutionMode,
       Set<Integer> selectedSubnets,
       Map<UUID, GridModel> allSubGrids) {
-    JointGridContainer updatedGrid;
+    /* Build a new event and inform the listeners about the "new" / adapted grid model */
+    return fixLineLength(
+            resolutionMode,
+            selectedSubnets,
+            allSubGrids.values().stream()
+                .map(GridModel::getSubGridContainer)
+                .collect(Collectors.toList()))
+        .map(ReadGridEvent::new);
+  }
 
+  /**
+   * Fix the line length discrepancy within the given sub grids, independent of any user interface
+   *
+   * @param resolutionMode Selected resolution mode
+   * @param selectedSubnets Subnets to apply adjustments to
+   * @param subGrids All sub grids of the grid
+   * @return An option to the adapted grid, empty if the resolution mode is not supported
+   */
+  public static Optional<JointGridContainer> fixLineLength(
+      LineLengthResolutionMode resolutionMode,
+      Set<Integer> selectedSubnets,
+      Collection<SubGridContainer> subGrids) {
     /* Act depending on the chosen resolution mode */
     switch (resolutionMode) {
       case GEOGRAPHICAL:
-        updatedGrid = setElectricalToGeographicalLineLength(allSubGrids, selectedSubnets);
-        break;
+        return Optional.of(setElectricalToGeographicalLineLength(subGrids, selectedSubnets));
       case ELECTRICAL:
       /* TODO CK: Figure out, what to do here */
       default:
         log.error("Unknown resolution mode '{}'", resolutionMode);
         return Optional.empty();
     }
-
-    /* Build a new event and inform the listeners about the "new" / adapted grid model */
-    return Optional.of(new ReadGridEvent(updatedGrid));
   }
 
   /**
@@ -69,11 +85,10 @@ public class LineLengthFixer {
    * @return A {@link JointGridContainer} with updated line models
    */
   private static JointGridContainer setElectricalToGeographicalLineLength(
-      Map<UUID, GridModel> subGrids, Set<Integer> selectedSubnets) {
+      Collection<SubGridContainer> subGrids, Set<Integer> selectedSubnets) {
     /* Adjust the electrical line length to be the same as the geographical distance */
     List<SubGridContainer> subGridContainers =
-        subGrids.values().parallelStream()
-            .map(GridModel::getSubGridContainer)
+        subGrids.parallelStream()
             .map(
                 subGridContainer -> {
                   if (!selectedSubnets.contains(subGridContainer.getSubnet())) {
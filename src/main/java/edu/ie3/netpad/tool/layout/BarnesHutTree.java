@@ -0,0 +1,217 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+*/
+package edu.ie3.netpad.tool.layout;
+
+import java.util.Arrays;
+
+/**
+ * Quadtree over primitive coordinate arrays, that approximates the repulsion between points by the
+ * Barnes–Hut method. Every cell holds the number of points within it and the sum of their
+ * coordinates, hence distant cells act as a single point at their centre of mass. The cells are
+ * stored in arrays, that are reused when the tree is rebuilt after the points have moved.
+ */
+final class BarnesHutTree {
+
+  /** Cells are not split any further below this depth, e.g. for coincident points */
+  private static final int MAX_DEPTH = 32;
+
+  private static final int NO_CHILDREN = -1;
+  private static final int NO_POINT = -1;
+
+  private final double[] xs;
+  private final double[] ys;
+
+  private double[] minX;
+  private double[] minY;
+  private double[] size;
+  private double[] sumX;
+  private double[] sumY;
+  private int[] count;
+  private int[] firstChild;
+  private int[] point;
+  private int cellCount;
+
+  /**
+   * @param xs x-coordinates of the points, read again on every {@link #build()}
+   * @param ys y-coordinates of the points, read again on every {@link #build()}
+   */
+  BarnesHutTree(double[] xs, double[] ys) {
+    this.xs = xs;
+    this.ys = ys;
+    allocate(Math.max(4, 2 * xs.length));
+  }
+
+  /** Builds the tree from the current coordinates of the points */
+  void build() {
+    double lowerX = Double.POSITIVE_INFINITY;
+    double lowerY = Double.POSITIVE_INFINITY;
+    double upperX = Double.NEGATIVE_INFINITY;
+    double upperY = Double.NEGATIVE_INFINITY;
+    for (int i = 0; i < xs.length; i++) {
+      lowerX = Math.min(lowerX, xs[i]);
+      lowerY = Math.min(lowerY, ys[i]);
+      upperX = Math.max(upperX, xs[i]);
+      upperY = Math.max(upperY, ys[i]);
+    }
+
+    cellCount = 0;
+    newCell(lowerX, lowerY, Math.max(upperX - lowerX, upperY - lowerY) * 1.0001 + 1e-9);
+    for (int i = 0; i < xs.length; i++) insert(i);
+  }
+
+  /** @return a stack, that is large enough to traverse the tree in {@link #repulsion} */
+  int[] newStack() {
+    return new int[3 * MAX_DEPTH + 4];
+  }
+
+  /**
+   * Calculates the repulsive force, that all other points exert on a point. The magnitude of the
+   * force between two points is the strength divided by their squared distance, hence the
+   * repulsion of distant parts of a large layout does not outweigh the springs between nodes.
+   *
+   * @param index index of the point
+   * @param strength strength of the repulsion
+   * @param theta cells, whose size divided by their distance is below this value, are approximated
+   * @param cutoff points farther away than this distance do not repel the point
+   * @param stack stack to traverse the tree, obtained from {@link #newStack()}
+   * @param forceX receives the x-component of the force at the point's index
+   * @param forceY receives the y-component of the force at the point's index
+   */
+  void repulsion(
+      int index,
+      double strength,
+      double theta,
+      double cutoff,
+      int[] stack,
+      double[] forceX,
+      double[] forceY) {
+    double x = xs[index];
+    double y = ys[index];
+    double fx = 0d;
+    double fy = 0d;
+    double thetaSquared = theta * theta;
+    double cutoffSquared = cutoff * cutoff;
+
+    int top = 0;
+    stack[top++] = 0;
+    while (top > 0) {
+      int cell = stack[--top];
+      if (count[cell] == 0 || point[cell] == index) continue;
+
+      // skip cells, that lie completely beyond the cutoff distance
+      double outsideX = Math.max(0d, Math.max(minX[cell] - x, x - minX[cell] - size[cell]));
+      double outsideY = Math.max(0d, Math.max(minY[cell] - y, y - minY[cell] - size[cell]));
+      if (outsideX * outsideX + outsideY * outsideY > cutoffSquared) continue;
+
+      double dx = x - sumX[cell] / count[cell];
+      double dy = y - sumY[cell] / count[cell];
+      double distanceSquared = dx * dx + dy * dy;
+      if (firstChild[cell] == NO_CHILDREN
+          || size[cell] * size[cell] < thetaSquared * distanceSquared) {
+        if (distanceSquared > 0d && distanceSquared <= cutoffSquared) {
+          double factor = strength * count[cell] / (distanceSquared * Math.sqrt(distanceSquared));
+          fx += dx * factor;
+          fy += dy * factor;
+        }
+      } else {
+        for (int child = firstChild[cell]; child < firstChild[cell] + 4; child++) {
+          stack[top++] = child;
+        }
+      }
+    }
+
+    forceX[index] = fx;
+    forceY[index] = fy;
+  }
+
+  private void insert(int index) {
+    double x = xs[index];
+    double y = ys[index];
+    int cell = 0;
+    int depth = 0;
+    while (true) {
+      if (firstChild[cell] == NO_CHILDREN) {
+        if (count[cell] == 0) {
+          point[cell] = index;
+          addToCell(cell, x, y);
+          return;
+        } else if (depth >= MAX_DEPTH) {
+          // keep several points in one leaf, that is always approximated as a whole
+          point[cell] = NO_POINT;
+          addToCell(cell, x, y);
+          return;
+        }
+
+        // split the leaf and move its point one level down
+        int other = point[cell];
+        point[cell] = NO_POINT;
+        split(cell);
+        int otherChild = firstChild[cell] + quadrant(cell, xs[other], ys[other]);
+        point[otherChild] = other;
+        addToCell(otherChild, xs[other], ys[other]);
+      }
+
+      addToCell(cell, x, y);
+      cell = firstChild[cell] + quadrant(cell, x, y);
+      depth++;
+    }
+  }
+
+  private void addToCell(int cell, double x, double y) {
+    count[cell]++;
+    sumX[cell] += x;
+    sumY[cell] += y;
+  }
+
+  private int quadrant(int cell, double x, double y) {
+    double half = size[cell] / 2;
+    return (x >= minX[cell] + half ? 1 : 0) + (y >= minY[cell] + half ? 2 : 0);
+  }
+
+  private void split(int cell) {
+    double half = size[cell] / 2;
+    firstChild[cell] = cellCount;
+    newCell(minX[cell], minY[cell], half);
+    newCell(minX[cell] + half, minY[cell], half);
+    newCell(minX[cell], minY[cell] + half, half);
+    newCell(minX[cell] + half, minY[cell] + half, half);
+  }
+
+  private void newCell(double cellMinX, double cellMinY, double cellSize) {
+    if (cellCount == count.length) allocate(2 * count.length);
+    minX[cellCount] = cellMinX;
+    minY[cellCount] = cellMinY;
+    size[cellCount] = cellSize;
+    sumX[cellCount] = 0d;
+    sumY[cellCount] = 0d;
+    count[cellCount] = 0;
+    firstChild[cellCount] = NO_CHILDREN;
+    point[cellCount] = NO_POINT;
+    cellCount++;
+  }
+
+  private void allocate(int capacity) {
+    if (count == null) {
+      minX = new double[capacity];
+      minY = new double[capacity];
+      size = new double[capacity];
+      sumX = new double[capacity];
+      sumY = new double[capacity];
+      count = new int[capacity];
+      firstChild = new int[capacity];
+      point = new int[capacity];
+    } else {
+      minX = Arrays.copyOf(minX, capacity);
+      minY = Arrays.copyOf(minY, capacity);
+      size = Arrays.copyOf(size, capacity);
+      sumX = Arrays.copyOf(sumX, capacity);
+      sumY = Arrays.copyOf(sumY, capacity);
+      count = Arrays.copyOf(count, capacity);
+      firstChild = Arrays.copyOf(firstChild, capacity);
+      point = Arrays.copyOf(point, capacity);
+    }
+  }
+}
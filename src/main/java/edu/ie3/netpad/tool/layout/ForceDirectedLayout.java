@@ -0,0 +1,216 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+*/
+package edu.ie3.netpad.tool.layout;
+
+import edu.ie3.datamodel.models.input.NodeInput;
+import edu.ie3.datamodel.models.input.container.RawGridElements;
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+/**
+ * Force directed layout of the nodes of {@link RawGridElements} in planar coordinates, given in
+ * metres with the y-axis pointing to the south. Lines act as springs, whose target length is the
+ * line's electrical length, while all nodes repel each other. The repulsion is approximated with a
+ * {@link BarnesHutTree}, and the forces of each iteration are calculated in parallel on the common
+ * {@link ForkJoinPool}. After the layout has been untangled, a refinement restricts the repulsion
+ * to close nodes, hence the lines contract to their target lengths again, that the repulsion of
+ * distant parts of the grid has stretched.
+ */
+final class ForceDirectedLayout {
+
+  private static final int ITERATIONS = 300;
+  private static final double COOLING = 0.98;
+  private static final double REPULSION = 0.02;
+  private static final double THETA = 0.8;
+  private static final int REFINEMENT_ITERATIONS = 300;
+  private static final double REFINEMENT_COOLING = 0.99;
+  /**
+   * Repulsion cutoff of a node during the refinement, relative to the shorter one of the mean
+   * target length and the shortest connection of the node, hence short connections like
+   * transformers are not stretched
+   */
+  private static final double REFINEMENT_CUTOFF = 0.3;
+  private static final long SEED = 42L;
+
+  /** Number of nodes, whose forces are calculated within one task */
+  private static final int SEQUENTIAL_THRESHOLD = 1024;
+
+  private final NodeInput[] nodes;
+  private final Map<UUID, Integer> nodeIndices;
+  private final double[] xs;
+  private final double[] ys;
+
+  // see GridAdjacency
+  private final int[] adjacencyStart;
+  private final int[] neighbours;
+  private final double[] targetLengths;
+  private final double meanTargetLength;
+
+  ForceDirectedLayout(RawGridElements rawGrid) {
+    GridAdjacency adjacency = new GridAdjacency(rawGrid);
+    nodes = adjacency.getNodes();
+    nodeIndices = adjacency.getNodeIndices();
+    adjacencyStart = adjacency.getAdjacencyStart();
+    neighbours = adjacency.getNeighbours();
+    targetLengths = adjacency.getTargetLengths();
+    meanTargetLength = adjacency.getMeanTargetLength();
+    xs = new double[nodes.length];
+    ys = new double[nodes.length];
+  }
+
+  /** Calculates the coordinates of all nodes */
+  void execute() {
+    if (nodes.length == 0) return;
+
+    // Place every node at the target length of the connection to the node it is reached from in
+    // a breadth first search, in a random direction. The layout starts with the real lengths and
+    // the forces mainly untangle it.
+    double extent = Math.sqrt(nodes.length) * meanTargetLength;
+    SplittableRandom random = new SplittableRandom(SEED);
+    boolean[] placed = new boolean[nodes.length];
+    int[] queue = new int[nodes.length];
+    for (int root = 0; root < nodes.length; root++) {
+      if (placed[root]) continue;
+      xs[root] = random.nextDouble() * extent;
+      ys[root] = random.nextDouble() * extent;
+      placed[root] = true;
+      int head = 0;
+      int tail = 0;
+      queue[tail++] = root;
+      while (head < tail) {
+        int i = queue[head++];
+        for (int adjacency = adjacencyStart[i]; adjacency < adjacencyStart[i + 1]; adjacency++) {
+          int neighbour = neighbours[adjacency];
+          if (!placed[neighbour]) {
+            double angle = random.nextDouble() * 2 * Math.PI;
+            xs[neighbour] = xs[i] + targetLengths[adjacency] * Math.cos(angle);
+            ys[neighbour] = ys[i] + targetLengths[adjacency] * Math.sin(angle);
+            placed[neighbour] = true;
+            queue[tail++] = neighbour;
+          }
+        }
+      }
+    }
+
+    double[] cutoffs = new double[nodes.length];
+    Arrays.fill(cutoffs, Double.POSITIVE_INFINITY);
+    BarnesHutTree tree = new BarnesHutTree(xs, ys);
+    relax(tree, ITERATIONS, meanTargetLength, COOLING, cutoffs);
+
+    for (int i = 0; i < nodes.length; i++) {
+      double shortestLength = meanTargetLength;
+      for (int adjacency = adjacencyStart[i]; adjacency < adjacencyStart[i + 1]; adjacency++) {
+        shortestLength = Math.min(shortestLength, targetLengths[adjacency]);
+      }
+      cutoffs[i] = REFINEMENT_CUTOFF * shortestLength;
+    }
+    relax(tree, REFINEMENT_ITERATIONS, meanTargetLength / 2, REFINEMENT_COOLING, cutoffs);
+  }
+
+  /**
+   * Moves the nodes along the acting forces, while the maximum displacement decreases
+   *
+   * @param tree tree over the coordinates of the nodes
+   * @param iterations number of iterations
+   * @param temperature maximum displacement of a node in the first iteration
+   * @param cooling factor, the maximum displacement is reduced by in every iteration
+   * @param cutoffs nodes farther away from a node than its cutoff distance do not repel it
+   */
+  private void relax(
+      BarnesHutTree tree, int iterations, double temperature, double cooling, double[] cutoffs) {
+    double[] forceX = new double[nodes.length];
+    double[] forceY = new double[nodes.length];
+    for (int iteration = 0; iteration < iterations; iteration++) {
+      tree.build();
+      ForkJoinPool.commonPool()
+          .invoke(new ForceTask(tree, cutoffs, forceX, forceY, 0, nodes.length));
+      for (int i = 0; i < nodes.length; i++) {
+        double force = Math.sqrt(forceX[i] * forceX[i] + forceY[i] * forceY[i]);
+        if (force > 0d) {
+          double displacement = Math.min(force, temperature) / force;
+          xs[i] += forceX[i] * displacement;
+          ys[i] += forceY[i] * displacement;
+        }
+      }
+      temperature *= cooling;
+    }
+  }
+
+  /** @return the laid out nodes, indexed the same way as the coordinates */
+  NodeInput[] getNodes() {
+    return nodes;
+  }
+
+  double[] getXs() {
+    return xs;
+  }
+
+  double[] getYs() {
+    return ys;
+  }
+
+  /**
+   * @param uuid uuid of a node
+   * @return the index of the node or -1, if the node is not part of the layout
+   */
+  int indexOf(UUID uuid) {
+    return nodeIndices.getOrDefault(uuid, -1);
+  }
+
+  /** Calculates the forces acting on a range of nodes, splitting the range for large ranges */
+  private final class ForceTask extends RecursiveAction {
+
+    private final transient BarnesHutTree tree;
+    private final double[] cutoffs;
+    private final double[] forceX;
+    private final double[] forceY;
+    private final int from;
+    private final int to;
+
+    private ForceTask(
+        BarnesHutTree tree, double[] cutoffs, double[] forceX, double[] forceY, int from, int to) {
+      this.tree = tree;
+      this.cutoffs = cutoffs;
+      this.forceX = forceX;
+      this.forceY = forceY;
+      this.from = from;
+      this.to = to;
+    }
+
+    @Override
+    protected void compute() {
+      if (to - from > SEQUENTIAL_THRESHOLD) {
+        int middle = (from + to) >>> 1;
+        invokeAll(
+            new ForceTask(tree, cutoffs, forceX, forceY, from, middle),
+            new ForceTask(tree, cutoffs, forceX, forceY, middle, to));
+        return;
+      }
+
+      int[] stack = tree.newStack();
+      double repulsion = REPULSION * meanTargetLength * meanTargetLength * meanTargetLength;
+      for (int i = from; i < to; i++) {
+        tree.repulsion(i, repulsion, THETA, cutoffs[i], stack, forceX, forceY);
+
+        // the springs pull or push towards the mean of the positions, at which every line would
+        // have its target length
+        int degree = adjacencyStart[i + 1] - adjacencyStart[i];
+        for (int adjacency = adjacencyStart[i]; adjacency < adjacencyStart[i + 1]; adjacency++) {
+          int neighbour = neighbours[adjacency];
+          double dx = xs[neighbour] - xs[i];
+          double dy = ys[neighbour] - ys[i];
+          double distance = Math.sqrt(dx * dx + dy * dy);
+          if (distance > 0d) {
+            double factor = (distance - targetLengths[adjacency]) / (distance * degree);
+            forceX[i] += dx * factor;
+            forceY[i] += dy * factor;
+          }
+        }
+      }
+    }
+  }
+}
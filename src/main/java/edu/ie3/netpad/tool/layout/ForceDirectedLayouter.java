@@ -0,0 +1,40 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+*/
+package edu.ie3.netpad.tool.layout;
+
+import edu.ie3.datamodel.models.input.container.JointGridContainer;
+import edu.ie3.datamodel.utils.ContainerNodeUpdateUtil;
+
+/**
+ * The class lays out nodes in a {@link JointGridContainer} using a multi-threaded force directed
+ * layout algorithm, see {@link ForceDirectedLayout}.
+ */
+public class ForceDirectedLayouter {
+
+  private final JointGridContainer jointGridContainer;
+  private final ForceDirectedLayout layout;
+
+  public ForceDirectedLayouter(JointGridContainer jointGridContainer) {
+    this.jointGridContainer = jointGridContainer;
+    this.layout = new ForceDirectedLayout(jointGridContainer.getRawGrid());
+  }
+
+  public JointGridContainer execute() {
+    if (layout.getNodes().length == 0) return jointGridContainer;
+    layout.execute();
+
+    // The coordinates are in metres already, hence no further scaling is needed.
+    double[] xs = layout.getXs();
+    double[] ys = layout.getYs();
+    int reference = LayoutGeoProjection.getLowestPoint(xs, ys);
+    return ContainerNodeUpdateUtil.updateGridWithNodes(
+        jointGridContainer, LayoutGeoProjection.project(layout.getNodes(), xs, ys, reference, 1d));
+  }
+
+  public JointGridContainer getJointGridContainer() {
+    return jointGridContainer;
+  }
+}
@@ -0,0 +1,119 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+*/
+package edu.ie3.netpad.tool.layout;
+
+import edu.ie3.datamodel.models.input.NodeInput;
+import edu.ie3.datamodel.models.input.connector.LineInput;
+import edu.ie3.datamodel.models.input.connector.SwitchInput;
+import edu.ie3.datamodel.models.input.connector.Transformer2WInput;
+import edu.ie3.datamodel.models.input.connector.Transformer3WInput;
+import edu.ie3.datamodel.models.input.container.RawGridElements;
+import java.util.*;
+
+/**
+ * Adjacency of the nodes of {@link RawGridElements} in primitive arrays. Every node is identified
+ * by its index, and every connection between two nodes is stored for both of them together with
+ * its target length, which is the electrical length for lines.
+ */
+final class GridAdjacency {
+
+  /** Target length of connections, that are no lines, e.g. transformers and switches */
+  static final double CONNECTOR_LENGTH = 10d; // metres
+
+  private final NodeInput[] nodes;
+  private final Map<UUID, Integer> nodeIndices;
+
+  // the neighbours of node i are found at the indices adjacencyStart[i] until
+  // adjacencyStart[i + 1] of the neighbours and target lengths
+  private final int[] adjacencyStart;
+  private final int[] neighbours;
+  private final double[] targetLengths;
+  private final double meanTargetLength;
+
+  GridAdjacency(RawGridElements rawGrid) {
+    nodes = rawGrid.getNodes().toArray(new NodeInput[0]);
+    nodeIndices = new HashMap<>((int) (nodes.length / 0.75f) + 1);
+    for (int i = 0; i < nodes.length; i++) nodeIndices.put(nodes[i].getUuid(), i);
+
+    // collect all connections as edges
+    int edgeCount =
+        rawGrid.getLines().size()
+            + rawGrid.getTransformer2Ws().size()
+            + 2 * rawGrid.getTransformer3Ws().size()
+            + rawGrid.getSwitches().size();
+    int[] edgeA = new int[edgeCount];
+    int[] edgeB = new int[edgeCount];
+    double[] edgeLength = new double[edgeCount];
+    int edge = 0;
+    for (LineInput line : rawGrid.getLines()) {
+      edgeA[edge] = nodeIndices.get(line.getNodeA().getUuid());
+      edgeB[edge] = nodeIndices.get(line.getNodeB().getUuid());
+      edgeLength[edge++] = line.getLength().toSystemUnit().getValue().doubleValue();
+    }
+    for (Transformer2WInput transformer : rawGrid.getTransformer2Ws()) {
+      edgeA[edge] = nodeIndices.get(transformer.getNodeA().getUuid());
+      edgeB[edge] = nodeIndices.get(transformer.getNodeB().getUuid());
+      edgeLength[edge++] = CONNECTOR_LENGTH;
+    }
+    for (Transformer3WInput transformer : rawGrid.getTransformer3Ws()) {
+      edgeA[edge] = nodeIndices.get(transformer.getNodeA().getUuid());
+      edgeB[edge] = nodeIndices.get(transformer.getNodeB().getUuid());
+      edgeLength[edge++] = CONNECTOR_LENGTH;
+      edgeA[edge] = nodeIndices.get(transformer.getNodeA().getUuid());
+      edgeB[edge] = nodeIndices.get(transformer.getNodeC().getUuid());
+      edgeLength[edge++] = CONNECTOR_LENGTH;
+    }
+    for (SwitchInput switchInput : rawGrid.getSwitches()) {
+      edgeA[edge] = nodeIndices.get(switchInput.getNodeA().getUuid());
+      edgeB[edge] = nodeIndices.get(switchInput.getNodeB().getUuid());
+      edgeLength[edge++] = CONNECTOR_LENGTH;
+    }
+
+    // store the edges as adjacency of both of their nodes
+    adjacencyStart = new int[nodes.length + 1];
+    for (int i = 0; i < edgeCount; i++) {
+      adjacencyStart[edgeA[i] + 1]++;
+      adjacencyStart[edgeB[i] + 1]++;
+    }
+    for (int i = 0; i < nodes.length; i++) adjacencyStart[i + 1] += adjacencyStart[i];
+    neighbours = new int[2 * edgeCount];
+    targetLengths = new double[2 * edgeCount];
+    int[] next = Arrays.copyOf(adjacencyStart, nodes.length);
+    double totalLength = 0d;
+    for (int i = 0; i < edgeCount; i++) {
+      neighbours[next[edgeA[i]]] = edgeB[i];
+      targetLengths[next[edgeA[i]]++] = edgeLength[i];
+      neighbours[next[edgeB[i]]] = edgeA[i];
+      targetLengths[next[edgeB[i]]++] = edgeLength[i];
+      totalLength += edgeLength[i];
+    }
+    meanTargetLength = edgeCount > 0 && totalLength > 0d ? totalLength / edgeCount : 1d;
+  }
+
+  NodeInput[] getNodes() {
+    return nodes;
+  }
+
+  Map<UUID, Integer> getNodeIndices() {
+    return nodeIndices;
+  }
+
+  int[] getAdjacencyStart() {
+    return adjacencyStart;
+  }
+
+  int[] getNeighbours() {
+    return neighbours;
+  }
+
+  double[] getTargetLengths() {
+    return targetLengths;
+  }
+
+  double getMeanTargetLength() {
+    return meanTargetLength;
+  }
+}
@@ -7,7 +7,6 @@ package edu.ie3.netpad.tool.layout;
 
 import static java.awt.geom.Point2D.distance;
 
-import com.mxgraph.layout.hierarchical.mxHierarchicalLayout;
 import com.mxgraph.model.mxICell;
 import edu.ie3.datamodel.graph.DistanceWeightedEdge;
 import edu.ie3.datamodel.graph.DistanceWeightedGraph;
@@ -16,12 +15,8 @@ import edu.ie3.datamodel.models.input.container.JointGridContainer;
 import edu.ie3.datamodel.models.input.container.RawGridElements;
 import edu.ie3.datamodel.utils.ContainerNodeUpdateUtil;
 import edu.ie3.datamodel.utils.ContainerUtils;
-import edu.ie3.util.geo.GeoUtils;
-import java.awt.Point;
 import java.util.*;
 import java.util.Map.Entry;
-import java.util.stream.Collectors;
-import net.morbz.osmonaut.osm.LatLon;
 import org.jgrapht.Graph;
 import org.jgrapht.Graphs;
 import org.jgrapht.ext.JGraphXAdapter;
@@ -32,9 +27,6 @@ import org.jgrapht.ext.JGraphXAdapter;
  */
 public class GridLayouter {
 
-  private static final double EARTH_RADIUS = 6371000d; // metres
-  private static final LatLon REFERENCE_POINT_GEO = new LatLon(51.420620, 7.360411);
-
   private final JGraphXAdapter<NodeInput, DistanceWeightedEdge> graphAdapter;
   private final HierarchicalLayout hierarchicalLayout;
 
@@ -58,136 +50,69 @@ public class GridLayouter {
     JGraphXAdapter<NodeInput, DistanceWeightedEdge> layoutGraph =
         (JGraphXAdapter<NodeInput, DistanceWeightedEdge>) hierarchicalLayout.getGraph();
 
-    // Create a mapping of Points (from the layout algorithm result) to NodeInputModels.
-    Map<Point, NodeInput> pointsToNodes = createNodeMappings(layoutGraph);
+    // Copy the coordinates from the layout algorithm result into arrays, that are indexed the same
+    // way as the array of nodes.
+    Map<NodeInput, mxICell> vertexToCell = layoutGraph.getVertexToCellMap();
+    int nodeCount = vertexToCell.size();
+    NodeInput[] nodes = new NodeInput[nodeCount];
+    double[] xs = new double[nodeCount];
+    double[] ys = new double[nodeCount];
+    Map<UUID, Integer> nodeIndices = new HashMap<>(capacity(nodeCount));
+    int index = 0;
+    for (Entry<NodeInput, mxICell> entry : vertexToCell.entrySet()) {
+      nodes[index] = entry.getKey();
+      xs[index] = (int) entry.getValue().getGeometry().getX();
+      ys[index] = (int) entry.getValue().getGeometry().getY();
+      nodeIndices.put(entry.getKey().getUuid(), index);
+      index++;
+    }
 
     // Calculate a scale factor and scale the coordinates, so that the resulting "area" of nodes is
     // square.
-    double scaleFactor = calcScaleFactor(pointsToNodes.keySet());
-    Map<Point, NodeInput> scaledPointsToNodes = scalePoints(pointsToNodes, scaleFactor);
+    scalePoints(ys, calcScaleFactor(xs, ys));
 
     // Set lowest point (smallest y-coordinate) as the reference point.
-    Point referencePoint = this.getLowestPoint(scaledPointsToNodes.keySet());
+    int reference = LayoutGeoProjection.getLowestPoint(xs, ys);
 
     // Calculate the scale factor for the distances to reproduce the real distance proportions.
     double scaleFactorDistance =
         calcScaleFactorDistance(
-            scaledPointsToNodes, referencePoint, this.graph, this.jointGridContainer.getRawGrid());
-
-    // Set geo coordinates for reference point.
-    NodeInput referenceNode = scaledPointsToNodes.get(referencePoint);
-    NodeInput updatedReferencedNodeInput =
-        referenceNode.copy().geoPosition(GeoUtils.latlonToPoint(REFERENCE_POINT_GEO)).build();
-    scaledPointsToNodes.put(referencePoint, updatedReferencedNodeInput);
-
-    // Calculate the new geo coordinates and set the calculated values in the point to node map.
-    List<NodeInput> updatedScaledPointsToNodes =
-        scaledPointsToNodes.entrySet().stream()
-            .map(
-                entry -> {
-                  Point point = entry.getKey();
-
-                  // Calculate the distance and the bearing between point and reference point and
-                  // calculate the geo position.
-                  double distance =
-                      distance(
-                              point.getX(),
-                              point.getY(),
-                              referencePoint.getX(),
-                              referencePoint.getY())
-                          / scaleFactorDistance;
-                  double bearing = calcBearing(referencePoint, point);
-                  LatLon geoPosition = calcGeoPosition(distance, bearing);
-
-                  // Set the new geo position in the corresponding NodeInputModel.
-                  NodeInput oldNode = entry.getValue();
-                  return oldNode.copy().geoPosition(GeoUtils.latlonToPoint(geoPosition)).build();
-                  //
-                  // entry.getValue().setGeoPosition(Utils.latlonToPoint(geoPosition));
-                })
-            .collect(Collectors.toList());
-
-    // Update geo information in NodeInputModels from GridInputModel.
-    //        gridInputModel.getNodes().forEach(node -> {
-    //            com.vividsolutions.jts.geom.Point geoPosition =
-    //                            scaledPointsToNodes.values().stream().filter(n ->
-    // n.getTID().equals(node.getTID()))
-    //                                            .findAny().orElseThrow().getGeoPosition();
-    //            node.setGeoPosition(geoPosition);
-    //        });
-
+            nodes,
+            xs,
+            ys,
+            nodeIndices,
+            reference,
+            this.graph,
+            this.jointGridContainer.getRawGrid());
+
+    // Calculate the new geo coordinates relative to the reference point. The vertices of the
+    // topology graph are the nodes of the raw grid, hence they are the old nodes to replace.
     Map<NodeInput, NodeInput> oldToNewNodes =
-        updatedScaledPointsToNodes.stream()
-            .map(
-                newNode -> {
-                  NodeInput oldNode =
-                      jointGridContainer.getRawGrid().getNodes().stream()
-                          .filter(node -> node.getUuid().equals(newNode.getUuid()))
-                          .findFirst()
-                          .orElseThrow();
-                  return new AbstractMap.SimpleEntry<>(oldNode, newNode);
-                })
-            .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue));
-    //    NodeInput oldNode =
-    //        jointGridContainer.getRawGrid().getNodes().stream()
-    //            .filter(node -> node.getUuid().equals(newNode.getUuid()))
-    //            .findFirst()
-    //            .orElseThrow();
-
-    return ContainerNodeUpdateUtil.updateGridWithNodes(
-        jointGridContainer, oldToNewNodes); // todo JH
+        LayoutGeoProjection.project(nodes, xs, ys, reference, scaleFactorDistance);
 
-    //    return null;
-
-    // Update geo information in LineInputModels from GridInputModel.
-    //        gridInputModel.getLines().forEach(line ->
-    // line.setGeoPosition(Utils.generateLineString(line)));
+    return ContainerNodeUpdateUtil.updateGridWithNodes(jointGridContainer, oldToNewNodes);
   }
 
-  /**
-   * Creates a mapping {@link Point} to corresponding {@link NodeInput} from the result layout. The
-   * points contain the coordinates determined by the layout algorithm. Each point maps to its
-   * corresponding NodeInputModel.
-   *
-   * @param layoutGraph The {@link mxHierarchicalLayout} containing the layout algorithm results.
-   * @return The created mapping.
-   */
-  private static Map<Point, NodeInput> createNodeMappings(
-      JGraphXAdapter<NodeInput, DistanceWeightedEdge> layoutGraph) {
-    Map<Point, NodeInput> pointsToNodes = new HashMap<>();
-
-    for (Entry<NodeInput, mxICell> entry : layoutGraph.getVertexToCellMap().entrySet()) {
-      Point point =
-          new Point(
-              (int) entry.getValue().getGeometry().getX(),
-              (int) entry.getValue().getGeometry().getY());
-
-      //            NodeInput nodeInput = DeepCopy.copy(entry.getKey());
-
-      pointsToNodes.put(point, entry.getKey());
-    }
-
-    return pointsToNodes;
+  private static int capacity(int expectedSize) {
+    return (int) (expectedSize / 0.75f) + 1;
   }
 
   /**
    * Calculates the scale factor for the y-axis. All points y-coordinates have to be multiplied by
    * the calculated value later to get a square point set.
    *
-   * @param pointCollection The point set that needs to be scaled.
+   * @param xs The x-coordinates of the point set that needs to be scaled.
+   * @param ys The y-coordinates of the point set that needs to be scaled.
    * @return The scale factor.
    */
-  private static double calcScaleFactor(Collection<Point> pointCollection) {
-    // Copy points from Map to separate list
-    LinkedList<Point> points = new LinkedList<>(pointCollection);
-
-    // Sort list by points x-values and get the highest x-value
-    points.sort(Comparator.comparingDouble(Point::getX));
-    double edgeLengthX = points.getLast().getX();
-
-    // Sort list by points y-values and get the highest y-value
-    points.sort(Comparator.comparingDouble(Point::getY));
-    double edgeLengthY = points.getLast().getY();
+  private static double calcScaleFactor(double[] xs, double[] ys) {
+    // Determine the highest x- and y-values in a single pass
+    double edgeLengthX = Double.NEGATIVE_INFINITY;
+    double edgeLengthY = Double.NEGATIVE_INFINITY;
+    for (int i = 0; i < xs.length; i++) {
+      edgeLengthX = Math.max(edgeLengthX, xs[i]);
+      edgeLengthY = Math.max(edgeLengthY, ys[i]);
+    }
 
     // Determine the scale factor
     return edgeLengthX / edgeLengthY;
@@ -197,15 +122,12 @@ public class GridLayouter {
    * Scales all points by scaling the y-axis of each point. When using the scale factor from the
    * method calcScaleFactor, the resulting set of points is square.
    */
-  private static Map<Point, NodeInput> scalePoints(
-      Map<Point, NodeInput> pointsToNodes, double scaleFactor) {
-    Map<Point, NodeInput> scaledPoints = new HashMap<>(pointsToNodes);
-
-    // Scale all points y-coordinates using the calculated scaling factor
-    for (Point point : scaledPoints.keySet()) {
-      point.y *= scaleFactor;
+  private static void scalePoints(double[] ys, double scaleFactor) {
+    // Scale all points y-coordinates using the calculated scaling factor, the layout works on
+    // integer coordinates
+    for (int i = 0; i < ys.length; i++) {
+      ys[i] = (int) (ys[i] * scaleFactor);
     }
-    return scaledPoints;
   }
 
   /**
@@ -213,19 +135,25 @@ public class GridLayouter {
    * algorithm to the real distances represented by the {@link
    * edu.ie3.datamodel.models.input.connector.LineInput}s lengths.
    *
-   * @param pointsToNodes The mapping that contains the points from the layout algorithm mapped to
-   *     the corresponding {@link NodeInput}s.
-   * @param referencePoint A reference point, should be the upper left point from the point set.
+   * @param nodes The {@link NodeInput}s, whose coordinates have been calculated by the layout
+   *     algorithm.
+   * @param xs The x-coordinates of the nodes.
+   * @param ys The y-coordinates of the nodes.
+   * @param nodeIndices The index of each node in the arrays, mapped by the node's uuid.
+   * @param reference The index of the reference point, should be the upper left point.
    * @return The calculated scale factor.
    */
-  private double calcScaleFactorDistance(
-      Map<Point, NodeInput> pointsToNodes,
-      Point referencePoint,
-      Graph graph,
+  private static double calcScaleFactorDistance(
+      NodeInput[] nodes,
+      double[] xs,
+      double[] ys,
+      Map<UUID, Integer> nodeIndices,
+      int reference,
+      Graph<NodeInput, DistanceWeightedEdge> graph,
       RawGridElements rawGridElements) {
 
-    // Get the NodeInputModel mapped to the reference point -> reference NodeInputModel
-    NodeInput referenceNodeInput = pointsToNodes.get(referencePoint);
+    // Get the NodeInputModel at the reference point -> reference NodeInputModel
+    NodeInput referenceNodeInput = nodes[reference];
 
     // Get the neighbor list from referenceNodeInput
     List<NodeInput> neighborList = Graphs.neighborListOf(graph, referenceNodeInput);
@@ -233,24 +161,14 @@ public class GridLayouter {
     if (!neighborList.isEmpty()) {
       NodeInput secondaryNodeInput = neighborList.get(0);
 
-      // Get the corresponding Point object from the algorithm result
-      Point secondaryPoint =
-          pointsToNodes.entrySet().stream()
-              .filter(entry -> entry.getValue().equals(secondaryNodeInput))
-              .findAny()
-              .orElseThrow()
-              .getKey();
+      // Get the corresponding point from the algorithm result
+      int secondary = nodeIndices.get(secondaryNodeInput.getUuid());
 
-      // Calculate distance between secondaryPoint and referencePoint
-      double distance =
-          distance(
-              secondaryPoint.getX(),
-              secondaryPoint.getY(),
-              referencePoint.getX(),
-              referencePoint.getY());
+      // Calculate distance between secondary point and reference point
+      double distance = distance(xs[secondary], ys[secondary], xs[reference], ys[reference]);
 
       // Get real distance between the NodeInputModels from the corresponding LineInputModel, if any
-      // and       calculate and return the scale factor.
+      // and calculate and return the scale factor.
       return rawGridElements.getLines().stream()
           .filter(
               line ->
@@ -267,85 +185,6 @@ public class GridLayouter {
     }
   }
 
-  /**
-   * Calculates the bearing to north between referencePoint and point using trigonometry. All angles
-   * are in radians. If point is to referencePoint's left, bearing is equal to pi (180°) subtracted
-   * by the result of the atan method. If point is to referencePoint's right, pi/2 (90°) has to be
-   * added to the atan method, since bearing is orientated to north. If both points x-coordinates
-   * are equal, bearing is pi (180°). The calculation assumes that the reference points y-coordinate
-   * is smaller than the points y-coordinate. The formula used is copied from
-   * http://www.movable-type.co.uk/scripts/latlong.html (Topic Bearing).
-   */
-  private double calcBearing(Point referencePoint, Point point) {
-    double bearing = Double.NaN;
-
-    // Catch standard cases (90° or 180°)
-    if (referencePoint.getY() == point.getY()) {
-      bearing = Math.PI / 2;
-    } else if (referencePoint.getX() == point.getX()) {
-      bearing = Math.PI;
-    }
-
-    // Calculate bearing
-    double deltaY = Math.abs(point.getY() - referencePoint.getY());
-    double deltaX = Math.abs(point.getX() - referencePoint.getX());
-    if (referencePoint.getX() > point.getX()) {
-      bearing = Math.PI - Math.atan(deltaY / deltaX);
-    } else if (referencePoint.getX() < point.getX()) {
-      bearing = Math.atan(deltaY / deltaX) + Math.PI / 2;
-    }
-
-    return bearing;
-  }
-
-  /**
-   * Calculates a geo position using distance and bearing. The formula used is copied from
-   * http://www.movable-type.co.uk/scripts/latlong.html (Topic Destination point).
-   *
-   * @return The calculated {@link LatLon} geo position.
-   */
-  private LatLon calcGeoPosition(double distance, double bearing) {
-    // Convert latitude and longitude to radians
-    double lat1 = Math.toRadians(REFERENCE_POINT_GEO.getLat());
-    double lon1 = Math.toRadians(REFERENCE_POINT_GEO.getLon());
-
-    // Calculate angular distance
-    double angularDistance = distance / EARTH_RADIUS;
-
-    // Calculate and return new latitude and longitude values
-    double lat2 =
-        Math.asin(
-            (Math.sin(lat1) * Math.cos(angularDistance))
-                + (Math.cos(lat1) * Math.sin(angularDistance) * Math.cos(bearing)));
-    double lon2 =
-        lon1
-            + Math.atan2(
-                Math.sin(bearing) * Math.sin(angularDistance) * Math.cos(lat1),
-                Math.cos(angularDistance) - (Math.sin(lat1) * Math.sin(lat2)));
-
-    return new LatLon(Math.toDegrees(lat2), Math.toDegrees(lon2));
-  }
-
-  /**
-   * Returns the point with the lowest y coordinate. In case that more than one such point exists,
-   * the one with the lowest x coordinate is returned.
-   *
-   * @param points The collection of points to return the lowest point from.
-   * @return The point with the lowest y coordinate. In case more than one such point exists, the
-   *     one with the lowest x coordinate is returned.
-   */
-  // todo JH move somewhere else
-  public java.awt.Point getLowestPoint(Collection<java.awt.Point> points) {
-    java.awt.Point lowest = new java.awt.Point(Integer.MAX_VALUE, Integer.MAX_VALUE);
-
-    for (java.awt.Point point : points) {
-      if (point.y < lowest.y || (point.y == lowest.y && point.x < lowest.x)) {
-        lowest = point;
-      }
-    }
-    return lowest;
-  }
-
   public JointGridContainer getJointGridContainer() {
     return jointGridContainer;
   }
@@ -0,0 +1,44 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+*/
+package edu.ie3.netpad.tool.layout;
+
+import edu.ie3.datamodel.models.input.container.JointGridContainer;
+import java.util.function.UnaryOperator;
+
+/** Algorithms, that are available to lay out a grid */
+public enum LayoutAlgorithm {
+  HIERARCHICAL(2, grid -> new GridLayouter(grid).execute()),
+  FORCE_DIRECTED(2, grid -> new ForceDirectedLayouter(grid).execute()),
+  FORCE_DIRECTED_PER_SUB_GRID(2, grid -> new SubGridLayouter(grid).execute());
+
+  private final int version;
+  private final UnaryOperator<JointGridContainer> layouter;
+
+  /**
+   * @param version version of the layouter's results, has to be increased whenever the layouter
+   *     places the nodes differently, as cached layouts of older versions are not used anymore
+   * @param layouter lays out a grid
+   */
+  LayoutAlgorithm(int version, UnaryOperator<JointGridContainer> layouter) {
+    this.version = version;
+    this.layouter = layouter;
+  }
+
+  public int getVersion() {
+    return version;
+  }
+
+  /**
+   * Lays out the given grid, unless a layout of the same topology is cached, see {@link
+   * LayoutCache}
+   *
+   * @param grid Grid to lay out
+   * @return A copy of the grid with the new geo positions of all nodes
+   */
+  public JointGridContainer apply(JointGridContainer grid) {
+    return LayoutCache.getInstance().apply(this, grid, layouter);
+  }
+}
@@ -0,0 +1,242 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+*/
+package edu.ie3.netpad.tool.layout;
+
+import edu.ie3.datamodel.models.input.NodeInput;
+import edu.ie3.datamodel.models.input.container.JointGridContainer;
+import edu.ie3.datamodel.utils.ContainerNodeUpdateUtil;
+import edu.ie3.util.geo.GeoUtils;
+import java.io.*;
+import java.nio.file.*;
+import java.nio.file.attribute.FileTime;
+import java.util.*;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.locationtech.jts.geom.Coordinate;
+import org.locationtech.jts.geom.Point;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Cache of computed layouts, keyed by the layout algorithm, its version and the {@link
+ * TopologyFingerprint} of the grid. Recently used layouts are held in memory, all layouts are
+ * stored in the user's home directory as well, hence grids, that have been laid out in an earlier
+ * session, are not laid out again. Both are limited in size, the least recently used layouts are
+ * evicted first. The directory can be changed with the system property {@value
+ * #DIRECTORY_PROPERTY}.
+ */
+public final class LayoutCache {
+
+  private static final Logger log = LoggerFactory.getLogger(LayoutCache.class);
+
+  /** System property to store the layouts in another directory than the default one */
+  public static final String DIRECTORY_PROPERTY = "netpad.layout.cache.directory";
+
+  private static final long DEFAULT_MEMORY_CAPACITY = 1_000_000L; // node positions
+  private static final long DEFAULT_DISK_CAPACITY = 64L * 1024 * 1024; // bytes
+
+  private static final String FILE_EXTENSION = ".layout";
+  private static final int MAGIC_NUMBER = 0x4e504c43; // "NPLC"
+  private static final short VERSION = 1;
+  private static final int BUFFER_SIZE = 64 * 1024;
+
+  private static final class InstanceHolder {
+    static final LayoutCache INSTANCE =
+        new LayoutCache(directory(), DEFAULT_MEMORY_CAPACITY, DEFAULT_DISK_CAPACITY);
+  }
+
+  public static LayoutCache getInstance() {
+    return InstanceHolder.INSTANCE;
+  }
+
+  /** @return the directory from the system property or a directory in the user's home */
+  private static Path directory() {
+    String directory = System.getProperty(DIRECTORY_PROPERTY);
+    return directory != null
+        ? Paths.get(directory)
+        : Paths.get(System.getProperty("user.home"), ".netpad", "layout-cache");
+  }
+
+  private final Path directory;
+  private final long memoryCapacity;
+  private final long diskCapacity;
+
+  // access ordered, hence the eldest entry is the least recently used one
+  private final LinkedHashMap<String, Map<UUID, Point>> layouts =
+      new LinkedHashMap<>(16, 0.75f, true);
+  private long cachedPositions = 0L;
+
+  /**
+   * @param directory directory to store the layouts in
+   * @param memoryCapacity maximum number of node positions held in memory
+   * @param diskCapacity maximum size of all stored layouts in bytes
+   */
+  LayoutCache(Path directory, long memoryCapacity, long diskCapacity) {
+    this.directory = directory;
+    this.memoryCapacity = memoryCapacity;
+    this.diskCapacity = diskCapacity;
+  }
+
+  /**
+   * Returns the cached layout of the grid or lays it out and caches the result
+   *
+   * @param algorithm the algorithm, the grid is laid out with, layouts of other versions of the
+   *     algorithm are not used
+   * @param grid grid to lay out
+   * @param layouter lays out the grid, if no layout is cached
+   * @return A copy of the grid with the new geo positions of all nodes
+   */
+  public JointGridContainer apply(
+      LayoutAlgorithm algorithm,
+      JointGridContainer grid,
+      UnaryOperator<JointGridContainer> layouter) {
+    String key =
+        algorithm.name().toLowerCase(Locale.ROOT)
+            + "-v"
+            + algorithm.getVersion()
+            + "-"
+            + TopologyFingerprint.of(grid.getRawGrid());
+
+    Map<UUID, Point> positions = get(key);
+    if (positions != null) {
+      Map<NodeInput, NodeInput> oldToNewNodes = new HashMap<>();
+      for (NodeInput node : grid.getRawGrid().getNodes()) {
+        Point position = positions.get(node.getUuid());
+        if (position == null) break;
+        oldToNewNodes.put(node, node.copy().geoPosition(position).build());
+      }
+      if (oldToNewNodes.size() == grid.getRawGrid().getNodes().size()) {
+        log.debug("Applying cached {} layout of grid '{}'.", algorithm, grid.getGridName());
+        return ContainerNodeUpdateUtil.updateGridWithNodes(grid, oldToNewNodes);
+      }
+    }
+
+    JointGridContainer laidOutGrid = layouter.apply(grid);
+    put(
+        key,
+        laidOutGrid.getRawGrid().getNodes().stream()
+            .filter(node -> node.getGeoPosition() != null)
+            .collect(Collectors.toMap(NodeInput::getUuid, NodeInput::getGeoPosition)));
+    return laidOutGrid;
+  }
+
+  private synchronized Map<UUID, Point> get(String key) {
+    Map<UUID, Point> positions = layouts.get(key);
+    if (positions == null) {
+      positions = read(key);
+      if (positions != null) putInMemory(key, positions);
+    }
+    return positions;
+  }
+
+  private synchronized void put(String key, Map<UUID, Point> positions) {
+    putInMemory(key, positions);
+    write(key, positions);
+  }
+
+  private void putInMemory(String key, Map<UUID, Point> positions) {
+    Map<UUID, Point> replaced = layouts.put(key, positions);
+    if (replaced != null) cachedPositions -= replaced.size();
+    cachedPositions += positions.size();
+
+    Iterator<Map<UUID, Point>> eldest = layouts.values().iterator();
+    while (cachedPositions > memoryCapacity && eldest.hasNext()) {
+      cachedPositions -= eldest.next().size();
+      eldest.remove();
+    }
+  }
+
+  /** @return the stored layout or null, if there is none or it cannot be read */
+  private Map<UUID, Point> read(String key) {
+    Path file = directory.resolve(key + FILE_EXTENSION);
+    if (!Files.isRegularFile(file)) return null;
+
+    try (DataInputStream input =
+        new DataInputStream(new BufferedInputStream(Files.newInputStream(file), BUFFER_SIZE))) {
+      if (input.readInt() != MAGIC_NUMBER || input.readShort() != VERSION) {
+        throw new IOException("Unknown file format.");
+      }
+      int count = input.readInt();
+      Map<UUID, Point> positions = new HashMap<>((int) (count / 0.75f) + 1);
+      for (int i = 0; i < count; i++) {
+        UUID uuid = new UUID(input.readLong(), input.readLong());
+        double x = input.readDouble();
+        double y = input.readDouble();
+        positions.put(uuid, GeoUtils.DEFAULT_GEOMETRY_FACTORY.createPoint(new Coordinate(x, y)));
+      }
+      // mark the layout as recently used for the eviction
+      Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis()));
+      return positions;
+    } catch (IOException e) {
+      log.warn("Cannot read cached layout '{}', it is discarded.", file, e);
+      delete(file);
+      return null;
+    }
+  }
+
+  private void write(String key, Map<UUID, Point> positions) {
+    Path file = directory.resolve(key + FILE_EXTENSION);
+    try {
+      Files.createDirectories(directory);
+      // write to a temporary file first, hence concurrent sessions never read partial layouts
+      Path tempFile = Files.createTempFile(directory, key, ".tmp");
+      try (DataOutputStream output =
+          new DataOutputStream(
+              new BufferedOutputStream(Files.newOutputStream(tempFile), BUFFER_SIZE))) {
+        output.writeInt(MAGIC_NUMBER);
+        output.writeShort(VERSION);
+        output.writeInt(positions.size());
+        for (Map.Entry<UUID, Point> position : positions.entrySet()) {
+          output.writeLong(position.getKey().getMostSignificantBits());
+          output.writeLong(position.getKey().getLeastSignificantBits());
+          output.writeDouble(position.getValue().getX());
+          output.writeDouble(position.getValue().getY());
+        }
+      } catch (IOException e) {
+        delete(tempFile);
+        throw e;
+      }
+      Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING);
+      evictFromDisk();
+    } catch (IOException e) {
+      log.warn("Cannot store layout in '{}', it is only cached in memory.", file, e);
+    }
+  }
+
+  /** Deletes the least recently used layouts, until the stored layouts fit the disk capacity */
+  private void evictFromDisk() throws IOException {
+    List<Path> files;
+    try (Stream<Path> paths = Files.list(directory)) {
+      files =
+          paths
+              .filter(path -> path.getFileName().toString().endsWith(FILE_EXTENSION))
+              .collect(Collectors.toList());
+    }
+
+    Map<Path, FileTime> lastUsed = new HashMap<>();
+    long totalSize = 0L;
+    for (Path file : files) {
+      lastUsed.put(file, Files.getLastModifiedTime(file));
+      totalSize += Files.size(file);
+    }
+    files.sort(Comparator.comparing(lastUsed::get));
+
+    for (Iterator<Path> eldest = files.iterator(); totalSize > diskCapacity && eldest.hasNext(); ) {
+      Path file = eldest.next();
+      totalSize -= Files.size(file);
+      delete(file);
+    }
+  }
+
+  private static void delete(Path file) {
+    try {
+      Files.deleteIfExists(file);
+    } catch (IOException e) {
+      log.warn("Cannot delete '{}'.", file, e);
+    }
+  }
+}
@@ -0,0 +1,106 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+*/
+package edu.ie3.netpad.tool.layout;
+
+import static java.awt.geom.Point2D.distance;
+
+import edu.ie3.datamodel.models.input.NodeInput;
+import edu.ie3.util.geo.GeoUtils;
+import java.util.HashMap;
+import java.util.Map;
+import net.morbz.osmonaut.osm.LatLon;
+
+/**
+ * Converts the planar coordinates of a layout into geo positions. The y-axis of the layout points
+ * to the south, and the reference point of the layout is placed at a fixed geo position, all other
+ * points are placed relative to it.
+ */
+final class LayoutGeoProjection {
+
+  private static final double EARTH_RADIUS = 6371000d; // metres
+  static final LatLon REFERENCE_POINT_GEO = new LatLon(51.420620, 7.360411);
+
+  private LayoutGeoProjection() {
+    throw new IllegalStateException("Don't instantiate a class with only static methods");
+  }
+
+  /**
+   * Calculates the geo positions of all nodes of a layout
+   *
+   * @param nodes the laid out nodes
+   * @param xs the x-coordinates of the nodes
+   * @param ys the y-coordinates of the nodes
+   * @param reference index of the reference point, should be the upper left point
+   * @param unitsPerMetre scale factor from layout coordinates to real distances
+   * @return a mapping from each node to a copy with the calculated geo position
+   */
+  static Map<NodeInput, NodeInput> project(
+      NodeInput[] nodes, double[] xs, double[] ys, int reference, double unitsPerMetre) {
+    Map<NodeInput, NodeInput> oldToNewNodes = new HashMap<>((int) (nodes.length / 0.75f) + 1);
+    for (int i = 0; i < nodes.length; i++) {
+      // Calculate the distance and the bearing between point and reference point and calculate the
+      // geo position.
+      double distance = distance(xs[i], ys[i], xs[reference], ys[reference]) / unitsPerMetre;
+      double bearing = calcBearing(xs[reference], ys[reference], xs[i], ys[i]);
+      LatLon geoPosition = calcGeoPosition(distance, bearing);
+
+      oldToNewNodes.put(
+          nodes[i], nodes[i].copy().geoPosition(GeoUtils.latlonToPoint(geoPosition)).build());
+    }
+    return oldToNewNodes;
+  }
+
+  /**
+   * Returns the index of the point with the lowest y coordinate. In case that more than one such
+   * point exists, the one with the lowest x coordinate is returned.
+   */
+  static int getLowestPoint(double[] xs, double[] ys) {
+    int lowest = 0;
+    for (int i = 1; i < xs.length; i++) {
+      if (ys[i] < ys[lowest] || (ys[i] == ys[lowest] && xs[i] < xs[lowest])) {
+        lowest = i;
+      }
+    }
+    return lowest;
+  }
+
+  /**
+   * Calculates the bearing from referencePoint to point, clockwise from north in radians within
+   * [0, 2π). As the y-axis of the layout points to the south, north is the negative y direction.
+   */
+  static double calcBearing(double referenceX, double referenceY, double pointX, double pointY) {
+    double bearing = Math.atan2(pointX - referenceX, referenceY - pointY);
+    return bearing < 0d ? bearing + 2 * Math.PI : bearing;
+  }
+
+  /**
+   * Calculates a geo position using distance and bearing. The formula used is copied from
+   * http://www.movable-type.co.uk/scripts/latlong.html (Topic Destination point).
+   *
+   * @return The calculated {@link LatLon} geo position.
+   */
+  private static LatLon calcGeoPosition(double distance, double bearing) {
+    // Convert latitude and longitude to radians
+    double lat1 = Math.toRadians(REFERENCE_POINT_GEO.getLat());
+    double lon1 = Math.toRadians(REFERENCE_POINT_GEO.getLon());
+
+    // Calculate angular distance
+    double angularDistance = distance / EARTH_RADIUS;
+
+    // Calculate and return new latitude and longitude values
+    double lat2 =
+        Math.asin(
+            (Math.sin(lat1) * Math.cos(angularDistance))
+                + (Math.cos(lat1) * Math.sin(angularDistance) * Math.cos(bearing)));
+    double lon2 =
+        lon1
+            + Math.atan2(
+                Math.sin(bearing) * Math.sin(angularDistance) * Math.cos(lat1),
+                Math.cos(angularDistance) - (Math.sin(lat1) * Math.sin(lat2)));
+
+    return new LatLon(Math.toDegrees(lat2), Math.toDegrees(lon2));
+  }
+}
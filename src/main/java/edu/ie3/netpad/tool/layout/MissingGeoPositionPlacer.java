@@ -0,0 +1,326 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+*/
+package edu.ie3.netpad.tool.layout;
+
+import edu.ie3.datamodel.models.input.NodeInput;
+import edu.ie3.datamodel.models.input.connector.LineInput;
+import edu.ie3.datamodel.models.input.container.GraphicElements;
+import edu.ie3.datamodel.models.input.container.GridContainer;
+import edu.ie3.datamodel.models.input.container.JointGridContainer;
+import edu.ie3.datamodel.models.input.container.RawGridElements;
+import edu.ie3.datamodel.models.input.graphics.LineGraphicInput;
+import edu.ie3.datamodel.utils.ContainerNodeUpdateUtil;
+import edu.ie3.datamodel.utils.GridAndGeoUtils;
+import edu.ie3.util.geo.GeoUtils;
+import java.util.*;
+import java.util.stream.Collectors;
+import net.morbz.osmonaut.osm.LatLon;
+
+/**
+ * Places only the nodes of a {@link JointGridContainer}, that have no geo position, while all other
+ * nodes keep their position. The nodes are placed breadth first, starting at the already placed
+ * ones. A node with a single placed neighbour is placed at the length of the connecting line away
+ * from it, a node with several placed neighbours at the position, that fits the lengths of all
+ * connecting lines best. Lines at newly placed nodes get a straight geo position between their
+ * nodes. The effort is linear in the size of the grid, hence partially geo-referenced grids can be
+ * painted without laying out the whole grid.
+ */
+public class MissingGeoPositionPlacer {
+
+  private static final double EARTH_RADIUS = 6371000d; // metres
+  private static final double METRES_PER_DEGREE = Math.toRadians(EARTH_RADIUS);
+
+  /** Angle between the lines to several nodes, that are placed around the same neighbour */
+  private static final double FAN_ANGLE = Math.PI / 8;
+
+  /**
+   * Offset of the initial position of a node with several placed neighbours from their centre,
+   * relative to the mean length of the connecting lines
+   */
+  private static final double FITTING_START_OFFSET = 0.3;
+
+  private static final int FITTING_ITERATIONS = 20;
+
+  private final JointGridContainer jointGridContainer;
+
+  public MissingGeoPositionPlacer(JointGridContainer jointGridContainer) {
+    this.jointGridContainer = jointGridContainer;
+  }
+
+  /**
+   * @param grid the grid to check
+   * @return true, if at least one node of the grid has no geo position
+   */
+  public static boolean hasMissingGeoPositions(GridContainer grid) {
+    return grid.getRawGrid().getNodes().stream().anyMatch(node -> node.getGeoPosition() == null);
+  }
+
+  public JointGridContainer execute() {
+    GridAdjacency adjacency = new GridAdjacency(jointGridContainer.getRawGrid());
+    NodeInput[] nodes = adjacency.getNodes();
+    int[] adjacencyStart = adjacency.getAdjacencyStart();
+    int[] neighbours = adjacency.getNeighbours();
+    double[] targetLengths = adjacency.getTargetLengths();
+
+    // Planar coordinates in metres around the centre of the placed nodes, the y-axis points to the
+    // north.
+    boolean[] placed = new boolean[nodes.length];
+    double centreLat = 0d;
+    double centreLon = 0d;
+    int placedCount = 0;
+    for (int i = 0; i < nodes.length; i++) {
+      if (nodes[i].getGeoPosition() != null) {
+        placed[i] = true;
+        centreLat += nodes[i].getGeoPosition().getY();
+        centreLon += nodes[i].getGeoPosition().getX();
+        placedCount++;
+      }
+    }
+    if (placedCount == nodes.length) return jointGridContainer;
+    if (placedCount > 0) {
+      centreLat /= placedCount;
+      centreLon /= placedCount;
+    } else {
+      centreLat = LayoutGeoProjection.REFERENCE_POINT_GEO.getLat();
+      centreLon = LayoutGeoProjection.REFERENCE_POINT_GEO.getLon();
+    }
+    double metresPerDegreeLon = METRES_PER_DEGREE * Math.cos(Math.toRadians(centreLat));
+
+    double[] xs = new double[nodes.length];
+    double[] ys = new double[nodes.length];
+    int[] queue = new int[nodes.length];
+    int head = 0;
+    int tail = 0;
+    for (int i = 0; i < nodes.length; i++) {
+      if (placed[i]) {
+        xs[i] = (nodes[i].getGeoPosition().getX() - centreLon) * metresPerDegreeLon;
+        ys[i] = (nodes[i].getGeoPosition().getY() - centreLat) * METRES_PER_DEGREE;
+        queue[tail++] = i;
+      }
+    }
+
+    // Place every node, when it is reached from a placed node in a breadth first search.
+    // Components without any placed node start to the east of all placed nodes.
+    Placement placement = new Placement(adjacency, placed, xs, ys);
+    int nextSeed = 0;
+    while (true) {
+      while (head < tail) {
+        int i = queue[head++];
+        for (int adjacent = adjacencyStart[i]; adjacent < adjacencyStart[i + 1]; adjacent++) {
+          int neighbour = neighbours[adjacent];
+          if (!placed[neighbour]) {
+            placement.place(neighbour, i, targetLengths[adjacent]);
+            queue[tail++] = neighbour;
+          }
+        }
+      }
+
+      while (nextSeed < nodes.length && placed[nextSeed]) nextSeed++;
+      if (nextSeed == nodes.length) break;
+      placement.placeSeed(nextSeed);
+      queue[tail++] = nextSeed;
+    }
+
+    Map<NodeInput, NodeInput> oldToNewNodes = new HashMap<>();
+    for (int i = 0; i < nodes.length; i++) {
+      if (nodes[i].getGeoPosition() == null) {
+        LatLon geoPosition =
+            new LatLon(
+                centreLat + ys[i] / METRES_PER_DEGREE, centreLon + xs[i] / metresPerDegreeLon);
+        oldToNewNodes.put(
+            nodes[i], nodes[i].copy().geoPosition(GeoUtils.latlonToPoint(geoPosition)).build());
+      }
+    }
+
+    return updateLines(
+        ContainerNodeUpdateUtil.updateGridWithNodes(jointGridContainer, oldToNewNodes),
+        oldToNewNodes.keySet().stream().map(NodeInput::getUuid).collect(Collectors.toSet()));
+  }
+
+  /**
+   * Replaces the geo position of all lines, that have none or that are connected to a newly placed
+   * node, by a straight line between their nodes
+   */
+  private static JointGridContainer updateLines(JointGridContainer grid, Set<UUID> placedNodes) {
+    Map<UUID, LineInput> updatedLines = new HashMap<>();
+    for (LineInput line : grid.getRawGrid().getLines()) {
+      if (line.getGeoPosition() == null
+          || placedNodes.contains(line.getNodeA().getUuid())
+          || placedNodes.contains(line.getNodeB().getUuid())) {
+        updatedLines.put(
+            line.getUuid(),
+            line.copy()
+                .geoPosition(
+                    GridAndGeoUtils.buildSafeLineStringBetweenNodes(
+                        line.getNodeA(), line.getNodeB()))
+                .build());
+      }
+    }
+    if (updatedLines.isEmpty()) return grid;
+
+    RawGridElements rawGrid = grid.getRawGrid();
+    Set<LineInput> lines =
+        rawGrid.getLines().stream()
+            .map(line -> updatedLines.getOrDefault(line.getUuid(), line))
+            .collect(Collectors.toSet());
+    Set<LineGraphicInput> lineGraphics =
+        grid.getGraphics().getLineGraphics().stream()
+            .map(
+                graphic ->
+                    updatedLines.containsKey(graphic.getLine().getUuid())
+                        ? graphic.copy().line(updatedLines.get(graphic.getLine().getUuid())).build()
+                        : graphic)
+            .collect(Collectors.toSet());
+
+    return new JointGridContainer(
+        grid.getGridName(),
+        new RawGridElements(
+            rawGrid.getNodes(),
+            lines,
+            rawGrid.getTransformer2Ws(),
+            rawGrid.getTransformer3Ws(),
+            rawGrid.getSwitches(),
+            rawGrid.getMeasurementUnits()),
+        grid.getSystemParticipants(),
+        new GraphicElements(grid.getGraphics().getNodeGraphics(), lineGraphics));
+  }
+
+  public JointGridContainer getJointGridContainer() {
+    return jointGridContainer;
+  }
+
+  /** Determines the planar coordinates of single nodes from their already placed neighbours */
+  private static final class Placement {
+
+    private final int[] adjacencyStart;
+    private final int[] neighbours;
+    private final double[] targetLengths;
+    private final boolean[] placed;
+    private final double[] xs;
+    private final double[] ys;
+
+    // direction, in which nodes are placed around a node, and the number of nodes placed so far
+    private final double[] fanDirections;
+    private final int[] fanSizes;
+
+    // eastern and southern bound of all placed nodes
+    private double maxX = Double.NEGATIVE_INFINITY;
+    private double minY = Double.POSITIVE_INFINITY;
+
+    private Placement(GridAdjacency adjacency, boolean[] placed, double[] xs, double[] ys) {
+      this.adjacencyStart = adjacency.getAdjacencyStart();
+      this.neighbours = adjacency.getNeighbours();
+      this.targetLengths = adjacency.getTargetLengths();
+      this.placed = placed;
+      this.xs = xs;
+      this.ys = ys;
+      this.fanDirections = new double[placed.length];
+      this.fanSizes = new int[placed.length];
+      Arrays.fill(fanDirections, Double.NaN);
+      for (int i = 0; i < placed.length; i++) {
+        if (placed[i]) extendBounds(i);
+      }
+    }
+
+    /**
+     * Places a node, that has been reached from a placed neighbour
+     *
+     * @param node index of the node to place
+     * @param from index of the placed neighbour, the node has been reached from
+     * @param length target length of the connection between both nodes
+     */
+    private void place(int node, int from, double length) {
+      int placedNeighbours = 0;
+      double centreX = 0d;
+      double centreY = 0d;
+      double totalLength = 0d;
+      for (int adjacent = adjacencyStart[node]; adjacent < adjacencyStart[node + 1]; adjacent++) {
+        int neighbour = neighbours[adjacent];
+        if (placed[neighbour]) {
+          centreX += xs[neighbour];
+          centreY += ys[neighbour];
+          totalLength += targetLengths[adjacent];
+          placedNeighbours++;
+        }
+      }
+
+      if (placedNeighbours == 1) {
+        // fan out the nodes around their neighbour, away from the neighbour's other connections
+        double direction = fanDirection(from);
+        int fanIndex = fanSizes[from]++;
+        direction += (fanIndex % 2 == 1 ? 1 : -1) * ((fanIndex + 1) / 2) * FAN_ANGLE;
+        xs[node] = xs[from] + length * Math.cos(direction);
+        ys[node] = ys[from] + length * Math.sin(direction);
+      } else {
+        // start next to the centre of the placed neighbours and move towards the position, at
+        // which every connection to them has its target length. The centre itself is avoided, as
+        // the fitting barely moves away from it, e.g. if it lies between two neighbours.
+        double offset = FITTING_START_OFFSET * totalLength / placedNeighbours;
+        xs[node] = centreX / placedNeighbours + offset;
+        ys[node] = centreY / placedNeighbours + offset;
+        for (int iteration = 0; iteration < FITTING_ITERATIONS; iteration++) fit(node);
+      }
+      placed[node] = true;
+      extendBounds(node);
+    }
+
+    /** Places the first node of a component without any placed node next to all placed nodes */
+    private void placeSeed(int node) {
+      xs[node] = maxX == Double.NEGATIVE_INFINITY ? 0d : maxX + GridAdjacency.CONNECTOR_LENGTH;
+      ys[node] = minY == Double.POSITIVE_INFINITY ? 0d : minY;
+      placed[node] = true;
+      extendBounds(node);
+    }
+
+    private void extendBounds(int node) {
+      maxX = Math.max(maxX, xs[node]);
+      minY = Math.min(minY, ys[node]);
+    }
+
+    private void fit(int node) {
+      double x = 0d;
+      double y = 0d;
+      int count = 0;
+      for (int adjacent = adjacencyStart[node]; adjacent < adjacencyStart[node + 1]; adjacent++) {
+        int neighbour = neighbours[adjacent];
+        if (!placed[neighbour]) continue;
+        double dx = xs[node] - xs[neighbour];
+        double dy = ys[node] - ys[neighbour];
+        double distance = Math.sqrt(dx * dx + dy * dy);
+        if (distance > 0d) {
+          x += xs[neighbour] + targetLengths[adjacent] * dx / distance;
+          y += ys[neighbour] + targetLengths[adjacent] * dy / distance;
+        } else {
+          x += xs[neighbour] + targetLengths[adjacent];
+          y += ys[neighbour];
+        }
+        count++;
+      }
+      xs[node] = x / count;
+      ys[node] = y / count;
+    }
+
+    /** @return the direction pointing away from the already placed neighbours of a node */
+    private double fanDirection(int node) {
+      if (Double.isNaN(fanDirections[node])) {
+        double x = 0d;
+        double y = 0d;
+        for (int adjacent = adjacencyStart[node]; adjacent < adjacencyStart[node + 1]; adjacent++) {
+          int neighbour = neighbours[adjacent];
+          double dx = xs[neighbour] - xs[node];
+          double dy = ys[neighbour] - ys[node];
+          double distance = Math.sqrt(dx * dx + dy * dy);
+          if (placed[neighbour] && distance > 0d) {
+            x += dx / distance;
+            y += dy / distance;
+          }
+        }
+        fanDirections[node] = x == 0d && y == 0d ? 0d : Math.atan2(-y, -x);
+      }
+      return fanDirections[node];
+    }
+  }
+}
@@ -0,0 +1,179 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+*/
+package edu.ie3.netpad.tool.layout;
+
+import edu.ie3.datamodel.graph.SubGridGate;
+import edu.ie3.datamodel.graph.SubGridTopologyGraph;
+import edu.ie3.datamodel.models.input.NodeInput;
+import edu.ie3.datamodel.models.input.container.JointGridContainer;
+import edu.ie3.datamodel.models.input.container.SubGridContainer;
+import edu.ie3.datamodel.utils.ContainerNodeUpdateUtil;
+import java.util.*;
+import java.util.stream.Collectors;
+
+/**
+ * The class lays out every sub grid of a {@link JointGridContainer} on its own with a {@link
+ * ForceDirectedLayout}, all sub grids in parallel. Afterwards, the sub grids are composed top-down
+ * along the sub grid topology, each inferior grid is moved so that its transformer node is placed
+ * at the transformer's position in the superior grid. Hence, the duration of the layout depends on
+ * the largest sub grid rather than on the whole grid.
+ */
+public class SubGridLayouter {
+
+  /** Distance between the bounding boxes of sub grids, that have no superior grid */
+  private static final double ROOT_SPACING = 10 * GridAdjacency.CONNECTOR_LENGTH; // metres
+
+  private final JointGridContainer jointGridContainer;
+
+  public SubGridLayouter(JointGridContainer jointGridContainer) {
+    this.jointGridContainer = jointGridContainer;
+  }
+
+  public JointGridContainer execute() {
+    SubGridTopologyGraph topology = jointGridContainer.getSubGridTopologyGraph();
+
+    // Lay out all sub grids independently of each other.
+    Map<Integer, ForceDirectedLayout> layouts =
+        topology.vertexSet().parallelStream()
+            .collect(
+                Collectors.toMap(
+                    SubGridContainer::getSubnet,
+                    subGrid -> {
+                      ForceDirectedLayout layout = new ForceDirectedLayout(subGrid.getRawGrid());
+                      layout.execute();
+                      return layout;
+                    }));
+
+    Map<Integer, double[]> offsets = composeOffsets(topology.edgeSet(), layouts);
+
+    // Move all nodes by the offset of their sub grid. Nodes, that are part of several sub grids,
+    // are placed according to the sub grid of their own subnet.
+    NodeInput[] nodes = jointGridContainer.getRawGrid().getNodes().toArray(new NodeInput[0]);
+    double[] xs = new double[nodes.length];
+    double[] ys = new double[nodes.length];
+    for (int i = 0; i < nodes.length; i++) {
+      int subnet = nodes[i].getSubnet();
+      ForceDirectedLayout layout = layouts.get(subnet);
+      if (layout == null || layout.indexOf(nodes[i].getUuid()) < 0) {
+        // the node only shows up in the sub grids of other subnets
+        subnet = findSubnet(layouts, nodes[i]);
+        layout = layouts.get(subnet);
+      }
+      int index = layout.indexOf(nodes[i].getUuid());
+      xs[i] = layout.getXs()[index] + offsets.get(subnet)[0];
+      ys[i] = layout.getYs()[index] + offsets.get(subnet)[1];
+    }
+
+    int reference = LayoutGeoProjection.getLowestPoint(xs, ys);
+    return ContainerNodeUpdateUtil.updateGridWithNodes(
+        jointGridContainer, LayoutGeoProjection.project(nodes, xs, ys, reference, 1d));
+  }
+
+  /**
+   * Determines the offset of every sub grid's layout. The sub grids without superior grid are
+   * placed next to each other, all others are anchored at their superior grid, breadth first.
+   */
+  private static Map<Integer, double[]> composeOffsets(
+      Set<SubGridGate> gates, Map<Integer, ForceDirectedLayout> layouts) {
+    Map<Integer, List<SubGridGate>> gatesBySuperiorGrid =
+        gates.stream().collect(Collectors.groupingBy(SubGridGate::getSuperiorSubGrid));
+    Set<Integer> inferiorGrids =
+        gates.stream().map(SubGridGate::getInferiorSubGrid).collect(Collectors.toSet());
+
+    // sub grids, that are part of a cycle without superior grid, are treated like top level grids
+    List<Integer> subnets = new ArrayList<>(layouts.keySet());
+    subnets.sort(
+        Comparator.comparing((Integer subnet) -> inferiorGrids.contains(subnet))
+            .thenComparing(Comparator.naturalOrder()));
+
+    Map<Integer, double[]> offsets = new HashMap<>();
+    double nextRootX = 0d;
+    Deque<Integer> queue = new ArrayDeque<>();
+    for (int root : subnets) {
+      if (offsets.containsKey(root)) continue;
+      double[] bounds = bounds(layouts.get(root));
+      offsets.put(root, new double[] {nextRootX - bounds[0], -bounds[1]});
+      nextRootX += bounds[2] - bounds[0] + ROOT_SPACING;
+
+      queue.add(root);
+      while (!queue.isEmpty()) {
+        int superiorGrid = queue.poll();
+        for (SubGridGate gate :
+            gatesBySuperiorGrid.getOrDefault(superiorGrid, Collections.emptyList())) {
+          int inferiorGrid = gate.getInferiorSubGrid();
+          if (offsets.containsKey(inferiorGrid) || !layouts.containsKey(inferiorGrid)) continue;
+          offsets.put(
+              inferiorGrid,
+              anchor(
+                  gate,
+                  layouts.get(superiorGrid),
+                  offsets.get(superiorGrid),
+                  layouts.get(inferiorGrid)));
+          queue.add(inferiorGrid);
+        }
+      }
+    }
+    return offsets;
+  }
+
+  /**
+   * Determines the offset of an inferior grid, so that its transformer node coincides with the
+   * same node in the superior grid. If only the other node of the transformer is available in one
+   * of both layouts, the inferior grid is placed one transformer length below it.
+   */
+  private static double[] anchor(
+      SubGridGate gate,
+      ForceDirectedLayout superiorLayout,
+      double[] superiorOffset,
+      ForceDirectedLayout inferiorLayout) {
+    NodeInput superiorAnchor = anchorNode(superiorLayout, gate);
+    NodeInput inferiorAnchor = anchorNode(inferiorLayout, gate);
+    if (superiorAnchor == null || inferiorAnchor == null) return superiorOffset.clone();
+
+    int superiorIndex = superiorLayout.indexOf(superiorAnchor.getUuid());
+    int inferiorIndex = inferiorLayout.indexOf(inferiorAnchor.getUuid());
+    double anchorX = superiorLayout.getXs()[superiorIndex] + superiorOffset[0];
+    double anchorY = superiorLayout.getYs()[superiorIndex] + superiorOffset[1];
+    if (!superiorAnchor.equals(inferiorAnchor)) anchorY += GridAdjacency.CONNECTOR_LENGTH;
+    return new double[] {
+      anchorX - inferiorLayout.getXs()[inferiorIndex],
+      anchorY - inferiorLayout.getYs()[inferiorIndex]
+    };
+  }
+
+  /** @return the node of the gate, that is part of the layout, preferring the inferior node */
+  private static NodeInput anchorNode(ForceDirectedLayout layout, SubGridGate gate) {
+    if (layout.indexOf(gate.getInferiorNode().getUuid()) >= 0) return gate.getInferiorNode();
+    if (layout.indexOf(gate.getSuperiorNode().getUuid()) >= 0) return gate.getSuperiorNode();
+    return null;
+  }
+
+  private static int findSubnet(Map<Integer, ForceDirectedLayout> layouts, NodeInput node) {
+    return layouts.entrySet().stream()
+        .filter(entry -> entry.getValue().indexOf(node.getUuid()) >= 0)
+        .map(Map.Entry::getKey)
+        .findFirst()
+        .orElseThrow();
+  }
+
+  /** @return the minimum x and y and the maximum x and y coordinate of a layout */
+  private static double[] bounds(ForceDirectedLayout layout) {
+    double[] bounds = {0d, 0d, 0d, 0d};
+    double[] xs = layout.getXs();
+    double[] ys = layout.getYs();
+    for (int i = 0; i < xs.length; i++) {
+      bounds[0] = i == 0 ? xs[i] : Math.min(bounds[0], xs[i]);
+      bounds[1] = i == 0 ? ys[i] : Math.min(bounds[1], ys[i]);
+      bounds[2] = i == 0 ? xs[i] : Math.max(bounds[2], xs[i]);
+      bounds[3] = i == 0 ? ys[i] : Math.max(bounds[3], ys[i]);
+    }
+    return bounds;
+  }
+
+  public JointGridContainer getJointGridContainer() {
+    return jointGridContainer;
+  }
+}
@@ -0,0 +1,133 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+*/
+package edu.ie3.netpad.tool.layout;
+
+import edu.ie3.datamodel.models.UniqueEntity;
+import edu.ie3.datamodel.models.input.container.RawGridElements;
+import java.nio.ByteBuffer;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+
+/**
+ * SHA-256 hash over everything of a grid's topology, that affects its layout: the nodes with their
+ * subnet, and the lines, transformers and switches with the nodes they connect. Lines additionally
+ * contribute their length, as it is the target distance of the force directed layouts. The
+ * entities are hashed in the order of their uuids, hence the fingerprint does not depend on the
+ * iteration order of the grid's sets.
+ */
+final class TopologyFingerprint {
+
+  private static final int NODES = 0;
+  private static final int LINES = 1;
+  private static final int TRANSFORMERS_2W = 2;
+  private static final int TRANSFORMERS_3W = 3;
+  private static final int SWITCHES = 4;
+
+  /** Uuid of the entity, up to three uuids of connected nodes and one further value */
+  private static final int MAX_RECORD_SIZE = 4 * 16 + 8;
+
+  private TopologyFingerprint() {
+    throw new IllegalStateException("Don't instantiate a class with only static methods");
+  }
+
+  /**
+   * Calculates the fingerprint of a grid's topology
+   *
+   * @param rawGrid the raw grid elements of the grid
+   * @return the fingerprint as lower case hex string
+   */
+  static String of(RawGridElements rawGrid) {
+    MessageDigest digest;
+    try {
+      digest = MessageDigest.getInstance("SHA-256");
+    } catch (NoSuchAlgorithmException e) {
+      // every Java platform is required to support SHA-256
+      throw new IllegalStateException("SHA-256 is not available.", e);
+    }
+    ByteBuffer record = ByteBuffer.allocate(MAX_RECORD_SIZE);
+
+    update(digest, record, NODES, rawGrid.getNodes(), (node, r) -> r.putInt(node.getSubnet()));
+    update(
+        digest,
+        record,
+        LINES,
+        rawGrid.getLines(),
+        (line, r) -> {
+          putUuid(r, line.getNodeA().getUuid());
+          putUuid(r, line.getNodeB().getUuid());
+          r.putDouble(line.getLength().toSystemUnit().getValue().doubleValue());
+        });
+    update(
+        digest,
+        record,
+        TRANSFORMERS_2W,
+        rawGrid.getTransformer2Ws(),
+        (transformer, r) -> {
+          putUuid(r, transformer.getNodeA().getUuid());
+          putUuid(r, transformer.getNodeB().getUuid());
+        });
+    update(
+        digest,
+        record,
+        TRANSFORMERS_3W,
+        rawGrid.getTransformer3Ws(),
+        (transformer, r) -> {
+          putUuid(r, transformer.getNodeA().getUuid());
+          putUuid(r, transformer.getNodeB().getUuid());
+          putUuid(r, transformer.getNodeC().getUuid());
+        });
+    update(
+        digest,
+        record,
+        SWITCHES,
+        rawGrid.getSwitches(),
+        (switchInput, r) -> {
+          putUuid(r, switchInput.getNodeA().getUuid());
+          putUuid(r, switchInput.getNodeB().getUuid());
+        });
+
+    return toHex(digest.digest());
+  }
+
+  /** Adds one kind of entities to the digest, each entity as one record of its fields */
+  private static <T extends UniqueEntity> void update(
+      MessageDigest digest,
+      ByteBuffer record,
+      int kind,
+      Collection<T> entities,
+      BiConsumer<T, ByteBuffer> fields) {
+    List<T> sortedEntities = new ArrayList<>(entities);
+    sortedEntities.sort(Comparator.comparing(UniqueEntity::getUuid));
+
+    record.clear();
+    record.putInt(kind).putInt(sortedEntities.size());
+    digest.update(record.array(), 0, record.position());
+    for (T entity : sortedEntities) {
+      record.clear();
+      putUuid(record, entity.getUuid());
+      fields.accept(entity, record);
+      digest.update(record.array(), 0, record.position());
+    }
+  }
+
+  private static void putUuid(ByteBuffer record, UUID uuid) {
+    record.putLong(uuid.getMostSignificantBits()).putLong(uuid.getLeastSignificantBits());
+  }
+
+  private static String toHex(byte[] bytes) {
+    StringBuilder hex = new StringBuilder(2 * bytes.length);
+    for (byte b : bytes) {
+      hex.append(Character.forDigit((b >> 4) & 0xf, 16)).append(Character.forDigit(b & 0xf, 16));
+    }
+    return hex.toString();
+  }
+}
@@ -0,0 +1,102 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+ */
+package edu.ie3.netpad.batch
+
+import edu.ie3.netpad.exception.BatchException
+import edu.ie3.netpad.io.controller.IoDialogs
+import edu.ie3.util.io.FileIOUtils
+import spock.lang.Specification
+
+import java.nio.file.Files
+import java.nio.file.Path
+
+class BatchRunnerTest extends Specification {
+
+	String testFileFolder
+	Path tmpDirectory
+
+	def setup() {
+		testFileFolder = this.getClass().getResource("/testFiles").toString().replaceAll("^file:", "").replaceAll("^/(?=[A-Z]:)", "")
+		tmpDirectory = Files.createTempDirectory("batch_runner")
+	}
+
+	def cleanup() {
+		FileIOUtils.deleteRecursively(tmpDirectory)
+	}
+
+	def "The BatchOptions are parsed from the command line arguments"() {
+		when:
+		def options = BatchOptions.parse([
+			"--input",
+			"a",
+			"--input",
+			"b.tar.gz",
+			"--output",
+			"out",
+			"--tools",
+			"fix-line-length,layout",
+			"--hierarchy",
+			"hierarchic",
+			"--compress",
+			"--threads",
+			"3"
+		] as String[])
+
+		then:
+		options.inputs == [new File("a"), new File("b.tar.gz")]
+		options.outputDirectory == new File("out")
+		options.tools == [
+			BatchTool.FIX_LINE_LENGTH,
+			BatchTool.LAYOUT
+		]
+		options.csvSeparator == ";"
+		options.hierarchy == IoDialogs.CsvIoData.DirectoryHierarchy.HIERARCHIC
+		options.compress
+		options.threads == 3
+	}
+
+	def "The BatchOptions reject incomplete or unknown arguments"() {
+		when:
+		BatchOptions.parse(args as String[])
+
+		then:
+		thrown(BatchException)
+
+		where:
+		args << [
+			["--output", "out"],
+			["--input", "a"],
+			["--input", "a", "--output"],
+			["--input", "a", "--output", "out", "--tools", "unknown"],
+			["--input", "a", "--output", "out", "--threads", "0"],
+			["--input", "a", "--output", "out", "--verbose"]
+		]
+	}
+
+	def "The BatchRunner processes all grids and reports failing ones"() {
+		given:
+		def output = tmpDirectory.resolve("output").toString()
+
+		expect:
+		BatchRunner.run([
+			"--input",
+			testFileFolder + "/flat",
+			"--output",
+			output,
+			"--tools",
+			"fix-line-length"
+		] as String[]) == 0
+		Files.exists(tmpDirectory.resolve("output/flat/node_input.csv"))
+
+		and:
+		BatchRunner.run([
+			"--input",
+			testFileFolder + "/missing",
+			"--output",
+			output
+		] as String[]) == 1
+	}
+}
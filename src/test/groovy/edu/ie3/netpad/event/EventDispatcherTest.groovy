@@ -0,0 +1,112 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+ */
+package edu.ie3.netpad.event
+
+import spock.lang.Specification
+
+import java.util.concurrent.CopyOnWriteArrayList
+import java.util.concurrent.CountDownLatch
+import java.util.concurrent.TimeUnit
+
+class EventDispatcherTest extends Specification {
+
+	def "The EventDispatcher delivers every event to all subscribers, even if the same instance is published twice"() {
+		given:
+		def dispatcher = new EventDispatcher()
+		def topic = EventTopic.of("test", String)
+		def first = []
+		def second = []
+		dispatcher.subscribe(topic, { first << it })
+		dispatcher.subscribe(topic, { second << it })
+
+		when:
+		["a", "a", "b"].each { dispatcher.publish(topic, it) }
+
+		then:
+		first == ["a", "a", "b"]
+		second == ["a", "a", "b"]
+		dispatcher.getMetrics(topic).publishedEvents == 3
+		dispatcher.getMetrics(topic).deliveredEvents == 6
+	}
+
+	def "The EventDispatcher delivers events in background in the order they have been published"() {
+		given:
+		def dispatcher = new EventDispatcher()
+		def topic = EventTopic.of("test", Integer)
+		def received = new CopyOnWriteArrayList<Integer>()
+		def allReceived = new CountDownLatch(1000)
+		dispatcher.subscribe(topic, {
+			received << it
+			allReceived.countDown()
+		}, DeliveryMode.BACKGROUND)
+
+		when:
+		(0..<1000).each { dispatcher.publish(topic, it) }
+
+		then:
+		allReceived.await(10, TimeUnit.SECONDS)
+		received == (0..<1000).toList()
+		dispatcher.getMetrics(topic).maxQueueDepth >= 1
+	}
+
+	def "The EventDispatcher does not deliver events to cancelled subscriptions and isolates failing subscribers"() {
+		given:
+		def dispatcher = new EventDispatcher()
+		def topic = EventTopic.of("test", String)
+		def received = []
+		def subscription = dispatcher.subscribe(topic, { received << it })
+		dispatcher.subscribe(topic, { throw new IllegalStateException("failing subscriber") })
+
+		when:
+		dispatcher.publish(topic, "a")
+		subscription.cancel()
+		dispatcher.publish(topic, "b")
+
+		then:
+		noExceptionThrown()
+		received == ["a"]
+	}
+
+	def "The EventDispatcher delivers an event, that a subscriber publishes to the same topic, after the current one"() {
+		given:
+		def dispatcher = new EventDispatcher()
+		def topic = EventTopic.of("test", String)
+		def first = []
+		def second = []
+		dispatcher.subscribe(topic, {
+			first << it
+			if (it == "outer") dispatcher.publish(topic, "nested")
+		})
+		dispatcher.subscribe(topic, { second << it })
+
+		when:
+		dispatcher.publish(topic, "outer")
+		dispatcher.publish(topic, "next")
+
+		then:
+		first == ["outer", "nested", "next"]
+		second == ["outer", "nested", "next"]
+	}
+
+	def "The EventDispatcher delivers an event, that a subscriber publishes to another topic, immediately"() {
+		given:
+		def dispatcher = new EventDispatcher()
+		def topic = EventTopic.of("test", String)
+		def otherTopic = EventTopic.of("other", String)
+		def received = []
+		dispatcher.subscribe(topic, {
+			dispatcher.publish(otherTopic, "other")
+			received << it
+		})
+		dispatcher.subscribe(otherTopic, { received << it })
+
+		when:
+		dispatcher.publish(topic, "outer")
+
+		then:
+		received == ["other", "outer"]
+	}
+}
@@ -0,0 +1,64 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+ */
+package edu.ie3.netpad.grid
+
+import edu.ie3.datamodel.models.input.NodeInput
+import edu.ie3.netpad.util.TestFixtures
+import org.slf4j.Logger
+import org.slf4j.LoggerFactory
+import spock.lang.Specification
+import spock.lang.Unroll
+
+/**
+ * Benchmark of the {@link GridEntityDiff} for growing numbers of entities. The scaling is checked by
+ * the allocated memory, the durations depend on the build agent and are logged only. Excluded from
+ * the default test task, run with 'gradle allTests'.
+ */
+class GridEntityDiffBenchmarkIT extends Specification {
+
+	private static final Logger log = LoggerFactory.getLogger(GridEntityDiffBenchmarkIT)
+
+	@Unroll
+	def "A GridEntityDiff of #entities entities with one modification scales linearly"() {
+		given:
+		def smallDiff = diffInput(entities)
+		def largeDiff = diffInput(10 * entities)
+
+		/* warm up */
+		3.times {
+			GridEntityDiff.of(smallDiff.oldEntities, smallDiff.updatedEntities)
+			GridEntityDiff.of(largeDiff.oldEntities, largeDiff.updatedEntities)
+		}
+
+		when:
+		def diff = GridEntityDiff.of(largeDiff.oldEntities, largeDiff.updatedEntities)
+		def smallBytes = TestFixtures.allocatedBytes { GridEntityDiff.of(smallDiff.oldEntities, smallDiff.updatedEntities) }
+		def largeBytes = TestFixtures.allocatedBytes { GridEntityDiff.of(largeDiff.oldEntities, largeDiff.updatedEntities) }
+		def smallMs = TestFixtures.minDurationMs(5) { GridEntityDiff.of(smallDiff.oldEntities, smallDiff.updatedEntities) }
+		def largeMs = TestFixtures.minDurationMs(5) { GridEntityDiff.of(largeDiff.oldEntities, largeDiff.updatedEntities) }
+		log.info("GridEntityDiff of {} entities took {} ms, of {} entities {} ms.", entities, smallMs, 10 * entities, largeMs)
+
+		then:
+		diff.modifiedEntities as List == [largeDiff.modifiedNode]
+		diff.addedEntities.empty
+		diff.removedEntities.empty
+
+		and: "ten times the entities allocate about ten times the memory of the uuid index"
+		largeBytes < 15 * smallBytes
+
+		where:
+		entities << [1_000, 10_000, 50_000]
+	}
+
+	/** Nodes before and after a modification of the node in the middle */
+	private static Map diffInput(int entities) {
+		def oldEntities = (0..<entities).collect { TestFixtures.node(it) }
+		def updatedEntities = new ArrayList<NodeInput>(oldEntities)
+		def modifiedNode = oldEntities[entities.intdiv(2)].copy().id("modified").build()
+		updatedEntities.set(entities.intdiv(2), modifiedNode)
+		return [oldEntities: oldEntities, updatedEntities: updatedEntities, modifiedNode: modifiedNode]
+	}
+}
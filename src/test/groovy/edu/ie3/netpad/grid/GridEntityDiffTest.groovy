@@ -0,0 +1,59 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+ */
+package edu.ie3.netpad.grid
+
+import edu.ie3.datamodel.models.input.NodeInput
+import edu.ie3.netpad.test.common.SampleData
+import edu.ie3.netpad.util.SampleGridFactory
+import edu.ie3.util.geo.GeoUtils
+import org.locationtech.jts.geom.Coordinate
+import spock.lang.Specification
+
+class GridEntityDiffTest extends Specification implements SampleData {
+
+	def "A GridEntityDiff of two equal grids is empty"() {
+		given:
+		def grid = SampleGridFactory.sampleJointGrid()
+
+		when:
+		def diff = GridEntityDiff.of(grid, grid)
+
+		then:
+		diff.empty
+		diff.changedEntities.empty
+	}
+
+	def "A GridEntityDiff classifies added, removed and modified entities by their uuid"() {
+		given:
+		def movedNodeA = nodeA.copy().geoPosition(GeoUtils.DEFAULT_GEOMETRY_FACTORY.createPoint(new Coordinate(51.5, 7.4))).build()
+		def oldEntities = [nodeA, nodeB]
+		def updatedEntities = [movedNodeA, testLine]
+
+		when:
+		def diff = GridEntityDiff.of(oldEntities, updatedEntities)
+
+		then:
+		!diff.empty
+		diff.addedEntities as List == [testLine]
+		diff.removedEntities as List == [nodeB]
+		diff.modifiedEntities as List == [movedNodeA]
+		diff.changedEntities == [testLine, movedNodeA]
+	}
+
+	def "A GridEntityDiff reports the updated state of modified entities"() {
+		given:
+		def renamedNodeB = nodeB.copy().id("renamedNodeB").build()
+
+		when:
+		def diff = GridEntityDiff.of([nodeA, nodeB], [nodeA, renamedNodeB])
+
+		then:
+		diff.addedEntities.empty
+		diff.removedEntities.empty
+		diff.modifiedEntities.size() == 1
+		(diff.modifiedEntities.first() as NodeInput).id == "renamedNodeB"
+	}
+}
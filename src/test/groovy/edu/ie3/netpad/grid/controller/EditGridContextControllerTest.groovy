@@ -0,0 +1,103 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+ */
+package edu.ie3.netpad.grid.controller
+
+import edu.ie3.datamodel.models.input.system.EvcsInput
+import edu.ie3.netpad.util.SampleGridFactory
+import edu.ie3.netpad.util.TestFixtures
+import java.util.function.Function
+import javafx.scene.control.Menu
+import spock.lang.Shared
+import spock.lang.Specification
+
+class EditGridContextControllerTest extends Specification {
+
+	@Shared
+	def controller = EditGridContextController.instance
+
+	@Shared
+	def sampleGrid = SampleGridFactory.sampleJointGrid()
+
+	def defaultEditDialog
+
+	def setupSpec() {
+		TestFixtures.startFxToolkit()
+	}
+
+	def setup() {
+		defaultEditDialog = controller.@sysPartEditDialog
+	}
+
+	def cleanup() {
+		controller.@sysPartEditDialog = defaultEditDialog
+	}
+
+	def "An EditGridContextController reuses the context menu of an unchanged node and rebuilds it, once the node has changed"() {
+		given:
+		def node = sampleGrid.rawGrid.nodes.find { it.id == "nodeA" }
+		def participants = sampleGrid.systemParticipants.allEntitiesAsList().toSet()
+		def subGrid = UUID.randomUUID()
+		def changedNode = node.copy().id("changed nodeA").build()
+
+		when:
+		def menus = TestFixtures.onFxThread {
+			[
+				controller.cachedNodeContextMenu(node, participants, subGrid),
+				controller.cachedNodeContextMenu(node, participants, subGrid),
+				controller.cachedNodeContextMenu(changedNode, participants, subGrid),
+				controller.cachedNodeContextMenu(node, [] as Set, subGrid)
+			]
+		}
+
+		then:
+		menus[0].is(menus[1])
+		!menus[2].is(menus[0])
+		!menus[3].is(menus[0])
+	}
+
+	def "An EditGridContextController builds the edit dialog of a participant only, once its menu item is clicked"() {
+		given:
+		def requestedDialogs = []
+		controller.@sysPartEditDialog = { participant ->
+			requestedDialogs << participant
+			Optional.empty()
+		} as Function
+		def node = sampleGrid.rawGrid.nodes.find { it.id == "nodeA" }
+		def load = sampleGrid.systemParticipants.loads[0]
+
+		when:
+		def menu = TestFixtures.onFxThread {
+			controller.cachedNodeContextMenu(node, [load] as Set, UUID.randomUUID())
+		}
+		def loadItem = menu.items.findAll { it instanceof Menu }.collectMany { (it as Menu).items }.first()
+
+		then:
+		requestedDialogs.empty
+		!loadItem.disable
+
+		when:
+		TestFixtures.onFxThread { loadItem.fire() }
+
+		then:
+		requestedDialogs == [load]
+	}
+
+	def "An EditGridContextController disables the menu items of participants, that cannot be edited"() {
+		given:
+		def node = sampleGrid.rawGrid.nodes.find { it.id == "nodeA" }
+		def evcs = sampleGrid.systemParticipants.allEntitiesAsList().find { it instanceof EvcsInput }
+
+		when:
+		def menu = TestFixtures.onFxThread {
+			controller.cachedNodeContextMenu(node, [evcs] as Set, UUID.randomUUID())
+		}
+
+		then:
+		def evcsItems = menu.items.findAll { it instanceof Menu }.collectMany { (it as Menu).items }
+		evcsItems.size() == 1
+		evcsItems.every { it.disable && it.onAction == null }
+	}
+}
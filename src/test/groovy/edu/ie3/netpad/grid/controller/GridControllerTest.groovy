@@ -5,49 +5,201 @@
  */
 package edu.ie3.netpad.grid.controller
 
+import edu.ie3.datamodel.models.input.NodeInput
+import edu.ie3.datamodel.models.input.container.SubGridContainer
+import edu.ie3.datamodel.models.input.system.LoadInput
+import edu.ie3.datamodel.models.input.system.PvInput
+import edu.ie3.datamodel.models.input.system.StorageInput
+import edu.ie3.netpad.event.EventDispatcher
+import edu.ie3.netpad.grid.GridModel
+import edu.ie3.netpad.grid.event.BatchUpdateGridEvent
+import edu.ie3.netpad.io.event.ReadGridEvent
+import edu.ie3.netpad.map.event.NodeGeoPositionUpdateEvent
 import edu.ie3.netpad.test.common.SampleData
 import edu.ie3.netpad.util.SampleGridFactory
+import edu.ie3.util.geo.GeoUtils
+import org.locationtech.jts.geom.Coordinate
 import spock.lang.Specification
 
+import java.util.function.Consumer
+
 class GridControllerTest extends Specification implements SampleData {
 
-	def "A GridController should find the correct grid based from a valid mapping of grid id and a set of entity ids"() {
+	def "A GridController should find the correct grid based on its entity index"() {
 		given:
-		def validEntityList = [
-			UUID.fromString("d56f15b7-8293-4b98-b5bd-58f6273ce229"),
-			UUID.fromString("eaf77f7e-9001-479f-94ca-7fb657766f5f"),
-			UUID.fromString("d56f15b7-8293-4b98-b5bd-58f6273ce239"),
-			UUID.fromString("eaf77f7e-9001-479f-94ca-7fb657766f6f"),
-			UUID.fromString("06b58276-8350-40fb-86c0-2414aa4a0452"),
-			UUID.fromString("4ca90220-74c2-4369-9afa-a18bf068840d"),
-			UUID.fromString("47d29df0-ba2d-4d23-8e75-c82229c5c758"),
-			UUID.fromString("bd837a25-58f3-44ac-aa90-c6b6e3cd91b2"),
-			UUID.fromString("92ec3bcf-1777-4d38-af67-0bf7c9fa73c7"),
-			UUID.fromString("d0f36763-c11e-46a4-bf6b-e57fb06fd8d8"),
-			UUID.fromString("4dd1bde7-0ec9-4540-ac9e-008bc5f883ba"),
-			UUID.fromString("09aec636-791b-45aa-b981-b14edf171c4c"),
-			UUID.fromString("35dc7348-2602-4c4a-99fb-1d1bbc76ec6a"),
-			UUID.fromString("211ccf5b-58ee-4c3c-8165-852b0c9255ef"),
-			UUID.fromString("30c48ca2-9cfe-423b-bf8c-3adbc6ab496b"),
-			UUID.fromString("571e8b88-dd9d-4542-89ed-b7f37916d775"),
-			UUID.fromString("b83b93ed-7468-47c2-aed9-48e554c428c7"),
-			UUID.fromString("7197e24f-97cd-4764-ae22-40cdc2f26dd2"),
-			UUID.fromString("58247de7-e297-4d9b-a5e4-b662c058c655"),
-			UUID.fromString("d75b93d0-5d8d-43e5-81a1-8cef01aec56d")
-		] as Set
-
-		def gridUuid = UUID.randomUUID()
-
-		def validMapping = [(gridUuid): validEntityList]
+		def sampleGrid = SampleGridFactory.sampleJointGrid()
+		def subGrids = sampleGrid.subGridTopologyGraph.vertexSet()
+		def gridUuids = subGrids.collectEntries { [(it.subnet): UUID.randomUUID()] }
+		def gridController = GridController.instance
+
+		when:
+		index(gridController, subGrids, gridUuids)
+
+		then:
+		subGrids.each { subGrid ->
+			assert gridController.findSubGridUuid(subGrid) == Optional.of(gridUuids.get(subGrid.subnet))
+			subGrid.rawGrid.nodes.findAll { it.subnet == subGrid.subnet }.each {
+				assert gridController.getSubGridUuid(it.uuid) == Optional.of(gridUuids.get(subGrid.subnet))
+			}
+		}
 
+		cleanup:
+		gridController.subGrids.clear()
+		gridController.entityToSubGrid.clear()
+	}
+
+	def "A GridController should find the grid of a sub grid, that a node of another sub grid has been moved to"() {
+		given:
 		def sampleGrid = SampleGridFactory.sampleJointGrid()
+		def subGrids = sampleGrid.subGridTopologyGraph.vertexSet()
+		def gridUuids = subGrids.collectEntries { [(it.subnet): UUID.randomUUID()] }
+		def gridController = GridController.instance
+		index(gridController, subGrids, gridUuids)
+		def targetSubGrid = subGrids.max { subGrid -> subGrid.rawGrid.nodes.count { it.subnet == subGrid.subnet } }
+		def formerSubGrid = subGrids.find { it != targetSubGrid }
+
+		when: "the index still assigns the moved node, which is the first node of the target sub grid, to its former sub grid"
+		def movedNode = targetSubGrid.rawGrid.nodes.find { it.subnet == targetSubGrid.subnet }
+		gridController.entityToSubGrid.put(movedNode.uuid, gridUuids.get(formerSubGrid.subnet))
+
+		then:
+		gridController.findSubGridUuid(targetSubGrid) == Optional.of(gridUuids.get(targetSubGrid.subnet))
+		gridController.findSubGridUuid(formerSubGrid) == Optional.of(gridUuids.get(formerSubGrid.subnet))
+
+		when: "all nodes of the target sub grid are assigned to the former sub grid"
+		targetSubGrid.rawGrid.nodes.each { gridController.entityToSubGrid.put(it.uuid, gridUuids.get(formerSubGrid.subnet)) }
+
+		then: "the former sub grid does not match, as its subnet differs"
+		gridController.findSubGridUuid(targetSubGrid) == Optional.empty()
+
+		cleanup:
+		gridController.subGrids.clear()
+		gridController.entityToSubGrid.clear()
+	}
+
+	def "A GridController should not find a grid for an unknown sub grid"() {
+		given:
+		def subGrid = SampleGridFactory.sampleJointGrid().subGridTopologyGraph.vertexSet().first()
+		def gridController = GridController.instance
+
+		when:
+		gridController.entityToSubGrid.clear()
 
-		expect:
-		sampleGrid.allEntitiesAsList().size() == validEntityList.size()
+		then:
+		gridController.findSubGridUuid(subGrid) == Optional.empty()
+	}
+
+	def "A GridController publishes all updates of a modification as a single batch"() {
+		given:
+		def gridController = GridController.instance
+		gridController.handleReadGridEvent(new ReadGridEvent(SampleGridFactory.sampleJointGrid()))
+		def (UUID subGridUuid, NodeInput node, Set<UUID> expectedEntities) = movableNode(gridController)
+		def events = []
+		def subscription = EventDispatcher.instance.subscribe(GridController.GRID_EVENTS, { events << it } as Consumer)
+
+		when:
+		def updatedPosition = GeoUtils.DEFAULT_GEOMETRY_FACTORY.createPoint(new Coordinate(node.geoPosition.x + 1e-3, node.geoPosition.y))
+		gridController.handleGridModifications(new NodeGeoPositionUpdateEvent(subGridUuid, node, updatedPosition))
+
+		then: "the node, its lines and its system participants are updated at once"
+		expectedEntities.size() > 1
+		events.size() == 1
+		events[0] instanceof BatchUpdateGridEvent
+		events[0].subGridUuids == [subGridUuid] as Set
+		events[0].size() == expectedEntities.size()
+		events[0].getUpdates(subGridUuid)*.gridEntityUuid as Set == expectedEntities
+
+		cleanup:
+		subscription.cancel()
+		gridController.subGrids.clear()
+		gridController.entityToSubGrid.clear()
+	}
+
+	def "A GridController applies the modification of a transformer's high voltage node to the superior and the inferior sub grid"() {
+		given:
+		def gridController = GridController.instance
+		gridController.handleReadGridEvent(new ReadGridEvent(SampleGridFactory.sampleJointGrid()))
+		def transformer = gridController.subGrids.values()
+				.collectMany { it.subGridContainer.rawGrid.transformer2Ws }
+				.find { transformer ->
+					gridController.subGrids.values().every { gridModel ->
+						// the superior sub grid contains the high voltage node, but not the transformer
+						gridModel.subGridContainer.rawGrid.transformer2Ws.every { it.nodeB != transformer.nodeA }
+					}
+				}
+		def superiorGridUuid = gridController.getSubGridUuid(transformer.nodeA.uuid).get()
+		def inferiorGridUuid = gridController.getSubGridUuid(transformer.nodeB.uuid).get()
+		def subGridUuids = new HashSet(gridController.subGrids.keySet())
+		def events = []
+		def subscription = EventDispatcher.instance.subscribe(GridController.GRID_EVENTS, { events << it } as Consumer)
+
+		when:
+		def updatedPosition = GeoUtils.DEFAULT_GEOMETRY_FACTORY.createPoint(
+				new Coordinate(transformer.nodeA.geoPosition.x + 1e-3, transformer.nodeA.geoPosition.y))
+		gridController.handleGridModifications(new NodeGeoPositionUpdateEvent(superiorGridUuid, transformer.nodeA, updatedPosition))
+
+		then:
+		superiorGridUuid != inferiorGridUuid
+		gridController.subGrids.keySet() == subGridUuids
+
+		and: "both sub grids contain the moved node and the transformer is connected to it"
+		def superiorGrid = gridController.subGrids.get(superiorGridUuid).subGridContainer.rawGrid
+		def inferiorGrid = gridController.subGrids.get(inferiorGridUuid).subGridContainer.rawGrid
+		superiorGrid.nodes.find { it.uuid == transformer.nodeA.uuid }.geoPosition == updatedPosition
+		inferiorGrid.nodes.find { it.uuid == transformer.nodeA.uuid }.geoPosition == updatedPosition
+		inferiorGrid.transformer2Ws.find { it.uuid == transformer.uuid }.nodeA.geoPosition == updatedPosition
 
-		def subGridUuid = GridController.instance.findSubGridUuid(validMapping, sampleGrid)
+		and: "the listeners are notified about the changes in both sub grids"
+		events.size() == 1
+		events[0] instanceof BatchUpdateGridEvent
+		events[0].subGridUuids == [superiorGridUuid, inferiorGridUuid] as Set
+		events[0].getUpdates(inferiorGridUuid)*.gridEntityUuid as Set == [transformer.nodeA.uuid, transformer.uuid] as Set
+
+		cleanup:
+		subscription.cancel()
+		gridController.subGrids.clear()
+		gridController.entityToSubGrid.clear()
+	}
+
+	private static void index(GridController gridController, Collection<SubGridContainer> subGrids, Map gridUuids) {
+		gridController.subGrids.clear()
+		gridController.entityToSubGrid.clear()
+		subGrids.each {
+			def gridModel = new GridModel(gridUuids.get(it.subnet), it, [] as Set, [] as Set)
+			gridController.subGrids.put(gridModel.uuid, gridModel)
+			gridController.indexEntities(gridModel)
+		}
+	}
 
-		subGridUuid.isPresent()
-		subGridUuid == Optional.of(gridUuid)
+	/**
+	 * Finds a node, whose modification can be applied to its sub grid only and only affects entities
+	 * with update events (lines, two winding transformers, loads, pv plants and storages)
+	 *
+	 * @return the uuid of the sub grid, the node and the uuids of all entities, that are affected
+	 */
+	private static List movableNode(GridController gridController) {
+		return gridController.subGrids.collect { subGridUuid, gridModel ->
+			def subGrid = gridModel.subGridContainer
+			def rawGrid = subGrid.rawGrid
+			def otherGridsNodes = gridController.subGrids.findAll { it.key != subGridUuid }
+					.collectMany { it.value.subGridContainer.rawGrid.nodes*.uuid } as Set
+			def node = rawGrid.nodes.find { candidate ->
+				candidate.subnet == subGrid.subnet &&
+						!(candidate.uuid in otherGridsNodes) &&
+						rawGrid.transformer3Ws.every { !(candidate in [it.nodeA, it.nodeB, it.nodeC]) } &&
+						rawGrid.lines.any { it.nodeA == candidate || it.nodeB == candidate } &&
+						rawGrid.switches.every { it.nodeA != candidate && it.nodeB != candidate } &&
+						rawGrid.measurementUnits.every { it.node != candidate } &&
+						subGrid.systemParticipants.allEntitiesAsList().findAll { it.node == candidate }.every {
+							it instanceof LoadInput || it instanceof PvInput || it instanceof StorageInput
+						}
+			}
+			if (node == null) return null
+			def affectedEntities = [node.uuid] as Set
+			affectedEntities.addAll(rawGrid.lines.findAll { it.nodeA == node || it.nodeB == node }*.uuid)
+			affectedEntities.addAll(rawGrid.transformer2Ws.findAll { it.nodeA == node || it.nodeB == node }*.uuid)
+			affectedEntities.addAll(subGrid.systemParticipants.allEntitiesAsList().findAll { it.node == node }*.uuid)
+			[subGridUuid, node, affectedEntities]
+		}.findAll { it != null }.max { it[2].size() }
 	}
 }
@@ -0,0 +1,32 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+ */
+package edu.ie3.netpad.grid.event
+
+import edu.ie3.netpad.util.TestFixtures
+import spock.lang.Specification
+
+class BatchUpdateGridEventTest extends Specification {
+
+	def "A BatchUpdateGridEvent groups the updates by sub grid and keeps the latest update of each entity only"() {
+		given:
+		def subGridA = UUID.randomUUID()
+		def subGridB = UUID.randomUUID()
+		def node = TestFixtures.node(1)
+		def first = new GridUpdateNodeEvent(node, subGridA)
+		def second = new GridUpdateNodeEvent(TestFixtures.node(2), subGridA)
+		def other = new GridUpdateNodeEvent(TestFixtures.node(3), subGridB)
+		def firstAgain = new GridUpdateNodeEvent(node.copy().id("moved").build(), subGridA)
+
+		when:
+		def batch = BatchUpdateGridEvent.of([first, second, other, firstAgain])
+
+		then:
+		batch.size() == 3
+		batch.subGridUuids == [subGridA, subGridB] as Set
+		batch.getUpdates(subGridA) as List == [second, firstAgain]
+		batch.getUpdates(subGridB) as List == [other]
+	}
+}
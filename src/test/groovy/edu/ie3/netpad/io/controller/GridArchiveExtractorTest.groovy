@@ -0,0 +1,75 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+ */
+package edu.ie3.netpad.io.controller
+
+import edu.ie3.util.io.FileIOUtils
+import org.apache.commons.compress.archivers.tar.TarArchiveEntry
+import org.apache.commons.compress.archivers.tar.TarArchiveOutputStream
+import org.apache.commons.compress.compressors.gzip.GzipCompressorOutputStream
+import spock.lang.Specification
+
+import java.nio.file.Files
+import java.nio.file.Path
+
+class GridArchiveExtractorTest extends Specification {
+
+	Path tmpDirectory
+
+	def setup() {
+		tmpDirectory = Files.createTempDirectory("grid_archive_extractor")
+	}
+
+	def cleanup() {
+		FileIOUtils.deleteRecursively(tmpDirectory)
+	}
+
+	def "The GridArchiveExtractor only extracts input files and preserves the directory structure"() {
+		given:
+		def archive = createArchive([
+			"input/grid/node_input.csv",
+			"input/global/line_type_input.csv",
+			"input/participants/time_series/its_p_4fc9.csv",
+			"results/node_result.csv"
+		])
+
+		when:
+		def gridDirectory = GridArchiveExtractor.extractInputFiles(archive, tmpDirectory.resolve("target"))
+
+		then:
+		gridDirectory == tmpDirectory.resolve("target").resolve("sampleGrid")
+		Files.isRegularFile(gridDirectory.resolve("input/grid/node_input.csv"))
+		Files.isRegularFile(gridDirectory.resolve("input/global/line_type_input.csv"))
+		!Files.exists(gridDirectory.resolve("input/participants/time_series"))
+		!Files.exists(gridDirectory.resolve("results"))
+	}
+
+	def "The GridArchiveExtractor refuses entries pointing outside of the target directory"() {
+		given:
+		def archive = createArchive(["../../evil_input.csv"])
+
+		when:
+		GridArchiveExtractor.extractInputFiles(archive, tmpDirectory.resolve("target"))
+
+		then:
+		def exception = thrown(IOException)
+		exception.message == "Archive entry '../../evil_input.csv' points outside of the target directory."
+	}
+
+	private Path createArchive(List<String> entryNames) {
+		def archive = tmpDirectory.resolve("sampleGrid.tar.gz")
+		new TarArchiveOutputStream(new GzipCompressorOutputStream(Files.newOutputStream(archive))).withCloseable { tarOutput ->
+			entryNames.each { entryName ->
+				def content = "uuid;id\n".bytes
+				def entry = new TarArchiveEntry(entryName)
+				entry.size = content.length
+				tarOutput.putArchiveEntry(entry)
+				tarOutput.write(content)
+				tarOutput.closeArchiveEntry()
+			}
+		}
+		return archive
+	}
+}
@@ -0,0 +1,60 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+ */
+package edu.ie3.netpad.io.controller
+
+import edu.ie3.datamodel.models.input.container.JointGridContainer
+import edu.ie3.netpad.grid.GridModel
+import edu.ie3.netpad.util.TestFixtures
+import org.apache.commons.io.FilenameUtils
+import org.slf4j.Logger
+import org.slf4j.LoggerFactory
+import spock.lang.Specification
+
+import java.nio.file.Files
+
+/**
+ * Compares reloading a grid from a binary snapshot with reading it from csv files. The timings are
+ * logged only, as they depend on the build agent. Excluded from the default test task, run with
+ * 'gradle allTests'.
+ */
+class GridSnapshotBenchmarkIT extends Specification {
+
+	private static final Logger log = LoggerFactory.getLogger(GridSnapshotBenchmarkIT)
+
+	def "Reading a grid snapshot yields the same grid as reading the csv files"() {
+		given:
+		def testFileFolder = this.getClass().getResource("/testFiles").toString().replaceAll("^file:", "").replaceAll("^/(?=[A-Z]:)", "")
+		def directory = new File(FilenameUtils.concat(testFileFolder, "hierarchic"))
+		def hierarchy = IoDialogs.CsvIoData.DirectoryHierarchy.HIERARCHIC
+		def ioController = new IoController()
+		JointGridContainer grid = ioController.readGridFromDirectory(directory, ";", hierarchy, false, {}).get()
+		def gridModels = grid.subGridTopologyGraph.vertexSet().collect {
+			new GridModel(UUID.randomUUID(), it, [] as Set, [] as Set)
+		}
+		def snapshotFile = Files.createTempFile("hierarchic", ".npgrid")
+		GridSnapshotFormat.write(grid.gridName, gridModels, snapshotFile)
+
+		/* warm up */
+		5.times {
+			ioController.readGridFromDirectory(directory, ";", hierarchy, false, {})
+			GridSnapshotFormat.read(snapshotFile)
+		}
+
+		when:
+		def snapshot = GridSnapshotFormat.read(snapshotFile)
+		def csvMs = TestFixtures.minDurationMs(10) { ioController.readGridFromDirectory(directory, ";", hierarchy, false, {}) }
+		def snapshotMs = TestFixtures.minDurationMs(10) { GridSnapshotFormat.read(snapshotFile) }
+
+		log.info("Reading grid '{}' took {} ms from csv files and {} ms from a snapshot.", grid.gridName, csvMs, snapshotMs)
+
+		then:
+		snapshot.gridName == grid.gridName
+		snapshot.gridModels.collectMany { it.subGridContainer.allEntitiesAsList() } as Set == grid.allEntitiesAsList() as Set
+
+		cleanup:
+		Files.deleteIfExists(snapshotFile)
+	}
+}
@@ -0,0 +1,89 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+ */
+package edu.ie3.netpad.io.controller
+
+import edu.ie3.netpad.grid.GridModel
+import edu.ie3.netpad.util.SampleGridFactory
+import spock.lang.Specification
+
+import java.nio.file.Files
+
+class GridSnapshotFormatTest extends Specification {
+
+	def "A grid snapshot restores all entities and the topology of the sub grids"() {
+		given:
+		def subGrids = SampleGridFactory.sampleJointGrid().subGridTopologyGraph.vertexSet().toList()
+		def gridModelUuids = subGrids.collect { UUID.randomUUID() }
+		def gridModels = (0..<subGrids.size()).collect { i ->
+			new GridModel(
+					gridModelUuids[i],
+					subGrids[i],
+					i > 0 ? [gridModelUuids[i - 1]] as Set : [] as Set,
+					i < subGrids.size() - 1 ? [gridModelUuids[i + 1]] as Set : [] as Set)
+		}
+		def snapshotFile = Files.createTempFile("sampleGrid", ".npgrid")
+
+		when:
+		GridSnapshotFormat.write("sampleGrid", gridModels, snapshotFile)
+		def actual = GridSnapshotFormat.read(snapshotFile)
+
+		then:
+		actual.gridName == "sampleGrid"
+		actual.gridModels.size() == gridModels.size()
+		[actual.gridModels, gridModels].transpose().each { GridModel read, GridModel written ->
+			assert read.uuid == written.uuid
+			assert read.superiorGrids == written.superiorGrids
+			assert read.inferiorGrids == written.inferiorGrids
+			assert read.subGridContainer.subnet == written.subGridContainer.subnet
+			assert read.subGridContainer.gridName == written.subGridContainer.gridName
+			assert read.subGridContainer.allEntitiesAsList() as Set == written.subGridContainer.allEntitiesAsList() as Set
+		}
+
+		cleanup:
+		Files.deleteIfExists(snapshotFile)
+	}
+
+	def "Reading a file, that is no grid snapshot, fails"() {
+		given:
+		def file = Files.createTempFile("noSnapshot", ".npgrid")
+		Files.write(file, "uuid;id\n".bytes)
+
+		when:
+		GridSnapshotFormat.read(file)
+
+		then:
+		def exception = thrown(IOException)
+		exception.message == "'" + file + "' is no grid snapshot."
+
+		cleanup:
+		Files.deleteIfExists(file)
+	}
+
+	def "Reading a grid snapshot, whose entities cannot be decoded, fails with an I/O exception"() {
+		given:
+		def subGrid = SampleGridFactory.sampleJointGrid().subGridTopologyGraph.vertexSet().first()
+		def snapshotFile = Files.createTempFile("corruptSnapshot", ".npgrid")
+		GridSnapshotFormat.write("sampleGrid", [
+			new GridModel(UUID.randomUUID(), subGrid, [] as Set, [] as Set)
+		], snapshotFile)
+
+		and: "a field name is renamed, hence the entity factory misses a mandatory field"
+		def bytes = Files.readAllBytes(snapshotFile)
+		def fieldIndex = new String(bytes, "ISO-8859-1").indexOf("v_rated")
+		bytes[fieldIndex + 2] = (byte) ('x' as char)
+		Files.write(snapshotFile, bytes)
+
+		when:
+		GridSnapshotFormat.read(snapshotFile)
+
+		then:
+		def exception = thrown(IOException)
+		exception.message == "Grid snapshot '" + snapshotFile + "' is corrupt."
+
+		cleanup:
+		Files.deleteIfExists(snapshotFile)
+	}
+}
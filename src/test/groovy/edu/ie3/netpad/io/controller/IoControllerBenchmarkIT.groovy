@@ -0,0 +1,57 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+ */
+package edu.ie3.netpad.io.controller
+
+import edu.ie3.netpad.util.TestFixtures
+import edu.ie3.util.io.FileIOUtils
+import org.slf4j.Logger
+import org.slf4j.LoggerFactory
+import spock.lang.Specification
+
+import java.nio.file.Files
+
+/**
+ * Compares the wall-clock time of reading a grid sequentially and in parallel. The timings are
+ * logged only, as they depend on the build agent. Excluded from the default test task, run with
+ * 'gradle allTests'.
+ */
+class IoControllerBenchmarkIT extends Specification {
+
+	private static final Logger log = LoggerFactory.getLogger(IoControllerBenchmarkIT)
+
+	def "Reading a large grid in parallel yields the same grid as sequential reading"() {
+		given:
+		def directory = Files.createTempDirectory("parallel_reading").toAbsolutePath().toString()
+		def ioController = new IoController()
+		def hierarchy = IoDialogs.CsvIoData.DirectoryHierarchy.FLAT
+		def grid = TestFixtures.radialGrid((0..<50_000).collect { TestFixtures.node(it) })
+		ioController.saveGridToCsv(directory, grid, hierarchy, ";", {})
+		def directoryFile = new File(directory)
+
+		/* warm up */
+		2.times {
+			ioController.readGridFromDirectory(directoryFile, ";", hierarchy, false, {})
+			ioController.readGridFromDirectory(directoryFile, ";", hierarchy, true, {})
+		}
+
+		when:
+		def sequentialGrid = ioController.readGridFromDirectory(directoryFile, ";", hierarchy, false, {})
+		def parallelGrid = ioController.readGridFromDirectory(directoryFile, ";", hierarchy, true, {})
+		def sequentialMs = TestFixtures.minDurationMs(3) { ioController.readGridFromDirectory(directoryFile, ";", hierarchy, false, {}) }
+		def parallelMs = TestFixtures.minDurationMs(3) { ioController.readGridFromDirectory(directoryFile, ";", hierarchy, true, {}) }
+		log.info("Reading {} nodes took {} ms sequentially and {} ms in parallel on {} processors.",
+				grid.rawGrid.nodes.size(), sequentialMs, parallelMs, Runtime.runtime.availableProcessors())
+
+		then:
+		sequentialGrid.present
+		parallelGrid.present
+		parallelGrid.get().rawGrid.nodes.size() == grid.rawGrid.nodes.size()
+		parallelGrid.get().allEntitiesAsList() as Set == sequentialGrid.get().allEntitiesAsList() as Set
+
+		cleanup:
+		FileIOUtils.deleteRecursively(directory)
+	}
+}
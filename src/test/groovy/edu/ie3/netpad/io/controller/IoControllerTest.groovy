@@ -5,14 +5,19 @@
  */
 package edu.ie3.netpad.io.controller
 
+import edu.ie3.datamodel.io.naming.EntityPersistenceNamingStrategy
+import edu.ie3.datamodel.io.naming.FileNamingStrategy
+import edu.ie3.datamodel.io.naming.FlatDirectoryHierarchy
+import edu.ie3.datamodel.io.source.csv.CsvRawGridSource
+import edu.ie3.datamodel.io.source.csv.CsvTypeSource
 import edu.ie3.datamodel.models.input.container.GridContainer
 import edu.ie3.datamodel.models.input.container.JointGridContainer
+import edu.ie3.netpad.event.EventDispatcher
+import edu.ie3.netpad.event.Subscription
 import edu.ie3.netpad.io.event.IOEvent
 import edu.ie3.netpad.io.event.ReadGridEvent
 import edu.ie3.netpad.util.SampleGridFactory
 import edu.ie3.util.io.FileIOUtils
-import javafx.beans.value.ChangeListener
-import javafx.beans.value.ObservableValue
 import org.apache.commons.compress.archivers.ArchiveEntry
 import org.apache.commons.compress.archivers.tar.TarArchiveInputStream
 import org.apache.commons.io.FilenameUtils
@@ -20,6 +25,10 @@ import spock.lang.Shared
 import spock.lang.Specification
 
 import java.nio.file.Files
+import java.nio.file.Paths
+import java.util.concurrent.CancellationException
+import java.util.concurrent.atomic.AtomicInteger
+import java.util.function.Consumer
 import java.util.stream.Collectors
 import java.util.stream.Stream
 import java.util.zip.GZIPInputStream
@@ -31,6 +40,9 @@ class IoControllerTest extends Specification {
 	@Shared
 	IoEventListener ioListener
 
+	@Shared
+	Subscription ioSubscription
+
 	@Shared
 	JointGridContainer sampleGrid
 
@@ -42,11 +54,15 @@ class IoControllerTest extends Specification {
 		testFileFolder = this.getClass().getResource("/testFiles").toString().replaceAll("^file:", "").replaceAll("^/(?=[A-Z]:)", "")
 		ioListener = new IoEventListener()
 		ioController = new IoController()
-		ioController.registerGridControllerListener(ioListener)
+		ioSubscription = EventDispatcher.instance.subscribe(IoController.IO_EVENTS, ioListener)
 
 		sampleGrid = SampleGridFactory.sampleJointGrid()
 	}
 
+	def cleanupSpec() {
+		ioSubscription.cancel()
+	}
+
 	def cleanup() {
 		ioListener.grid = null
 	}
@@ -139,6 +155,25 @@ class IoControllerTest extends Specification {
 		}
 	}
 
+	def "The I/O controller reads the same grid in parallel as sequentially"() {
+		given:
+		def directory = new File(FilenameUtils.concat(testFileFolder, folder))
+
+		when:
+		Optional<JointGridContainer> sequential = ioController.readGridFromDirectory(directory, ";", hierarchy, false, {})
+		Optional<JointGridContainer> parallel = ioController.readGridFromDirectory(directory, ";", hierarchy, true, {})
+
+		then:
+		sequential.present
+		parallel.present
+		parallel.get() == sequential.get()
+
+		where:
+		folder       || hierarchy
+		"flat"       || IoDialogs.CsvIoData.DirectoryHierarchy.FLAT
+		"hierarchic" || IoDialogs.CsvIoData.DirectoryHierarchy.HIERARCHIC
+	}
+
 	def "The I/O controller is able to write a grid to uncompressed, flat directory hierarchy"() {
 		given:
 		def tmpDirectory = Files.createTempDirectory("flat_uncompressed").toAbsolutePath().toString()
@@ -158,7 +193,7 @@ class IoControllerTest extends Specification {
 
 		when:
 		try {
-			ioController.saveGridToCsv(tmpDirectory, sampleGrid, IoDialogs.CsvIoData.DirectoryHierarchy.FLAT, ";")
+			ioController.saveGridToCsv(tmpDirectory, sampleGrid, IoDialogs.CsvIoData.DirectoryHierarchy.FLAT, ";", {})
 		} catch (Exception e) {
 			FileIOUtils.deleteRecursively(tmpDirectory)
 			throw e
@@ -195,7 +230,7 @@ class IoControllerTest extends Specification {
 
 		when:
 		try {
-			ioController.saveGridToCsv(tmpDirectory, sampleGrid, IoDialogs.CsvIoData.DirectoryHierarchy.HIERARCHIC, ";")
+			ioController.saveGridToCsv(tmpDirectory, sampleGrid, IoDialogs.CsvIoData.DirectoryHierarchy.HIERARCHIC, ";", {})
 		} catch (Exception e) {
 			FileIOUtils.deleteRecursively(tmpDirectory)
 			throw e
@@ -233,7 +268,7 @@ class IoControllerTest extends Specification {
 
 		when: "saving the archive"
 		try {
-			ioController.saveGridCompressed(tmpDirectory, sampleGrid, IoDialogs.CsvIoData.DirectoryHierarchy.FLAT, ";")
+			ioController.saveGridCompressed(tmpDirectory, sampleGrid, IoDialogs.CsvIoData.DirectoryHierarchy.FLAT, ";", {})
 		} catch (Exception e) {
 			FileIOUtils.deleteRecursively(tmpDirectory)
 			throw e
@@ -282,7 +317,7 @@ class IoControllerTest extends Specification {
 
 		when: "saving the archive"
 		try {
-			ioController.saveGridCompressed(tmpDirectory, sampleGrid, IoDialogs.CsvIoData.DirectoryHierarchy.HIERARCHIC, ";")
+			ioController.saveGridCompressed(tmpDirectory, sampleGrid, IoDialogs.CsvIoData.DirectoryHierarchy.HIERARCHIC, ";", {})
 		} catch (Exception e) {
 			FileIOUtils.deleteRecursively(tmpDirectory)
 			throw e
@@ -311,13 +346,117 @@ class IoControllerTest extends Specification {
 		FileIOUtils.deleteRecursively(tmpDirectory)
 	}
 
-	class IoEventListener implements ChangeListener<IOEvent> {
+	def "The I/O controller is able to read a grid from the compressed output it has written"() {
+		given:
+		def tmpDirectory = Files.createTempDirectory("compressed_round_trip").toAbsolutePath().toString()
+		def archive = new File(FilenameUtils.concat(tmpDirectory, "sampleGrid.tar.gz"))
+
+		when:
+		ioController.saveGridCompressed(tmpDirectory, sampleGrid, hierarchy, csvSeparator, {})
+		def actual = ioController.loadGridFromArchive(archive, csvSeparator, hierarchy)
+
+		then:
+		actual == true
+		Objects.nonNull(ioListener.grid)
+		ioListener.grid.allEntitiesAsList().collect { it.uuid } as Set == sampleGrid.allEntitiesAsList().collect { it.uuid } as Set
+		ioListener.grid.rawGrid.nodes == sampleGrid.rawGrid.nodes
+		ioListener.grid.rawGrid.lines == sampleGrid.rawGrid.lines
+
+		cleanup:
+		FileIOUtils.deleteRecursively(tmpDirectory)
+
+		where:
+		hierarchy                                          | csvSeparator
+		IoDialogs.CsvIoData.DirectoryHierarchy.FLAT       | ";"
+		IoDialogs.CsvIoData.DirectoryHierarchy.HIERARCHIC | ";"
+		IoDialogs.CsvIoData.DirectoryHierarchy.FLAT       | ","
+		IoDialogs.CsvIoData.DirectoryHierarchy.HIERARCHIC | ","
+	}
+
+	def "The I/O controller quotes csv fields, that contain the separator or quotation marks"() {
+		given:
+		def tmpDirectory = Files.createTempDirectory("comma_separated").toAbsolutePath().toString()
+
+		when:
+		ioController.saveGridToCsv(tmpDirectory, sampleGrid, IoDialogs.CsvIoData.DirectoryHierarchy.FLAT, ",", {})
+		def lineRows = new File(FilenameUtils.concat(tmpDirectory, "line_input.csv")).readLines()
+
+		then:
+		lineRows.size() == sampleGrid.rawGrid.lines.size() + 1
+		lineRows.drop(1).every { it.contains('"{""type"":""LineString""') && it.contains('"olm:{') }
+
+		cleanup:
+		FileIOUtils.deleteRecursively(tmpDirectory)
+	}
+
+	def "The I/O controller writes csv files, that PowerSystemDataModel reads back to the same grid"() {
+		given:
+		def tmpDirectory = Files.createTempDirectory("psdm_round_trip").toAbsolutePath().toString()
+		def fileNamingStrategy = new FileNamingStrategy(new EntityPersistenceNamingStrategy(), new FlatDirectoryHierarchy())
+
+		when:
+		ioController.saveGridToCsv(tmpDirectory, sampleGrid, IoDialogs.CsvIoData.DirectoryHierarchy.FLAT, csvSeparator, {})
+		def typeSource = new CsvTypeSource(csvSeparator, tmpDirectory, fileNamingStrategy)
+		def rawGrid = new CsvRawGridSource(csvSeparator, tmpDirectory, fileNamingStrategy, typeSource).gridData
+
+		then: "no temporary files are left behind"
+		new File(tmpDirectory).list().every { !it.startsWith(".") }
+
+		and:
+		rawGrid.present
+		rawGrid.get().nodes == sampleGrid.rawGrid.nodes
+		rawGrid.get().lines == sampleGrid.rawGrid.lines
+		rawGrid.get().transformer2Ws == sampleGrid.rawGrid.transformer2Ws
+
+		cleanup:
+		FileIOUtils.deleteRecursively(tmpDirectory)
+
+		where:
+		csvSeparator << [";", ","]
+	}
+
+	def "The I/O controller leaves the target untouched and removes its temporary output, if the saving is cancelled"() {
+		given:
+		def tmpDirectory = Files.createTempDirectory("cancelled_saving").toAbsolutePath().toString()
+		def existingFile = Files.writeString(Paths.get(tmpDirectory, "existing.txt"), "existing")
+		def entityClasses = CsvGridWriter.collectEntities(sampleGrid.allEntitiesAsList())*.class.toSet().size()
+		def checks = new AtomicInteger()
+		/* the last check is run after all entity classes have been written, right before moving the output */
+		def cancelledAt = beforeMoving ? entityClasses + 1 : 1
+		def cancellationCheck = {
+			if (checks.incrementAndGet() >= cancelledAt) throw new CancellationException("cancelled")
+		}
+
+		when:
+		if (compress)
+			ioController.saveGridCompressed(tmpDirectory, sampleGrid, IoDialogs.CsvIoData.DirectoryHierarchy.FLAT, ";", cancellationCheck)
+		else
+			ioController.saveGridToCsv(tmpDirectory, sampleGrid, IoDialogs.CsvIoData.DirectoryHierarchy.FLAT, ";", cancellationCheck)
+
+		then:
+		thrown(CancellationException)
+		checks.get() >= cancelledAt
+		new File(tmpDirectory).list() as List == ["existing.txt"]
+		Files.readString(existingFile) == "existing"
+
+		cleanup:
+		FileIOUtils.deleteRecursively(tmpDirectory)
+
+		where:
+		compress | beforeMoving
+		false    | false
+		false    | true
+		true     | false
+		true     | true
+	}
+
+	class IoEventListener implements Consumer<IOEvent> {
 		GridContainer grid
 
 		@Override
-		void changed(ObservableValue<? extends IOEvent> observable, IOEvent oldValue, IOEvent newValue) {
-			if (newValue instanceof ReadGridEvent) {
-				grid = newValue.getGrid()
+		void accept(IOEvent ioEvent) {
+			if (ioEvent instanceof ReadGridEvent) {
+				grid = ioEvent.getGrid()
 			}
 		}
 	}
@@ -0,0 +1,51 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+ */
+package edu.ie3.netpad.map
+
+import org.locationtech.jts.geom.Envelope
+import spock.lang.Specification
+
+class GeoEnvelopeIndexTest extends Specification {
+
+	def "The GeoEnvelopeIndex only returns elements intersecting the queried viewport"() {
+		given:
+		def index = new GeoEnvelopeIndex()
+		def elements = (0..<500).collectEntries {
+			[(UUID.randomUUID()): new Envelope(it * 0.01d, it * 0.01d + 0.005d, 51d, 51.001d)]
+		}
+		elements.each { uuid, envelope -> index.put(uuid, envelope) }
+		def viewport = new Envelope(1d, 2d, 50d, 52d)
+
+		when:
+		def visible = index.query(viewport)
+
+		then:
+		visible == elements.findAll { it.value.intersects(viewport) }.keySet()
+	}
+
+	def "The GeoEnvelopeIndex considers elements added, moved and removed after it has been built"() {
+		given:
+		def index = new GeoEnvelopeIndex()
+		def existing = UUID.randomUUID()
+		def added = UUID.randomUUID()
+		def moved = UUID.randomUUID()
+		def removed = UUID.randomUUID()
+		index.put(existing, new Envelope(7d, 7d, 51d, 51d))
+		index.put(moved, new Envelope(7.1d, 7.1d, 51d, 51d))
+		index.put(removed, new Envelope(7.2d, 7.2d, 51d, 51d))
+		(0..<100).each { index.put(UUID.randomUUID(), new Envelope(20d, 20d, 10d, 10d)) }
+		index.query(new Envelope(0d, 1d, 0d, 1d))
+
+		when:
+		index.put(added, new Envelope(7.3d, 7.3d, 51d, 51d))
+		index.put(moved, new Envelope(30d, 30d, 10d, 10d))
+		index.remove(removed)
+
+		then:
+		index.query(new Envelope(6d, 8d, 50d, 52d)) == [existing, added] as Set
+		index.query(new Envelope(29d, 31d, 9d, 11d)) == [moved] as Set
+	}
+}
@@ -0,0 +1,125 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+ */
+package edu.ie3.netpad.map
+
+import com.gluonhq.maps.MapPoint
+import edu.ie3.netpad.map.graphic.GridGraphic
+import edu.ie3.netpad.util.TestFixtures
+import javafx.beans.value.ChangeListener
+import javafx.event.Event
+import javafx.event.EventType
+import javafx.geometry.Point2D
+import javafx.scene.input.MouseButton
+import javafx.scene.input.MouseEvent
+import javafx.scene.layout.Pane
+import javafx.scene.paint.Color
+import spock.lang.Specification
+
+class GridCanvasMouseDispatcherTest extends Specification {
+
+	def setupSpec() {
+		TestFixtures.startFxToolkit()
+	}
+
+	def "A map, that contains several canvas layers, registers a single dispatcher, until its last layer is removed"() {
+		given:
+		def map = new Pane()
+		def bottom = TestFixtures.onFxThread { layer(null) }
+		def top = TestFixtures.onFxThread { layer(null) }
+
+		when:
+		TestFixtures.onFxThread { map.children.addAll(bottom, top) }
+
+		then:
+		map.properties.size() == 1
+
+		when:
+		TestFixtures.onFxThread { map.children.remove(top) }
+
+		then:
+		map.properties.size() == 1
+
+		when:
+		TestFixtures.onFxThread { map.children.remove(bottom) }
+
+		then:
+		map.properties.isEmpty()
+	}
+
+	def "A click on stacked layers opens the context menu of the topmost hit graphic only"() {
+		given:
+		def bottomGraphic = Mock(GridGraphic)
+		def topGraphic = Mock(GridGraphic)
+		def map = new Pane()
+		TestFixtures.onFxThread { map.children.addAll(layer(bottomGraphic), layer(topGraphic)) }
+
+		when:
+		TestFixtures.onFxThread { Event.fireEvent(map, mouseEvent(MouseEvent.MOUSE_PRESSED, MouseButton.SECONDARY, 10d, 10d)) }
+
+		then:
+		1 * topGraphic.showContextMenu(_, _, _)
+		0 * bottomGraphic.showContextMenu(_, _, _)
+	}
+
+	def "A click is dispatched to the layer below, if the topmost layer has no graphic below the cursor"() {
+		given:
+		def bottomGraphic = Mock(GridGraphic)
+		def map = new Pane()
+		def bottom = TestFixtures.onFxThread { layer(bottomGraphic) }
+		TestFixtures.onFxThread { map.children.addAll(bottom, layer(null)) }
+
+		when:
+		TestFixtures.onFxThread { Event.fireEvent(map, mouseEvent(MouseEvent.MOUSE_PRESSED, MouseButton.SECONDARY, 10d, 10d)) }
+
+		then:
+		1 * bottomGraphic.showContextMenu(_, _, _)
+	}
+
+	def "A node, that is dragged on stacked layers, is dropped once by the topmost hit layer"() {
+		given:
+		def draggedNode = TestFixtures.node(1)
+		def bottomGraphic = Mock(GridGraphic) {
+			getDraggableNode() >> Optional.of(draggedNode)
+		}
+		def topGraphic = Mock(GridGraphic) {
+			getDraggableNode() >> Optional.of(draggedNode)
+		}
+		def map = new Pane()
+		TestFixtures.onFxThread { map.children.addAll(layer(bottomGraphic), layer(topGraphic)) }
+
+		when:
+		TestFixtures.onFxThread {
+			Event.fireEvent(map, mouseEvent(MouseEvent.MOUSE_PRESSED, MouseButton.PRIMARY, 10d, 10d))
+			Event.fireEvent(map, mouseEvent(MouseEvent.MOUSE_DRAGGED, MouseButton.PRIMARY, 20d, 15d))
+			Event.fireEvent(map, mouseEvent(MouseEvent.MOUSE_RELEASED, MouseButton.PRIMARY, 20d, 15d))
+		}
+
+		then:
+		1 * topGraphic.dropDraggableNode(_)
+		0 * bottomGraphic.dropDraggableNode(_)
+	}
+
+	/** Canvas layer, that hits the given graphic everywhere or nothing at all, if it is null */
+	private GridPaintLayer layer(GridGraphic graphic) {
+		return Spy(GridPaintLayer, constructorArgs: [
+			UUID.randomUUID(),
+			{ observable, oldValue, newValue -> } as ChangeListener,
+			Color.BLUE,
+			GridRenderMode.CANVAS
+		]) {
+			graphicAt(_ as double, _ as double) >> Optional.ofNullable(graphic)
+			getGridLayerPoint(_ as double, _ as double) >> { double lat, double lon -> new Point2D(lon, lat) }
+			getMapPosition(_ as double, _ as double) >> { double x, double y -> new MapPoint(y, x) }
+		}
+	}
+
+	private static MouseEvent mouseEvent(EventType<MouseEvent> eventType, MouseButton button, double x, double y) {
+		return new MouseEvent(eventType, x, y, x, y, button, 1,
+				false, false, false, false,
+				button == MouseButton.PRIMARY, false, button == MouseButton.SECONDARY,
+				false, false, false, null)
+	}
+}
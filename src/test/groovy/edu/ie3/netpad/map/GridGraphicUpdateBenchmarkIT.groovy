@@ -0,0 +1,85 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+ */
+package edu.ie3.netpad.map
+
+import edu.ie3.datamodel.models.input.NodeInput
+import edu.ie3.netpad.grid.event.GridUpdateNodeEvent
+import edu.ie3.netpad.map.graphic.GridGraphic
+import edu.ie3.netpad.map.graphic.GridNodeGraphic
+import edu.ie3.netpad.util.TestFixtures
+import edu.ie3.util.geo.GeoUtils
+import javafx.beans.value.ChangeListener
+import javafx.geometry.Point2D
+import javafx.scene.paint.Color
+import org.locationtech.jts.geom.Coordinate
+import spock.lang.Specification
+import spock.lang.Unroll
+
+/**
+ * Benchmark of the allocations while a node is dragged around, which issues one grid update after
+ * the other. Excluded from the default test task, run with 'gradle allTests'.
+ */
+class GridGraphicUpdateBenchmarkIT extends Specification {
+
+	private static final DRAGGED_NODE_UUID = UUID.fromString("b5ea4a4b-0a5c-4fc4-b8c4-6d1a6e4d7c1e")
+
+	def setupSpec() {
+		TestFixtures.startFxToolkit()
+	}
+
+	@Unroll
+	def "Updating a node graphic in place allocates less than replacing it during a storm of #updates updates"() {
+		given:
+		def subGridUuid = UUID.randomUUID()
+		def layer = Stub(GridPaintLayer, constructorArgs: [
+			subGridUuid,
+			{ observable, oldValue, newValue -> } as ChangeListener,
+			Color.BLUE,
+			GridRenderMode.SHAPES
+		]) {
+			getGridLayerPoint(_ as double, _ as double) >> { double lat, double lon -> new Point2D(lon, lat) }
+			getLayerColor() >> Color.BLUE
+			getSubGridUuid() >> subGridUuid
+		}
+		def draggedNodes = (0..<updates).collect { node(it) }
+		def replacingStorm = {
+			GridGraphic graphic = new GridNodeGraphic(draggedNodes[0], [] as Set, layer, [])
+			draggedNodes.each {
+				graphic = new GridUpdateNodeEvent(it, subGridUuid).updateGraphicEntity(graphic, [])
+				graphic.update(layer)
+			}
+		}
+		def inPlaceStorm = {
+			GridGraphic graphic = new GridNodeGraphic(draggedNodes[0], [] as Set, layer, [])
+			draggedNodes.each {
+				new GridUpdateNodeEvent(it, subGridUuid).updateGraphicEntityInPlace(graphic)
+				graphic.update(layer)
+			}
+		}
+
+		/* warm up */
+		TestFixtures.allocatedBytesOnFxThread(replacingStorm)
+		TestFixtures.allocatedBytesOnFxThread(inPlaceStorm)
+
+		when:
+		def replacingBytes = TestFixtures.allocatedBytesOnFxThread(replacingStorm)
+		def inPlaceBytes = TestFixtures.allocatedBytesOnFxThread(inPlaceStorm)
+
+		then:
+		inPlaceBytes < replacingBytes
+
+		where:
+		updates << [1_000, 10_000]
+	}
+
+	private static NodeInput node(int index) {
+		return TestFixtures.node(index, GeoUtils.DEFAULT_GEOMETRY_FACTORY.createPoint(new Coordinate(7.41 + index * 1e-5, 51.49)))
+				.copy()
+				.uuid(DRAGGED_NODE_UUID)
+				.id("dragged_node")
+				.build()
+	}
+}
@@ -0,0 +1,93 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+ */
+package edu.ie3.netpad.map
+
+import edu.ie3.datamodel.models.input.container.GraphicElements
+import edu.ie3.datamodel.models.input.container.RawGridElements
+import edu.ie3.datamodel.models.input.container.SubGridContainer
+import edu.ie3.datamodel.models.input.container.SystemParticipants
+import edu.ie3.netpad.util.SampleGridFactory
+import edu.ie3.netpad.util.TestFixtures
+import javafx.beans.value.ChangeListener
+import javafx.geometry.Point2D
+import javafx.scene.paint.Color
+import spock.lang.Specification
+
+/**
+ * Benchmark of the allocations while painting the graphics of a sub grid, whose nodes have
+ * different combinations of system participants. Excluded from the default test task, run with
+ * 'gradle allTests'.
+ */
+class GridPaintLayerBenchmarkIT extends Specification {
+
+	/** Upper bound of the allocations per painted node including its participants */
+	private static final long MAX_BYTES_PER_NODE = 16 * 1024
+
+	def setupSpec() {
+		TestFixtures.startFxToolkit()
+	}
+
+	def "Painting the graphics of 1k, 10k and 50k nodes allocates a constant amount of memory per node"() {
+		when:
+		def bytesPerNode = [1_000, 10_000, 50_000].collectEntries { nodeCount ->
+			def grid = subGrid(nodeCount)
+			/* warm up */
+			TestFixtures.allocatedBytesOnFxThread { layer().initGridGraphics(grid) }
+			[(nodeCount): TestFixtures.allocatedBytesOnFxThread { layer().initGridGraphics(grid) } / nodeCount]
+		}
+
+		then:
+		bytesPerNode.values().every { it > 0 && it < MAX_BYTES_PER_NODE }
+
+		and: "the allocations per node do not grow with the size of the grid"
+		bytesPerNode[50_000] < 2 * bytesPerNode[1_000]
+	}
+
+	private GridPaintLayer layer() {
+		return Spy(GridPaintLayer, constructorArgs: [
+			UUID.randomUUID(),
+			{ observable, oldValue, newValue -> } as ChangeListener,
+			Color.BLUE,
+			GridRenderMode.SHAPES
+		]) {
+			getGridLayerPoint(_ as double, _ as double) >> { double lat, double lon -> new Point2D(lon, lat) }
+		}
+	}
+
+	/** Sub grid, whose nodes hold the participants of the sample grid in turns */
+	private static SubGridContainer subGrid(int nodeCount) {
+		def sampleParticipants = SampleGridFactory.sampleJointGrid().systemParticipants
+		def templates = [
+			sampleParticipants.loads[0],
+			sampleParticipants.pvPlants[0],
+			sampleParticipants.storages[0]
+		]
+
+		def nodes = (0..<nodeCount).collect { TestFixtures.node(it) }
+		def participants = nodes.withIndex().collectMany { node, index ->
+			(0..<(index % (templates.size() + 1))).collect {
+				templates[(index + it) % templates.size()].copy().uuid(UUID.randomUUID()).node(node).build()
+			}
+		}
+
+		return new SubGridContainer(
+				"benchmark",
+				1,
+				new RawGridElements(nodes as Set, [] as Set, [] as Set, [] as Set, [] as Set, [] as Set),
+				new SystemParticipants(
+				[] as Set,
+				[] as Set,
+				[] as Set,
+				[] as Set,
+				[] as Set,
+				[] as Set,
+				participants.findAll { it in templates[0].class } as Set,
+				participants.findAll { it in templates[1].class } as Set,
+				participants.findAll { it in templates[2].class } as Set,
+				[] as Set),
+				new GraphicElements([] as Set))
+	}
+}
@@ -0,0 +1,150 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+ */
+package edu.ie3.netpad.map
+
+import com.gluonhq.maps.MapView
+import edu.ie3.datamodel.models.input.container.JointGridContainer
+import edu.ie3.datamodel.models.input.container.SystemParticipants
+import edu.ie3.datamodel.models.input.system.LoadInput
+import edu.ie3.netpad.grid.event.GridUpdateNodeEvent
+import edu.ie3.netpad.grid.event.GridUpdateSystemParticipantEvent
+import edu.ie3.netpad.util.SampleGridFactory
+import edu.ie3.netpad.util.TestFixtures
+import edu.ie3.util.geo.GeoUtils
+import javafx.beans.value.ChangeListener
+import javafx.scene.paint.Color
+import org.locationtech.jts.geom.Coordinate
+import org.locationtech.jts.geom.Envelope
+import spock.lang.Specification
+
+class GridPaintLayerTest extends Specification {
+
+	def setupSpec() {
+		TestFixtures.startFxToolkit()
+	}
+
+	def "A layer lays out only a moved node and its line again, while the viewport is unchanged"() {
+		given: "a radial grid, whose last node is a leaf fed by a single line"
+		def nodes = (0..<20).collect { TestFixtures.node(it) }
+		def layer = laidOutLayer(TestFixtures.radialGrid(nodes))
+		def fullPasses = layer.layoutMetrics.fullPasses
+		def incrementalPasses = layer.layoutMetrics.incrementalPasses
+		def laidOutElements = layer.layoutMetrics.laidOutElements
+		def boundsBefore = shapeBounds(layer)
+
+		when:
+		def movedNode = nodes[19].copy()
+				.geoPosition(GeoUtils.DEFAULT_GEOMETRY_FACTORY.createPoint(new Coordinate(7.4125d, 51.4905d)))
+				.build()
+		TestFixtures.onFxThread {
+			layer.updateGraphicEntity(new GridUpdateNodeEvent(movedNode, layer.subGridUuid))
+			layer.layoutLayer()
+		}
+
+		then:
+		layer.paintedElementCount == 39
+		layer.layoutMetrics.fullPasses == fullPasses
+		layer.layoutMetrics.incrementalPasses == incrementalPasses + 1
+		layer.layoutMetrics.laidOutElements - laidOutElements == 2
+
+		and: "only the moved node changes its position, all other graphics keep theirs"
+		def boundsAfter = shapeBounds(layer)
+		boundsAfter[nodes[19].uuid] != boundsBefore[nodes[19].uuid]
+		boundsAfter.findAll { uuid, bounds -> uuid != nodes[19].uuid } == boundsBefore.findAll { uuid, bounds -> uuid != nodes[19].uuid }
+	}
+
+	def "Updating a participant in place keeps the participant mapped to the graphic of its node"() {
+		given:
+		def nodes = (0..<20).collect { TestFixtures.node(it) }
+		def load = SampleGridFactory.sampleJointGrid().systemParticipants.loads[0].copy().node(nodes[3]).build()
+		def grid = TestFixtures.radialGrid(nodes)
+		def layer = laidOutLayer(new JointGridContainer(grid.gridName, grid.rawGrid, participants([load]), grid.graphics))
+		def nodeGraphic = layer.@paintedElements[nodes[3].uuid]
+
+		when:
+		def renamedLoad = load.copy().id("renamed load").build()
+		def renamedAgainLoad = load.copy().id("renamed load again").build()
+		TestFixtures.onFxThread {
+			layer.updateGraphicEntity(new GridUpdateSystemParticipantEvent(renamedLoad, layer.subGridUuid))
+		}
+		def participantsAfterFirstUpdate = nodeGraphic.systemParticipants
+
+		and: "the participant is updated again, which is only possible, if it has been mapped again"
+		TestFixtures.onFxThread {
+			layer.updateGraphicEntity(new GridUpdateSystemParticipantEvent(renamedAgainLoad, layer.subGridUuid))
+		}
+
+		then:
+		layer.@paintedElements[nodes[3].uuid].is(nodeGraphic)
+		layer.@entityUuidToPaintedUuid[load.uuid] == nodes[3].uuid
+		participantsAfterFirstUpdate*.id == ["renamed load"]
+		nodeGraphic.systemParticipants*.id == ["renamed load again"]
+	}
+
+	def "Updating a node in place removes the slack stroke, once the node is not a slack node anymore"() {
+		given:
+		def nodes = (0..<20).collect { TestFixtures.node(it) }
+		def layer = laidOutLayer(TestFixtures.radialGrid(nodes))
+		def nodeGraphic = layer.@paintedElements[nodes[0].uuid]
+		def strokeBefore = nodeGraphic.graphicShape.stroke
+
+		when:
+		TestFixtures.onFxThread {
+			layer.updateGraphicEntity(new GridUpdateNodeEvent(nodes[0].copy().slack(false).build(), layer.subGridUuid))
+		}
+
+		then:
+		strokeBefore == MapGridElementAttribute.SLACK.color
+		layer.@paintedElements[nodes[0].uuid].is(nodeGraphic)
+		nodeGraphic.graphicShape.stroke == null
+	}
+
+	def "Updating a node in place moves its envelope in the spatial index of the layer"() {
+		given:
+		def nodes = (0..<20).collect { TestFixtures.node(it) }
+		def layer = laidOutLayer(TestFixtures.radialGrid(nodes))
+		def oldPosition = nodes[19].geoPosition.coordinate
+		def newPosition = new Coordinate(7.5d, 51.6d)
+
+		when:
+		TestFixtures.onFxThread {
+			layer.updateGraphicEntity(new GridUpdateNodeEvent(
+					nodes[19].copy().geoPosition(GeoUtils.DEFAULT_GEOMETRY_FACTORY.createPoint(newPosition)).build(),
+					layer.subGridUuid))
+		}
+
+		then:
+		layer.@paintedElementIndex.query(new Envelope(newPosition)) == [nodes[19].uuid] as Set
+		!layer.@paintedElementIndex.query(new Envelope(oldPosition)).contains(nodes[19].uuid)
+	}
+
+	/** @return a layer of the only sub grid of the given grid, that has been laid out once */
+	private static GridPaintLayer laidOutLayer(JointGridContainer grid) {
+		def subGrid = grid.subGridTopologyGraph.vertexSet().first()
+		def layer = new GridPaintLayer(UUID.randomUUID(), { observable, oldValue, newValue -> } as ChangeListener, Color.BLUE, GridRenderMode.SHAPES)
+		TestFixtures.onFxThread {
+			def mapView = new MapView()
+			mapView.resize(800d, 600d)
+			mapView.setZoom(16d)
+			mapView.setCenter(51.4905d, 7.411d)
+			mapView.addLayer(layer)
+			layer.initGridGraphics(subGrid)
+			mapView.layout()
+			layer.layoutLayer()
+		}
+		return layer
+	}
+
+	private static SystemParticipants participants(List<LoadInput> loads) {
+		return new SystemParticipants([] as Set, [] as Set, [] as Set, [] as Set, [] as Set, [] as Set, loads as Set, [] as Set, [] as Set, [] as Set)
+	}
+
+	private static Map shapeBounds(GridPaintLayer layer) {
+		return TestFixtures.onFxThread {
+			layer.@paintedElements.collectEntries { uuid, graphic -> [(uuid): graphic.graphicShape.boundsInParent] }
+		}
+	}
+}
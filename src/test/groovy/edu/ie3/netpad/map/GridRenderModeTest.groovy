@@ -0,0 +1,32 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+ */
+package edu.ie3.netpad.map
+
+import spock.lang.Specification
+import spock.lang.Unroll
+import spock.util.environment.RestoreSystemProperties
+
+@RestoreSystemProperties
+class GridRenderModeTest extends Specification {
+
+	@Unroll
+	def "The initial render mode of a layer with #elementCount elements is #expected, if the property is set to '#property'"() {
+		given:
+		if (property != null) System.setProperty(GridRenderMode.RENDER_MODE_PROPERTY, property)
+		else System.clearProperty(GridRenderMode.RENDER_MODE_PROPERTY)
+
+		expect:
+		GridRenderMode.initial(elementCount) == expected
+
+		where:
+		property  | elementCount || expected
+		null      | 100          || GridRenderMode.SHAPES
+		null      | 100_000      || GridRenderMode.CANVAS
+		"canvas"  | 100          || GridRenderMode.CANVAS
+		" SHAPES" | 100_000      || GridRenderMode.SHAPES
+		"webgl"   | 100_000      || GridRenderMode.CANVAS
+	}
+}
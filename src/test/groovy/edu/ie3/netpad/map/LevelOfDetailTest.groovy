@@ -0,0 +1,87 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+ */
+package edu.ie3.netpad.map
+
+import edu.ie3.util.geo.GeoUtils
+import javafx.geometry.Point2D
+import org.locationtech.jts.geom.Coordinate
+import spock.lang.Specification
+
+class LevelOfDetailTest extends Specification {
+
+	def "The LineProjectionCache simplifies lines only below the detail zoom level and caches the projection"() {
+		given:
+		def cache = new LineProjectionCache(13)
+		def uuid = UUID.randomUUID()
+		// a slightly zig-zagging line with 101 points along the equator
+		def lineString = GeoUtils.DEFAULT_GEOMETRY_FACTORY.createLineString((0..100).collect {
+			new Coordinate(it * 0.001d, (it % 2) * 0.000001d)
+		} as Coordinate[])
+
+		when:
+		def simplified = cache.getCoordinates(uuid, lineString, 8.5d)
+		def detailed = cache.getCoordinates(uuid, lineString, 13d)
+
+		then:
+		simplified == [
+			WebMercatorProjection.x(0d),
+			WebMercatorProjection.y(0d),
+			WebMercatorProjection.x(0.1d),
+			WebMercatorProjection.y(0d)
+		] as double[]
+		detailed.length == 202
+
+		and:
+		cache.getCoordinates(uuid, lineString, 8.9d).is(simplified)
+		cache.getCoordinates(uuid, lineString, 18d).is(detailed)
+	}
+
+	def "The LineProjectionCache projects lines again once their geometry has changed"() {
+		given:
+		def cache = new LineProjectionCache(13)
+		def uuid = UUID.randomUUID()
+		def factory = GeoUtils.DEFAULT_GEOMETRY_FACTORY
+		def original = factory.createLineString([new Coordinate(7d, 51d), new Coordinate(7.1d, 51d)] as Coordinate[])
+		def moved = factory.createLineString([new Coordinate(7d, 51d), new Coordinate(7.2d, 51d)] as Coordinate[])
+		cache.prepare([(uuid): original], 10d).join()
+
+		expect:
+		cache.getCoordinates(uuid, original, 10d)[2] == WebMercatorProjection.x(7.1d)
+		cache.getCoordinates(uuid, moved, 10d)[2] == WebMercatorProjection.x(7.2d)
+	}
+
+	def "The WebMercatorProjection normalizes the coordinates of the whole world"() {
+		expect:
+		WebMercatorProjection.x(-180d) == 0d
+		WebMercatorProjection.x(0d) == 0.5d
+		WebMercatorProjection.x(180d) == 1d
+		Math.abs(WebMercatorProjection.y(0d) - 0.5d) < 1e-12
+		WebMercatorProjection.y(51d) < 0.5d
+		Math.abs(WebMercatorProjection.y(85.0511287798d)) < 1e-9
+	}
+
+	def "The NodeCluster aggregates all positions within the same cell"() {
+		given:
+		def first = UUID.randomUUID()
+		def second = UUID.randomUUID()
+		def third = UUID.randomUUID()
+		def positions = [
+			(first) : new Point2D(12d, 12d),
+			(second): new Point2D(28d, 16d),
+			(third) : new Point2D(52d, 12d)
+		]
+
+		when:
+		def clusters = NodeCluster.of(positions, new Point2D(10d, 10d), 40d)
+
+		then:
+		clusters.size() == 2
+		def aggregated = clusters.find { it.size() == 2 }
+		aggregated.members == [first, second] as Set
+		aggregated.center == new Point2D(20d, 14d)
+		clusters.find { it.size() == 1 }.members == [third] as Set
+	}
+}
@@ -0,0 +1,51 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+ */
+package edu.ie3.netpad.map.graphic
+
+import edu.ie3.netpad.map.MapGridElementAttribute
+import edu.ie3.netpad.util.SampleGridFactory
+import javafx.scene.paint.Color
+import javafx.scene.paint.LinearGradient
+import spock.lang.Specification
+
+class GridGraphicPaintTest extends Specification {
+
+	def "The GridGraphicPaint is shared between graphics with the same kinds of participants"() {
+		given:
+		def participants = SampleGridFactory.sampleJointGrid().systemParticipants
+		def loads = participants.loads
+		def firstLoad = [loads[0]] as Set
+		def secondLoad = [loads[1]] as Set
+		def loadAndPv = [loads[0], participants.pvPlants[0]] as Set
+
+		expect:
+		GridGraphicPaint.of(Color.BLUE, firstLoad, false).is(GridGraphicPaint.of(Color.BLUE, secondLoad, false))
+		!GridGraphicPaint.of(Color.BLUE, firstLoad, false).is(GridGraphicPaint.of(Color.BLUE, firstLoad, true))
+		!GridGraphicPaint.of(Color.BLUE, firstLoad, false).is(GridGraphicPaint.of(Color.RED, firstLoad, false))
+
+		and:
+		GridGraphicPaint.of(Color.BLUE, [] as Set, false).fill == Color.BLUE
+		GridGraphicPaint.of(Color.BLUE, [] as Set, true).stroke == MapGridElementAttribute.SLACK.color
+		(GridGraphicPaint.of(Color.BLUE, loadAndPv, false).fill as LinearGradient).stops*.color == [
+			MapGridElementAttribute.PV.color,
+			MapGridElementAttribute.PV.color,
+			MapGridElementAttribute.LOAD.color,
+			MapGridElementAttribute.LOAD.color
+		]
+	}
+
+	def "Clearing the cache drops the paints of previous layer colours"() {
+		given:
+		def paint = GridGraphicPaint.of(Color.GREEN, [] as Set, false)
+
+		when:
+		GridGraphicPaint.clearCache()
+
+		then:
+		GridGraphicPaint.cacheSize() == 0
+		!GridGraphicPaint.of(Color.GREEN, [] as Set, false).is(paint)
+	}
+}
@@ -0,0 +1,80 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+ */
+package edu.ie3.netpad.map.graphic
+
+import edu.ie3.netpad.util.TestFixtures
+import javafx.scene.control.Tooltip
+import javafx.scene.shape.Circle
+import spock.lang.Specification
+
+class TooltipPoolTest extends Specification {
+
+	private static final String TOOLTIP_PROPERTY = "javafx.scene.control.Tooltip"
+
+	def setupSpec() {
+		TestFixtures.startFxToolkit()
+	}
+
+	def cleanup() {
+		TestFixtures.onFxThread { TooltipPool.clear() }
+	}
+
+	def "The TooltipPool reuses the installed tooltip of a shape and updates its text only"() {
+		given:
+		def shape = new Circle()
+
+		when:
+		def tooltips = TestFixtures.onFxThread {
+			TooltipPool.install(shape, "first")
+			def first = shape.properties[TOOLTIP_PROPERTY] as Tooltip
+			TooltipPool.install(shape, "second")
+			[
+				first,
+				shape.properties[TOOLTIP_PROPERTY] as Tooltip
+			]
+		}
+
+		then:
+		tooltips[0].is(tooltips[1])
+		tooltips[1].text == "second"
+		TooltipPool.size() == 1
+	}
+
+	def "The TooltipPool moves the tooltip of the least recently hovered shape to a new shape, once it is full"() {
+		given:
+		def shapes = (0..16).collect { new Circle() }
+
+		when:
+		TestFixtures.onFxThread {
+			shapes.take(16).eachWithIndex { shape, index -> TooltipPool.install(shape, "shape " + index) }
+			/* hovering the first shape again makes the second one the least recently hovered */
+			TooltipPool.install(shapes[0], "shape 0")
+		}
+		def evictedTooltip = shapes[1].properties[TOOLTIP_PROPERTY]
+		TestFixtures.onFxThread { TooltipPool.install(shapes[16], "shape 16") }
+
+		then:
+		TooltipPool.size() == 16
+		!shapes[1].properties.containsKey(TOOLTIP_PROPERTY)
+		shapes[16].properties[TOOLTIP_PROPERTY].is(evictedTooltip)
+		(shapes[16].properties[TOOLTIP_PROPERTY] as Tooltip).text == "shape 16"
+		shapes[0].properties.containsKey(TOOLTIP_PROPERTY)
+		shapes.drop(2).every { it.properties.containsKey(TOOLTIP_PROPERTY) }
+	}
+
+	def "Clearing the TooltipPool uninstalls all tooltips, so that no shape of a previous layer is kept"() {
+		given:
+		def shapes = (0..3).collect { new Circle() }
+		TestFixtures.onFxThread { shapes.each { TooltipPool.install(it, "tooltip") } }
+
+		when:
+		TestFixtures.onFxThread { TooltipPool.clear() }
+
+		then:
+		TooltipPool.size() == 0
+		shapes.every { !it.properties.containsKey(TOOLTIP_PROPERTY) }
+	}
+}
@@ -0,0 +1,84 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+ */
+package edu.ie3.netpad.tool.layout
+
+import spock.lang.Specification
+
+class BarnesHutTreeTest extends Specification {
+
+	def "A BarnesHutTree without approximation calculates the exact repulsion"() {
+		given:
+		def random = new Random(7)
+		double[] xs = (0..<200).collect { random.nextDouble() * 100d }
+		double[] ys = (0..<200).collect { random.nextDouble() * 100d }
+		def tree = new BarnesHutTree(xs, ys)
+		tree.build()
+		double[] forceX = new double[xs.length]
+		double[] forceY = new double[xs.length]
+
+		when:
+		tree.repulsion(13, 2d, 0d, Double.POSITIVE_INFINITY, tree.newStack(), forceX, forceY)
+
+		then:
+		def expectedX = 0d
+		def expectedY = 0d
+		(0..<xs.length).findAll { it != 13 }.each {
+			def dx = xs[13] - xs[it]
+			def dy = ys[13] - ys[it]
+			def distance = Math.sqrt(dx * dx + dy * dy)
+			expectedX += 2d * dx / (distance * distance * distance)
+			expectedY += 2d * dy / (distance * distance * distance)
+		}
+		Math.abs(forceX[13] - expectedX) < 1e-9
+		Math.abs(forceY[13] - expectedY) < 1e-9
+	}
+
+	def "A BarnesHutTree ignores points beyond the cutoff distance"() {
+		given:
+		def random = new Random(11)
+		double[] xs = (0..<200).collect { random.nextDouble() * 100d }
+		double[] ys = (0..<200).collect { random.nextDouble() * 100d }
+		def tree = new BarnesHutTree(xs, ys)
+		tree.build()
+		double[] forceX = new double[xs.length]
+		double[] forceY = new double[xs.length]
+
+		when:
+		tree.repulsion(42, 1d, 0d, 20d, tree.newStack(), forceX, forceY)
+
+		then:
+		def expectedX = 0d
+		def expectedY = 0d
+		(0..<xs.length).findAll { it != 42 }.each {
+			def dx = xs[42] - xs[it]
+			def dy = ys[42] - ys[it]
+			def distance = Math.sqrt(dx * dx + dy * dy)
+			if (distance <= 20d) {
+				expectedX += dx / (distance * distance * distance)
+				expectedY += dy / (distance * distance * distance)
+			}
+		}
+		Math.abs(forceX[42] - expectedX) < 1e-9
+		Math.abs(forceY[42] - expectedY) < 1e-9
+	}
+
+	def "A BarnesHutTree copes with coincident points"() {
+		given:
+		double[] xs = [1d, 1d, 1d, 5d]
+		double[] ys = [2d, 2d, 2d, 2d]
+		def tree = new BarnesHutTree(xs, ys)
+		double[] forceX = new double[xs.length]
+		double[] forceY = new double[xs.length]
+
+		when:
+		tree.build()
+		tree.repulsion(3, 1d, 0.8d, Double.POSITIVE_INFINITY, tree.newStack(), forceX, forceY)
+
+		then:
+		Math.abs(forceX[3] - 0.1875d) < 1e-9
+		forceY[3] == 0d
+	}
+}
@@ -0,0 +1,32 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+ */
+package edu.ie3.netpad.tool.layout
+
+import edu.ie3.datamodel.utils.GridAndGeoUtils
+import edu.ie3.netpad.util.TestFixtures
+import spock.lang.Specification
+import tech.units.indriya.unit.Units
+
+class ForceDirectedLayouterTest extends Specification {
+
+	def "A ForceDirectedLayouter places the nodes of every line at the line's length from each other"() {
+		given:
+		def grid = TestFixtures.radialGrid((0..<50).collect { TestFixtures.node(it) })
+
+		when:
+		def laidOutGrid = new ForceDirectedLayouter(grid).execute()
+
+		then:
+		def nodes = laidOutGrid.rawGrid.nodes.collectEntries { [(it.uuid): it] }
+		nodes.keySet() == grid.rawGrid.nodes*.uuid as Set
+		grid.rawGrid.lines.every { line ->
+			def length = line.length.to(Units.METRE).value.doubleValue()
+			def distance = GridAndGeoUtils.distanceBetweenNodes(nodes[line.nodeA.uuid], nodes[line.nodeB.uuid])
+					.to(Units.METRE).value.doubleValue()
+			Math.abs(distance - length) < 0.1d * length
+		}
+	}
+}
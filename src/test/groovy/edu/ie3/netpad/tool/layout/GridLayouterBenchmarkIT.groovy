@@ -0,0 +1,69 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+ */
+package edu.ie3.netpad.tool.layout
+
+import edu.ie3.datamodel.utils.GridAndGeoUtils
+import edu.ie3.netpad.util.TestFixtures
+import edu.ie3.util.geo.GeoUtils
+import org.locationtech.jts.geom.Coordinate
+import org.slf4j.Logger
+import org.slf4j.LoggerFactory
+import spock.lang.Specification
+import spock.lang.Unroll
+import tech.units.indriya.unit.Units
+
+/**
+ * Benchmark of the {@link GridLayouter} for synthetic radial grids of growing size. The durations
+ * are logged only, as they depend on the build agent. Excluded from the default test task, run with
+ * 'gradle allTests'. The grid of 100k nodes takes several minutes and is only laid out, if the
+ * system property {@value #LARGE_GRIDS_PROPERTY} is set to true.
+ */
+class GridLayouterBenchmarkIT extends Specification {
+
+	private static final Logger log = LoggerFactory.getLogger(GridLayouterBenchmarkIT)
+
+	static final String LARGE_GRIDS_PROPERTY = "netpad.benchmark.large-grids"
+
+	private static final UNPLACED = GeoUtils.DEFAULT_GEOMETRY_FACTORY.createPoint(new Coordinate(0d, 0d))
+
+	@Unroll
+	def "Laying out a grid of #nodeCount nodes projects the layout onto the reference point and the line lengths"() {
+		given:
+		def grid = TestFixtures.radialGrid((0..<nodeCount).collect { TestFixtures.node(it, UNPLACED) })
+
+		when:
+		def start = System.nanoTime()
+		def laidOutGrid = new GridLayouter(grid).execute()
+		log.info("Laying out {} nodes took {} ms.", nodeCount, (System.nanoTime() - start) / 1_000_000d)
+
+		then:
+		def nodes = laidOutGrid.rawGrid.nodes
+		nodes.size() == nodeCount
+		laidOutGrid.rawGrid.lines.size() == nodeCount - 1
+		nodes*.geoPosition.toSet().size() == nodeCount
+
+		and: "the uppermost node of the layout is placed at the reference point, no node lies north of it"
+		def referenceNodes = nodes.findAll { isReferencePoint(it.geoPosition) }
+		referenceNodes.size() == 1
+		def reference = referenceNodes.first()
+		nodes.every { it.geoPosition.y < reference.geoPosition.y + 1e-9 }
+
+		and: "the layout is scaled, so that one of the reference node's lines keeps its length"
+		laidOutGrid.rawGrid.lines.findAll { it.nodeA.uuid == reference.uuid || it.nodeB.uuid == reference.uuid }.any { line ->
+			def length = line.length.to(Units.METRE).value.doubleValue()
+			def distance = GridAndGeoUtils.distanceBetweenNodes(line.nodeA, line.nodeB).to(Units.METRE).value.doubleValue()
+			Math.abs(distance - length) < 0.005d * length
+		}
+
+		where:
+		nodeCount << [1_000, 10_000, 30_000] + (Boolean.getBoolean(LARGE_GRIDS_PROPERTY) ? [100_000] : [])
+	}
+
+	private static boolean isReferencePoint(point) {
+		return Math.abs(point.y - LayoutGeoProjection.REFERENCE_POINT_GEO.lat) < 1e-9 &&
+				Math.abs(point.x - LayoutGeoProjection.REFERENCE_POINT_GEO.lon) < 1e-9
+	}
+}
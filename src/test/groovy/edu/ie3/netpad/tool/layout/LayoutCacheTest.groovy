@@ -0,0 +1,71 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+ */
+package edu.ie3.netpad.tool.layout
+
+import edu.ie3.datamodel.models.input.container.RawGridElements
+import edu.ie3.netpad.util.SampleGridFactory
+import spock.lang.Specification
+
+import java.nio.file.Files
+
+class LayoutCacheTest extends Specification {
+
+	def "A TopologyFingerprint does not depend on the geo positions, but on the connectivity of a grid"() {
+		given:
+		def grid = SampleGridFactory.sampleJointGrid()
+		def laidOutGrid = new ForceDirectedLayouter(grid).execute()
+		def rawGrid = grid.rawGrid
+		def reducedGrid = new RawGridElements(
+				rawGrid.nodes, rawGrid.lines.drop(1) as Set, rawGrid.transformer2Ws, rawGrid.transformer3Ws, rawGrid.switches, rawGrid.measurementUnits)
+
+		expect:
+		TopologyFingerprint.of(laidOutGrid.rawGrid) == TopologyFingerprint.of(rawGrid)
+		TopologyFingerprint.of(reducedGrid) != TopologyFingerprint.of(rawGrid)
+	}
+
+	def "A LayoutCache lays out a grid only once and restores the layout from disk in a new session"() {
+		given:
+		def directory = Files.createTempDirectory("layout-cache")
+		def grid = SampleGridFactory.sampleJointGrid()
+		def layoutCount = 0
+		def layouter = { g ->
+			layoutCount++
+			new ForceDirectedLayouter(g).execute()
+		}
+
+		when:
+		def laidOutGrid = new LayoutCache(directory, 1000L, 1024L * 1024L).apply(LayoutAlgorithm.FORCE_DIRECTED, grid, layouter)
+		def cachedGrid = new LayoutCache(directory, 1000L, 1024L * 1024L).apply(LayoutAlgorithm.FORCE_DIRECTED, grid, layouter)
+
+		then:
+		layoutCount == 1
+		cachedGrid.rawGrid.nodes.collectEntries { [(it.uuid): it.geoPosition] } == laidOutGrid.rawGrid.nodes.collectEntries { [(it.uuid): it.geoPosition] }
+
+		and: "the stored layout is keyed by the version of the algorithm"
+		Files.list(directory).withCloseable { files ->
+			files.map { it.fileName.toString() }.allMatch { it.startsWith("force_directed-v${LayoutAlgorithm.FORCE_DIRECTED.version}-") }
+		}
+
+		cleanup:
+		directory.toFile().deleteDir()
+	}
+
+	def "A LayoutCache evicts stored layouts, that exceed its disk capacity"() {
+		given:
+		def directory = Files.createTempDirectory("layout-cache")
+		def grid = SampleGridFactory.sampleJointGrid()
+		def cache = new LayoutCache(directory, 0L, 1L)
+
+		when:
+		cache.apply(LayoutAlgorithm.FORCE_DIRECTED, grid, { g -> new ForceDirectedLayouter(g).execute() })
+
+		then:
+		Files.list(directory).withCloseable { files -> files.noneMatch { it.toString().endsWith(".layout") } }
+
+		cleanup:
+		directory.toFile().deleteDir()
+	}
+}
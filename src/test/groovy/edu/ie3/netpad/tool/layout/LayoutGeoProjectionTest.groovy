@@ -0,0 +1,67 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+ */
+package edu.ie3.netpad.tool.layout
+
+import edu.ie3.datamodel.models.input.NodeInput
+import edu.ie3.datamodel.utils.GridAndGeoUtils
+import edu.ie3.netpad.util.TestFixtures
+import spock.lang.Specification
+import spock.lang.Unroll
+import tech.units.indriya.unit.Units
+
+class LayoutGeoProjectionTest extends Specification {
+
+	@Unroll
+	def "The bearing from the reference point to (#x, #y) is #expectedBearing, as the y-axis points to the south"() {
+		expect:
+		Math.abs(LayoutGeoProjection.calcBearing(0d, 0d, x, y) - expectedBearing) < 1e-12
+
+		where:
+		x      | y      || expectedBearing
+		0d     | -1000d || 0d
+		1000d  | -1000d || Math.PI / 4
+		1000d  | 0d     || Math.PI / 2
+		1000d  | 1000d  || 3 * Math.PI / 4
+		0d     | 1000d  || Math.PI
+		-1000d | 1000d  || 5 * Math.PI / 4
+		-1000d | 0d     || 3 * Math.PI / 2
+		-1000d | -1000d || 7 * Math.PI / 4
+	}
+
+	def "Projecting a layout keeps the distances and directions between the points in all four quadrants"() {
+		given:
+		double[] xs = [0d, 1000d, 1000d, 0d, -1000d, -1000d, -1000d, 0d, 1000d]
+		double[] ys = [0d, 0d, 1000d, 1000d, 1000d, 0d, -1000d, -1000d, -1000d]
+		NodeInput[] nodes = (0..<xs.length).collect { TestFixtures.node(it) }
+
+		when:
+		def projected = LayoutGeoProjection.project(nodes, xs, ys, 0, 1d)
+
+		then:
+		def reference = projected[nodes[0]]
+		Math.abs(reference.geoPosition.y - LayoutGeoProjection.REFERENCE_POINT_GEO.lat) < 1e-9
+		Math.abs(reference.geoPosition.x - LayoutGeoProjection.REFERENCE_POINT_GEO.lon) < 1e-9
+		/* differences below 1e-5 degrees (about a metre) count as the same latitude or longitude */
+		def direction = { double difference -> Math.abs(difference) < 1e-5 ? 0d : Math.signum(difference) }
+		(1..<xs.length).every { i ->
+			def point = projected[nodes[i]]
+			def expectedDistance = Math.hypot(xs[i], ys[i])
+			def distance = GridAndGeoUtils.distanceBetweenNodes(reference, point).to(Units.METRE).value.doubleValue()
+			// the y-axis points to the south, hence a positive y lies south of the reference point
+			Math.abs(distance - expectedDistance) < 0.005d * expectedDistance &&
+					direction(point.geoPosition.x - reference.geoPosition.x) == Math.signum(xs[i]) &&
+					direction(reference.geoPosition.y - point.geoPosition.y) == Math.signum(ys[i])
+		}
+
+		and: "the points of each row are spaced by their distance in the layout, allowing for different earth radii"
+		def distanceBetween = { int a, int b ->
+			GridAndGeoUtils.distanceBetweenNodes(projected[nodes[a]], projected[nodes[b]]).to(Units.METRE).value.doubleValue()
+		}
+		Math.abs(distanceBetween(4, 2) - 2000d) < 10d
+		Math.abs(distanceBetween(5, 1) - 2000d) < 10d
+		Math.abs(distanceBetween(3, 7) - 2000d) < 10d
+	}
+}
@@ -0,0 +1,158 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+ */
+package edu.ie3.netpad.tool.layout
+
+import edu.ie3.datamodel.models.OperationTime
+import edu.ie3.datamodel.models.input.NodeInput
+import edu.ie3.datamodel.models.input.OperatorInput
+import edu.ie3.datamodel.models.input.connector.LineInput
+import edu.ie3.datamodel.models.input.container.GraphicElements
+import edu.ie3.datamodel.models.input.container.JointGridContainer
+import edu.ie3.datamodel.models.input.container.RawGridElements
+import edu.ie3.datamodel.models.input.container.SystemParticipants
+import edu.ie3.datamodel.models.voltagelevels.GermanVoltageLevelUtils
+import edu.ie3.datamodel.utils.GridAndGeoUtils
+import edu.ie3.netpad.util.SampleGridFactory
+import edu.ie3.netpad.util.TestFixtures
+import edu.ie3.util.geo.GeoUtils
+import edu.ie3.util.quantities.PowerSystemUnits
+import org.locationtech.jts.geom.Coordinate
+import spock.lang.Specification
+import tech.units.indriya.quantity.Quantities
+import tech.units.indriya.unit.Units
+
+class MissingGeoPositionPlacerTest extends Specification {
+
+	def "A MissingGeoPositionPlacer places nodes at the line length from their placed neighbour and keeps all other nodes"() {
+		given:
+		def placedNode = node("placed", GeoUtils.DEFAULT_GEOMETRY_FACTORY.createPoint(new Coordinate(7.41, 51.49)))
+		def missingNode = node("missing", null)
+		def line = SampleGridFactory.sampleJointGrid().rawGrid.lines[0].copy()
+				.nodeA(placedNode)
+				.nodeB(missingNode)
+				.length(Quantities.getQuantity(0.25d, PowerSystemUnits.KILOMETRE))
+				.geoPosition(null)
+				.build()
+		def grid = new JointGridContainer(
+				"test",
+				new RawGridElements([placedNode, missingNode] as Set, [line] as Set, [] as Set, [] as Set, [] as Set, [] as Set),
+				new SystemParticipants([] as Set, [] as Set, [] as Set, [] as Set, [] as Set, [] as Set, [] as Set, [] as Set, [] as Set, [] as Set),
+				new GraphicElements([] as Set))
+
+		when:
+		def placedGrid = new MissingGeoPositionPlacer(grid).execute()
+
+		then:
+		!MissingGeoPositionPlacer.hasMissingGeoPositions(placedGrid)
+		def nodes = placedGrid.rawGrid.nodes.collectEntries { [(it.id): it] }
+		nodes["placed"].geoPosition == placedNode.geoPosition
+		Math.abs(GridAndGeoUtils.distanceBetweenNodes(nodes["placed"], nodes["missing"]).to(Units.METRE).value.doubleValue() - 250d) < 1d
+		placedGrid.rawGrid.lines.every { it.geoPosition != null }
+	}
+
+	def "A MissingGeoPositionPlacer places a node with several placed neighbours at the line lengths from all of them"() {
+		given:
+		def westernNode = node("western", position(7.41, 51.49))
+		def easternNode = node("eastern", position(7.4158, 51.49))
+		def missingNode = node("missing", null)
+		def grid = grid([westernNode, easternNode, missingNode], [
+			line(westernNode, missingNode, 0.25d),
+			line(easternNode, missingNode, 0.25d)
+		])
+
+		when:
+		def placedGrid = new MissingGeoPositionPlacer(grid).execute()
+
+		then:
+		def nodes = placedGrid.rawGrid.nodes.collectEntries { [(it.id): it] }
+		Math.abs(distance(nodes["western"], nodes["missing"]) - 250d) < 2.5d
+		Math.abs(distance(nodes["eastern"], nodes["missing"]) - 250d) < 2.5d
+	}
+
+	def "A MissingGeoPositionPlacer places a component without any placed node to the east of the placed nodes"() {
+		given:
+		def placedNode = node("placed", position(7.41, 51.49))
+		def seedNode = node("seed", null)
+		def missingNode = node("missing", null)
+		def grid = grid([placedNode, seedNode, missingNode], [line(seedNode, missingNode, 0.2d)])
+
+		when:
+		def placedGrid = new MissingGeoPositionPlacer(grid).execute()
+
+		then:
+		!MissingGeoPositionPlacer.hasMissingGeoPositions(placedGrid)
+		def nodes = placedGrid.rawGrid.nodes.collectEntries { [(it.id): it] }
+		nodes["placed"].geoPosition == placedNode.geoPosition
+		nodes["seed"].geoPosition.x > placedNode.geoPosition.x
+		nodes["missing"].geoPosition.x > placedNode.geoPosition.x
+		Math.abs(distance(nodes["seed"], nodes["missing"]) - 200d) < 2d
+	}
+
+	def "A MissingGeoPositionPlacer fans out several nodes around the same placed neighbour"() {
+		given:
+		def hubNode = node("hub", position(7.41, 51.49))
+		def missingNodes = (0..<3).collect { node("missing_" + it, null) }
+		def grid = grid([hubNode] + missingNodes, missingNodes.collect { line(hubNode, it, 0.1d) })
+
+		when:
+		def placedGrid = new MissingGeoPositionPlacer(grid).execute()
+
+		then:
+		def nodes = placedGrid.rawGrid.nodes.findAll { it.id.startsWith("missing") }
+		nodes.size() == 3
+		nodes.every { Math.abs(distance(hubNode, it) - 100d) < 1d }
+
+		and: "neighbouring nodes of the fan are separated by its angle of 22.5 degrees"
+		[nodes, nodes].combinations().findAll { a, b -> a != b }.every { a, b -> distance(a, b) > 30d }
+	}
+
+	def "A MissingGeoPositionPlacer returns grids without missing geo positions unchanged"() {
+		given:
+		def grid = SampleGridFactory.sampleJointGrid()
+
+		expect:
+		new MissingGeoPositionPlacer(grid).execute().is(grid)
+	}
+
+	private static JointGridContainer grid(List<NodeInput> nodes, List<LineInput> lines) {
+		return new JointGridContainer(
+				"test",
+				new RawGridElements(nodes as Set, lines as Set, [] as Set, [] as Set, [] as Set, [] as Set),
+				TestFixtures.noParticipants(),
+				new GraphicElements([] as Set))
+	}
+
+	private static LineInput line(NodeInput nodeA, NodeInput nodeB, double lengthKm) {
+		return SampleGridFactory.sampleJointGrid().rawGrid.lines[0].copy()
+				.uuid(UUID.randomUUID())
+				.nodeA(nodeA)
+				.nodeB(nodeB)
+				.length(Quantities.getQuantity(lengthKm, PowerSystemUnits.KILOMETRE))
+				.geoPosition(null)
+				.build()
+	}
+
+	private static org.locationtech.jts.geom.Point position(double lon, double lat) {
+		return GeoUtils.DEFAULT_GEOMETRY_FACTORY.createPoint(new Coordinate(lon, lat))
+	}
+
+	private static double distance(NodeInput a, NodeInput b) {
+		return GridAndGeoUtils.distanceBetweenNodes(a, b).to(Units.METRE).value.doubleValue()
+	}
+
+	private static NodeInput node(String id, org.locationtech.jts.geom.Point geoPosition) {
+		return new NodeInput(
+				UUID.randomUUID(),
+				id,
+				OperatorInput.NO_OPERATOR_ASSIGNED,
+				OperationTime.notLimited(),
+				Quantities.getQuantity(1d, PowerSystemUnits.PU),
+				false,
+				geoPosition,
+				GermanVoltageLevelUtils.LV,
+				1)
+	}
+}
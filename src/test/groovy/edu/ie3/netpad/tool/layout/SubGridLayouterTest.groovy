@@ -0,0 +1,51 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+ */
+package edu.ie3.netpad.tool.layout
+
+import edu.ie3.datamodel.models.input.NodeInput
+import edu.ie3.datamodel.utils.GridAndGeoUtils
+import edu.ie3.netpad.util.SampleGridFactory
+import spock.lang.Specification
+import tech.units.indriya.unit.Units
+
+class SubGridLayouterTest extends Specification {
+
+	def "A SubGridLayouter keeps the line lengths within every sub grid"() {
+		given:
+		def grid = SampleGridFactory.sampleJointGrid()
+
+		when:
+		def laidOutGrid = new SubGridLayouter(grid).execute()
+
+		then:
+		def nodes = laidOutGrid.rawGrid.nodes.collectEntries { [(it.uuid): it] }
+		nodes.keySet() == grid.rawGrid.nodes*.uuid as Set
+		laidOutGrid.subGridTopologyGraph.vertexSet()*.subnet as Set == grid.subGridTopologyGraph.vertexSet()*.subnet as Set
+		grid.rawGrid.lines.every { line ->
+			def length = line.length.to(Units.METRE).value.doubleValue()
+			Math.abs(distance(nodes[line.nodeA.uuid], nodes[line.nodeB.uuid]) - length) < 0.1d * length
+		}
+	}
+
+	def "A SubGridLayouter places the inferior sub grids at the transformers of their superior grids"() {
+		given:
+		def grid = SampleGridFactory.sampleJointGrid()
+
+		when:
+		def laidOutGrid = new SubGridLayouter(grid).execute()
+
+		then:
+		def nodes = laidOutGrid.rawGrid.nodes.collectEntries { [(it.uuid): it] }
+		!grid.rawGrid.transformer2Ws.empty
+		grid.rawGrid.transformer2Ws.every { transformer ->
+			distance(nodes[transformer.nodeA.uuid], nodes[transformer.nodeB.uuid]) <= 2 * GridAdjacency.CONNECTOR_LENGTH
+		}
+	}
+
+	private static double distance(NodeInput a, NodeInput b) {
+		return GridAndGeoUtils.distanceBetweenNodes(a, b).to(Units.METRE).value.doubleValue()
+	}
+}
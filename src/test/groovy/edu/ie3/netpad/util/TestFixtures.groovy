@@ -0,0 +1,136 @@
+/*
+ * © 2026. TU Dortmund University,
+ * Institute of Energy Systems, Energy Efficiency and Energy Economics,
+ * Research group Distribution grid planning and operation
+ */
+package edu.ie3.netpad.util
+
+import edu.ie3.datamodel.models.OperationTime
+import edu.ie3.datamodel.models.input.NodeInput
+import edu.ie3.datamodel.models.input.OperatorInput
+import edu.ie3.datamodel.models.input.connector.LineInput
+import edu.ie3.datamodel.models.input.container.GraphicElements
+import edu.ie3.datamodel.models.input.container.JointGridContainer
+import edu.ie3.datamodel.models.input.container.RawGridElements
+import edu.ie3.datamodel.models.input.container.SystemParticipants
+import edu.ie3.datamodel.models.voltagelevels.GermanVoltageLevelUtils
+import edu.ie3.datamodel.utils.GridAndGeoUtils
+import edu.ie3.util.geo.GeoUtils
+import edu.ie3.util.quantities.PowerSystemUnits
+import javafx.application.Platform
+import org.locationtech.jts.geom.Coordinate
+import org.locationtech.jts.geom.Point
+import tech.units.indriya.quantity.Quantities
+
+import java.lang.management.ManagementFactory
+import java.util.concurrent.CompletableFuture
+import java.util.concurrent.TimeUnit
+
+/**
+ * Synthetic grids and measurement helpers shared by the tests and benchmarks
+ */
+class TestFixtures {
+
+	private TestFixtures() {
+		throw new IllegalStateException("Don't instantiate a class with only static methods")
+	}
+
+	/**
+	 * Low voltage node of subnet 1, the first node is the slack node. The nodes are placed on a
+	 * grid of 300 nodes per row with a spacing of 1e-4 degrees.
+	 */
+	static NodeInput node(int index) {
+		return node(index, GeoUtils.DEFAULT_GEOMETRY_FACTORY.createPoint(
+				new Coordinate(7.41 + (index % 300) * 1e-4, 51.49 + index.intdiv(300) * 1e-4)))
+	}
+
+	/** Low voltage node of subnet 1 at the given position, the first node is the slack node */
+	static NodeInput node(int index, Point geoPosition) {
+		return new NodeInput(
+				UUID.randomUUID(),
+				"node_" + index,
+				OperatorInput.NO_OPERATOR_ASSIGNED,
+				OperationTime.notLimited(),
+				Quantities.getQuantity(1d, PowerSystemUnits.PU),
+				index == 0,
+				geoPosition,
+				GermanVoltageLevelUtils.LV,
+				1)
+	}
+
+	/**
+	 * Radial grid, in which every node is fed by the node with a quarter of its index. The lines
+	 * are copies of a line of the sample grid with lengths between 100 and 400 metres.
+	 */
+	static JointGridContainer radialGrid(List<NodeInput> nodes) {
+		def lineTemplate = SampleGridFactory.sampleJointGrid().rawGrid.lines[0]
+		def lines = (1..<nodes.size()).collect { index ->
+			def nodeA = nodes[(index - 1).intdiv(4)]
+			def nodeB = nodes[index]
+			lineTemplate.copy()
+					.uuid(UUID.randomUUID())
+					.id("line_" + index)
+					.nodeA(nodeA)
+					.nodeB(nodeB)
+					.length(Quantities.getQuantity(0.1d + (index % 7) * 0.05d, PowerSystemUnits.KILOMETRE))
+					.geoPosition(GridAndGeoUtils.buildSafeLineStringBetweenNodes(nodeA, nodeB))
+					.build()
+		}
+
+		return new JointGridContainer(
+				"radial",
+				new RawGridElements(nodes as Set, lines as Set<LineInput>, [] as Set, [] as Set, [] as Set, [] as Set),
+				noParticipants(),
+				new GraphicElements([] as Set))
+	}
+
+	static SystemParticipants noParticipants() {
+		return new SystemParticipants([] as Set, [] as Set, [] as Set, [] as Set, [] as Set, [] as Set, [] as Set, [] as Set, [] as Set, [] as Set)
+	}
+
+	/** Starts the JavaFX toolkit, if it is not running yet */
+	static void startFxToolkit() {
+		try {
+			Platform.startup {}
+		} catch (IllegalStateException ignored) {
+			/* the toolkit is already running */
+		}
+	}
+
+	/** @return the result of the work, that is run on the JavaFX application thread */
+	static <T> T onFxThread(Closure<T> work) {
+		def result = new CompletableFuture<T>()
+		Platform.runLater {
+			try {
+				result.complete(work())
+			} catch (Throwable t) {
+				result.completeExceptionally(t)
+			}
+		}
+		return result.get(5, TimeUnit.MINUTES)
+	}
+
+	/** @return the number of bytes, that the work allocates on the calling thread */
+	static long allocatedBytes(Closure work) {
+		def threadMXBean = ManagementFactory.threadMXBean as com.sun.management.ThreadMXBean
+		def before = threadMXBean.getThreadAllocatedBytes(Thread.currentThread().id)
+		work()
+		return threadMXBean.getThreadAllocatedBytes(Thread.currentThread().id) - before
+	}
+
+	/** @return the number of bytes, that the work allocates on the JavaFX application thread */
+	static long allocatedBytesOnFxThread(Closure work) {
+		return onFxThread { allocatedBytes(work) }
+	}
+
+	/** @return the shortest duration of several runs of the work in milliseconds */
+	static double minDurationMs(int runs, Closure work) {
+		def shortest = Long.MAX_VALUE
+		runs.times {
+			def start = System.nanoTime()
+			work()
+			shortest = Math.min(shortest, System.nanoTime() - start)
+		}
+		return shortest / 1_000_000d
+	}
+}